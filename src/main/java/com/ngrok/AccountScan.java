@@ -0,0 +1,355 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.ngrok.definitions.ListItems;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A scan of every resource of an account, listing all the resource types concurrently rather than one after
+ * the other.
+ *
+ * Every item is handed to a sink as an instance of its definition class, e.g. {@link com.ngrok.definitions.ApiKey},
+ * and the scan reports how long listing each resource type took:
+ *
+ * <pre>{@code
+ * Map<String, AccountScan.TypeStats> stats = ngrok.scanAccount()
+ *     .concurrency(8)
+ *     .blockingCall(item -> audit.record(item));
+ * stats.forEach((type, s) -> log.info("{}: {} items in {}", type, s.getItems(), s.getDuration()));
+ * }</pre>
+ *
+ * At most {@link #concurrency(int)} requests are in flight across the whole scan, and at most
+ * {@link #perTypeConcurrency(int)} for any one resource type. When requests have to wait, those of the resource
+ * types expected to be the largest go first, so that the longest listings start early and the scan ends sooner.
+ * The expected sizes are learned from the previous call of the same scan, or can be set with
+ * {@link #priorities(Map)}, e.g. from the stats of last night's scan.
+ *
+ * A resource type that fails to list does not stop the scan: its error is reported in its stats. Resources that
+ * can only be listed under a parent, like event sources, are not scanned.
+ */
+public final class AccountScan {
+    /**
+     * How listing one resource type went.
+     */
+    public static final class TypeStats {
+        private final long items;
+        private final long requests;
+        private final Duration duration;
+        private final Optional<Throwable> error;
+
+        private TypeStats(final long items, final long requests, final Duration duration, final Optional<Throwable> error) {
+            this.items = items;
+            this.requests = requests;
+            this.duration = duration;
+            this.error = error;
+        }
+
+        /**
+         * The number of items handed to the sink.
+         *
+         * @return the value of the property as a {@code long}
+         */
+        public long getItems() {
+            return this.items;
+        }
+
+        /**
+         * The number of requests sent.
+         *
+         * @return the value of the property as a {@code long}
+         */
+        public long getRequests() {
+            return this.requests;
+        }
+
+        /**
+         * How long it took from sending the first request of the resource type to listing its last item.
+         *
+         * @return the value of the property as a {@link Duration}
+         */
+        public Duration getDuration() {
+            return this.duration;
+        }
+
+        /**
+         * Why listing the resource type failed, if it did.
+         *
+         * @return the value of the property as a {@link Throwable} wrapped in an {@link Optional}
+         */
+        public Optional<Throwable> getError() {
+            return this.error;
+        }
+
+        @Override
+        public String toString() {
+            return "TypeStats{" +
+                "items='" + this.items +
+                "', requests='" + this.requests +
+                "', duration='" + this.duration +
+                "', error='" + this.error.map(String::valueOf).orElse("(null)") +
+                "'}";
+        }
+    }
+
+    private static final class ResourceType {
+        private final String name;
+        private final Function<Ngrok, ListItems<?>> items;
+
+        private ResourceType(final String name, final Function<Ngrok, ListItems<?>> items) {
+            this.name = name;
+            this.items = items;
+        }
+    }
+
+    private static final List<ResourceType> RESOURCE_TYPES = Collections.unmodifiableList(Arrays.asList(
+        new ResourceType("/agent_ingresses", ngrok -> ngrok.agentIngresses().listAll()),
+        new ResourceType("/api_keys", ngrok -> ngrok.apiKeys().listAll()),
+        new ResourceType("/app/sessions", ngrok -> ngrok.applicationSessions().listAll()),
+        new ResourceType("/app/users", ngrok -> ngrok.applicationUsers().listAll()),
+        new ResourceType("/bot_users", ngrok -> ngrok.botUsers().listAll()),
+        new ResourceType("/certificate_authorities", ngrok -> ngrok.certificateAuthorities().listAll()),
+        new ResourceType("/credentials", ngrok -> ngrok.credentials().listAll()),
+        new ResourceType("/edges/https", ngrok -> ngrok.edges().https().listAll()),
+        new ResourceType("/edges/tcp", ngrok -> ngrok.edges().tcp().listAll()),
+        new ResourceType("/edges/tls", ngrok -> ngrok.edges().tls().listAll()),
+        new ResourceType("/endpoints", ngrok -> ngrok.endpoints().listAll()),
+        new ResourceType("/event_destinations", ngrok -> ngrok.eventDestinations().listAll()),
+        new ResourceType("/event_subscriptions", ngrok -> ngrok.eventSubscriptions().listAll()),
+        new ResourceType("/backends/failover", ngrok -> ngrok.backends().failover().listAll()),
+        new ResourceType("/backends/http_response", ngrok -> ngrok.backends().httpResponse().listAll()),
+        new ResourceType("/ip_policies", ngrok -> ngrok.ipPolicies().listAll()),
+        new ResourceType("/ip_policy_rules", ngrok -> ngrok.ipPolicyRules().listAll()),
+        new ResourceType("/ip_restrictions", ngrok -> ngrok.ipRestrictions().listAll()),
+        new ResourceType("/reserved_addrs", ngrok -> ngrok.reservedAddrs().listAll()),
+        new ResourceType("/reserved_domains", ngrok -> ngrok.reservedDomains().listAll()),
+        new ResourceType("/ssh_certificate_authorities", ngrok -> ngrok.sshCertificateAuthorities().listAll()),
+        new ResourceType("/ssh_credentials", ngrok -> ngrok.sshCredentials().listAll()),
+        new ResourceType("/ssh_host_certificates", ngrok -> ngrok.sshHostCertificates().listAll()),
+        new ResourceType("/ssh_user_certificates", ngrok -> ngrok.sshUserCertificates().listAll()),
+        new ResourceType("/backends/static", ngrok -> ngrok.backends().staticAddress().listAll()),
+        new ResourceType("/tls_certificates", ngrok -> ngrok.tlsCertificates().listAll()),
+        new ResourceType("/backends/tunnel_group", ngrok -> ngrok.backends().tunnelGroup().listAll()),
+        new ResourceType("/tunnel_sessions", ngrok -> ngrok.tunnelSessions().listAll()),
+        new ResourceType("/tunnels", ngrok -> ngrok.tunnels().listAll()),
+        new ResourceType("/backends/weighted", ngrok -> ngrok.backends().weighted().listAll())
+    ));
+
+    private final NgrokApiClient apiClient;
+    private final Map<String, Long> priorities = new ConcurrentHashMap<>();
+    private int concurrency = 8;
+    private int perTypeConcurrency = 1;
+
+    AccountScan(final NgrokApiClient apiClient) {
+        this.apiClient = apiClient;
+    }
+
+    /**
+     * The resource types scanned, named after the path they are listed from, e.g. <code>/api_keys</code>.
+     *
+     * @return the names of the resource types
+     */
+    public static List<String> getResourceTypes() {
+        return RESOURCE_TYPES.stream().map(type -> type.name).collect(Collectors.toList());
+    }
+
+    /**
+     * Sets the maximum number of requests in flight across the whole scan. Defaults to 8.
+     *
+     * @param concurrency the maximum number of requests in flight
+     * @return the scan instance
+     * @throws IllegalArgumentException if <code>concurrency</code> is not positive
+     */
+    public AccountScan concurrency(final int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of requests in flight for any one resource type. Defaults to 1, listing the pages
+     * of each resource type one after the other and handing items to the sink as they arrive. Above 1, resource
+     * types are listed with {@link ListItems#partitioned(int)} scans, whose items are only handed to the sink once
+     * the resource type has been fully listed.
+     *
+     * @param perTypeConcurrency the maximum number of requests in flight for a resource type
+     * @return the scan instance
+     * @throws IllegalArgumentException if <code>perTypeConcurrency</code> is not positive
+     */
+    public AccountScan perTypeConcurrency(final int perTypeConcurrency) {
+        if (perTypeConcurrency < 1) {
+            throw new IllegalArgumentException("perTypeConcurrency must be positive: " + perTypeConcurrency);
+        }
+        this.perTypeConcurrency = perTypeConcurrency;
+        return this;
+    }
+
+    /**
+     * Sets the expected number of items of resource types, the largest of which are listed first. Each call of
+     * the scan replaces these with the number of items it listed.
+     *
+     * @param expectedItems the expected number of items, by resource type
+     * @return the scan instance
+     */
+    public AccountScan priorities(final Map<String, Long> expectedItems) {
+        this.priorities.putAll(Objects.requireNonNull(expectedItems, "expectedItems is required"));
+        return this;
+    }
+
+    /**
+     * Initiates the scan asynchronously.
+     *
+     * The sink may be called from the threads reading the responses, so it should hand long-running work off
+     * rather than block. Calls are serialized, so the sink does not need to be thread-safe.
+     *
+     * @param sink the consumer of every item
+     * @return a {@link CompletionStage} of the stats of each resource type, largest expected first
+     */
+    public CompletionStage<Map<String, TypeStats>> call(final Consumer<Object> sink) {
+        Objects.requireNonNull(sink, "sink is required");
+        final List<ResourceType> ordered = new ArrayList<>(RESOURCE_TYPES);
+        ordered.sort(Comparator.comparingLong((ResourceType type) -> this.priorities.getOrDefault(type.name, 0L)).reversed());
+        final RequestPermits permits = new RequestPermits(this.concurrency);
+        final Consumer<Object> serialized = item -> {
+            synchronized (sink) {
+                sink.accept(item);
+            }
+        };
+        final Map<String, CompletableFuture<TypeStats>> scans = new LinkedHashMap<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            final ResourceType type = ordered.get(i);
+            scans.put(type.name, scan(type, i, permits, serialized).toCompletableFuture());
+        }
+        return CompletableFuture.allOf(scans.values().toArray(new CompletableFuture<?>[0])).thenApply(v -> {
+            final Map<String, TypeStats> stats = new LinkedHashMap<>();
+            scans.forEach((name, scan) -> {
+                final TypeStats typeStats = scan.join();
+                stats.put(name, typeStats);
+                if (!typeStats.error.isPresent()) {
+                    this.priorities.put(name, typeStats.items);
+                }
+            });
+            return Collections.unmodifiableMap(stats);
+        });
+    }
+
+    /**
+     * Initiates the scan and blocks until it completes.
+     *
+     * @param sink the consumer of every item
+     * @return the stats of each resource type, largest expected first
+     * @throws InterruptedException if the thread was interrupted during the scan
+     */
+    public Map<String, TypeStats> blockingCall(final Consumer<Object> sink) throws InterruptedException {
+        try {
+            return call(sink).toCompletableFuture().get();
+        } catch (final ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private CompletionStage<TypeStats> scan(final ResourceType type, final int priority, final RequestPermits permits, final Consumer<Object> sink) {
+        final LimitedApiClient apiClient = new LimitedApiClient(this.apiClient, permits, new RequestPermits(this.perTypeConcurrency), priority);
+        final AtomicLong items = new AtomicLong();
+        CompletionStage<Void> listed;
+        try {
+            listed = list(type.items.apply(new Ngrok(apiClient)), item -> {
+                items.incrementAndGet();
+                sink.accept(item);
+            });
+        } catch (final RuntimeException e) {
+            final CompletableFuture<Void> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            listed = failed;
+        }
+        return listed.handle((v, cause) -> new TypeStats(
+            items.get(),
+            apiClient.requests.get(),
+            apiClient.elapsed(),
+            Optional.ofNullable(cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause)
+        ));
+    }
+
+    private <I> CompletionStage<Void> list(final ListItems<I> items, final Consumer<Object> sink) {
+        if (this.perTypeConcurrency > 1) {
+            try {
+                return items.partitioned(this.perTypeConcurrency)
+                    .concurrency(this.perTypeConcurrency)
+                    .call()
+                    .thenAccept(all -> all.forEach(sink));
+            } catch (final UnsupportedOperationException e) {
+                // not time-sortable: list the pages one after the other
+            }
+        }
+        return items.forEach(sink);
+    }
+
+    /**
+     * Sends the requests of one resource type once both a permit of the whole scan and one of the resource type
+     * are available, counting them along the way.
+     */
+    private static final class LimitedApiClient extends ForwardingNgrokApiClient {
+        private final RequestPermits scanPermits;
+        private final RequestPermits typePermits;
+        private final int priority;
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong start = new AtomicLong();
+
+        private LimitedApiClient(final NgrokApiClient delegate, final RequestPermits scanPermits, final RequestPermits typePermits, final int priority) {
+            super(delegate);
+            this.scanPermits = scanPermits;
+            this.typePermits = typePermits;
+            this.priority = priority;
+        }
+
+        private Duration elapsed() {
+            final long start = this.start.get();
+            return start == 0 ? Duration.ZERO : Duration.ofNanos(Math.max(0, System.nanoTime() - start));
+        }
+
+        @Override
+        protected <O> CompletionStage<O> forward(final Request request, final Supplier<CompletionStage<O>> send) {
+            // the permit of the resource type comes first, so that no permit of the scan is held while waiting for it
+            return this.typePermits.acquire(this.priority)
+                .thenCompose(v -> this.scanPermits.acquire(this.priority))
+                .thenCompose(v -> {
+                    this.requests.incrementAndGet();
+                    this.start.compareAndSet(0, System.nanoTime());
+                    CompletionStage<O> response;
+                    try {
+                        response = send.get();
+                    } catch (final RuntimeException e) {
+                        final CompletableFuture<O> failed = new CompletableFuture<>();
+                        failed.completeExceptionally(e);
+                        response = failed;
+                    }
+                    return response.whenComplete((o, cause) -> {
+                        this.scanPermits.release();
+                        this.typePermits.release();
+                    });
+                });
+        }
+    }
+}
@@ -0,0 +1,330 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.ngrok.definitions.NgrokApiError;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link NgrokApiClient} that caches the responses of GET requests for a while, for resources that seldom change,
+ * such as reserved domains or IP policies.
+ *
+ * Responses are cached by target (path and query string, see {@link Request#getTarget()}) for the time to live of
+ * their resource type, e.g. <code>/reserved_domains</code>, and responses of resource types without a time to live
+ * of their own for {@link Builder#ttl(Duration)}. 404 errors are cached too, for {@link Builder#negativeTtl(Duration)}.
+ * Only the {@link Builder#maxEntries(int)} most recently used responses are kept.
+ *
+ * Requests that change resources through this client, i.e. create, update and delete requests, evict the cached
+ * responses of their whole resource type, lists included, so that the client reads its own writes; the response of
+ * an update replaces the cached resource. Changes made by other clients show up once the cached responses expire.
+ * Streaming requests and requests decoded with a {@link ResponseDecoder} are not cached.
+ *
+ * <pre>{@code
+ * CachingNgrokApiClient apiClient = CachingNgrokApiClient.newBuilder(DefaultNgrokApiClient.newBuilder(apiKey).build())
+ *     .ttl("/reserved_domains", Duration.ofMinutes(5))
+ *     .build();
+ * }</pre>
+ */
+public class CachingNgrokApiClient extends ForwardingNgrokApiClient {
+    /**
+     * Builder class for the caching API client.
+     */
+    public static class Builder {
+        private final NgrokApiClient delegate;
+
+        private Duration ttl = Duration.ofSeconds(10);
+        private final Map<String, Duration> ttls = new HashMap<>();
+        private Duration negativeTtl = Duration.ofSeconds(5);
+        private int maxEntries = 1000;
+
+        private Builder(final NgrokApiClient delegate) {
+            this.delegate = requireNonNull(delegate, "delegate is required");
+        }
+
+        /**
+         * Sets how long to cache the responses of resource types without a time to live of their own. Defaults to
+         * 10 seconds.
+         *
+         * @param ttl the time to live
+         * @return the client builder
+         */
+        public CachingNgrokApiClient.Builder ttl(final Duration ttl) {
+            this.ttl = requireNonNull(ttl, "ttl is required");
+            return this;
+        }
+
+        /**
+         * Sets how long to cache the responses of a resource type, which is the path of its collection, e.g.
+         * <code>/reserved_domains</code> or <code>/edges/https</code>. A zero duration disables caching of the type.
+         *
+         * @param resourceType the path of the collection of the resources
+         * @param ttl the time to live
+         * @return the client builder
+         */
+        public CachingNgrokApiClient.Builder ttl(final String resourceType, final Duration ttl) {
+            this.ttls.put(requireNonNull(resourceType, "resourceType is required"), requireNonNull(ttl, "ttl is required"));
+            return this;
+        }
+
+        /**
+         * Sets how long to cache 404 errors. Defaults to 5 seconds; a zero duration disables caching of errors.
+         *
+         * @param negativeTtl the time to live
+         * @return the client builder
+         */
+        public CachingNgrokApiClient.Builder negativeTtl(final Duration negativeTtl) {
+            this.negativeTtl = requireNonNull(negativeTtl, "negativeTtl is required");
+            return this;
+        }
+
+        /**
+         * Sets the number of responses to keep. Defaults to 1000.
+         *
+         * @param maxEntries the number of responses
+         * @return the client builder
+         * @throws IllegalArgumentException if <code>maxEntries</code> is not positive
+         */
+        public CachingNgrokApiClient.Builder maxEntries(final int maxEntries) {
+            if (maxEntries < 1) {
+                throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Build the {@link CachingNgrokApiClient}.
+         *
+         * @return the caching API client
+         */
+        public CachingNgrokApiClient build() {
+            return new CachingNgrokApiClient(this);
+        }
+    }
+
+    /**
+     * Creates a new builder for the {@link CachingNgrokApiClient}.
+     *
+     * @param delegate the client to send the requests with
+     * @return a new client builder
+     */
+    public static CachingNgrokApiClient.Builder newBuilder(final NgrokApiClient delegate) {
+        return new Builder(delegate);
+    }
+
+    /**
+     * A cached response or 404 error.
+     */
+    private static final class CacheEntry {
+        private final Object value;
+        private final NgrokApiError error;
+        private final long expiresAt;
+
+        private CacheEntry(final Object value, final NgrokApiError error, final long expiresAt) {
+            this.value = value;
+            this.error = error;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final long ttlNanos;
+    private final Map<String, Long> ttls;
+    private final long negativeTtlNanos;
+    private final Map<RequestKey, CacheEntry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long writes = 0;
+
+    private CachingNgrokApiClient(final Builder builder) {
+        super(builder.delegate);
+        this.ttlNanos = builder.ttl.toNanos();
+        this.ttls = new HashMap<>();
+        builder.ttls.forEach((type, ttl) -> this.ttls.put(type, ttl.toNanos()));
+        this.negativeTtlNanos = builder.negativeTtl.toNanos();
+        final int maxEntries = builder.maxEntries;
+        this.entries = new LinkedHashMap<RequestKey, CacheEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<RequestKey, CacheEntry> eldest) {
+                if (size() > maxEntries) {
+                    CachingNgrokApiClient.this.evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * The number of GET requests answered from the cache.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * The number of GET requests sent because their response was not cached or had expired.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * The number of responses dropped from the cache to make room for others.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * The number of responses in the cache, expired ones included.
+     *
+     * @return the size of the cache
+     */
+    public synchronized int getSize() {
+        return this.entries.size();
+    }
+
+    /**
+     * Drops all the cached responses.
+     */
+    public synchronized void invalidateAll() {
+        this.writes++;
+        this.entries.clear();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <O> CompletionStage<O> forward(final Request request, final Supplier<CompletionStage<O>> send) {
+        if (request.isStreaming()) {
+            return send.get();
+        }
+        if (request.getMethod() != HttpMethod.GET) {
+            // a failed request may still have changed the resource
+            return send.get().whenComplete((value, cause) -> written(request, cause == null ? value : null));
+        }
+        if (!(request.getResponseType() instanceof Class)) {
+            return send.get();
+        }
+        final RequestKey key = new RequestKey(request);
+        final long now = System.nanoTime();
+        final long writes;
+        synchronized (this) {
+            final CacheEntry entry = this.entries.get(key);
+            if (entry != null && entry.expiresAt - now > 0) {
+                this.hits.increment();
+                final CompletableFuture<O> cached = new CompletableFuture<>();
+                if (entry.error != null) {
+                    cached.completeExceptionally(entry.error);
+                } else {
+                    cached.complete((O) entry.value);
+                }
+                return cached;
+            }
+            writes = this.writes;
+        }
+        this.misses.increment();
+        final long ttl = ttlOf(key.getTarget());
+        return send.get().whenComplete((value, cause) -> {
+            final Throwable error = cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause;
+            if (error == null && ttl > 0) {
+                put(key, new CacheEntry(value, null, System.nanoTime() + ttl), writes);
+            } else if (error instanceof NgrokApiError && ((NgrokApiError) error).getHttpStatusCode() == 404 && this.negativeTtlNanos > 0) {
+                put(key, new CacheEntry(null, (NgrokApiError) error, System.nanoTime() + this.negativeTtlNanos), writes);
+            }
+        });
+    }
+
+    /**
+     * Caches a response, unless a resource changed since its request was sent, in which case it may be stale.
+     */
+    private synchronized void put(final RequestKey key, final CacheEntry entry, final long writes) {
+        if (this.writes == writes) {
+            this.entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Evicts the responses of the resource type a request changed, and caches the resource it updated.
+     */
+    private synchronized void written(final Request request, final Object value) {
+        this.writes++;
+        final String resourceType = resourceTypeOf(request);
+        final Iterator<RequestKey> keys = this.entries.keySet().iterator();
+        while (keys.hasNext()) {
+            if (isUnder(keys.next().getTarget(), resourceType)) {
+                keys.remove();
+            }
+        }
+        final long ttl = ttlOf(request.getTarget());
+        if ((request.getMethod() == HttpMethod.PATCH || request.getMethod() == HttpMethod.PUT)
+            && value != null
+            && request.getResponseType() == value.getClass()
+            && ttl > 0)
+        {
+            this.entries.put(new RequestKey(request), new CacheEntry(value, null, System.nanoTime() + ttl));
+        }
+    }
+
+    /**
+     * Finds the time to live of the resource type of a target, the one of the longest matching resource type.
+     */
+    private long ttlOf(final String target) {
+        long ttl = this.ttlNanos;
+        int matched = -1;
+        for (final Map.Entry<String, Long> type : this.ttls.entrySet()) {
+            if (type.getKey().length() > matched && isUnder(target, type.getKey())) {
+                ttl = type.getValue();
+                matched = type.getKey().length();
+            }
+        }
+        return ttl;
+    }
+
+    /**
+     * Finds the path of the collection of the resources a request changes: the part of its endpoint before the
+     * first path parameter, e.g. <code>/ip_policies</code> for <code>/ip_policies/{id}</code>, or for endpoints
+     * without parameters, the endpoint itself for creations and its parent path otherwise.
+     */
+    private static String resourceTypeOf(final Request request) {
+        final String endpoint = request.getEndpoint();
+        final int param = endpoint.indexOf("/{");
+        if (param >= 0) {
+            return endpoint.substring(0, param);
+        }
+        if (request.getMethod() == HttpMethod.POST) {
+            return endpoint;
+        }
+        final int parent = endpoint.lastIndexOf('/');
+        return parent > 0 ? endpoint.substring(0, parent) : endpoint;
+    }
+
+    private static boolean isUnder(final String target, final String path) {
+        if (!target.startsWith(path)) {
+            return false;
+        }
+        if (target.length() == path.length()) {
+            return true;
+        }
+        final char next = target.charAt(path.length());
+        return next == '/' || next == '?';
+    }
+}
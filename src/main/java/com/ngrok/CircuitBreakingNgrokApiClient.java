@@ -0,0 +1,457 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.ngrok.definitions.NgrokApiError;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link NgrokApiClient} that stops sending requests to an endpoint family while most of them fail, so that
+ * callers fail fast instead of waiting for timeouts while the API is degraded.
+ *
+ * Requests are sorted into endpoint families, by default by the first segment of their path, e.g.
+ * <code>/ip_policies</code>, and each family has its own circuit breaker. The breaker counts requests and failures
+ * over a rolling window made of buckets. While it is {@link State#CLOSED}, requests go through; once the window
+ * holds at least {@link Builder#minimumRequests(int)} requests and the share of failures reaches
+ * {@link Builder#failureRateThreshold(double)}, it opens. While it is {@link State#OPEN}, requests fail at once with
+ * a {@link CircuitOpenException}. After {@link Builder#openDuration(Duration)}, it goes {@link State#HALF_OPEN} and
+ * lets a few probe requests through: if they all succeed it closes, and if any fails it opens again.
+ *
+ * By default, failures are server errors (status codes of 500 and above) and errors other than
+ * {@link NgrokApiError}, such as timeouts and I/O errors; client errors such as 404 show that the API is up, and
+ * requests a client-side limit rejected, such as with a {@link RateLimitExceededException}, say nothing about it.
+ */
+public class CircuitBreakingNgrokApiClient extends ForwardingNgrokApiClient {
+    /**
+     * The state of a circuit breaker.
+     */
+    public enum State {
+        /** Requests go through. */
+        CLOSED,
+        /** Requests fail fast. */
+        OPEN,
+        /** A few probe requests go through to tell whether the API recovered. */
+        HALF_OPEN
+    }
+
+    /**
+     * A change of the state of the circuit breaker of an endpoint family.
+     */
+    public static final class StateChange {
+        private final String family;
+        private final State from;
+        private final State to;
+
+        private StateChange(final String family, final State from, final State to) {
+            this.family = family;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * The endpoint family, e.g. <code>/ip_policies</code>.
+         *
+         * @return the value of the property as a {@link String}
+         */
+        public String getFamily() {
+            return this.family;
+        }
+
+        /**
+         * The state before the change.
+         *
+         * @return the value of the property as a {@link State}
+         */
+        public State getFrom() {
+            return this.from;
+        }
+
+        /**
+         * The state after the change.
+         *
+         * @return the value of the property as a {@link State}
+         */
+        public State getTo() {
+            return this.to;
+        }
+
+        @Override
+        public String toString() {
+            return "StateChange{" +
+                "family='" + this.family +
+                "', from='" + this.from +
+                "', to='" + this.to +
+                "'}";
+        }
+    }
+
+    /**
+     * Builder class for the circuit breaking API client.
+     */
+    public static class Builder {
+        private final NgrokApiClient delegate;
+
+        private double failureRateThreshold = 0.5;
+        private int minimumRequests = 20;
+        private Duration window = Duration.ofSeconds(10);
+        private int buckets = 10;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenProbes = 3;
+        private Function<Request, String> family = CircuitBreakingNgrokApiClient::firstSegment;
+        private Predicate<Throwable> isFailure = CircuitBreakingNgrokApiClient::isServerError;
+        private final List<Consumer<StateChange>> listeners = new ArrayList<>();
+
+        private Builder(final NgrokApiClient delegate) {
+            this.delegate = requireNonNull(delegate, "delegate is required");
+        }
+
+        /**
+         * Sets the share of failed requests at which the circuit opens. Defaults to 0.5.
+         *
+         * @param failureRateThreshold a share between 0 and 1
+         * @return the client builder
+         * @throws IllegalArgumentException if <code>failureRateThreshold</code> is not between 0 and 1
+         */
+        public CircuitBreakingNgrokApiClient.Builder failureRateThreshold(final double failureRateThreshold) {
+            if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+                throw new IllegalArgumentException("failureRateThreshold must be between 0 and 1: " + failureRateThreshold);
+            }
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the number of requests the window must hold before the circuit can open. Defaults to 20.
+         *
+         * @param minimumRequests the number of requests
+         * @return the client builder
+         */
+        public CircuitBreakingNgrokApiClient.Builder minimumRequests(final int minimumRequests) {
+            this.minimumRequests = Math.max(1, minimumRequests);
+            return this;
+        }
+
+        /**
+         * Sets the rolling window requests are counted over, and how many buckets it is made of. Defaults to 10
+         * seconds in 10 buckets.
+         *
+         * @param window the duration of the window
+         * @param buckets the number of buckets
+         * @return the client builder
+         * @throws IllegalArgumentException if <code>buckets</code> is not positive
+         */
+        public CircuitBreakingNgrokApiClient.Builder window(final Duration window, final int buckets) {
+            if (buckets < 1) {
+                throw new IllegalArgumentException("buckets must be positive: " + buckets);
+            }
+            this.window = requireNonNull(window, "window is required");
+            this.buckets = buckets;
+            return this;
+        }
+
+        /**
+         * Sets how long the circuit stays open before probe requests are let through. Defaults to 30 seconds.
+         *
+         * @param openDuration the duration
+         * @return the client builder
+         */
+        public CircuitBreakingNgrokApiClient.Builder openDuration(final Duration openDuration) {
+            this.openDuration = requireNonNull(openDuration, "openDuration is required");
+            return this;
+        }
+
+        /**
+         * Sets the number of probe requests that must succeed for a half-open circuit to close. Defaults to 3.
+         *
+         * @param halfOpenProbes the number of probe requests
+         * @return the client builder
+         */
+        public CircuitBreakingNgrokApiClient.Builder halfOpenProbes(final int halfOpenProbes) {
+            this.halfOpenProbes = Math.max(1, halfOpenProbes);
+            return this;
+        }
+
+        /**
+         * Sets how requests are sorted into endpoint families. Defaults to the first segment of their path.
+         *
+         * @param family the endpoint family of a request
+         * @return the client builder
+         */
+        public CircuitBreakingNgrokApiClient.Builder family(final Function<Request, String> family) {
+            this.family = requireNonNull(family, "family is required");
+            return this;
+        }
+
+        /**
+         * Sets which errors count as failures. Defaults to {@link NgrokApiError}s whose status code is 500 or above,
+         * and errors other than {@link NgrokApiError} that did not come from a client-side limit.
+         *
+         * @param isFailure whether an error counts as a failure
+         * @return the client builder
+         */
+        public CircuitBreakingNgrokApiClient.Builder isFailure(final Predicate<Throwable> isFailure) {
+            this.isFailure = requireNonNull(isFailure, "isFailure is required");
+            return this;
+        }
+
+        /**
+         * Adds a listener of the state changes of the circuits. Listeners are called on the thread that caused the
+         * change, and must not block.
+         *
+         * @param listener a listener
+         * @return the client builder
+         */
+        public CircuitBreakingNgrokApiClient.Builder listener(final Consumer<StateChange> listener) {
+            this.listeners.add(requireNonNull(listener, "listener is required"));
+            return this;
+        }
+
+        /**
+         * Build the {@link CircuitBreakingNgrokApiClient}.
+         *
+         * @return the circuit breaking API client
+         */
+        public CircuitBreakingNgrokApiClient build() {
+            return new CircuitBreakingNgrokApiClient(this);
+        }
+    }
+
+    /**
+     * Creates a new builder for the {@link CircuitBreakingNgrokApiClient}.
+     *
+     * @param delegate the client to send the requests with
+     * @return a new client builder
+     */
+    public static CircuitBreakingNgrokApiClient.Builder newBuilder(final NgrokApiClient delegate) {
+        return new Builder(delegate);
+    }
+
+    /**
+     * The circuit breaker of an endpoint family. Outcomes only count towards the state they were sent in, which
+     * the generation tells apart.
+     */
+    private final class Circuit {
+        private final String family;
+        private final long createdAt;
+        private final long[] bucketIndexes;
+        private final int[] requests;
+        private final int[] failures;
+        private State state = State.CLOSED;
+        private long generation = 0;
+        private long openedAt;
+        private int probes;
+        private int probeSuccesses;
+
+        private Circuit(final String family, final long now) {
+            this.family = family;
+            this.createdAt = now;
+            this.bucketIndexes = new long[CircuitBreakingNgrokApiClient.this.buckets];
+            this.requests = new int[CircuitBreakingNgrokApiClient.this.buckets];
+            this.failures = new int[CircuitBreakingNgrokApiClient.this.buckets];
+        }
+
+        /**
+         * Lets a request through, unless the circuit is open or has all the probes it needs.
+         *
+         * @return the generation the request is sent in, or -1 to fail it fast
+         */
+        synchronized long tryAcquire(final long now, final List<StateChange> changes) {
+            if (this.state == State.OPEN) {
+                if (now - this.openedAt < CircuitBreakingNgrokApiClient.this.openNanos) {
+                    return -1;
+                }
+                changeTo(State.HALF_OPEN, now, changes);
+            }
+            if (this.state == State.HALF_OPEN) {
+                if (this.probes >= CircuitBreakingNgrokApiClient.this.halfOpenProbes) {
+                    return -1;
+                }
+                this.probes++;
+            }
+            return this.generation;
+        }
+
+        /**
+         * Records the outcome of a request.
+         *
+         * @param failed whether it failed, or {@code null} if it was cancelled
+         */
+        synchronized void record(final long generation, final long now, final Boolean failed, final List<StateChange> changes) {
+            if (generation != this.generation) {
+                return;
+            }
+            if (this.state == State.HALF_OPEN) {
+                if (failed == null) {
+                    this.probes--;
+                } else if (failed) {
+                    changeTo(State.OPEN, now, changes);
+                } else if (++this.probeSuccesses >= CircuitBreakingNgrokApiClient.this.halfOpenProbes) {
+                    changeTo(State.CLOSED, now, changes);
+                }
+                return;
+            }
+            if (this.state != State.CLOSED || failed == null) {
+                return;
+            }
+            // bucket indexes start past the length of the window, so that unused buckets are out of it
+            final long index = (now - this.createdAt) / CircuitBreakingNgrokApiClient.this.bucketNanos + this.bucketIndexes.length;
+            final int slot = (int) (index % this.bucketIndexes.length);
+            if (this.bucketIndexes[slot] != index) {
+                this.bucketIndexes[slot] = index;
+                this.requests[slot] = 0;
+                this.failures[slot] = 0;
+            }
+            this.requests[slot]++;
+            if (failed) {
+                this.failures[slot]++;
+            }
+            int requests = 0;
+            int failures = 0;
+            for (int i = 0; i < this.bucketIndexes.length; i++) {
+                if (this.bucketIndexes[i] > index - this.bucketIndexes.length) {
+                    requests += this.requests[i];
+                    failures += this.failures[i];
+                }
+            }
+            if (requests >= CircuitBreakingNgrokApiClient.this.minimumRequests
+                && failures >= requests * CircuitBreakingNgrokApiClient.this.failureRateThreshold)
+            {
+                changeTo(State.OPEN, now, changes);
+            }
+        }
+
+        synchronized State state() {
+            return this.state;
+        }
+
+        private void changeTo(final State state, final long now, final List<StateChange> changes) {
+            changes.add(new StateChange(this.family, this.state, state));
+            this.state = state;
+            this.generation++;
+            this.openedAt = now;
+            this.probes = 0;
+            this.probeSuccesses = 0;
+            if (state == State.CLOSED) {
+                // start over with an empty window
+                for (int i = 0; i < this.bucketIndexes.length; i++) {
+                    this.requests[i] = 0;
+                    this.failures[i] = 0;
+                }
+            }
+        }
+    }
+
+    private final double failureRateThreshold;
+    private final int minimumRequests;
+    private final long bucketNanos;
+    private final int buckets;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final Function<Request, String> family;
+    private final Predicate<Throwable> isFailure;
+    private final List<Consumer<StateChange>> listeners;
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    private CircuitBreakingNgrokApiClient(final Builder builder) {
+        super(builder.delegate);
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.minimumRequests = builder.minimumRequests;
+        this.bucketNanos = Math.max(1, builder.window.toNanos() / builder.buckets);
+        this.buckets = builder.buckets;
+        this.openNanos = builder.openDuration.toNanos();
+        this.halfOpenProbes = builder.halfOpenProbes;
+        this.family = builder.family;
+        this.isFailure = builder.isFailure;
+        this.listeners = Collections.unmodifiableList(new ArrayList<>(builder.listeners));
+    }
+
+    /**
+     * The state of the circuit breaker of an endpoint family.
+     *
+     * @param family the endpoint family, e.g. <code>/ip_policies</code>
+     * @return the state, {@link State#CLOSED} if no request of the family was sent yet
+     */
+    public State getState(final String family) {
+        final Circuit circuit = this.circuits.get(family);
+        return circuit != null ? circuit.state() : State.CLOSED;
+    }
+
+    @Override
+    protected <O> CompletionStage<O> forward(final Request request, final Supplier<CompletionStage<O>> send) {
+        final Circuit circuit = this.circuits.computeIfAbsent(this.family.apply(request), f -> new Circuit(f, System.nanoTime()));
+        final List<StateChange> changes = new ArrayList<>(1);
+        final long generation = circuit.tryAcquire(System.nanoTime(), changes);
+        notify(changes);
+        final CompletableFuture<O> result = new CompletableFuture<>();
+        if (generation < 0) {
+            result.completeExceptionally(new CircuitOpenException(circuit.family, request.toString()));
+            return result;
+        }
+        final CompletableFuture<O> response;
+        try {
+            response = send.get().toCompletableFuture();
+        } catch (final RuntimeException e) {
+            record(circuit, generation, null);
+            result.completeExceptionally(e);
+            return result;
+        }
+        result.whenComplete((value, cause) -> {
+            if (result.isCancelled()) {
+                response.cancel(true);
+            }
+        });
+        response.whenComplete((value, cause) -> {
+            final Throwable error = cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause;
+            record(circuit, generation, error == null ? Boolean.FALSE : error instanceof CancellationException ? null : this.isFailure.test(error));
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        });
+        return result;
+    }
+
+    private void record(final Circuit circuit, final long generation, final Boolean failed) {
+        final List<StateChange> changes = new ArrayList<>(1);
+        circuit.record(generation, System.nanoTime(), failed, changes);
+        notify(changes);
+    }
+
+    private void notify(final List<StateChange> changes) {
+        for (final StateChange change : changes) {
+            for (final Consumer<StateChange> listener : this.listeners) {
+                listener.accept(change);
+            }
+        }
+    }
+
+    private static String firstSegment(final Request request) {
+        final String endpoint = request.getEndpoint();
+        final int end = endpoint.indexOf('/', 1);
+        return end < 0 ? endpoint : endpoint.substring(0, end);
+    }
+
+    private static boolean isServerError(final Throwable error) {
+        if (error instanceof RateLimitExceededException || error instanceof ConcurrencyLimitExceededException) {
+            return false;
+        }
+        return !(error instanceof NgrokApiError) || ((NgrokApiError) error).getHttpStatusCode() >= 500;
+    }
+}
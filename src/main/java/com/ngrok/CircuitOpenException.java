@@ -0,0 +1,32 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+/**
+ * Thrown instead of sending a request while the circuit breaker of its endpoint family is open, see
+ * {@link CircuitBreakingNgrokApiClient}. Unlike an {@link com.ngrok.definitions.NgrokApiError}, it means the
+ * request never left the client.
+ */
+public class CircuitOpenException extends RuntimeException {
+    private final String family;
+
+    /**
+     * Creates a new exception.
+     *
+     * @param family the endpoint family whose circuit is open
+     * @param request a description of the request that was not sent
+     */
+    public CircuitOpenException(final String family, final String request) {
+        super("the circuit of " + family + " is open, not sending " + request);
+        this.family = family;
+    }
+
+    /**
+     * The endpoint family whose circuit is open, e.g. <code>/ip_policies</code>.
+     *
+     * @return the value of the property as a {@link String}
+     */
+    public String getFamily() {
+        return this.family;
+    }
+}
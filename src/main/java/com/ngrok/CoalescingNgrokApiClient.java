@@ -0,0 +1,136 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * An {@link NgrokApiClient} that coalesces identical GET requests in flight at the same time: a request for the same
+ * target (path and query string, see {@link Request#getTarget()}), decoded the same way, as one already in flight is
+ * not sent, but gets the response of the other one, decoded once.
+ *
+ * Callers coalesced together share the same decoded object, which is fine since the API definitions are immutable.
+ * Cancelling the future of one of them does not affect the others; the request is cancelled once all of them have
+ * cancelled their future. Streaming requests are not coalesced, since each has its own consumer, and neither are
+ * requests decoded with a {@link ResponseDecoder}, such as projections, since each call passes a decoder of its own
+ * that cannot be told equal to another.
+ *
+ * <pre>{@code
+ * CoalescingNgrokApiClient apiClient = new CoalescingNgrokApiClient(DefaultNgrokApiClient.newBuilder(apiKey).build());
+ * Ngrok ngrok = new Ngrok(apiClient);
+ * ...
+ * long saved = apiClient.getSavedCalls();
+ * }</pre>
+ */
+public class CoalescingNgrokApiClient extends ForwardingNgrokApiClient {
+    /**
+     * A request in flight, along with the number of callers waiting for its response.
+     */
+    private static final class Flight {
+        private final CompletableFuture<Object> response = new CompletableFuture<>();
+        private int callers = 0;
+    }
+
+    private final Map<RequestKey, Flight> flights = new ConcurrentHashMap<>();
+    private final LongAdder savedCalls = new LongAdder();
+
+    /**
+     * Creates a new coalescing client.
+     *
+     * @param delegate the client to send the requests with
+     */
+    public CoalescingNgrokApiClient(final NgrokApiClient delegate) {
+        super(delegate);
+    }
+
+    /**
+     * The number of requests that were not sent because an identical one was in flight.
+     *
+     * @return the number of requests saved
+     */
+    public long getSavedCalls() {
+        return this.savedCalls.sum();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <O> CompletionStage<O> forward(final Request request, final Supplier<CompletionStage<O>> send) {
+        if (request.getMethod() != HttpMethod.GET || request.isStreaming() || !(request.getResponseType() instanceof Class)) {
+            return send.get();
+        }
+        final RequestKey key = new RequestKey(request);
+        // the callers of a flight only change inside compute, so they are counted consistently
+        final boolean[] leader = { false };
+        final Flight flight = this.flights.compute(key, (k, f) -> {
+            final Flight joined = f != null ? f : new Flight();
+            leader[0] = f == null;
+            joined.callers++;
+            return joined;
+        });
+        if (leader[0]) {
+            send(key, flight, send);
+        } else {
+            this.savedCalls.increment();
+        }
+
+        final CompletableFuture<O> result = new CompletableFuture<>();
+        flight.response.whenComplete((value, cause) -> {
+            if (cause != null) {
+                result.completeExceptionally(cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause);
+            } else {
+                result.complete((O) value);
+            }
+        });
+        result.whenComplete((value, cause) -> {
+            if (result.isCancelled()) {
+                leave(key, flight);
+            }
+        });
+        return result;
+    }
+
+    private <O> void send(final RequestKey key, final Flight flight, final Supplier<CompletionStage<O>> send) {
+        final CompletableFuture<O> response;
+        try {
+            response = send.get().toCompletableFuture();
+        } catch (final RuntimeException e) {
+            this.flights.remove(key, flight);
+            flight.response.completeExceptionally(e);
+            return;
+        }
+        flight.response.whenComplete((value, cause) -> {
+            if (flight.response.isCancelled()) {
+                response.cancel(true);
+            }
+        });
+        response.whenComplete((value, cause) -> {
+            // later requests are sent anew rather than getting a response that may be stale by then
+            this.flights.remove(key, flight);
+            if (cause != null) {
+                flight.response.completeExceptionally(cause);
+            } else {
+                flight.response.complete(value);
+            }
+        });
+    }
+
+    private void leave(final RequestKey key, final Flight flight) {
+        final boolean[] last = { false };
+        this.flights.computeIfPresent(key, (k, f) -> {
+            if (f != flight) {
+                return f;
+            }
+            last[0] = --f.callers == 0;
+            return last[0] ? null : f;
+        });
+        if (last[0]) {
+            flight.response.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+/**
+ * Thrown instead of sending a request that waited too long for the concurrency limit to let it through, see
+ * {@link ConcurrencyLimitingNgrokApiClient}. Unlike an {@link com.ngrok.definitions.NgrokApiError} with a status
+ * code of 503, it means the request never left the client.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+    private final int limit;
+
+    /**
+     * Creates a new exception.
+     *
+     * @param limit the number of requests allowed in flight when the request was shed
+     * @param request a description of the request that was not sent
+     */
+    public ConcurrencyLimitExceededException(final int limit, final String request) {
+        super("the concurrency limit of the client, " + limit + ", kept " + request + " queued too long");
+        this.limit = limit;
+    }
+
+    /**
+     * The number of requests allowed in flight when the request was shed.
+     *
+     * @return the value of the property as an int
+     */
+    public int getLimit() {
+        return this.limit;
+    }
+}
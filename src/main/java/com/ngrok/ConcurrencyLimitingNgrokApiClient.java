@@ -0,0 +1,276 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.linecorp.armeria.client.ResponseTimeoutException;
+import com.linecorp.armeria.common.CommonPools;
+import com.ngrok.definitions.NgrokApiError;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link NgrokApiClient} that limits how many requests are in flight, queuing the others, and adapts the limit
+ * to the latency of the API.
+ *
+ * The limit follows the TCP Vegas congestion control algorithm: the lowest latency seen is taken as the latency of
+ * the API without load, and the ratio of the latency of each request to it estimates how many requests are queued
+ * up on the server. The limit grows while fewer than {@link #ALPHA} requests are queued up, and shrinks while more
+ * than {@link #BETA} are, which keeps the API busy without piling up requests. Requests rejected with a 429 or 503,
+ * or timing out, shrink the limit by 10% at once. The lowest latency is measured anew every so often, in case the
+ * API got slower for good.
+ *
+ * A queued request that has not been sent within {@link Builder#queueTimeout(Duration)} is shed: it fails with a
+ * {@link ConcurrencyLimitExceededException}, instead of adding load the API cannot take.
+ *
+ * Cancelling a future returned by this client cancels the request, whether it is in flight or still queued.
+ */
+public class ConcurrencyLimitingNgrokApiClient extends ForwardingNgrokApiClient {
+    /** The number of requests queued up on the server below which the limit grows. */
+    public static final int ALPHA = 3;
+    /** The number of requests queued up on the server above which the limit shrinks. */
+    public static final int BETA = 6;
+
+    private static final double DECREASE_FACTOR = 0.9;
+    private static final int PROBE_INTERVAL = 1000;
+
+    /**
+     * Builder class for the concurrency limiting API client.
+     */
+    public static class Builder {
+        private final NgrokApiClient delegate;
+
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private Duration queueTimeout = Duration.ofSeconds(10);
+        private Optional<ScheduledExecutorService> scheduler = Optional.empty();
+
+        private Builder(final NgrokApiClient delegate) {
+            this.delegate = requireNonNull(delegate, "delegate is required");
+        }
+
+        /**
+         * Sets the limit before any request completed. Defaults to 20.
+         *
+         * @param initialLimit the initial number of requests in flight
+         * @return the client builder
+         */
+        public ConcurrencyLimitingNgrokApiClient.Builder initialLimit(final int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        /**
+         * Sets the bounds of the limit. Defaults to between 1 and 200.
+         *
+         * @param minLimit the lowest number of requests in flight
+         * @param maxLimit the highest number of requests in flight
+         * @return the client builder
+         * @throws IllegalArgumentException if <code>minLimit</code> is not positive or above <code>maxLimit</code>
+         */
+        public ConcurrencyLimitingNgrokApiClient.Builder limits(final int minLimit, final int maxLimit) {
+            if (minLimit < 1 || minLimit > maxLimit) {
+                throw new IllegalArgumentException("invalid limits: " + minLimit + ", " + maxLimit);
+            }
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * Sets how long a request can stay queued before it is shed. Defaults to 10 seconds.
+         *
+         * @param queueTimeout the longest time in the queue
+         * @return the client builder
+         */
+        public ConcurrencyLimitingNgrokApiClient.Builder queueTimeout(final Duration queueTimeout) {
+            this.queueTimeout = requireNonNull(queueTimeout, "queueTimeout is required");
+            return this;
+        }
+
+        /**
+         * Sets the executor to shed queued requests on. Defaults to the Armeria worker group.
+         *
+         * @param scheduler an executor
+         * @return the client builder
+         */
+        public ConcurrencyLimitingNgrokApiClient.Builder scheduler(final ScheduledExecutorService scheduler) {
+            this.scheduler = Optional.ofNullable(scheduler);
+            return this;
+        }
+
+        /**
+         * Build the {@link ConcurrencyLimitingNgrokApiClient}.
+         *
+         * @return the concurrency limiting API client
+         */
+        public ConcurrencyLimitingNgrokApiClient build() {
+            return new ConcurrencyLimitingNgrokApiClient(this);
+        }
+    }
+
+    /**
+     * Creates a new builder for the {@link ConcurrencyLimitingNgrokApiClient}.
+     *
+     * @param delegate the client to send the requests with
+     * @return a new client builder
+     */
+    public static ConcurrencyLimitingNgrokApiClient.Builder newBuilder(final NgrokApiClient delegate) {
+        return new Builder(delegate);
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long queueTimeoutNanos;
+    private final ScheduledExecutorService scheduler;
+    private final RequestPermits permits;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private int limit;
+    private long minLatency = Long.MAX_VALUE;
+    private int untilProbe = PROBE_INTERVAL;
+
+    private ConcurrencyLimitingNgrokApiClient(final Builder builder) {
+        super(builder.delegate);
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.queueTimeoutNanos = builder.queueTimeout.toNanos();
+        this.scheduler = builder.scheduler.orElseGet(CommonPools::workerGroup);
+        this.limit = Math.max(builder.minLimit, Math.min(builder.maxLimit, builder.initialLimit));
+        this.permits = new RequestPermits(this.limit);
+    }
+
+    /**
+     * The current number of requests allowed in flight.
+     *
+     * @return the limit
+     */
+    public synchronized int getLimit() {
+        return this.limit;
+    }
+
+    /**
+     * The number of requests in flight, which can be above the limit right after it shrank.
+     *
+     * @return the number of requests in flight
+     */
+    public int getInFlight() {
+        return this.inFlight.get();
+    }
+
+    /**
+     * The number of requests queued, waiting to be sent.
+     *
+     * @return the depth of the queue
+     */
+    public int getQueueDepth() {
+        return this.permits.waiting();
+    }
+
+    @Override
+    protected <O> CompletionStage<O> forward(final Request request, final Supplier<CompletionStage<O>> send) {
+        final CompletableFuture<O> result = new CompletableFuture<>();
+        final CompletableFuture<Void> permit = this.permits.acquire(0).toCompletableFuture();
+        if (!permit.isDone()) {
+            final ScheduledFuture<?> deadline = this.scheduler.schedule(() -> {
+                if (permit.cancel(false)) {
+                    result.completeExceptionally(new ConcurrencyLimitExceededException(getLimit(), request.toString()));
+                }
+            }, this.queueTimeoutNanos, TimeUnit.NANOSECONDS);
+            permit.thenRun(() -> deadline.cancel(false));
+            result.whenComplete((value, cause) -> {
+                if (result.isCancelled()) {
+                    permit.cancel(false);
+                }
+            });
+        }
+        permit.thenRun(() -> send(send, result));
+        return result;
+    }
+
+    private <O> void send(final Supplier<CompletionStage<O>> send, final CompletableFuture<O> result) {
+        if (result.isDone()) {
+            this.permits.release();
+            return;
+        }
+        final int inFlight = this.inFlight.incrementAndGet();
+        final long sentAt = System.nanoTime();
+        final CompletableFuture<O> response;
+        try {
+            response = send.get().toCompletableFuture();
+        } catch (final RuntimeException e) {
+            this.inFlight.decrementAndGet();
+            this.permits.release();
+            result.completeExceptionally(e);
+            return;
+        }
+        result.whenComplete((value, cause) -> {
+            if (result.isCancelled()) {
+                response.cancel(true);
+            }
+        });
+        response.whenComplete((value, cause) -> {
+            this.inFlight.decrementAndGet();
+            final Throwable error = cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause;
+            final boolean dropped = error instanceof ResponseTimeoutException
+                || (error instanceof NgrokApiError
+                    && (((NgrokApiError) error).getHttpStatusCode() == 429 || ((NgrokApiError) error).getHttpStatusCode() == 503));
+            final int added = sample(System.nanoTime() - sentAt, inFlight, dropped);
+            for (int i = 0; i < added; i++) {
+                this.permits.release();
+            }
+            this.permits.release();
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+
+    /**
+     * Updates the limit with the latency of a request, resizing the permits along with it so that they cannot be
+     * resized out of order.
+     *
+     * @return the number of permits added, which are released once the lock is not held
+     */
+    private synchronized int sample(final long latency, final int inFlight, final boolean dropped) {
+        if (--this.untilProbe <= 0) {
+            this.minLatency = Long.MAX_VALUE;
+            this.untilProbe = PROBE_INTERVAL;
+        }
+        this.minLatency = Math.max(1, Math.min(this.minLatency, latency));
+        final int limit;
+        if (dropped) {
+            limit = (int) (this.limit * DECREASE_FACTOR);
+        } else if (inFlight * 2 < this.limit) {
+            // too few requests to tell whether the API could take more
+            return 0;
+        } else {
+            final double queued = this.limit * (1 - (double) this.minLatency / Math.max(latency, this.minLatency));
+            if (queued < ALPHA) {
+                limit = this.limit + 1;
+            } else if (queued > BETA) {
+                limit = this.limit - 1;
+            } else {
+                return 0;
+            }
+        }
+        final int bounded = Math.max(this.minLimit, Math.min(this.maxLimit, limit));
+        if (bounded == this.limit) {
+            return 0;
+        }
+        this.limit = bounded;
+        return this.permits.resize(bounded);
+    }
+}
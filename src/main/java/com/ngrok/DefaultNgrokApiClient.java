@@ -2,27 +2,43 @@
 
 package com.ngrok;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.linecorp.armeria.client.ClientFactory;
 import com.linecorp.armeria.client.WebClient;
-import com.linecorp.armeria.client.WebClientRequestPreparation;
 import com.linecorp.armeria.common.*;
+import com.linecorp.armeria.common.stream.SubscriptionOption;
+import com.ngrok.definitions.DefinitionsModule;
 import com.ngrok.definitions.NgrokApiError;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.util.AsciiString;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.AbstractMap;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -30,9 +46,17 @@ import static java.util.Objects.requireNonNull;
 
 /**
  * Default implementation of {@link NgrokApiClient} based on the Armeria HTTP client.
+ *
+ * Cancelling a future returned by this client aborts the HTTP request behind it.
  */
 public class DefaultNgrokApiClient implements NgrokApiClient {
     private static String JAVA_VERSION = System.getProperty("java.version");
+    private static final String USER_AGENT = "ngrok-api-java/" + Version.CLIENT_VERSION + "/" + JAVA_VERSION;
+    private static final AsciiString NGROK_VERSION = AsciiString.of("ngrok-version");
+    private static final byte[] EMPTY_OBJECT = { '{', '}' };
+    private static final int UNCHANGED_RESPONSES = 1024;
+    private static final int DEFAULT_DECODE_OFFLOAD_THRESHOLD = 32 * 1024;
+    private static final int DEFAULT_PARALLEL_DECODE_THRESHOLD = 256 * 1024;
 
     /**
      * Builder class for the default API client.
@@ -43,6 +67,12 @@ public class DefaultNgrokApiClient implements NgrokApiClient {
         private Optional<WebClient> httpClient = Optional.empty();
         private Optional<URI> baseUri = Optional.empty();
         private Optional<ObjectMapper> objectMapper = Optional.empty();
+        private boolean lazyListItems = false;
+        private boolean reuseUnchangedResponses = false;
+        private Optional<Executor> decodeExecutor = Optional.empty();
+        private int decodeOffloadThreshold = DEFAULT_DECODE_OFFLOAD_THRESHOLD;
+        private Optional<ForkJoinPool> parallelDecodePool = Optional.empty();
+        private int parallelDecodeThreshold = DEFAULT_PARALLEL_DECODE_THRESHOLD;
 
         private Builder(final String apiKey) {
             this.apiKey = requireNonNull(apiKey, "apiKey is required");
@@ -97,12 +127,14 @@ public class DefaultNgrokApiClient implements NgrokApiClient {
         /**
          * Sets the Jackson object mapper to use to serialize request bodies and deserialize response bodies.
          *
-         * Be sure to pass something that can handle {@link Optional} and {@link java.time.OffsetDateTime}.
+         * Be sure to pass something that can handle {@link Optional} and {@link java.time.OffsetDateTime}. Registering
+         * {@link DefinitionsModule} as well avoids reflective (de)serialization of the ngrok API definitions.
          *
          * @param objectMapper an object mapper
          * @return the client builder
          * @see Jdk8Module
          * @see JavaTimeModule
+         * @see DefinitionsModule
          */
         public DefaultNgrokApiClient.Builder objectMapper(final ObjectMapper objectMapper) {
             this.objectMapper = Optional.ofNullable(objectMapper);
@@ -112,18 +144,126 @@ public class DefaultNgrokApiClient implements NgrokApiClient {
         /**
          * Sets the Jackson object mapper to use to serialize request bodies and deserialize response bodies.
          *
-         * Be sure to pass something that can handle {@link Optional} and {@link java.time.OffsetDateTime}.
+         * Be sure to pass something that can handle {@link Optional} and {@link java.time.OffsetDateTime}. Registering
+         * {@link DefinitionsModule} as well avoids reflective (de)serialization of the ngrok API definitions.
          *
          * @param objectMapper an object mapper
          * @return the client builder
          * @see Jdk8Module
          * @see JavaTimeModule
+         * @see DefinitionsModule
          */
         public DefaultNgrokApiClient.Builder objectMapper(final Optional<ObjectMapper> objectMapper) {
             this.objectMapper = requireNonNull(objectMapper, "objectMapper is required");
             return this;
         }
 
+        /**
+         * Sets whether the items of list responses are deserialized lazily. When enabled, each item of a page is
+         * kept as buffered JSON tokens and only deserialized the first time it is accessed, which saves time and
+         * garbage when only a few items of each page are looked at, or when they are just counted. The rest of
+         * the page, including {@link com.ngrok.definitions.Pageable#getNextPageUri()}, is decoded right away.
+         *
+         * This requires {@link DefinitionsModule} to be registered on the object mapper, which it is by default.
+         *
+         * @param lazyListItems whether or not to deserialize page items lazily
+         * @return the client builder
+         * @see DefinitionsModule#LAZY_LIST_ITEMS
+         */
+        public DefaultNgrokApiClient.Builder lazyListItems(final boolean lazyListItems) {
+            this.lazyListItems = lazyListItems;
+            return this;
+        }
+
+        /**
+         * Sets whether or not to reuse the previous response of a GET request when it has not changed, instead of
+         * decoding it again. Defaults to false.
+         *
+         * This makes polling cheap when nothing changes, e.g. listing tunnels every few seconds. The client keeps
+         * the last decoded response of the 1024 most recently requested URIs, sends the
+         * <code>ETag</code> and <code>Last-Modified</code> validators of the server, if any, along with the next
+         * request, and reuses the previous response on <code>304 Not Modified</code>. Otherwise, the body is
+         * hashed with 64-bit xxHash before decoding, and the previous response is reused if the hash and length
+         * of the body are unchanged.
+         *
+         * Reused responses are the same instances as before, so they should not be modified. Only responses bound
+         * to their definition class are reused; responses decoded with a {@link ResponseDecoder} or streamed item
+         * by item are always decoded.
+         *
+         * @param reuseUnchangedResponses whether or not to reuse unchanged GET responses
+         * @return the client builder
+         */
+        public DefaultNgrokApiClient.Builder reuseUnchangedResponses(final boolean reuseUnchangedResponses) {
+            this.reuseUnchangedResponses = reuseUnchangedResponses;
+            return this;
+        }
+
+        /**
+         * Sets the executor to decode large responses on, instead of the thread that received them, which is
+         * usually one of the event loops of the HTTP client. Decoding a large page on an event loop holds up the
+         * I/O of every other request it serves; handing it to e.g. a {@link java.util.concurrent.ForkJoinPool}, a
+         * dedicated thread pool or virtual threads keeps the event loops free. Defaults to none, decoding every
+         * response on the thread that received it.
+         *
+         * Only responses of at least {@link #decodeOffloadThreshold(int)} bytes are handed over, since handing
+         * over small ones costs more than decoding them. If the executor rejects a response, it is decoded on the
+         * thread that received it. {@link DefaultNgrokApiClient#getEventLoopDecodeTime()} tells how much time is
+         * still spent decoding on the receiving threads.
+         *
+         * @param decodeExecutor an executor
+         * @return the client builder
+         */
+        public DefaultNgrokApiClient.Builder decodeExecutor(final Executor decodeExecutor) {
+            this.decodeExecutor = Optional.ofNullable(decodeExecutor);
+            return this;
+        }
+
+        /**
+         * Sets the size from which response bodies are decoded on the {@link #decodeExecutor(Executor)}. Defaults
+         * to 32 KiB.
+         *
+         * @param decodeOffloadThreshold a number of bytes
+         * @return the client builder
+         */
+        public DefaultNgrokApiClient.Builder decodeOffloadThreshold(final int decodeOffloadThreshold) {
+            this.decodeOffloadThreshold = Math.max(0, decodeOffloadThreshold);
+            return this;
+        }
+
+        /**
+         * Sets the pool to decode the items of large list responses on in parallel. Defaults to none, decoding
+         * every response on one thread.
+         *
+         * The items array of responses of at least {@link #parallelDecodeThreshold(int)} bytes is split at the
+         * boundaries of its elements with a quick scan of the bytes, and the elements are deserialized in chunks
+         * on the pool, then put back in order, so the decoding time of a large page, such as a page of IP policy
+         * rules or credentials, drops with the parallelism of the pool. The thread decoding the response waits for
+         * the pool, so this goes well with a {@link #decodeExecutor(Executor)} that keeps the event loops free.
+         * {@link #lazyListItems(boolean)} takes precedence over it.
+         *
+         * This requires {@link DefinitionsModule} to be registered on the object mapper, which it is by default.
+         *
+         * @param parallelDecodePool a fork/join pool, e.g. {@link ForkJoinPool#commonPool()}
+         * @return the client builder
+         * @see DefinitionsModule#PARALLEL_LIST_ITEMS
+         */
+        public DefaultNgrokApiClient.Builder parallelDecodePool(final ForkJoinPool parallelDecodePool) {
+            this.parallelDecodePool = Optional.ofNullable(parallelDecodePool);
+            return this;
+        }
+
+        /**
+         * Sets the size from which the items of response bodies are decoded in parallel on the
+         * {@link #parallelDecodePool(ForkJoinPool)}. Defaults to 256 KiB.
+         *
+         * @param parallelDecodeThreshold a number of bytes
+         * @return the client builder
+         */
+        public DefaultNgrokApiClient.Builder parallelDecodeThreshold(final int parallelDecodeThreshold) {
+            this.parallelDecodeThreshold = Math.max(0, parallelDecodeThreshold);
+            return this;
+        }
+
         /**
          * Builds the ngrok API client instance.
          *
@@ -138,7 +278,14 @@ public class DefaultNgrokApiClient implements NgrokApiClient {
                     new ObjectMapper()
                         .registerModule(new Jdk8Module())
                         .registerModule(new JavaTimeModule())
-                )
+                        .registerModule(new DefinitionsModule())
+                ),
+                this.lazyListItems,
+                this.reuseUnchangedResponses,
+                this.decodeExecutor.orElse(null),
+                this.decodeOffloadThreshold,
+                this.parallelDecodePool.orElse(null),
+                this.parallelDecodeThreshold
             );
         }
     }
@@ -182,57 +329,143 @@ public class DefaultNgrokApiClient implements NgrokApiClient {
         throw new AssertionError("Impossible NgrokApiClient.HttpMethod: " + method);
     }
 
-    private static String queryParamToString(final Object value) {
-        if (value instanceof String) {
-            return (String) value;
-        } else if (value instanceof OffsetDateTime) {
-            return ((OffsetDateTime) value).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
-        } else if (value instanceof Duration) {
-            return String.valueOf(((Duration) value).getSeconds());
-        } else {
-            return value.toString();
-        }
-    }
-
     private static <T> CompletionStage<T> failedFuture(final Throwable t) {
         final CompletableFuture<T> failed = new CompletableFuture<>();
         failed.completeExceptionally(t);
         return failed;
     }
 
-    private static <T> CompletionStage<T> couldThrow(final Callable<T> f, final Optional<AggregatedHttpResponse> response) {
+    private static NgrokApiError decodeError(final AggregatedHttpResponse response, final Exception e) {
+        final Optional<String> responseBody = Optional.of(response.content()).filter(c -> !c.isEmpty()).map(HttpData::toStringUtf8);
         try {
-            return CompletableFuture.completedFuture(f.call());
-        } catch (final Exception e) {
-            return failedFuture(response.<Exception>map(r -> {
-                final Optional<String> responseBody = Optional.of(r.content()).filter(c -> !c.isEmpty()).map(HttpData::toStringUtf8);
-                try {
-                    return new NgrokApiError(r.status().code(), responseBody, e);
-                } catch (final Exception e1) {
-                    return new NgrokApiError(HttpStatus.SERVICE_UNAVAILABLE.code(), responseBody, e);
-                }
-            }).orElse(e));
+            return new NgrokApiError(response.status().code(), responseBody, e);
+        } catch (final Exception e1) {
+            return new NgrokApiError(HttpStatus.SERVICE_UNAVAILABLE.code(), responseBody, e);
         }
     }
 
-    private static <T> CompletionStage<T> couldThrow(final Callable<T> f, final AggregatedHttpResponse response) {
-        return couldThrow(f, Optional.of(response));
+    /**
+     * Attaches the <code>Retry-After</code> header of an error response, either a number of seconds or a date, to
+     * its error.
+     */
+    private static NgrokApiError withRetryAfter(final NgrokApiError error, final AggregatedHttpResponse response) {
+        final String retryAfter = response.headers().get(HttpHeaderNames.RETRY_AFTER);
+        if (retryAfter == null) {
+            return error;
+        }
+        try {
+            return error.withRetryAfter(Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim()))));
+        } catch (final NumberFormatException e) {
+            // not a number of seconds, so it should be a date
+        }
+        try {
+            final OffsetDateTime date = OffsetDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            final Duration delay = Duration.between(OffsetDateTime.now(), date);
+            return error.withRetryAfter(delay.isNegative() ? Duration.ZERO : delay);
+        } catch (final DateTimeParseException e) {
+            return error;
+        }
     }
 
-    private static <T> CompletionStage<T> couldThrow(final Callable<T> f) {
-        return couldThrow(f, Optional.empty());
+    /**
+     * Creates a parser directly over the bytes held by {@link HttpData}, without first decoding them into a
+     * {@link String}. Pooled (possibly off-heap) buffers are read through a non-copying {@link InputStream}
+     * view, so the caller remains responsible for closing the content. An empty body reads as an empty object.
+     *
+     * @param objectReader the object reader to parse with
+     * @param content the response body
+     * @return a parser over the response body
+     * @throws IOException if the parser could not be created
+     */
+    static JsonParser createParser(final ObjectReader objectReader, final HttpData content) throws IOException {
+        if (content.isEmpty()) {
+            return objectReader.createParser(EMPTY_OBJECT);
+        }
+        if (!content.isPooled()) {
+            return objectReader.createParser(content.array(), 0, content.length());
+        }
+        final ByteBuf buf = content.byteBuf();
+        if (buf.hasArray()) {
+            return objectReader.createParser(buf.array(), buf.arrayOffset() + buf.readerIndex(), buf.readableBytes());
+        }
+        return objectReader.createParser(content.toInputStream());
     }
 
-    private final String apiKey;
+    /**
+     * Deserializes a response body directly from the bytes held by {@link HttpData}.
+     *
+     * @param objectReader the object reader to deserialize with
+     * @param content the response body
+     * @param cls the type to deserialize into
+     * @param <O> the type to deserialize into
+     * @return the deserialized response body
+     * @throws IOException if the body could not be deserialized
+     * @see #createParser(ObjectReader, HttpData)
+     */
+    static <O> O readValue(final ObjectReader objectReader, final HttpData content, final Class<O> cls) throws IOException {
+        try (final JsonParser parser = createParser(objectReader, content)) {
+            return objectReader.readValue(parser, cls);
+        }
+    }
+
+    private final String authorization;
     private final WebClient httpClient;
-    private final URI baseUri;
-    private final ObjectMapper objectMapper;
+    private final String baseUri;
+    private final ObjectReader objectReader;
+    private final JsonBodyWriter bodyWriter;
+    private final UnchangedResponses unchangedResponses;
+    private final Executor decodeExecutor;
+    private final int decodeOffloadThreshold;
+    private final ObjectReader parallelObjectReader;
+    private final int parallelDecodeThreshold;
+    private final LongAdder eventLoopDecodeNanos = new LongAdder();
+    private final LongAdder offloadedDecodes = new LongAdder();
 
-    private DefaultNgrokApiClient(final String apiKey, final WebClient httpClient, final URI baseUri, final ObjectMapper objectMapper) {
-        this.apiKey = apiKey;
+    private DefaultNgrokApiClient(final String apiKey,
+                                  final WebClient httpClient,
+                                  final URI baseUri,
+                                  final ObjectMapper objectMapper,
+                                  final boolean lazyListItems,
+                                  final boolean reuseUnchangedResponses,
+                                  final Executor decodeExecutor,
+                                  final int decodeOffloadThreshold,
+                                  final ForkJoinPool parallelDecodePool,
+                                  final int parallelDecodeThreshold)
+    {
+        this.authorization = "Bearer " + apiKey;
         this.httpClient = httpClient;
-        this.baseUri = baseUri;
-        this.objectMapper = objectMapper;
+        this.baseUri = baseUri.toString();
+        this.objectReader = lazyListItems
+            ? objectMapper.reader().withAttribute(DefinitionsModule.LAZY_LIST_ITEMS, Boolean.TRUE)
+            : objectMapper.reader();
+        this.bodyWriter = new JsonBodyWriter(objectMapper);
+        this.unchangedResponses = reuseUnchangedResponses ? new UnchangedResponses(UNCHANGED_RESPONSES) : null;
+        this.decodeExecutor = decodeExecutor;
+        this.decodeOffloadThreshold = decodeOffloadThreshold;
+        this.parallelObjectReader = parallelDecodePool != null && !lazyListItems
+            ? this.objectReader.withAttribute(DefinitionsModule.PARALLEL_LIST_ITEMS, parallelDecodePool)
+            : null;
+        this.parallelDecodeThreshold = parallelDecodeThreshold;
+    }
+
+    /**
+     * The total time spent decoding responses on the threads that received them, usually the event loops of the
+     * HTTP client, during which those threads could not serve other requests. Responses handed to the
+     * {@link Builder#decodeExecutor(Executor)} do not count.
+     *
+     * @return the time spent decoding on the receiving threads
+     */
+    public Duration getEventLoopDecodeTime() {
+        return Duration.ofNanos(this.eventLoopDecodeNanos.sum());
+    }
+
+    /**
+     * The number of responses handed to the {@link Builder#decodeExecutor(Executor)} to be decoded.
+     *
+     * @return the number of offloaded responses
+     */
+    public long getOffloadedDecodeCount() {
+        return this.offloadedDecodes.sum();
     }
 
     /**
@@ -240,82 +473,452 @@ public class DefaultNgrokApiClient implements NgrokApiClient {
      */
     @Override
     public <O> CompletionStage<O> sendRequest(final URI uri, final Class<O> responseClass) {
-        final WebClientRequestPreparation request = this.httpClient.prepare().get(uri.toString());
-        return sendRequest(request, Optional.empty(), Optional.of(responseClass));
+        return executeGet(newRequestHeaders(com.linecorp.armeria.common.HttpMethod.GET, uri.toString()), responseClass);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    public <O> CompletionStage<O> sendRequest(final URI uri, final ResponseDecoder<O> decoder) {
+        return execute(newRequestHeaders(com.linecorp.armeria.common.HttpMethod.GET, uri.toString()), null, requireNonNull(decoder, "decoder is required"));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This adapts the call onto {@link #sendRequest(Operation, Object[])}.
+     */
+    @Override
     public <O> CompletionStage<O> sendRequest(final NgrokApiClient.HttpMethod method,
                                               final String endpoint,
-                                              final Stream<Map.Entry<String, Optional<Object>>> queryParams,
+                                              final Stream<Map.Entry<String, Optional<Object>>> queryParamsStream,
                                               final Stream<Map.Entry<String, Optional<Object>>> bodyParamsStream,
                                               final Optional<Class<O>> responseClass)
     {
-        final WebClientRequestPreparation request = this.httpClient.prepare()
-            .method(armeriaMethodFromNgrokMethod(method))
-            .path(this.baseUri.toString() + endpoint)
-            .queryParams(
-                queryParams.flatMap(entry -> entry.getValue()
-                    .map(value -> Stream.of(new AbstractMap.SimpleEntry<>(entry.getKey(), queryParamToString(value))))
-                    .orElse(Stream.empty())
-                ).collect(Collectors.toList())
-            );
-
+        final List<Map.Entry<String, Optional<Object>>> queryParams = queryParamsStream.collect(Collectors.toList());
         final List<Map.Entry<String, Optional<Object>>> bodyParams = bodyParamsStream.collect(Collectors.toList());
-        final Optional<JsonNode> body;
-        if (bodyParams.isEmpty()) {
-            body = Optional.empty();
-        } else {
-            body = Optional.of(this.objectMapper.convertValue(
-                bodyParams.stream().flatMap(entry -> entry.getValue()
-                    .map(value -> Stream.of(new AbstractMap.SimpleEntry<>(entry.getKey(), value)))
-                    .orElse(Stream.empty())
-                ).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)),
-                JsonNode.class
-            ));
+        final String[] queryNames = new String[queryParams.size()];
+        final String[] bodyNames = new String[bodyParams.size()];
+        final Object[] values = new Object[queryNames.length + bodyNames.length];
+        for (int i = 0; i < queryNames.length; i++) {
+            queryNames[i] = queryParams.get(i).getKey();
+            values[i] = queryParams.get(i).getValue().orElse(null);
+        }
+        for (int i = 0; i < bodyNames.length; i++) {
+            bodyNames[i] = bodyParams.get(i).getKey();
+            values[queryNames.length + i] = bodyParams.get(i).getValue().orElse(null);
         }
+        return sendRequest(Operation.literal(method, endpoint, queryNames, bodyNames, responseClass), values);
+    }
 
-        return sendRequest(request, body, responseClass);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <O> CompletionStage<O> sendRequest(final Operation<O> operation, final Object[] values) {
+        if (this.unchangedResponses != null && operation.getMethod() == NgrokApiClient.HttpMethod.GET && operation.getResponseClass().isPresent()) {
+            return executeGet(newRequestHeaders(operation, values), operation.getResponseClass().get());
+        }
+        return sendRequest(operation, values, operation.getResponseClass().map(DefaultNgrokApiClient::bindTo).orElse(null));
     }
 
-    private <O> CompletionStage<O> sendRequest(final WebClientRequestPreparation request,
-                                               final Optional<JsonNode> maybeBody,
-                                               final Optional<Class<O>> responseClass)
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <O> CompletionStage<O> sendRequest(final Operation<?> operation, final Object[] values, final ResponseDecoder<O> decoder) {
+        final RequestHeadersBuilder headers = newRequestHeaders(operation, values);
+        final HttpData body;
+        try {
+            body = writeBody(operation, values, headers);
+        } catch (final Exception e) {
+            return failedFuture(e);
+        }
+        return execute(headers, body, decoder);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The body is aggregated into a heap array that the {@link RawResponse} wraps as is; successful responses never
+     * go through Jackson.
+     */
+    @Override
+    public CompletionStage<RawResponse> sendRawRequest(final Operation<?> operation, final Object[] values) {
+        final RequestHeadersBuilder headers = newRequestHeaders(operation, values);
+        final HttpData body;
+        try {
+            body = writeBody(operation, values, headers);
+        } catch (final Exception e) {
+            return failedFuture(e);
+        }
+        return executeRaw(headers, body);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The body is aggregated into a heap array that the {@link RawResponse} wraps as is; successful responses never
+     * go through Jackson.
+     */
+    @Override
+    public CompletionStage<RawResponse> sendRawRequest(final URI uri) {
+        return executeRaw(newRequestHeaders(com.linecorp.armeria.common.HttpMethod.GET, uri.toString()), null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The response body is parsed as it arrives, one chunk at a time, so at most one item and a chunk of the body
+     * are held in memory regardless of the size of the page. The consumer is called on the thread reading the
+     * response, usually one of the HTTP client's event loops, and must not block it; the next chunk is only
+     * requested once the items of the current one have been consumed.
+     */
+    @Override
+    public <I> CompletionStage<Optional<URI>> streamRequest(final Operation<?> operation,
+                                                            final Object[] values,
+                                                            final String itemsField,
+                                                            final Class<I> itemClass,
+                                                            final Consumer<? super I> consumer)
+    {
+        final RequestHeadersBuilder headers = newRequestHeaders(operation, values);
+        final HttpData body;
+        try {
+            body = writeBody(operation, values, headers);
+        } catch (final Exception e) {
+            return failedFuture(e);
+        }
+        return stream(headers, body, new ListItemParser<>(this.objectReader, itemsField, itemClass, consumer));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The response body is parsed as it arrives, as described in
+     * {@link #streamRequest(Operation, Object[], String, Class, Consumer)}.
+     */
+    @Override
+    public <I> CompletionStage<Optional<URI>> streamRequest(final URI uri,
+                                                            final String itemsField,
+                                                            final Class<I> itemClass,
+                                                            final Consumer<? super I> consumer)
+    {
+        return stream(
+            newRequestHeaders(com.linecorp.armeria.common.HttpMethod.GET, uri.toString()),
+            null,
+            new ListItemParser<>(this.objectReader, itemsField, itemClass, consumer)
+        );
+    }
+
+    private RequestHeadersBuilder newRequestHeaders(final Operation<?> operation, final Object[] values) {
+        final StringBuilder uri = operation.appendPath(new StringBuilder(128).append(this.baseUri), values);
+        final QueryParams queryParams = QueryStrings.of(operation, values);
+        if (queryParams != null) {
+            queryParams.appendQueryString(uri.append('?'));
+        }
+        return newRequestHeaders(armeriaMethodFromNgrokMethod(operation.getMethod()), uri.toString());
+    }
+
+    private HttpData writeBody(final Operation<?> operation, final Object[] values, final RequestHeadersBuilder headers) throws IOException {
+        if (!operation.hasBody()) {
+            return null;
+        }
+        final HttpData body = this.bodyWriter.write(operation.bodyParamNames(), values, operation.getBodyOffset());
+        headers.contentType(MediaType.JSON);
+        return body;
+    }
+
+    private static <O> ResponseDecoder<O> bindTo(final Class<O> responseClass) {
+        return parser -> parser.readValueAs(responseClass);
+    }
+
+    private RequestHeadersBuilder newRequestHeaders(final com.linecorp.armeria.common.HttpMethod method, final String uri) {
+        return RequestHeaders.builder(method, uri)
+            .add(HttpHeaderNames.USER_AGENT, USER_AGENT)
+            .add(NGROK_VERSION, Version.API_VERSION)
+            .add(HttpHeaderNames.AUTHORIZATION, this.authorization);
+    }
+
+    private <O> CompletionStage<O> execute(final RequestHeadersBuilder headers,
+                                           final HttpData body,
+                                           final ResponseDecoder<O> decoder)
+    {
+        final HttpRequest request = body == null ? HttpRequest.of(headers.build()) : HttpRequest.of(headers.build(), body);
+        final CompletableFuture<O> future = new CompletableFuture<>();
+        final HttpResponse httpResponse = this.httpClient.execute(request);
+        abortOnCancel(future, httpResponse);
+        httpResponse.aggregateWithPooledObjects(ByteBufAllocator.DEFAULT).whenComplete((response, cause) -> {
+            if (cause != null) {
+                future.completeExceptionally(cause);
+            } else {
+                decodeResponse(future, response, decoder);
+            }
+        });
+        return future;
+    }
+
+    private CompletionStage<RawResponse> executeRaw(final RequestHeadersBuilder headers, final HttpData body) {
+        final HttpRequest request = body == null ? HttpRequest.of(headers.build()) : HttpRequest.of(headers.build(), body);
+        final CompletableFuture<RawResponse> future = new CompletableFuture<>();
+        final HttpResponse httpResponse = this.httpClient.execute(request);
+        abortOnCancel(future, httpResponse);
+        // unpooled, so that the body can be handed over without copying it
+        httpResponse.aggregate().whenComplete((response, cause) -> {
+            if (cause != null) {
+                future.completeExceptionally(cause);
+            } else if (response.status().isSuccess()) {
+                future.complete(new RawResponse(
+                    response.status().code(),
+                    Optional.ofNullable(response.contentType()).map(MediaType::toString),
+                    response.content().array()
+                ));
+            } else {
+                decodeResponse(future, response, null);
+            }
+        });
+        return future;
+    }
+
+    private <O> CompletionStage<O> executeGet(final RequestHeadersBuilder headers, final Class<O> responseClass) {
+        if (this.unchangedResponses == null) {
+            return execute(headers, null, bindTo(responseClass));
+        }
+        final String uri = headers.get(HttpHeaderNames.PATH);
+        final UnchangedResponses.Remembered previous = this.unchangedResponses.get(uri, responseClass);
+        if (previous != null) {
+            previous.addConditions(headers);
+        }
+        final CompletableFuture<O> future = new CompletableFuture<>();
+        final HttpResponse httpResponse = this.httpClient.execute(HttpRequest.of(headers.build()));
+        abortOnCancel(future, httpResponse);
+        httpResponse.aggregateWithPooledObjects(ByteBufAllocator.DEFAULT).whenComplete((response, cause) -> {
+            if (cause != null) {
+                future.completeExceptionally(cause);
+            } else if (previous != null && response.status().equals(HttpStatus.NOT_MODIFIED)) {
+                response.content().close();
+                future.complete(previous.getValue(responseClass));
+            } else if (!response.status().isSuccess()) {
+                decodeResponse(future, response, null);
+            } else {
+                final long hash = XxHash64.hash(response.content().byteBuf());
+                if (previous != null && previous.matches(hash, response.content().length())) {
+                    final O value = this.unchangedResponses.put(uri, response, hash, responseClass, previous.getValue(responseClass));
+                    response.content().close();
+                    future.complete(value);
+                } else {
+                    decodeResponse(future, response, parser -> this.unchangedResponses.put(uri, response, hash, responseClass, parser.readValueAs(responseClass)));
+                }
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Decodes a response on the decode executor if it is large enough, or on the current thread otherwise.
+     */
+    private <O> void decodeResponse(final CompletableFuture<O> future,
+                                    final AggregatedHttpResponse response,
+                                    final ResponseDecoder<O> decoder)
     {
-        request
-            .header(HttpHeaderNames.USER_AGENT, "ngrok-api-java/" + Version.CLIENT_VERSION + "/" + JAVA_VERSION)
-            .header("ngrok-version", Version.API_VERSION)
-            .header(HttpHeaderNames.AUTHORIZATION, "Bearer " + this.apiKey);
-        return maybeBody
-            .map(body -> couldThrow(() -> Optional.of(this.objectMapper.writeValueAsBytes(body))))
-            .orElseGet(() ->CompletableFuture.completedFuture(Optional.empty()))
-            .thenApply(maybeBodyBytes -> maybeBodyBytes.map(bodyBytes -> request.content(MediaType.JSON, bodyBytes)).orElse(request))
-            .thenCompose(req -> req.execute().aggregate())
-            .thenCompose(response -> Optional
-                .of(response.content())
-                .filter(c -> !c.isEmpty())
-                .map(responseBody -> {
-                    if (response.status().isSuccess()) {
-                        return responseClass
-                            .map(cls -> couldThrow(() -> this.objectMapper.readValue(responseBody.toStringUtf8(), cls), response))
-                            .orElseGet(() -> CompletableFuture.completedFuture(null));
+        if (this.decodeExecutor != null && response.content().length() >= this.decodeOffloadThreshold) {
+            try {
+                this.decodeExecutor.execute(() -> {
+                    if (future.isDone()) {
+                        // cancelled while waiting for its turn
+                        response.content().close();
                     } else {
-                        return couldThrow(() -> this.objectMapper.readValue(responseBody.toStringUtf8(), NgrokApiError.class), response)
-                            .thenCompose(DefaultNgrokApiClient::<O>failedFuture);
+                        complete(future, response, decoder);
                     }
-                })
-                .orElseGet(() -> {
-                    if (response.status().isSuccess()) {
-                        return responseClass
-                            .map(cls -> couldThrow(() -> this.objectMapper.readValue("{}", cls), response))
-                            .orElseGet(() -> CompletableFuture.completedFuture(null));
-                    } else {
-                        return failedFuture(new NgrokApiError(response.status().code()));
+                });
+                this.offloadedDecodes.increment();
+                return;
+            } catch (final RejectedExecutionException e) {
+                // decode it here then
+            }
+        }
+        final long start = System.nanoTime();
+        complete(future, response, decoder);
+        this.eventLoopDecodeNanos.add(System.nanoTime() - start);
+    }
+
+    private <O> void complete(final CompletableFuture<O> future,
+                              final AggregatedHttpResponse response,
+                              final ResponseDecoder<O> decoder)
+    {
+        final HttpData content = response.content();
+        try {
+            if (response.status().isSuccess()) {
+                future.complete(decoder != null ? decode(content, decoder) : null);
+            } else if (content.isEmpty()) {
+                future.completeExceptionally(withRetryAfter(new NgrokApiError(response.status().code()), response));
+            } else {
+                future.completeExceptionally(withRetryAfter(readValue(this.objectReader, content, NgrokApiError.class), response));
+            }
+        } catch (final Exception e) {
+            future.completeExceptionally(withRetryAfter(decodeError(response, e), response));
+        } finally {
+            content.close();
+        }
+    }
+
+    private <O> O decode(final HttpData content, final ResponseDecoder<O> decoder) throws IOException {
+        try (final JsonParser parser = createDecodeParser(content)) {
+            return decoder.decode(parser);
+        }
+    }
+
+    private JsonParser createDecodeParser(final HttpData content) throws IOException {
+        if (this.parallelObjectReader == null || content.length() < this.parallelDecodeThreshold) {
+            return createParser(this.objectReader, content);
+        }
+        if (content.isPooled() && !content.byteBuf().hasArray()) {
+            // the items are located in the bytes of the body, so off-heap bodies are copied first
+            return this.parallelObjectReader.createParser(content.array());
+        }
+        return createParser(this.parallelObjectReader, content);
+    }
+
+    private <I> CompletionStage<Optional<URI>> stream(final RequestHeadersBuilder headers,
+                                                      final HttpData body,
+                                                      final ListItemParser<I> itemParser)
+    {
+        final HttpRequest request = body == null ? HttpRequest.of(headers.build()) : HttpRequest.of(headers.build(), body);
+        final CompletableFuture<Optional<URI>> future = new CompletableFuture<>();
+        final JsonParser parser;
+        try {
+            parser = this.objectReader.createNonBlockingByteArrayParser();
+        } catch (final IOException e) {
+            request.abort(e);
+            return failedFuture(e);
+        }
+        final HttpResponse httpResponse = this.httpClient.execute(request);
+        abortOnCancel(future, httpResponse);
+        httpResponse.subscribe(new StreamingSubscriber<>(future, parser, itemParser), SubscriptionOption.WITH_POOLED_OBJECTS);
+        return future;
+    }
+
+    /**
+     * Aborts the response when the future of its result is cancelled, so that cancelling a call also cancels the
+     * underlying HTTP request.
+     */
+    private static void abortOnCancel(final CompletableFuture<?> future, final HttpResponse response) {
+        future.whenComplete((result, cause) -> {
+            if (cause instanceof CancellationException) {
+                response.abort(cause);
+            }
+        });
+    }
+
+    /**
+     * Feeds the body of a list response to a {@link ListItemParser} one chunk at a time, only requesting the next
+     * chunk once the current one has been parsed. Error responses are aggregated and decoded as usual.
+     */
+    private final class StreamingSubscriber<I> implements Subscriber<HttpObject> {
+        private final CompletableFuture<Optional<URI>> future;
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private final ListItemParser<I> itemParser;
+        private Subscription subscription;
+        private ResponseHeaders headers;
+        private ByteArrayOutputStream errorBody;
+        private byte[] chunk = new byte[0];
+
+        private StreamingSubscriber(final CompletableFuture<Optional<URI>> future,
+                                    final JsonParser parser,
+                                    final ListItemParser<I> itemParser)
+        {
+            this.future = future;
+            this.parser = parser;
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            this.itemParser = itemParser;
+        }
+
+        @Override
+        public void onSubscribe(final Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(final HttpObject object) {
+            try {
+                if (object instanceof ResponseHeaders) {
+                    final ResponseHeaders headers = (ResponseHeaders) object;
+                    if (!headers.status().isInformational()) {
+                        this.headers = headers;
+                        if (!headers.status().isSuccess()) {
+                            this.errorBody = new ByteArrayOutputStream();
+                        }
                     }
-                })
-            );
+                } else if (object instanceof HttpData) {
+                    final long start = System.nanoTime();
+                    feed((HttpData) object);
+                    DefaultNgrokApiClient.this.eventLoopDecodeNanos.add(System.nanoTime() - start);
+                }
+            } catch (final Exception e) {
+                this.subscription.cancel();
+                fail(e);
+                return;
+            }
+            this.subscription.request(1);
+        }
+
+        @Override
+        public void onError(final Throwable cause) {
+            fail(cause);
+        }
+
+        @Override
+        public void onComplete() {
+            if (this.future.isDone()) {
+                return;
+            }
+            if (this.errorBody != null) {
+                complete(this.future, AggregatedHttpResponse.of(this.headers, HttpData.wrap(this.errorBody.toByteArray())), null);
+                return;
+            }
+            try {
+                this.feeder.endOfInput();
+                this.itemParser.parse(this.parser);
+                this.future.complete(this.itemParser.finish(this.parser));
+            } catch (final Exception e) {
+                fail(e);
+            }
+        }
+
+        private void feed(final HttpData data) throws IOException {
+            try {
+                if (this.errorBody != null) {
+                    this.errorBody.write(data.array());
+                    return;
+                }
+                final int length = data.length();
+                if (length == 0) {
+                    return;
+                }
+                if (this.chunk.length < length) {
+                    this.chunk = new byte[length];
+                }
+                data.byteBuf().getBytes(data.byteBuf().readerIndex(), this.chunk, 0, length);
+                this.feeder.feedInput(this.chunk, 0, length);
+            } finally {
+                data.close();
+            }
+            this.itemParser.parse(this.parser);
+        }
+
+        private void fail(final Throwable cause) {
+            if (cause instanceof IOException && this.headers != null) {
+                this.future.completeExceptionally(new NgrokApiError(this.headers.status().code(), Optional.empty(), cause));
+            } else {
+                this.future.completeExceptionally(cause);
+            }
+            try {
+                this.parser.close();
+            } catch (final IOException e) {
+                // nothing left to release
+            }
+        }
     }
 }
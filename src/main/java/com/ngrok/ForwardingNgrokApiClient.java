@@ -0,0 +1,256 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.linecorp.armeria.common.QueryParams;
+import com.linecorp.armeria.common.QueryParamsBuilder;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An {@link NgrokApiClient} that decorates another one, e.g. to retry or rate limit its requests.
+ *
+ * Every request goes through {@link #forward(Request, Supplier)}, which subclasses override to run code around
+ * sending it, or to send it several times; the default implementation just sends it. Decorators compose by
+ * wrapping one another:
+ *
+ * <pre>{@code
+ * NgrokApiClient apiClient = RetryingNgrokApiClient.newBuilder(DefaultNgrokApiClient.newBuilder(apiKey).build())
+ *     .build();
+ * Ngrok ngrok = new Ngrok(apiClient);
+ * }</pre>
+ */
+public abstract class ForwardingNgrokApiClient implements NgrokApiClient {
+    /**
+     * What a decorator knows about a request it forwards.
+     */
+    public static final class Request {
+        private final HttpMethod method;
+        private final String endpoint;
+        private final Supplier<String> target;
+        private final Object responseType;
+        private final boolean streaming;
+        private volatile boolean itemsDelivered = false;
+
+        private Request(final HttpMethod method,
+                        final String endpoint,
+                        final Supplier<String> target,
+                        final Object responseType,
+                        final boolean streaming)
+        {
+            this.method = method;
+            this.endpoint = endpoint;
+            this.target = target;
+            this.responseType = responseType;
+            this.streaming = streaming;
+        }
+
+        /**
+         * The HTTP method of the request.
+         *
+         * @return the value of the property as a {@link HttpMethod}
+         */
+        public HttpMethod getMethod() {
+            return this.method;
+        }
+
+        /**
+         * The endpoint of the request: the path template of its {@link Operation}, e.g.
+         * <code>/ip_policies/{id}</code>, or the path of its URI.
+         *
+         * @return the value of the property as a {@link String}
+         */
+        public String getEndpoint() {
+            return this.endpoint;
+        }
+
+        /**
+         * The path and query string of the request, e.g. <code>/ip_policies/ipp_123</code> or
+         * <code>/api_keys?limit=10</code>. Two requests with the same method and target fetch the same resource.
+         * The path is not encoded, and the query parameters are sorted by name and encoded as they are sent, so a
+         * request has the same target whether it is sent with an {@link Operation} or with a URI the API returned.
+         *
+         * @return the value of the property as a {@link String}
+         */
+        public String getTarget() {
+            return this.target.get();
+        }
+
+        /**
+         * What the response is decoded with: the {@link Class} it is decoded into ({@link RawResponse} for raw
+         * requests), the {@link ResponseDecoder}, or {@code null} if it is not decoded. Two requests fetching the same resource can only share their response
+         * if they decode it the same way.
+         */
+        Object getResponseType() {
+            return this.responseType;
+        }
+
+        /**
+         * Whether the response is handed to a consumer item by item as it arrives, rather than all at once when the
+         * future completes. Sending such a request twice at the same time would hand the items over twice.
+         *
+         * @return whether the request is streaming
+         */
+        public boolean isStreaming() {
+            return this.streaming;
+        }
+
+        /**
+         * Whether sending the request again would have the same effect on the caller as sending it once, which is
+         * no longer the case once a streaming request has handed items to its consumer.
+         *
+         * @return whether the request can be sent again
+         */
+        public boolean isReplayable() {
+            return !this.itemsDelivered;
+        }
+
+        @Override
+        public String toString() {
+            return this.method + " " + this.endpoint;
+        }
+    }
+
+    private final NgrokApiClient delegate;
+
+    /**
+     * Creates a new decorator.
+     *
+     * @param delegate the client to send the requests with
+     */
+    protected ForwardingNgrokApiClient(final NgrokApiClient delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate is required");
+    }
+
+    /**
+     * The decorated client.
+     *
+     * @return the client the requests are sent with
+     */
+    protected final NgrokApiClient delegate() {
+        return this.delegate;
+    }
+
+    /**
+     * Sends a request with the decorated client. The supplier may be called any number of times, each call
+     * sending the request again.
+     *
+     * @param request the request
+     * @param send sends the request with the decorated client
+     * @param <O> the type of the response
+     * @return a future of the response
+     */
+    protected <O> CompletionStage<O> forward(final Request request, final Supplier<CompletionStage<O>> send) {
+        return send.get();
+    }
+
+    @Override
+    public <O> CompletionStage<O> sendRequest(final URI uri, final Class<O> responseClass) {
+        return forward(new Request(HttpMethod.GET, uri.getPath(), () -> target(uri), responseClass, false), () -> this.delegate.sendRequest(uri, responseClass));
+    }
+
+    @Override
+    public <O> CompletionStage<O> sendRequest(final HttpMethod method,
+                                              final String endpoint,
+                                              final Stream<Map.Entry<String, Optional<Object>>> queryParams,
+                                              final Stream<Map.Entry<String, Optional<Object>>> bodyParams,
+                                              final Optional<Class<O>> responseClass)
+    {
+        // streams can only be consumed once, but the request may be sent several times
+        final List<Map.Entry<String, Optional<Object>>> query = queryParams.collect(Collectors.toList());
+        final List<Map.Entry<String, Optional<Object>>> body = bodyParams.collect(Collectors.toList());
+        return forward(
+            new Request(method, endpoint, () -> target(endpoint, query), responseClass.orElse(null), false),
+            () -> this.delegate.sendRequest(method, endpoint, query.stream(), body.stream(), responseClass)
+        );
+    }
+
+    @Override
+    public <O> CompletionStage<O> sendRequest(final Operation<O> operation, final Object[] values) {
+        final Request request = new Request(
+            operation.getMethod(),
+            operation.getPathTemplate(),
+            () -> target(operation, values),
+            operation.getResponseClass().orElse(null),
+            false
+        );
+        return forward(request, () -> this.delegate.sendRequest(operation, values));
+    }
+
+    @Override
+    public <O> CompletionStage<O> sendRequest(final Operation<?> operation, final Object[] values, final ResponseDecoder<O> decoder) {
+        final Request request = new Request(operation.getMethod(), operation.getPathTemplate(), () -> target(operation, values), decoder, false);
+        return forward(request, () -> this.delegate.sendRequest(operation, values, decoder));
+    }
+
+    @Override
+    public <O> CompletionStage<O> sendRequest(final URI uri, final ResponseDecoder<O> decoder) {
+        return forward(new Request(HttpMethod.GET, uri.getPath(), () -> target(uri), decoder, false), () -> this.delegate.sendRequest(uri, decoder));
+    }
+
+    @Override
+    public CompletionStage<RawResponse> sendRawRequest(final Operation<?> operation, final Object[] values) {
+        final Request request = new Request(operation.getMethod(), operation.getPathTemplate(), () -> target(operation, values), RawResponse.class, false);
+        return forward(request, () -> this.delegate.sendRawRequest(operation, values));
+    }
+
+    @Override
+    public CompletionStage<RawResponse> sendRawRequest(final URI uri) {
+        return forward(new Request(HttpMethod.GET, uri.getPath(), () -> target(uri), RawResponse.class, false), () -> this.delegate.sendRawRequest(uri));
+    }
+
+    @Override
+    public <I> CompletionStage<Optional<URI>> streamRequest(final Operation<?> operation,
+                                                            final Object[] values,
+                                                            final String itemsField,
+                                                            final Class<I> itemClass,
+                                                            final Consumer<? super I> consumer)
+    {
+        final Request request = new Request(operation.getMethod(), operation.getPathTemplate(), () -> target(operation, values), itemClass, true);
+        final Consumer<I> tracking = track(request, consumer);
+        return forward(request, () -> this.delegate.streamRequest(operation, values, itemsField, itemClass, tracking));
+    }
+
+    @Override
+    public <I> CompletionStage<Optional<URI>> streamRequest(final URI uri,
+                                                            final String itemsField,
+                                                            final Class<I> itemClass,
+                                                            final Consumer<? super I> consumer)
+    {
+        final Request request = new Request(HttpMethod.GET, uri.getPath(), () -> target(uri), itemClass, true);
+        final Consumer<I> tracking = track(request, consumer);
+        return forward(request, () -> this.delegate.streamRequest(uri, itemsField, itemClass, tracking));
+    }
+
+    private static String target(final URI uri) {
+        return QueryStrings.target(uri.getPath(), uri.getRawQuery() == null ? null : QueryParams.fromQueryString(uri.getRawQuery()));
+    }
+
+    private static String target(final Operation<?> operation, final Object[] values) {
+        return QueryStrings.target(operation.expandPath(values), QueryStrings.of(operation, values));
+    }
+
+    private static String target(final String endpoint, final List<Map.Entry<String, Optional<Object>>> query) {
+        final QueryParamsBuilder queryParams = QueryParams.builder();
+        for (final Map.Entry<String, Optional<Object>> param : query) {
+            param.getValue().ifPresent(value -> queryParams.add(param.getKey(), QueryStrings.format(value)));
+        }
+        return QueryStrings.target(endpoint, queryParams.build());
+    }
+
+    private static <I> Consumer<I> track(final Request request, final Consumer<? super I> consumer) {
+        return item -> {
+            request.itemsDelivered = true;
+            consumer.accept(item);
+        };
+    }
+}
@@ -0,0 +1,262 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.linecorp.armeria.common.CommonPools;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link NgrokApiClient} that cuts the tail latency of GET requests by hedging them: when a request has not been
+ * answered within the usual latency of its endpoint, a second copy of it is sent, the first answer is used and the
+ * other request is cancelled.
+ *
+ * The usual latency is a percentile, by default the 95th, of the latencies of the last requests to the endpoint;
+ * requests to an endpoint are not hedged until enough of them have been measured. Hedges are limited by a budget
+ * shared by all requests, like retries in {@link RetryingNgrokApiClient}: each GET request earns a fraction of a
+ * hedge, by default 5%, and each hedge spends a whole one.
+ *
+ * Only GET requests whose response arrives all at once are hedged, see {@link Request#isStreaming()}. A failure of
+ * one copy of a request is not retried by the other: the request fails with the last error once no copy is left
+ * in flight.
+ */
+public class HedgingNgrokApiClient extends ForwardingNgrokApiClient {
+    private static final int SAMPLES = 128;
+    private static final int MIN_SAMPLES = 20;
+    private static final int UPDATE_INTERVAL = 16;
+
+    /**
+     * Builder class for the hedging API client.
+     */
+    public static class Builder {
+        private final NgrokApiClient delegate;
+
+        private double percentile = 0.95;
+        private double hedgeRatio = 0.05;
+        private int hedgeReserve = 10;
+        private Optional<ScheduledExecutorService> scheduler = Optional.empty();
+
+        private Builder(final NgrokApiClient delegate) {
+            this.delegate = requireNonNull(delegate, "delegate is required");
+        }
+
+        /**
+         * Sets the percentile of the latencies of an endpoint after which a request to it is hedged. Defaults to
+         * 0.95.
+         *
+         * @param percentile a percentile between 0 and 1
+         * @return the client builder
+         * @throws IllegalArgumentException if <code>percentile</code> is not between 0 and 1
+         */
+        public HedgingNgrokApiClient.Builder percentile(final double percentile) {
+            if (!(percentile > 0 && percentile <= 1)) {
+                throw new IllegalArgumentException("percentile must be between 0 and 1: " + percentile);
+            }
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Sets the hedge budget. Defaults to hedges being at most 5% of the GET requests, with a reserve of 10.
+         *
+         * @param ratio the fraction of a hedge each GET request earns
+         * @param reserve the number of hedges that can be saved up
+         * @return the client builder
+         * @throws IllegalArgumentException if <code>ratio</code> or <code>reserve</code> is negative
+         */
+        public HedgingNgrokApiClient.Builder hedgeBudget(final double ratio, final int reserve) {
+            if (!(ratio >= 0) || reserve < 0) {
+                throw new IllegalArgumentException("ratio and reserve must not be negative: " + ratio + ", " + reserve);
+            }
+            this.hedgeRatio = ratio;
+            this.hedgeReserve = reserve;
+            return this;
+        }
+
+        /**
+         * Sets the executor to schedule hedges on. Defaults to the Armeria worker group.
+         *
+         * @param scheduler an executor
+         * @return the client builder
+         */
+        public HedgingNgrokApiClient.Builder scheduler(final ScheduledExecutorService scheduler) {
+            this.scheduler = Optional.ofNullable(scheduler);
+            return this;
+        }
+
+        /**
+         * Build the {@link HedgingNgrokApiClient}.
+         *
+         * @return the hedging API client
+         */
+        public HedgingNgrokApiClient build() {
+            return new HedgingNgrokApiClient(this);
+        }
+    }
+
+    /**
+     * Creates a new builder for the {@link HedgingNgrokApiClient}.
+     *
+     * @param delegate the client to send the requests with
+     * @return a new client builder
+     */
+    public static HedgingNgrokApiClient.Builder newBuilder(final NgrokApiClient delegate) {
+        return new Builder(delegate);
+    }
+
+    /**
+     * The latencies of the last requests to an endpoint, and the percentile of them after which to hedge.
+     */
+    private static final class Latencies {
+        private final double percentile;
+        private final long[] samples = new long[SAMPLES];
+        private int count = 0;
+        private int next = 0;
+        private int sinceUpdate = 0;
+        private long hedgeDelay = -1;
+
+        private Latencies(final double percentile) {
+            this.percentile = percentile;
+        }
+
+        synchronized void record(final long latency) {
+            this.samples[this.next] = latency;
+            this.next = (this.next + 1) % this.samples.length;
+            this.count = Math.min(this.count + 1, this.samples.length);
+            if ((++this.sinceUpdate >= UPDATE_INTERVAL && this.count >= MIN_SAMPLES) || (this.hedgeDelay < 0 && this.count == MIN_SAMPLES)) {
+                final long[] sorted = Arrays.copyOf(this.samples, this.count);
+                Arrays.sort(sorted);
+                this.hedgeDelay = sorted[Math.max(0, (int) Math.ceil(this.percentile * this.count) - 1)];
+                this.sinceUpdate = 0;
+            }
+        }
+
+        /**
+         * The delay after which to hedge, in nanoseconds, or -1 if too few requests were measured.
+         */
+        synchronized long hedgeDelay() {
+            return this.hedgeDelay;
+        }
+    }
+
+    private final double percentile;
+    private final double hedgeRatio;
+    private final int hedgeReserve;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, Latencies> latencies = new ConcurrentHashMap<>();
+    private double hedgeTokens;
+
+    private HedgingNgrokApiClient(final Builder builder) {
+        super(builder.delegate);
+        this.percentile = builder.percentile;
+        this.hedgeRatio = builder.hedgeRatio;
+        this.hedgeReserve = builder.hedgeReserve;
+        this.scheduler = builder.scheduler.orElseGet(CommonPools::workerGroup);
+        this.hedgeTokens = builder.hedgeReserve;
+    }
+
+    /**
+     * The delay after which requests to an endpoint are hedged.
+     *
+     * @param endpoint the endpoint, see {@link Request#getEndpoint()}
+     * @return the delay, or empty if too few requests to the endpoint were measured
+     */
+    public Optional<Duration> getHedgeDelay(final String endpoint) {
+        final Latencies latencies = this.latencies.get(endpoint);
+        final long delay = latencies != null ? latencies.hedgeDelay() : -1;
+        return delay < 0 ? Optional.empty() : Optional.of(Duration.ofNanos(delay));
+    }
+
+    @Override
+    protected <O> CompletionStage<O> forward(final Request request, final Supplier<CompletionStage<O>> send) {
+        if (request.getMethod() != HttpMethod.GET || request.isStreaming()) {
+            return send.get();
+        }
+        synchronized (this) {
+            this.hedgeTokens = Math.min(this.hedgeReserve, this.hedgeTokens + this.hedgeRatio);
+        }
+        final Latencies latencies = this.latencies.computeIfAbsent(request.getEndpoint(), e -> new Latencies(this.percentile));
+        final CompletableFuture<O> result = new CompletableFuture<>();
+        final List<CompletableFuture<O>> attempts = new CopyOnWriteArrayList<>();
+        final AtomicInteger pending = new AtomicInteger();
+        attempt(send, result, attempts, pending, latencies, true);
+
+        final long hedgeDelay = latencies.hedgeDelay();
+        final ScheduledFuture<?> hedge = hedgeDelay < 0 || result.isDone() ? null : this.scheduler.schedule(() -> {
+            if (!result.isDone() && spendHedge()) {
+                attempt(send, result, attempts, pending, latencies, false);
+            }
+        }, hedgeDelay, TimeUnit.NANOSECONDS);
+        result.whenComplete((value, cause) -> {
+            if (hedge != null) {
+                hedge.cancel(false);
+            }
+            // cancels the copy that lost, or both if the caller cancelled the request
+            attempts.forEach(attempt -> attempt.cancel(true));
+        });
+        return result;
+    }
+
+    /**
+     * Sends a copy of a request. The latency of every copy that is answered is measured on its own, rather than the
+     * time until the first answer, which hedging itself shortens. A first copy that loses to its hedge is measured
+     * until it is cancelled: it took at least that long, which keeps the hedge delay from drifting ever lower.
+     */
+    private static <O> void attempt(final Supplier<CompletionStage<O>> send,
+                                    final CompletableFuture<O> result,
+                                    final List<CompletableFuture<O>> attempts,
+                                    final AtomicInteger pending,
+                                    final Latencies latencies,
+                                    final boolean first)
+    {
+        pending.incrementAndGet();
+        final long start = System.nanoTime();
+        CompletableFuture<O> response;
+        try {
+            response = send.get().toCompletableFuture();
+        } catch (final RuntimeException e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+        attempts.add(response);
+        if (result.isDone()) {
+            response.cancel(true);
+        }
+        response.whenComplete((value, cause) -> {
+            final boolean lost = first && cause instanceof CancellationException && result.isDone() && !result.isCompletedExceptionally();
+            if (cause == null || lost) {
+                latencies.record(System.nanoTime() - start);
+            }
+            if (cause == null) {
+                result.complete(value);
+            } else if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause);
+            }
+        });
+    }
+
+    private synchronized boolean spendHedge() {
+        if (this.hedgeTokens < 1) {
+            return false;
+        }
+        this.hedgeTokens--;
+        return true;
+    }
+}
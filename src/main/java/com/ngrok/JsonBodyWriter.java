@@ -0,0 +1,130 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.linecorp.armeria.common.HttpData;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+
+/**
+ * Streams JSON request bodies straight into a pooled buffer.
+ *
+ * Request bodies used to be built by collecting the parameters into a {@link java.util.HashMap}, converting that
+ * into a {@link com.fasterxml.jackson.databind.JsonNode} and serializing the tree. This writer produces the same
+ * bytes without any of the intermediate object graphs: fields are emitted in the order that {@link java.util.HashMap}
+ * would have iterated them, and decimal numbers are normalized the same way the tree model normalizes them.
+ */
+final class JsonBodyWriter {
+    private static final int HASH_MAP_DEFAULT_CAPACITY = 16;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter valueWriter;
+
+    JsonBodyWriter(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.valueWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Serializes a JSON object into a pooled buffer. Parameter {@code i} is named {@code names[i]} and has the
+     * value {@code values[offset + i]}; parameters with a {@code null} value are skipped.
+     *
+     * @param names the names of the body parameters
+     * @param values the values of the body parameters
+     * @param offset the index in {@code values} of the first body parameter
+     * @return the serialized body, which must be released by whoever consumes it
+     * @throws IOException if a value could not be serialized
+     */
+    HttpData write(final String[] names, final Object[] values, final int offset) throws IOException {
+        final int[] order = hashMapOrder(names, values, offset);
+        final ByteBuf buf = ByteBufAllocator.DEFAULT.buffer();
+        try {
+            try (final JsonGenerator gen = new DecimalNormalizingGenerator(this.objectMapper.createGenerator((OutputStream) new ByteBufOutputStream(buf)))) {
+                gen.writeStartObject();
+                for (final int i : order) {
+                    gen.writeFieldName(names[i]);
+                    this.valueWriter.writeValue(gen, values[offset + i]);
+                }
+                gen.writeEndObject();
+            }
+            return HttpData.wrap(buf);
+        } catch (final IOException | RuntimeException e) {
+            buf.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Computes the order in which a {@link java.util.HashMap} (as created by
+     * {@link java.util.stream.Collectors#toMap}) iterates the non-null parameters: by bucket index for the table
+     * size the map would have grown to, then by insertion order within a bucket.
+     */
+    static int[] hashMapOrder(final String[] names, final Object[] values, final int offset) {
+        int present = 0;
+        for (int i = 0; i < names.length; i++) {
+            if (values[offset + i] != null) {
+                present++;
+            }
+        }
+
+        int capacity = HASH_MAP_DEFAULT_CAPACITY;
+        while (present > capacity * 3 / 4) {
+            capacity <<= 1;
+        }
+
+        final int[] order = new int[present];
+        final int[] buckets = new int[present];
+        int n = 0;
+        for (int i = 0; i < names.length; i++) {
+            if (values[offset + i] == null) {
+                continue;
+            }
+            final int h = names[i].hashCode();
+            final int bucket = (h ^ (h >>> 16)) & (capacity - 1);
+            int j = n++;
+            while (j > 0 && buckets[j - 1] > bucket) {
+                order[j] = order[j - 1];
+                buckets[j] = buckets[j - 1];
+                j--;
+            }
+            order[j] = i;
+            buckets[j] = bucket;
+        }
+        return order;
+    }
+
+    /**
+     * Mirrors {@link com.fasterxml.jackson.databind.node.JsonNodeFactory#numberNode(BigDecimal)}, which strips
+     * trailing zeros from decimals (e.g. durations and timestamps written by the Java time module).
+     */
+    private static final class DecimalNormalizingGenerator extends JsonGeneratorDelegate {
+        private DecimalNormalizingGenerator(final JsonGenerator delegate) {
+            super(delegate, false);
+        }
+
+        @Override
+        public void writeNumber(final BigDecimal v) throws IOException {
+            if (v == null || v.signum() == 0) {
+                super.writeNumber(v == null ? null : BigDecimal.ZERO);
+                return;
+            }
+            BigDecimal normalized = v;
+            try {
+                normalized = v.stripTrailingZeros();
+            } catch (final ArithmeticException e) {
+                // keep the value as-is, just like the tree model does
+            }
+            super.writeNumber(normalized);
+        }
+    }
+}
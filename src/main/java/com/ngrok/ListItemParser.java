@@ -0,0 +1,180 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Incrementally parses a list response, handing each item of its items array to a consumer as soon as it has been
+ * decoded and keeping track of <code>next_page_uri</code>. Every other field is skipped.
+ *
+ * The parser can be driven by a regular parser, in which case items are read straight from it, or by a
+ * non-blocking one fed with chunks of the response body as they arrive, in which case the tokens of the current
+ * item are buffered until it is complete. Either way, at most one item is held in memory at a time.
+ *
+ * @param <I> the type of the items
+ */
+final class ListItemParser<I> {
+    private static final String NEXT_PAGE_URI = "next_page_uri";
+
+    private final ObjectCodec codec;
+    private final String itemsField;
+    private final Class<I> itemClass;
+    private final Consumer<? super I> consumer;
+
+    private int depth = 0;
+    private boolean inItems = false;
+    private boolean done = false;
+    private String field;
+    private TokenBuffer item;
+    private URI nextPageUri;
+
+    /**
+     * Creates a new list item parser.
+     *
+     * @param codec the codec used to decode items
+     * @param itemsField the name of the JSON field holding the items
+     * @param itemClass the type of the items
+     * @param consumer the consumer of the items
+     */
+    ListItemParser(final ObjectCodec codec, final String itemsField, final Class<I> itemClass, final Consumer<? super I> consumer) {
+        this.codec = Objects.requireNonNull(codec, "codec is required");
+        this.itemsField = Objects.requireNonNull(itemsField, "itemsField is required");
+        this.itemClass = Objects.requireNonNull(itemClass, "itemClass is required");
+        this.consumer = Objects.requireNonNull(consumer, "consumer is required");
+    }
+
+    /**
+     * Creates a decoder that streams the items of a list response to a consumer. The decoder reads the response
+     * body token by token, so items are decoded and consumed one at a time, and results in the URI of the next
+     * page.
+     *
+     * @param itemsField the name of the JSON field holding the items
+     * @param itemClass the type of the items
+     * @param consumer the consumer of the items
+     * @param <I> the type of the items
+     * @return a decoder of the next page URI
+     */
+    static <I> ResponseDecoder<Optional<URI>> decoder(final String itemsField, final Class<I> itemClass, final Consumer<? super I> consumer) {
+        return p -> {
+            final ListItemParser<I> parser = new ListItemParser<>(p.getCodec(), itemsField, itemClass, consumer);
+            parser.parse(p);
+            return parser.finish(p);
+        };
+    }
+
+    /**
+     * Consumes all the tokens currently available from a parser. Decoding errors are reported as
+     * {@link IOException}s, whereas exceptions thrown by the consumer are propagated as is.
+     *
+     * @param p the parser
+     * @throws IOException if the response could not be decoded
+     */
+    void parse(final JsonParser p) throws IOException {
+        JsonToken token;
+        while ((token = p.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (this.item != null) {
+                this.item.copyCurrentEvent(p);
+                if (token.isStructStart()) {
+                    this.depth++;
+                } else if (token.isStructEnd() && --this.depth == 2) {
+                    accept(this.item);
+                }
+            } else if (this.depth == 0) {
+                if (token != JsonToken.START_OBJECT || this.done) {
+                    throw JsonMappingException.from(p, "Expected a JSON object, got " + token);
+                }
+                this.depth = 1;
+            } else if (this.depth == 1) {
+                readField(p, token);
+            } else if (this.inItems && this.depth == 2) {
+                readItem(p, token);
+            } else if (token.isStructStart()) {
+                this.depth++;
+            } else if (token.isStructEnd()) {
+                this.depth--;
+            }
+        }
+    }
+
+    /**
+     * Checks that the whole response has been parsed.
+     *
+     * @param p the parser
+     * @return the URI of the next page, or empty if there is no next page
+     * @throws IOException if the response was truncated
+     */
+    Optional<URI> finish(final JsonParser p) throws IOException {
+        if (!this.done) {
+            throw JsonMappingException.from(p, "Unexpected end of list response");
+        }
+        return Optional.ofNullable(this.nextPageUri);
+    }
+
+    private void readField(final JsonParser p, final JsonToken token) throws IOException {
+        switch (token) {
+            case FIELD_NAME:
+                this.field = p.getCurrentName();
+                break;
+            case END_OBJECT:
+                this.depth = 0;
+                this.done = true;
+                break;
+            case START_ARRAY:
+            case START_OBJECT:
+                this.inItems = token == JsonToken.START_ARRAY && this.itemsField.equals(this.field);
+                this.depth = 2;
+                break;
+            case VALUE_STRING:
+                if (NEXT_PAGE_URI.equals(this.field)) {
+                    try {
+                        this.nextPageUri = URI.create(p.getText());
+                    } catch (final IllegalArgumentException e) {
+                        throw JsonMappingException.from(p, "Invalid " + NEXT_PAGE_URI, e);
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void readItem(final JsonParser p, final JsonToken token) throws IOException {
+        if (token == JsonToken.END_ARRAY) {
+            this.inItems = false;
+            this.depth = 1;
+        } else if (token == JsonToken.VALUE_NULL) {
+            return;
+        } else if (!p.canParseAsync()) {
+            final I value = this.codec.readValue(p, this.itemClass);
+            this.consumer.accept(value);
+        } else {
+            this.item = new TokenBuffer(this.codec, false);
+            this.item.copyCurrentEvent(p);
+            if (token.isStructStart()) {
+                this.depth++;
+            } else {
+                accept(this.item);
+            }
+        }
+    }
+
+    private void accept(final TokenBuffer buffer) throws IOException {
+        this.item = null;
+        final I value;
+        try (final JsonParser p = buffer.asParser(this.codec)) {
+            value = this.codec.readValue(p, this.itemClass);
+        }
+        this.consumer.accept(value);
+    }
+}
@@ -42,6 +42,16 @@ public class Ngrok {
     public Ngrok(final NgrokApiClient apiClient) {
         this.apiClient = Objects.requireNonNull(apiClient, "apiClient is required");
     }
+
+    /**
+     * Creates a scan of every resource of the account, listing all the resource types concurrently.
+     *
+     * @return an account scan
+     * @see AccountScan
+     */
+    public AccountScan scanAccount() {
+        return new AccountScan(this.apiClient);
+    }
     
     /**
      * Abuse Reports allow you to submit take-down requests for URLs hosted by
@@ -6,6 +6,7 @@ import java.net.URI;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -66,4 +67,142 @@ public interface NgrokApiClient {
                                        Stream<Map.Entry<String, Optional<Object>>> queryParams,
                                        Stream<Map.Entry<String, Optional<Object>>> bodyParams,
                                        Optional<Class<O>> responseClass);
+
+    /**
+     * Sends a request to the ngrok API for a precompiled {@link Operation}.
+     *
+     * This is the entry point used by the API resource clients. The default implementation adapts the call onto
+     * {@link #sendRequest(HttpMethod, String, Stream, Stream, Optional)}, so existing implementations keep
+     * working; implementations should override it to avoid the per-call allocations of the stream-based method.
+     *
+     * @param operation the operation to perform
+     * @param values the path, query and body parameter values, laid out as described by {@link Operation}
+     *               (absent query and body parameters are {@code null} and will not be sent)
+     * @param <O> the return type for the API response
+     * @return a future encapsulating the response type (will be {@link Void} for empty responses)
+     */
+    default <O> CompletionStage<O> sendRequest(final Operation<O> operation, final Object[] values) {
+        return sendRequest(
+            operation.getMethod(),
+            operation.expandPath(values),
+            operation.queryParams(values),
+            operation.bodyParams(values),
+            operation.getResponseClass()
+        );
+    }
+
+    /**
+     * Sends a request to the ngrok API for a precompiled {@link Operation}, decoding the response body with a
+     * {@link ResponseDecoder} instead of binding it to the operation's response class.
+     *
+     * The default implementation binds the response body to a {@link com.fasterxml.jackson.databind.JsonNode}
+     * through {@link #sendRequest(HttpMethod, String, Stream, Stream, Optional)}, then runs the decoder over that
+     * tree; {@link DefaultNgrokApiClient} decodes the raw response body instead, without building the tree.
+     *
+     * @param operation the operation to perform
+     * @param values the path, query and body parameter values, laid out as described by {@link Operation}
+     * @param decoder the decoder for the response body
+     * @param <O> the return type for the API response
+     * @return a future encapsulating the decoded response
+     */
+    default <O> CompletionStage<O> sendRequest(final Operation<?> operation, final Object[] values, final ResponseDecoder<O> decoder) {
+        return TreeResponses.send(this, operation, values).thenApply(tree -> TreeResponses.decode(tree, decoder));
+    }
+
+    /**
+     * Sends a GET request directly to the specified URI, decoding the response body with a
+     * {@link ResponseDecoder}.
+     *
+     * The default implementation binds the response body to a {@link com.fasterxml.jackson.databind.JsonNode}
+     * through {@link #sendRequest(URI, Class)}, then runs the decoder over that tree; {@link DefaultNgrokApiClient}
+     * decodes the raw response body instead, without building the tree.
+     *
+     * @param uri a URI to send the request to
+     * @param decoder the decoder for the response body
+     * @param <O> the return type for the API response
+     * @return a future encapsulating the decoded response
+     */
+    default <O> CompletionStage<O> sendRequest(final URI uri, final ResponseDecoder<O> decoder) {
+        return TreeResponses.send(this, uri).thenApply(tree -> TreeResponses.decode(tree, decoder));
+    }
+
+    /**
+     * Sends a request to the ngrok API for a precompiled {@link Operation}, returning the response body undecoded.
+     * Error responses are still reported as {@link com.ngrok.definitions.NgrokApiError}.
+     *
+     * The default implementation binds the response body to a {@link com.fasterxml.jackson.databind.JsonNode}
+     * through {@link #sendRequest(HttpMethod, String, Stream, Stream, Optional)} and serializes it again, so the
+     * body is equivalent JSON rather than the exact bytes sent, and the status code is 200, or 204 for an empty
+     * body; {@link DefaultNgrokApiClient} returns the response exactly as received.
+     *
+     * @param operation the operation to perform
+     * @param values the path, query and body parameter values, laid out as described by {@link Operation}
+     * @return a future encapsulating the raw response
+     */
+    default CompletionStage<RawResponse> sendRawRequest(final Operation<?> operation, final Object[] values) {
+        return TreeResponses.send(this, operation, values).thenApply(TreeResponses::raw);
+    }
+
+    /**
+     * Sends a GET request directly to the specified URI, returning the response body undecoded.
+     *
+     * The default implementation binds the response body to a {@link com.fasterxml.jackson.databind.JsonNode}
+     * through {@link #sendRequest(URI, Class)} and serializes it again, as
+     * {@link #sendRawRequest(Operation, Object[])} does; {@link DefaultNgrokApiClient} returns the response
+     * exactly as received.
+     *
+     * @param uri a URI to send the request to, e.g. the <code>next_page_uri</code> of a raw page
+     * @return a future encapsulating the raw response
+     */
+    default CompletionStage<RawResponse> sendRawRequest(final URI uri) {
+        return TreeResponses.send(this, uri).thenApply(TreeResponses::raw);
+    }
+
+    /**
+     * Sends a request to the ngrok API for a precompiled list {@link Operation}, handing each item of the list to a
+     * consumer as soon as it has been decoded rather than decoding the whole page first.
+     *
+     * The default implementation streams the items out of the response with
+     * {@link #sendRequest(Operation, Object[], ResponseDecoder)}, once the whole body has been received;
+     * {@link DefaultNgrokApiClient} parses the body as it arrives instead.
+     *
+     * @param operation the list operation to perform
+     * @param values the path, query and body parameter values, laid out as described by {@link Operation}
+     * @param itemsField the name of the JSON field holding the items, e.g. <code>ip_policy_rules</code>
+     * @param itemClass the type of a Jackson-annotated POJO representing an item
+     * @param consumer the consumer of the items
+     * @param <I> the type of the items
+     * @return a future encapsulating the URI of the next page, or empty if there is no next page
+     */
+    default <I> CompletionStage<Optional<URI>> streamRequest(final Operation<?> operation,
+                                                             final Object[] values,
+                                                             final String itemsField,
+                                                             final Class<I> itemClass,
+                                                             final Consumer<? super I> consumer)
+    {
+        return sendRequest(operation, values, ListItemParser.decoder(itemsField, itemClass, consumer));
+    }
+
+    /**
+     * Sends a GET request for a page of a list directly to the specified URI, handing each item of the list to a
+     * consumer as soon as it has been decoded.
+     *
+     * The default implementation streams the items out of the response with
+     * {@link #sendRequest(URI, ResponseDecoder)}, once the whole body has been received;
+     * {@link DefaultNgrokApiClient} parses the body as it arrives instead.
+     *
+     * @param uri a URI to send the request to, usually the <code>next_page_uri</code> of a previous page
+     * @param itemsField the name of the JSON field holding the items, e.g. <code>ip_policy_rules</code>
+     * @param itemClass the type of a Jackson-annotated POJO representing an item
+     * @param consumer the consumer of the items
+     * @param <I> the type of the items
+     * @return a future encapsulating the URI of the next page, or empty if there is no next page
+     */
+    default <I> CompletionStage<Optional<URI>> streamRequest(final URI uri,
+                                                             final String itemsField,
+                                                             final Class<I> itemClass,
+                                                             final Consumer<? super I> consumer)
+    {
+        return sendRequest(uri, ListItemParser.decoder(itemsField, itemClass, consumer));
+    }
 }
@@ -0,0 +1,350 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A precompiled, immutable description of a single ngrok API operation: its HTTP method, its path template and
+ * the names of its path, query and body parameters.
+ *
+ * Operations are built once and shared by every call. The per-call state is passed alongside them as a flat
+ * {@code Object[]} holding the path parameter values (in the order they appear in the template), followed by
+ * the query parameter values, followed by the body parameter values. A {@code null} value marks an absent
+ * query or body parameter, which will not be sent.
+ *
+ * @param <O> the type of the API response
+ * @see NgrokApiClient#sendRequest(Operation, Object[])
+ */
+public final class Operation<O> {
+    /**
+     * Builder class for {@link Operation}.
+     *
+     * @param <O> the type of the API response
+     */
+    public static class Builder<O> {
+        private final NgrokApiClient.HttpMethod method;
+        private final String pathTemplate;
+        private final Optional<Class<O>> responseClass;
+        private List<String> queryParams = Collections.emptyList();
+        private List<String> bodyParams = Collections.emptyList();
+
+        private Builder(final NgrokApiClient.HttpMethod method, final String pathTemplate, final Optional<Class<O>> responseClass) {
+            this.method = Objects.requireNonNull(method, "method is required");
+            this.pathTemplate = Objects.requireNonNull(pathTemplate, "pathTemplate is required");
+            this.responseClass = Objects.requireNonNull(responseClass, "responseClass is required");
+        }
+
+        /**
+         * Sets the names of the query parameters, in the order their values will be passed.
+         *
+         * @param names the query parameter names
+         * @return the operation builder
+         */
+        public Builder<O> queryParams(final String... names) {
+            this.queryParams = Arrays.asList(names.clone());
+            return this;
+        }
+
+        /**
+         * Sets the names of the JSON body parameters, in the order their values will be passed. Operations
+         * with body parameters always send a JSON object, even if every value is absent.
+         *
+         * @param names the body parameter names
+         * @return the operation builder
+         */
+        public Builder<O> bodyParams(final String... names) {
+            this.bodyParams = Arrays.asList(names.clone());
+            return this;
+        }
+
+        /**
+         * Compiles the operation.
+         *
+         * @return a new {@link Operation}
+         */
+        public Operation<O> build() {
+            final List<String> literals = new ArrayList<>();
+            final List<String> pathParams = new ArrayList<>();
+            int start = 0;
+            int open;
+            while ((open = this.pathTemplate.indexOf('{', start)) >= 0) {
+                final int close = this.pathTemplate.indexOf('}', open);
+                if (close < 0) {
+                    throw new IllegalArgumentException("Unterminated path parameter in " + this.pathTemplate);
+                }
+                literals.add(this.pathTemplate.substring(start, open));
+                pathParams.add(this.pathTemplate.substring(open + 1, close));
+                start = close + 1;
+            }
+            literals.add(this.pathTemplate.substring(start));
+
+            return new Operation<>(
+                this.method,
+                this.pathTemplate,
+                literals.toArray(new String[0]),
+                pathParams.toArray(new String[0]),
+                this.queryParams.toArray(new String[0]),
+                this.bodyParams.toArray(new String[0]),
+                this.responseClass
+            );
+        }
+    }
+
+    /**
+     * Creates a builder for an operation that does not return a response body.
+     *
+     * @param method the HTTP method
+     * @param pathTemplate the endpoint under the base URI, with path parameters written as <code>{name}</code>
+     * @return a new {@link Builder}
+     */
+    public static Builder<Void> newBuilder(final NgrokApiClient.HttpMethod method, final String pathTemplate) {
+        return new Builder<>(method, pathTemplate, Optional.empty());
+    }
+
+    /**
+     * Creates a builder for an operation that returns a response body.
+     *
+     * @param method the HTTP method
+     * @param pathTemplate the endpoint under the base URI, with path parameters written as <code>{name}</code>
+     * @param responseClass the type of a Jackson-annotated POJO representing the HTTP response body
+     * @param <O> the type of the API response
+     * @return a new {@link Builder}
+     */
+    public static <O> Builder<O> newBuilder(final NgrokApiClient.HttpMethod method, final String pathTemplate, final Class<O> responseClass) {
+        return new Builder<>(method, pathTemplate, Optional.of(responseClass));
+    }
+
+    /**
+     * Creates an operation for an endpoint that has already been expanded, used to adapt calls made through
+     * {@link NgrokApiClient#sendRequest(NgrokApiClient.HttpMethod, String, Stream, Stream, Optional)}.
+     */
+    static <O> Operation<O> literal(final NgrokApiClient.HttpMethod method,
+                                    final String endpoint,
+                                    final String[] queryParams,
+                                    final String[] bodyParams,
+                                    final Optional<Class<O>> responseClass)
+    {
+        return new Operation<>(method, endpoint, new String[] { endpoint }, new String[0], queryParams, bodyParams, responseClass);
+    }
+
+    private final NgrokApiClient.HttpMethod method;
+    private final String pathTemplate;
+    private final String[] pathLiterals;
+    private final String[] pathParams;
+    private final String[] queryParams;
+    private final String[] bodyParams;
+    private final Optional<Class<O>> responseClass;
+    private final int pathLength;
+
+    private Operation(final NgrokApiClient.HttpMethod method,
+                      final String pathTemplate,
+                      final String[] pathLiterals,
+                      final String[] pathParams,
+                      final String[] queryParams,
+                      final String[] bodyParams,
+                      final Optional<Class<O>> responseClass)
+    {
+        this.method = method;
+        this.pathTemplate = pathTemplate;
+        this.pathLiterals = pathLiterals;
+        this.pathParams = pathParams;
+        this.queryParams = queryParams;
+        this.bodyParams = bodyParams;
+        this.responseClass = responseClass;
+        this.pathLength = Stream.of(pathLiterals).mapToInt(String::length).sum();
+    }
+
+    /**
+     * Fetches the HTTP method.
+     *
+     * @return the HTTP method
+     */
+    public NgrokApiClient.HttpMethod getMethod() {
+        return this.method;
+    }
+
+    /**
+     * Fetches the path template, e.g. <code>/edges/https/{edge_id}/routes/{id}</code>.
+     *
+     * @return the path template
+     */
+    public String getPathTemplate() {
+        return this.pathTemplate;
+    }
+
+    /**
+     * Fetches the names of the path parameters, in template order.
+     *
+     * @return the path parameter names
+     */
+    public List<String> getPathParams() {
+        return Collections.unmodifiableList(Arrays.asList(this.pathParams));
+    }
+
+    /**
+     * Fetches the names of the query parameters.
+     *
+     * @return the query parameter names
+     */
+    public List<String> getQueryParams() {
+        return Collections.unmodifiableList(Arrays.asList(this.queryParams));
+    }
+
+    /**
+     * Fetches the names of the body parameters.
+     *
+     * @return the body parameter names
+     */
+    public List<String> getBodyParams() {
+        return Collections.unmodifiableList(Arrays.asList(this.bodyParams));
+    }
+
+    /**
+     * Fetches the type of the response body, if any.
+     *
+     * @return the response type
+     */
+    public Optional<Class<O>> getResponseClass() {
+        return this.responseClass;
+    }
+
+    /**
+     * Checks whether this operation sends a JSON body.
+     *
+     * @return whether or not a body is sent
+     */
+    public boolean hasBody() {
+        return this.bodyParams.length > 0;
+    }
+
+    /**
+     * Computes the number of values a call of this operation must pass.
+     *
+     * @return the length of the value array
+     */
+    public int getValueCount() {
+        return this.pathParams.length + this.queryParams.length + this.bodyParams.length;
+    }
+
+    /**
+     * Appends the expanded endpoint (without query string) to a {@link StringBuilder}.
+     *
+     * @param sb the builder to append to
+     * @param values the call values
+     * @return the builder
+     */
+    public StringBuilder appendPath(final StringBuilder sb, final Object[] values) {
+        sb.append(this.pathLiterals[0]);
+        for (int i = 0; i < this.pathParams.length; i++) {
+            sb.append(values[i]).append(this.pathLiterals[i + 1]);
+        }
+        return sb;
+    }
+
+    /**
+     * Expands the endpoint (without query string) for a call.
+     *
+     * @param values the call values
+     * @return the endpoint under the base URI
+     */
+    public String expandPath(final Object[] values) {
+        if (this.pathParams.length == 0) {
+            return this.pathLiterals[0];
+        }
+        return appendPath(new StringBuilder(this.pathLength + 32 * this.pathParams.length), values).toString();
+    }
+
+    /**
+     * Fetches the name of a query parameter.
+     *
+     * @param index the index of the query parameter
+     * @return the name
+     */
+    public String getQueryParam(final int index) {
+        return this.queryParams[index];
+    }
+
+    /**
+     * Fetches the value of a query parameter.
+     *
+     * @param values the call values
+     * @param index the index of the query parameter
+     * @return the value, or {@code null} if it is absent
+     */
+    public Object getQueryValue(final Object[] values, final int index) {
+        return values[this.pathParams.length + index];
+    }
+
+    /**
+     * Fetches the number of query parameters.
+     *
+     * @return the number of query parameters
+     */
+    public int getQueryParamCount() {
+        return this.queryParams.length;
+    }
+
+    /**
+     * Fetches the index in the value array of the first query parameter.
+     *
+     * @return the offset of the query values
+     */
+    public int getQueryOffset() {
+        return this.pathParams.length;
+    }
+
+    /**
+     * Fetches the index in the value array of the first body parameter.
+     *
+     * @return the offset of the body values
+     */
+    public int getBodyOffset() {
+        return this.pathParams.length + this.queryParams.length;
+    }
+
+    String[] bodyParamNames() {
+        return this.bodyParams;
+    }
+
+    /**
+     * Adapts the query parameters of a call to the stream representation of
+     * {@link NgrokApiClient#sendRequest(NgrokApiClient.HttpMethod, String, Stream, Stream, Optional)}.
+     *
+     * @param values the call values
+     * @return a stream of query parameters
+     */
+    public Stream<Map.Entry<String, Optional<Object>>> queryParams(final Object[] values) {
+        return entries(this.queryParams, values, this.pathParams.length);
+    }
+
+    /**
+     * Adapts the body parameters of a call to the stream representation of
+     * {@link NgrokApiClient#sendRequest(NgrokApiClient.HttpMethod, String, Stream, Stream, Optional)}.
+     *
+     * @param values the call values
+     * @return a stream of body parameters
+     */
+    public Stream<Map.Entry<String, Optional<Object>>> bodyParams(final Object[] values) {
+        return entries(this.bodyParams, values, getBodyOffset());
+    }
+
+    private static Stream<Map.Entry<String, Optional<Object>>> entries(final String[] names, final Object[] values, final int offset) {
+        return IntStream.range(0, names.length)
+            .mapToObj(i -> new AbstractMap.SimpleEntry<>(names[i], Optional.ofNullable(values[offset + i])));
+    }
+
+    @Override
+    public String toString() {
+        return this.method + " " + this.pathTemplate;
+    }
+}
@@ -0,0 +1,87 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.linecorp.armeria.common.QueryParams;
+import com.linecorp.armeria.common.QueryParamsBuilder;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Formats the query strings of requests, so that the query string sent to the API and the one of
+ * {@link ForwardingNgrokApiClient.Request#getTarget()} are encoded the same way.
+ */
+final class QueryStrings {
+    private QueryStrings() {
+    }
+
+    /**
+     * Formats the value of a query parameter the way the API expects it.
+     *
+     * @param value the value, not {@code null}
+     * @return the unencoded value
+     */
+    static String format(final Object value) {
+        if (value instanceof String) {
+            return (String) value;
+        } else if (value instanceof OffsetDateTime) {
+            return ((OffsetDateTime) value).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+        } else if (value instanceof Duration) {
+            return String.valueOf(((Duration) value).getSeconds());
+        } else {
+            return value.toString();
+        }
+    }
+
+    /**
+     * Collects the query parameters of a call.
+     *
+     * @param operation the operation called
+     * @param values the call values
+     * @return the present query parameters, or {@code null} if there are none
+     */
+    static QueryParams of(final Operation<?> operation, final Object[] values) {
+        QueryParamsBuilder queryParams = null;
+        for (int i = 0; i < operation.getQueryParamCount(); i++) {
+            final Object value = operation.getQueryValue(values, i);
+            if (value != null) {
+                if (queryParams == null) {
+                    queryParams = QueryParams.builder();
+                }
+                queryParams.add(operation.getQueryParam(i), format(value));
+            }
+        }
+        return queryParams == null ? null : queryParams.build();
+    }
+
+    /**
+     * Builds the target of a request: its unencoded path, then its query parameters sorted by name and encoded as
+     * they are sent, so that the same request has the same target whether it was built from an {@link Operation}
+     * or from a URI the API returned, e.g. a <code>next_page_uri</code>.
+     *
+     * @param path the unencoded path of the request
+     * @param queryParams the query parameters, or {@code null} if there are none
+     * @return the target
+     */
+    static String target(final String path, final QueryParams queryParams) {
+        if (queryParams == null || queryParams.isEmpty()) {
+            return path;
+        }
+        final List<Map.Entry<String, String>> sorted = new ArrayList<>(queryParams.size());
+        for (final Map.Entry<String, String> param : queryParams) {
+            sorted.add(param);
+        }
+        // a stable sort keeps the order of repeated parameters
+        sorted.sort(Map.Entry.comparingByKey());
+        final QueryParamsBuilder canonical = QueryParams.builder();
+        for (final Map.Entry<String, String> param : sorted) {
+            canonical.add(param.getKey(), param.getValue());
+        }
+        return canonical.build().appendQueryString(new StringBuilder(path).append('?')).toString();
+    }
+}
@@ -0,0 +1,32 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+/**
+ * Thrown instead of sending a request when the rate limit of its operation class would delay it too long, see
+ * {@link RateLimitingNgrokApiClient}. Unlike an {@link com.ngrok.definitions.NgrokApiError} with a status code of
+ * 429, it means the request never left the client.
+ */
+public class RateLimitExceededException extends RuntimeException {
+    private final String operationClass;
+
+    /**
+     * Creates a new exception.
+     *
+     * @param operationClass the operation class whose rate limit was exceeded
+     * @param request a description of the request that was not sent
+     */
+    public RateLimitExceededException(final String operationClass, final String request) {
+        super("the " + operationClass + " rate limit of the client would delay " + request + " too long");
+        this.operationClass = operationClass;
+    }
+
+    /**
+     * The operation class whose rate limit was exceeded, e.g. {@link RateLimitingNgrokApiClient#READ}.
+     *
+     * @return the value of the property as a {@link String}
+     */
+    public String getOperationClass() {
+        return this.operationClass;
+    }
+}
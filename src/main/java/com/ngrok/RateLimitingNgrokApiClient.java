@@ -0,0 +1,333 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.linecorp.armeria.common.CommonPools;
+import com.ngrok.definitions.NgrokApiError;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link NgrokApiClient} that keeps to a rate of requests, so that bulk jobs queue up on the client instead of
+ * running into the rate limit of the API.
+ *
+ * Requests are sorted into operation classes, by default {@link #READ} for GET requests and {@link #WRITE} for the
+ * others, and each class has its own token bucket: requests are sent at the configured rate, with bursts of up to
+ * {@link Builder#burst(int)} requests. A request that finds the bucket empty waits for its turn, without blocking a
+ * thread; only if its turn is further away than {@link Builder#maxWait(Duration)} does it fail, with a
+ * {@link RateLimitExceededException}, without being sent.
+ *
+ * The rate adapts to the API: it is halved whenever a request of the class is rejected with a 429, pausing for the
+ * <code>Retry-After</code> delay if any, and creeps back up towards the configured rate with each successful
+ * request.
+ *
+ * Cancelling a future returned by this client cancels the request, whether it is in flight or still waiting.
+ */
+public class RateLimitingNgrokApiClient extends ForwardingNgrokApiClient {
+    /** The operation class of GET requests, by default. */
+    public static final String READ = "read";
+    /** The operation class of requests other than GET, by default. */
+    public static final String WRITE = "write";
+
+    private static final double MIN_RATE = 0.1;
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final double INCREASE_FRACTION = 0.01;
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Builder class for the rate limiting API client.
+     */
+    public static class Builder {
+        private final NgrokApiClient delegate;
+
+        private double rate = 10;
+        private final Map<String, Double> rates = new HashMap<>();
+        private int burst = 10;
+        private Duration maxWait = Duration.ofSeconds(30);
+        private Function<Request, String> operationClass =
+            request -> request.getMethod() == HttpMethod.GET ? READ : WRITE;
+        private Optional<ScheduledExecutorService> scheduler = Optional.empty();
+
+        private Builder(final NgrokApiClient delegate) {
+            this.delegate = requireNonNull(delegate, "delegate is required");
+        }
+
+        /**
+         * Sets the rate of requests of the operation classes without a rate of their own. Defaults to 10 requests
+         * per second.
+         *
+         * @param permitsPerSecond the number of requests per second
+         * @return the client builder
+         * @throws IllegalArgumentException if <code>permitsPerSecond</code> is not positive
+         */
+        public RateLimitingNgrokApiClient.Builder rate(final double permitsPerSecond) {
+            this.rate = checkRate(permitsPerSecond);
+            return this;
+        }
+
+        /**
+         * Sets the rate of requests of an operation class.
+         *
+         * @param operationClass the operation class, e.g. {@link #READ}
+         * @param permitsPerSecond the number of requests per second
+         * @return the client builder
+         * @throws IllegalArgumentException if <code>permitsPerSecond</code> is not positive
+         */
+        public RateLimitingNgrokApiClient.Builder rate(final String operationClass, final double permitsPerSecond) {
+            this.rates.put(requireNonNull(operationClass, "operationClass is required"), checkRate(permitsPerSecond));
+            return this;
+        }
+
+        /**
+         * Sets the number of requests of an operation class that can be sent at once after a quiet period.
+         * Defaults to 10.
+         *
+         * @param burst the size of the bursts
+         * @return the client builder
+         * @throws IllegalArgumentException if <code>burst</code> is not positive
+         */
+        public RateLimitingNgrokApiClient.Builder burst(final int burst) {
+            if (burst < 1) {
+                throw new IllegalArgumentException("burst must be positive: " + burst);
+            }
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Sets the longest a request waits for its turn before failing. Defaults to 30 seconds.
+         *
+         * @param maxWait the longest wait
+         * @return the client builder
+         */
+        public RateLimitingNgrokApiClient.Builder maxWait(final Duration maxWait) {
+            this.maxWait = requireNonNull(maxWait, "maxWait is required");
+            return this;
+        }
+
+        /**
+         * Sets how requests are sorted into operation classes. Defaults to {@link #READ} for GET requests and
+         * {@link #WRITE} for the others.
+         *
+         * @param operationClass the operation class of a request
+         * @return the client builder
+         */
+        public RateLimitingNgrokApiClient.Builder operationClass(final Function<Request, String> operationClass) {
+            this.operationClass = requireNonNull(operationClass, "operationClass is required");
+            return this;
+        }
+
+        /**
+         * Sets the executor to schedule waiting requests on. Defaults to the Armeria worker group.
+         *
+         * @param scheduler an executor
+         * @return the client builder
+         */
+        public RateLimitingNgrokApiClient.Builder scheduler(final ScheduledExecutorService scheduler) {
+            this.scheduler = Optional.ofNullable(scheduler);
+            return this;
+        }
+
+        /**
+         * Build the {@link RateLimitingNgrokApiClient}.
+         *
+         * @return the rate limiting API client
+         */
+        public RateLimitingNgrokApiClient build() {
+            return new RateLimitingNgrokApiClient(this);
+        }
+
+        private static double checkRate(final double permitsPerSecond) {
+            if (!(permitsPerSecond > 0)) {
+                throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+            }
+            return permitsPerSecond;
+        }
+    }
+
+    /**
+     * Creates a new builder for the {@link RateLimitingNgrokApiClient}.
+     *
+     * @param delegate the client to send the requests with
+     * @return a new client builder
+     */
+    public static RateLimitingNgrokApiClient.Builder newBuilder(final NgrokApiClient delegate) {
+        return new Builder(delegate);
+    }
+
+    /**
+     * The token bucket of an operation class. Tokens go negative while requests wait for their turn, so the wait of
+     * a request is the time until the bucket refills up to its token.
+     */
+    private static final class Bucket {
+        private final double maxRate;
+        private final int burst;
+        private double rate;
+        private double tokens;
+        private long refilledAt;
+        private long decreasedAt;
+
+        private Bucket(final double maxRate, final int burst, final long now) {
+            this.maxRate = maxRate;
+            this.burst = burst;
+            this.rate = maxRate;
+            this.tokens = burst;
+            this.refilledAt = now;
+            this.decreasedAt = now;
+        }
+
+        /**
+         * Takes a token, unless that means waiting longer than allowed.
+         *
+         * @return how long to wait before sending the request, in nanoseconds, or -1 if too long
+         */
+        synchronized long reserve(final long now, final long maxWaitNanos) {
+            refill(now);
+            final long wait = this.tokens >= 1 ? 0 : (long) Math.ceil((1 - this.tokens) / this.rate * NANOS_PER_SECOND);
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            this.tokens--;
+            return wait;
+        }
+
+        /**
+         * Gives back the token of a request that was not sent.
+         */
+        synchronized void cancel() {
+            this.tokens = Math.min(this.burst, this.tokens + 1);
+        }
+
+        /**
+         * Halves the rate after a request was rate limited, unless it was sent before the rate was last lowered,
+         * and pauses for the delay the server asked for.
+         */
+        synchronized void decrease(final long sentAt, final long now, final Optional<Duration> retryAfter) {
+            refill(now);
+            if (sentAt >= this.decreasedAt) {
+                this.rate = Math.max(MIN_RATE, this.rate * DECREASE_FACTOR);
+                this.decreasedAt = now;
+            }
+            if (retryAfter.isPresent()) {
+                this.tokens = Math.min(this.tokens, 1 - retryAfter.get().toNanos() / NANOS_PER_SECOND * this.rate);
+            }
+        }
+
+        /**
+         * Raises the rate a little after a request went through.
+         */
+        synchronized void increase(final long now) {
+            refill(now);
+            this.rate = Math.min(this.maxRate, this.rate + this.maxRate * INCREASE_FRACTION);
+        }
+
+        synchronized double rate() {
+            return this.rate;
+        }
+
+        private void refill(final long now) {
+            this.tokens = Math.min(this.burst, this.tokens + (now - this.refilledAt) / NANOS_PER_SECOND * this.rate);
+            this.refilledAt = now;
+        }
+    }
+
+    private final double rate;
+    private final Map<String, Double> rates;
+    private final int burst;
+    private final long maxWaitNanos;
+    private final Function<Request, String> operationClass;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private RateLimitingNgrokApiClient(final Builder builder) {
+        super(builder.delegate);
+        this.rate = builder.rate;
+        this.rates = Collections.unmodifiableMap(new HashMap<>(builder.rates));
+        this.burst = builder.burst;
+        this.maxWaitNanos = builder.maxWait.toNanos();
+        this.operationClass = builder.operationClass;
+        this.scheduler = builder.scheduler.orElseGet(CommonPools::workerGroup);
+    }
+
+    /**
+     * The current rate of requests of an operation class, which is lower than the configured one after the API
+     * rate limited requests.
+     *
+     * @param operationClass the operation class, e.g. {@link #READ}
+     * @return the number of requests per second
+     */
+    public double getRate(final String operationClass) {
+        final Bucket bucket = this.buckets.get(operationClass);
+        return bucket != null ? bucket.rate() : this.rates.getOrDefault(operationClass, this.rate);
+    }
+
+    @Override
+    protected <O> CompletionStage<O> forward(final Request request, final Supplier<CompletionStage<O>> send) {
+        final String operationClass = this.operationClass.apply(request);
+        final Bucket bucket = this.buckets.computeIfAbsent(
+            operationClass,
+            c -> new Bucket(this.rates.getOrDefault(c, this.rate), this.burst, System.nanoTime())
+        );
+        final long wait = bucket.reserve(System.nanoTime(), this.maxWaitNanos);
+        final CompletableFuture<O> result = new CompletableFuture<>();
+        if (wait < 0) {
+            result.completeExceptionally(new RateLimitExceededException(operationClass, request.toString()));
+        } else if (wait == 0) {
+            send(bucket, send, result);
+        } else {
+            final ScheduledFuture<?> scheduled = this.scheduler.schedule(() -> send(bucket, send, result), wait, TimeUnit.NANOSECONDS);
+            result.whenComplete((value, cause) -> {
+                if (result.isCancelled() && scheduled.cancel(false)) {
+                    bucket.cancel();
+                }
+            });
+        }
+        return result;
+    }
+
+    private static <O> void send(final Bucket bucket, final Supplier<CompletionStage<O>> send, final CompletableFuture<O> result) {
+        if (result.isDone()) {
+            return;
+        }
+        final long sentAt = System.nanoTime();
+        final CompletableFuture<O> response;
+        try {
+            response = send.get().toCompletableFuture();
+        } catch (final RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        result.whenComplete((value, cause) -> {
+            if (result.isCancelled()) {
+                response.cancel(true);
+            }
+        });
+        response.whenComplete((value, cause) -> {
+            if (cause == null) {
+                bucket.increase(System.nanoTime());
+                result.complete(value);
+                return;
+            }
+            final Throwable error = cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause;
+            if (error instanceof NgrokApiError && ((NgrokApiError) error).getHttpStatusCode() == 429) {
+                bucket.decrease(sentAt, System.nanoTime(), ((NgrokApiError) error).getRetryAfter());
+            }
+            result.completeExceptionally(error);
+        });
+    }
+}
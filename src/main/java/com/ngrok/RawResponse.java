@@ -0,0 +1,141 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The undecoded body of a successful API response, as returned by the <code>callRaw()</code> methods of the call
+ * builders, for callers that hand responses on unchanged, e.g. proxies.
+ *
+ * The body is kept exactly as the server sent it, without any JSON processing. Error responses are still reported
+ * as {@link com.ngrok.definitions.NgrokApiError}. The body is not copied when read through
+ * {@link #asByteBuffer()}, {@link #asInputStream()} or {@link #writeTo(OutputStream)}.
+ */
+public final class RawResponse {
+    private final int statusCode;
+    private final Optional<String> contentType;
+    private final byte[] body;
+
+    /**
+     * Creates a new raw response. The body is not copied, so it must not be modified afterwards.
+     *
+     * @param statusCode the HTTP status code of the response
+     * @param contentType the media type of the body, if any
+     * @param body the body of the response
+     */
+    public RawResponse(final int statusCode, final Optional<String> contentType, final byte[] body) {
+        this.statusCode = statusCode;
+        this.contentType = Objects.requireNonNull(contentType, "contentType is required");
+        this.body = Objects.requireNonNull(body, "body is required");
+    }
+
+    /**
+     * The HTTP status code of the response, e.g. 200 or 204.
+     *
+     * @return the value of the property as an int
+     */
+    public int getStatusCode() {
+        return this.statusCode;
+    }
+
+    /**
+     * The media type of the body, usually <code>application/json</code>, or empty if the response has no body.
+     *
+     * @return the value of the property as an {@link Optional} of {@link String}
+     */
+    public Optional<String> getContentType() {
+        return this.contentType;
+    }
+
+    /**
+     * The number of bytes of the body.
+     *
+     * @return the length of the body
+     */
+    public int getLength() {
+        return this.body.length;
+    }
+
+    /**
+     * A read-only view of the body.
+     *
+     * @return a new {@link ByteBuffer} over the body
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(this.body).asReadOnlyBuffer();
+    }
+
+    /**
+     * A stream over the body.
+     *
+     * @return a new {@link InputStream} over the body
+     */
+    public InputStream asInputStream() {
+        return new ByteArrayInputStream(this.body);
+    }
+
+    /**
+     * Writes the body to a stream.
+     *
+     * @param out the stream to write to
+     * @throws IOException if the body could not be written
+     */
+    public void writeTo(final OutputStream out) throws IOException {
+        out.write(this.body);
+    }
+
+    /**
+     * A copy of the body.
+     *
+     * @return the bytes of the body
+     */
+    public byte[] toByteArray() {
+        return this.body.clone();
+    }
+
+    /**
+     * The body decoded as UTF-8, which is how the API encodes JSON.
+     *
+     * @return the body as a {@link String}
+     */
+    public String asString() {
+        return new String(this.body, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final RawResponse other = (RawResponse) o;
+        return this.statusCode == other.statusCode
+            && this.contentType.equals(other.contentType)
+            && Arrays.equals(this.body, other.body);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.statusCode, this.contentType, Arrays.hashCode(this.body));
+    }
+
+    @Override
+    public String toString() {
+        return "RawResponse{" +
+            "statusCode='" + this.statusCode +
+            "', contentType='" + this.contentType.orElse("(null)") +
+            "', length='" + this.body.length +
+            "'}";
+    }
+}
@@ -0,0 +1,59 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import java.util.Objects;
+
+/**
+ * What tells two requests for the same target apart: two requests with equal keys fetch the same resource and
+ * decode it the same way, so they can share their response.
+ *
+ * Response types are compared by identity, which only tells requests decoded the same way apart for {@link Class}
+ * response types: a {@link ResponseDecoder} is usually a new lambda on each call, so only requests with a
+ * {@link Class} response type should be keyed.
+ */
+final class RequestKey {
+    private final String target;
+    private final Object responseType;
+
+    /**
+     * Creates the key of a request.
+     *
+     * @param request the request
+     */
+    RequestKey(final ForwardingNgrokApiClient.Request request) {
+        this.target = request.getTarget();
+        this.responseType = request.getResponseType();
+    }
+
+    /**
+     * The target of the request.
+     *
+     * @return the path and query string of the request
+     */
+    String getTarget() {
+        return this.target;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final RequestKey other = (RequestKey) o;
+        return this.target.equals(other.target) && this.responseType == other.responseType;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.target, System.identityHashCode(this.responseType));
+    }
+
+    @Override
+    public String toString() {
+        return this.target;
+    }
+}
@@ -0,0 +1,123 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A semaphore that hands out permits asynchronously, so that requests waiting for one do not block a thread.
+ * Waiting requests are granted permits in order of priority, then in the order they asked for them. A request can
+ * stop waiting by cancelling the future of its permit, and the number of permits can change while requests wait.
+ * Instances are thread-safe.
+ */
+final class RequestPermits {
+    private static final class Waiter implements Comparable<Waiter> {
+        private final int priority;
+        private final long sequence;
+        private final CompletableFuture<Void> granted = new CompletableFuture<>();
+
+        private Waiter(final int priority, final long sequence) {
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(final Waiter other) {
+            return this.priority != other.priority
+                ? Integer.compare(this.priority, other.priority)
+                : Long.compare(this.sequence, other.sequence);
+        }
+    }
+
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>();
+    private int permits;
+    private int available;
+    private long sequence = 0;
+
+    /**
+     * Creates a new semaphore.
+     *
+     * @param permits the number of permits
+     */
+    RequestPermits(final int permits) {
+        this.permits = permits;
+        this.available = permits;
+    }
+
+    /**
+     * Acquires a permit, waiting for one to be released if none is available.
+     *
+     * @param priority the priority of the request, lowest first
+     * @return a future completed once the permit is granted, which can be cancelled to stop waiting
+     */
+    CompletionStage<Void> acquire(final int priority) {
+        final Waiter waiter;
+        synchronized (this) {
+            if (this.available <= 0) {
+                waiter = new Waiter(priority, this.sequence++);
+                this.waiters.add(waiter);
+            } else {
+                this.available--;
+                return CompletableFuture.completedFuture(null);
+            }
+        }
+        waiter.granted.whenComplete((v, cause) -> {
+            if (waiter.granted.isCancelled()) {
+                synchronized (this) {
+                    this.waiters.remove(waiter);
+                }
+            }
+        });
+        return waiter.granted;
+    }
+
+    /**
+     * Releases a permit, handing it to the waiting request that comes first, if any.
+     */
+    void release() {
+        while (true) {
+            final Waiter next;
+            synchronized (this) {
+                next = this.available < 0 ? null : this.waiters.poll();
+                if (next == null) {
+                    this.available++;
+                    return;
+                }
+            }
+            // a waiter that stopped waiting in the meantime does not take the permit
+            if (next.granted.complete(null)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Changes the number of permits. Permits taken beyond the new number are not revoked, but no more are granted
+     * until enough of them are released. Permits added are not granted right away, so that the caller can resize
+     * while holding a lock of its own: it must {@link #release()} each of them once it no longer holds it.
+     *
+     * @param permits the number of permits
+     * @return the number of permits added, to be released by the caller
+     */
+    synchronized int resize(final int permits) {
+        final int added = permits - this.permits;
+        this.permits = permits;
+        if (added <= 0) {
+            this.available += added;
+            return 0;
+        }
+        // adding a permit is the same as taking one and releasing it
+        return added;
+    }
+
+    /**
+     * The number of requests waiting for a permit.
+     *
+     * @return the number of waiting requests
+     */
+    synchronized int waiting() {
+        return this.waiters.size();
+    }
+}
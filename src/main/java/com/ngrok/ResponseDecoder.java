@@ -0,0 +1,30 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Decodes the JSON body of a successful API response straight off a {@link JsonParser}, for callers that do not
+ * want the whole body bound to a definition class.
+ *
+ * The parser is not yet positioned on a token and has the client's object codec attached, so that parts of the
+ * body can still be bound with {@link JsonParser#readValueAs(Class)}. Error responses never reach the decoder;
+ * they are reported as {@link com.ngrok.definitions.NgrokApiError} as usual.
+ *
+ * @param <O> the type of the decoded response
+ * @see NgrokApiClient#sendRequest(Operation, Object[], ResponseDecoder)
+ */
+@FunctionalInterface
+public interface ResponseDecoder<O> {
+    /**
+     * Decodes a response body.
+     *
+     * @param parser a parser over the response body
+     * @return the decoded response
+     * @throws IOException if the body could not be decoded
+     */
+    O decode(JsonParser parser) throws IOException;
+}
@@ -0,0 +1,320 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.linecorp.armeria.client.ResponseTimeoutException;
+import com.linecorp.armeria.client.UnprocessedRequestException;
+import com.linecorp.armeria.common.ClosedSessionException;
+import com.linecorp.armeria.common.CommonPools;
+import com.linecorp.armeria.common.stream.ClosedStreamException;
+import com.ngrok.definitions.NgrokApiError;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link NgrokApiClient} that retries requests failing with a transient error.
+ *
+ * Only idempotent requests (GET, PUT and DELETE) are retried, unless the request never reached the server. A
+ * request is retried if it fails with an {@link NgrokApiError} whose HTTP status code or ngrok error code is
+ * retryable, or with an I/O error or a timeout. Retries wait an exponentially growing, fully jittered delay, or as
+ * long as the server asked for with a <code>Retry-After</code> header.
+ *
+ * To keep retries from piling up load on a struggling server, they are limited by a retry budget shared by all
+ * requests: each request earns a fraction of a retry, and each retry spends a whole one, so that in the long run
+ * retries are at most that fraction of the requests. A small reserve of retries lets a few requests be retried
+ * before any have been earned.
+ *
+ * Cancelling a future returned by this client cancels the request in flight and any pending retry.
+ */
+public class RetryingNgrokApiClient extends ForwardingNgrokApiClient {
+    private static final Set<Integer> DEFAULT_RETRYABLE_STATUS_CODES =
+        Collections.unmodifiableSet(new HashSet<>(Arrays.asList(429, 502, 503, 504)));
+
+    /**
+     * Builder class for the retrying API client.
+     */
+    public static class Builder {
+        private final NgrokApiClient delegate;
+
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(100);
+        private Duration maxBackoff = Duration.ofSeconds(10);
+        private Duration maxRetryAfter = Duration.ofSeconds(60);
+        private double retryRatio = 0.1;
+        private int retryReserve = 10;
+        private Set<Integer> retryableStatusCodes = DEFAULT_RETRYABLE_STATUS_CODES;
+        private Set<String> retryableErrorCodes = Collections.emptySet();
+        private Optional<ScheduledExecutorService> scheduler = Optional.empty();
+
+        private Builder(final NgrokApiClient delegate) {
+            this.delegate = requireNonNull(delegate, "delegate is required");
+        }
+
+        /**
+         * Sets the maximum number of times a request is sent, including the first one. Defaults to 3.
+         *
+         * @param maxAttempts the maximum number of attempts
+         * @return the client builder
+         * @throws IllegalArgumentException if <code>maxAttempts</code> is not positive
+         */
+        public RetryingNgrokApiClient.Builder maxAttempts(final int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the backoff before the first retry, which doubles with each retry up to
+         * {@link #maxBackoff(Duration)}. The actual delay is picked at random between zero and the backoff.
+         * Defaults to 100 milliseconds.
+         *
+         * @param initialBackoff the backoff before the first retry
+         * @return the client builder
+         */
+        public RetryingNgrokApiClient.Builder initialBackoff(final Duration initialBackoff) {
+            this.initialBackoff = requireNonNull(initialBackoff, "initialBackoff is required");
+            return this;
+        }
+
+        /**
+         * Sets the maximum backoff between retries. Defaults to 10 seconds.
+         *
+         * @param maxBackoff the maximum backoff between retries
+         * @return the client builder
+         */
+        public RetryingNgrokApiClient.Builder maxBackoff(final Duration maxBackoff) {
+            this.maxBackoff = requireNonNull(maxBackoff, "maxBackoff is required");
+            return this;
+        }
+
+        /**
+         * Sets the longest <code>Retry-After</code> delay to wait for; a request the server asks to retry later than
+         * that fails instead. Defaults to 60 seconds.
+         *
+         * @param maxRetryAfter the longest delay to wait for
+         * @return the client builder
+         */
+        public RetryingNgrokApiClient.Builder maxRetryAfter(final Duration maxRetryAfter) {
+            this.maxRetryAfter = requireNonNull(maxRetryAfter, "maxRetryAfter is required");
+            return this;
+        }
+
+        /**
+         * Sets the retry budget. Defaults to retries being at most 10% of the requests, with a reserve of 10.
+         *
+         * @param ratio the fraction of a retry each request earns
+         * @param reserve the number of retries that can be saved up
+         * @return the client builder
+         * @throws IllegalArgumentException if <code>ratio</code> or <code>reserve</code> is negative
+         */
+        public RetryingNgrokApiClient.Builder retryBudget(final double ratio, final int reserve) {
+            if (!(ratio >= 0) || reserve < 0) {
+                throw new IllegalArgumentException("ratio and reserve must not be negative: " + ratio + ", " + reserve);
+            }
+            this.retryRatio = ratio;
+            this.retryReserve = reserve;
+            return this;
+        }
+
+        /**
+         * Sets the HTTP status codes of the errors to retry. Defaults to 429, 502, 503 and 504.
+         *
+         * @param retryableStatusCodes the HTTP status codes
+         * @return the client builder
+         */
+        public RetryingNgrokApiClient.Builder retryableStatusCodes(final Collection<Integer> retryableStatusCodes) {
+            this.retryableStatusCodes = new HashSet<>(requireNonNull(retryableStatusCodes, "retryableStatusCodes is required"));
+            return this;
+        }
+
+        /**
+         * Sets the ngrok error codes of the errors to retry, whatever their HTTP status code. Defaults to none.
+         *
+         * @param retryableErrorCodes the ngrok error codes, e.g. <code>ERR_NGROK_123</code>
+         * @return the client builder
+         */
+        public RetryingNgrokApiClient.Builder retryableErrorCodes(final Collection<String> retryableErrorCodes) {
+            this.retryableErrorCodes = new HashSet<>(requireNonNull(retryableErrorCodes, "retryableErrorCodes is required"));
+            return this;
+        }
+
+        /**
+         * Sets the executor to schedule retries on. Defaults to the Armeria worker group.
+         *
+         * @param scheduler an executor
+         * @return the client builder
+         */
+        public RetryingNgrokApiClient.Builder scheduler(final ScheduledExecutorService scheduler) {
+            this.scheduler = Optional.ofNullable(scheduler);
+            return this;
+        }
+
+        /**
+         * Build the {@link RetryingNgrokApiClient}.
+         *
+         * @return the retrying API client
+         */
+        public RetryingNgrokApiClient build() {
+            return new RetryingNgrokApiClient(this);
+        }
+    }
+
+    /**
+     * Creates a new builder for the {@link RetryingNgrokApiClient}.
+     *
+     * @param delegate the client to send the requests with
+     * @return a new client builder
+     */
+    public static RetryingNgrokApiClient.Builder newBuilder(final NgrokApiClient delegate) {
+        return new Builder(delegate);
+    }
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration maxRetryAfter;
+    private final double retryRatio;
+    private final int retryReserve;
+    private final Set<Integer> retryableStatusCodes;
+    private final Set<String> retryableErrorCodes;
+    private final ScheduledExecutorService scheduler;
+    private double retryTokens;
+
+    private RetryingNgrokApiClient(final Builder builder) {
+        super(builder.delegate);
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoff = builder.initialBackoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.maxRetryAfter = builder.maxRetryAfter;
+        this.retryRatio = builder.retryRatio;
+        this.retryReserve = builder.retryReserve;
+        this.retryableStatusCodes = builder.retryableStatusCodes;
+        this.retryableErrorCodes = builder.retryableErrorCodes;
+        this.scheduler = builder.scheduler.orElseGet(CommonPools::workerGroup);
+        this.retryTokens = builder.retryReserve;
+    }
+
+    @Override
+    protected <O> CompletionStage<O> forward(final Request request, final Supplier<CompletionStage<O>> send) {
+        synchronized (this) {
+            this.retryTokens = Math.min(this.retryReserve, this.retryTokens + this.retryRatio);
+        }
+        final CompletableFuture<O> result = new CompletableFuture<>();
+        attempt(request, send, 1, result);
+        return result;
+    }
+
+    private <O> void attempt(final Request request, final Supplier<CompletionStage<O>> send, final int attempt, final CompletableFuture<O> result) {
+        if (result.isDone()) {
+            return;
+        }
+        final CompletableFuture<O> response;
+        try {
+            response = send.get().toCompletableFuture();
+        } catch (final RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        result.whenComplete((value, cause) -> {
+            if (result.isCancelled()) {
+                response.cancel(true);
+            }
+        });
+        response.whenComplete((value, cause) -> {
+            if (cause == null) {
+                result.complete(value);
+                return;
+            }
+            final Throwable error = cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause;
+            final Optional<Duration> delay = attempt < this.maxAttempts ? retryDelay(request, error, attempt) : Optional.empty();
+            if (!delay.isPresent() || !spendRetry()) {
+                result.completeExceptionally(error);
+                return;
+            }
+            final ScheduledFuture<?> retry = this.scheduler.schedule(
+                () -> attempt(request, send, attempt + 1, result),
+                delay.get().toMillis(),
+                TimeUnit.MILLISECONDS
+            );
+            result.whenComplete((v, c) -> retry.cancel(false));
+        });
+    }
+
+    /**
+     * Decides whether to retry a failed request, and if so, how long to wait before doing it.
+     */
+    private Optional<Duration> retryDelay(final Request request, final Throwable error, final int attempt) {
+        if (!request.isReplayable()) {
+            return Optional.empty();
+        }
+        // a request the server never saw can be sent again whatever its method
+        if (error instanceof UnprocessedRequestException) {
+            return Optional.of(backoff(attempt));
+        }
+        if (!isIdempotent(request.getMethod())) {
+            return Optional.empty();
+        }
+        if (error instanceof NgrokApiError) {
+            final NgrokApiError apiError = (NgrokApiError) error;
+            final boolean retryable = this.retryableStatusCodes.contains(apiError.getHttpStatusCode())
+                || apiError.getErrorCode().map(this.retryableErrorCodes::contains).orElse(false);
+            if (!retryable) {
+                return Optional.empty();
+            }
+            if (apiError.getRetryAfter().isPresent()) {
+                final Duration retryAfter = apiError.getRetryAfter().get();
+                return retryAfter.compareTo(this.maxRetryAfter) <= 0 ? Optional.of(retryAfter) : Optional.empty();
+            }
+            return Optional.of(backoff(attempt));
+        }
+        if (error instanceof IOException
+            || error instanceof ClosedSessionException
+            || error instanceof ClosedStreamException
+            || error instanceof ResponseTimeoutException)
+        {
+            return Optional.of(backoff(attempt));
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isIdempotent(final HttpMethod method) {
+        return method == HttpMethod.GET || method == HttpMethod.PUT || method == HttpMethod.DELETE;
+    }
+
+    /**
+     * Picks a delay at random between zero and the exponential backoff of an attempt.
+     */
+    private Duration backoff(final int attempt) {
+        final long initial = this.initialBackoff.toMillis();
+        final long max = this.maxBackoff.toMillis();
+        final long backoff = attempt > 62 || initial > (max >> (attempt - 1)) ? max : initial << (attempt - 1);
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(backoff + 1));
+    }
+
+    private synchronized boolean spendRetry() {
+        if (this.retryTokens < 1) {
+            return false;
+        }
+        this.retryTokens--;
+        return true;
+    }
+}
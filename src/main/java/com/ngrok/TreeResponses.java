@@ -0,0 +1,107 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TreeTraversingParser;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ngrok.definitions.DefinitionsModule;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Backs the default {@link ResponseDecoder} and raw response methods of {@link NgrokApiClient} for implementations
+ * that only bind responses to classes: the response is bound to a {@link JsonNode} tree, and the decoder then runs
+ * over the tree, or the tree is serialized again, instead of the raw body.
+ */
+final class TreeResponses {
+    /**
+     * The codec attached to the tree parsers, configured as the default one of {@link DefaultNgrokApiClient}.
+     */
+    static final ObjectMapper MAPPER = new ObjectMapper()
+        .registerModule(new Jdk8Module())
+        .registerModule(new JavaTimeModule())
+        .registerModule(new DefinitionsModule());
+
+    private TreeResponses() {
+    }
+
+    /**
+     * Sends a request for a precompiled {@link Operation}, binding the response body to a tree.
+     *
+     * @param apiClient the client to send the request with
+     * @param operation the operation to perform
+     * @param values the call values
+     * @return a future encapsulating the tree, or {@code null} for empty responses
+     */
+    static CompletionStage<JsonNode> send(final NgrokApiClient apiClient, final Operation<?> operation, final Object[] values) {
+        return apiClient.sendRequest(
+            operation.getMethod(),
+            operation.expandPath(values),
+            operation.queryParams(values),
+            operation.bodyParams(values),
+            Optional.of(JsonNode.class)
+        );
+    }
+
+    /**
+     * Sends a GET request directly to the specified URI, binding the response body to a tree.
+     *
+     * @param apiClient the client to send the request with
+     * @param uri a URI to send the request to
+     * @return a future encapsulating the tree, or {@code null} for empty responses
+     */
+    static CompletionStage<JsonNode> send(final NgrokApiClient apiClient, final URI uri) {
+        return apiClient.sendRequest(uri, JsonNode.class);
+    }
+
+    /**
+     * Runs a decoder over a response tree. Empty responses are decoded as an empty object, as
+     * {@link DefaultNgrokApiClient} does.
+     *
+     * @param tree the response tree, or {@code null} for an empty response
+     * @param decoder the decoder for the response body
+     * @param <O> the type of the decoded response
+     * @return the decoded response
+     * @throws CompletionException wrapping the {@link IOException} if the tree could not be decoded
+     */
+    static <O> O decode(final JsonNode tree, final ResponseDecoder<O> decoder) {
+        final JsonNode body = isEmpty(tree) ? MAPPER.createObjectNode() : tree;
+        try (final JsonParser parser = new TreeTraversingParser(body, MAPPER)) {
+            return decoder.decode(parser);
+        } catch (final IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Serializes a response tree again. The status code of the original response is not known, so a response
+     * with a body is reported as 200 and an empty one as 204; the body is compact JSON, which may differ in
+     * whitespace and key order from what the server sent.
+     *
+     * @param tree the response tree, or {@code null} for an empty response
+     * @return the raw response
+     * @throws CompletionException wrapping the {@link IOException} if the tree could not be serialized
+     */
+    static RawResponse raw(final JsonNode tree) {
+        if (isEmpty(tree)) {
+            return new RawResponse(204, Optional.empty(), new byte[0]);
+        }
+        try {
+            return new RawResponse(200, Optional.of("application/json"), MAPPER.writeValueAsBytes(tree));
+        } catch (final IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static boolean isEmpty(final JsonNode tree) {
+        return tree == null || tree.isMissingNode() || tree.isNull();
+    }
+}
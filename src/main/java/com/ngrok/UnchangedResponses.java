@@ -0,0 +1,136 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.RequestHeadersBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers the last response decoded for each GET request, so that an unchanged response can be reused instead
+ * of being decoded again. A response is unchanged if the server answers a conditional request with
+ * <code>304 Not Modified</code>, or if its body has the same length and {@link XxHash64} hash as before.
+ *
+ * Only the most recently used URIs are remembered. Instances are thread-safe.
+ */
+final class UnchangedResponses {
+    /**
+     * A decoded response, along with what tells whether the next response to the same request is unchanged.
+     */
+    static final class Remembered {
+        private final Class<?> responseClass;
+        private final long hash;
+        private final int length;
+        private final String etag;
+        private final String lastModified;
+        private final Object value;
+
+        private Remembered(final Class<?> responseClass,
+                           final long hash,
+                           final int length,
+                           final String etag,
+                           final String lastModified,
+                           final Object value)
+        {
+            this.responseClass = responseClass;
+            this.hash = hash;
+            this.length = length;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.value = value;
+        }
+
+        /**
+         * Makes a request conditional on the response having changed, if the server sent validators.
+         *
+         * @param headers the headers of the request
+         */
+        void addConditions(final RequestHeadersBuilder headers) {
+            if (this.etag != null) {
+                headers.set(HttpHeaderNames.IF_NONE_MATCH, this.etag);
+            }
+            if (this.lastModified != null) {
+                headers.set(HttpHeaderNames.IF_MODIFIED_SINCE, this.lastModified);
+            }
+        }
+
+        /**
+         * Checks whether a response body is the one this entry was decoded from.
+         *
+         * @param hash the hash of the body
+         * @param length the length of the body
+         * @return whether the body is unchanged
+         */
+        boolean matches(final long hash, final int length) {
+            return this.hash == hash && this.length == length;
+        }
+
+        /**
+         * The decoded response.
+         *
+         * @param responseClass the type of the decoded response
+         * @param <O> the type of the decoded response
+         * @return the decoded response
+         */
+        <O> O getValue(final Class<O> responseClass) {
+            return responseClass.cast(this.value);
+        }
+    }
+
+    private final Map<String, Remembered> entries;
+
+    /**
+     * Creates a new set of remembered responses.
+     *
+     * @param maxEntries the number of URIs to remember responses for
+     */
+    UnchangedResponses(final int maxEntries) {
+        this.entries = new LinkedHashMap<String, Remembered>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Remembered> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Fetches the last response decoded for a URI.
+     *
+     * @param uri the URI of the request
+     * @param responseClass the type the response is decoded into
+     * @return the last response decoded into the same type, or {@code null}
+     */
+    synchronized Remembered get(final String uri, final Class<?> responseClass) {
+        final Remembered entry = this.entries.get(uri);
+        return entry != null && entry.responseClass == responseClass ? entry : null;
+    }
+
+    /**
+     * Remembers a decoded response.
+     *
+     * @param uri the URI of the request
+     * @param response the response
+     * @param hash the hash of the response body
+     * @param responseClass the type the response was decoded into
+     * @param value the decoded response
+     * @param <O> the type of the decoded response
+     * @return the decoded response
+     */
+    <O> O put(final String uri, final AggregatedHttpResponse response, final long hash, final Class<O> responseClass, final O value) {
+        final Remembered entry = new Remembered(
+            responseClass,
+            hash,
+            response.content().length(),
+            response.headers().get(HttpHeaderNames.ETAG),
+            response.headers().get(HttpHeaderNames.LAST_MODIFIED),
+            value
+        );
+        synchronized (this) {
+            this.entries.put(uri, entry);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,80 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * The 64-bit xxHash of a buffer, as specified by the reference implementation. It hashes response bodies several
+ * times faster than they can be decoded, so that unchanged ones can be told apart without decoding them.
+ */
+final class XxHash64 {
+    private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME64_3 = 0x165667B19E3779F9L;
+    private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+
+    private XxHash64() {
+    }
+
+    /**
+     * Hashes the readable bytes of a buffer with a seed of zero, without changing its indexes.
+     *
+     * @param buf the buffer to hash
+     * @return the hash of the readable bytes
+     */
+    static long hash(final ByteBuf buf) {
+        int i = buf.readerIndex();
+        final int end = buf.writerIndex();
+        final int length = end - i;
+        long h;
+        if (length >= 32) {
+            long v1 = PRIME64_1 + PRIME64_2;
+            long v2 = PRIME64_2;
+            long v3 = 0;
+            long v4 = -PRIME64_1;
+            for (final int limit = end - 32; i <= limit; i += 32) {
+                v1 = round(v1, buf.getLongLE(i));
+                v2 = round(v2, buf.getLongLE(i + 8));
+                v3 = round(v3, buf.getLongLE(i + 16));
+                v4 = round(v4, buf.getLongLE(i + 24));
+            }
+            h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            h = mergeRound(h, v1);
+            h = mergeRound(h, v2);
+            h = mergeRound(h, v3);
+            h = mergeRound(h, v4);
+        } else {
+            h = PRIME64_5;
+        }
+        h += length;
+        for (; i <= end - 8; i += 8) {
+            h ^= round(0, buf.getLongLE(i));
+            h = Long.rotateLeft(h, 27) * PRIME64_1 + PRIME64_4;
+        }
+        if (i <= end - 4) {
+            h ^= (buf.getIntLE(i) & 0xFFFFFFFFL) * PRIME64_1;
+            h = Long.rotateLeft(h, 23) * PRIME64_2 + PRIME64_3;
+            i += 4;
+        }
+        for (; i < end; i++) {
+            h ^= buf.getUnsignedByte(i) * PRIME64_5;
+            h = Long.rotateLeft(h, 11) * PRIME64_1;
+        }
+        h ^= h >>> 33;
+        h *= PRIME64_2;
+        h ^= h >>> 29;
+        h *= PRIME64_3;
+        h ^= h >>> 32;
+        return h;
+    }
+
+    private static long round(final long acc, final long input) {
+        return Long.rotateLeft(acc + input * PRIME64_2, 31) * PRIME64_1;
+    }
+
+    private static long mergeRound(final long acc, final long val) {
+        return (acc ^ round(0, val)) * PRIME64_1 + PRIME64_4;
+    }
+}
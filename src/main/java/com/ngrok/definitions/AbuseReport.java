@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -178,4 +188,105 @@ public class AbuseReport {
             "', hostnames='" + this.hostnames +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link AbuseReport}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<AbuseReport> {
+        private JsonDeserializer<Object> createdAtDeserializer;
+        private JsonDeserializer<Object> hostnamesDeserializer;
+
+        Deserializer() {
+            super(AbuseReport.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.createdAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.hostnamesDeserializer = findDeserializer(ctxt, AbuseReportHostname.class);
+        }
+
+        @Override
+        protected AbuseReport deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String id = null;
+            java.net.URI uri = null;
+            java.time.OffsetDateTime createdAt = null;
+            java.util.List<java.net.URI> urls = null;
+            Optional<String> metadata = null;
+            String status = null;
+            java.util.List<AbuseReportHostname> hostnames = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    case "created_at":
+                        createdAt = (java.time.OffsetDateTime) readValue(p, ctxt, this.createdAtDeserializer);
+                        break;
+                    case "urls":
+                        urls = readUriList(p, ctxt);
+                        break;
+                    case "metadata":
+                        metadata = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "status":
+                        status = readString(p, ctxt);
+                        break;
+                    case "hostnames":
+                        hostnames = readList(p, ctxt, AbuseReportHostname.class, this.hostnamesDeserializer);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new AbuseReport(id, uri, createdAt, urls, metadata, status, hostnames);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link AbuseReport}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<AbuseReport> {
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+        private static final SerializableString FIELD_CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString FIELD_URLS = new SerializedString("urls");
+        private static final SerializableString FIELD_METADATA = new SerializedString("metadata");
+        private static final SerializableString FIELD_STATUS = new SerializedString("status");
+        private static final SerializableString FIELD_HOSTNAMES = new SerializedString("hostnames");
+
+        private JsonSerializer<Object> createdAtSerializer;
+        private JsonSerializer<Object> hostnamesSerializer;
+
+        Serializer() {
+            super(AbuseReport.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.createdAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.hostnamesSerializer = findSerializer(provider, AbuseReportHostname.class);
+        }
+
+        @Override
+        public void serialize(final AbuseReport value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ID, value.getId());
+            writeUri(gen, FIELD_URI, value.getUri());
+            writeValue(gen, provider, FIELD_CREATED_AT, value.getCreatedAt(), this.createdAtSerializer);
+            writeUriList(gen, FIELD_URLS, value.getUrls());
+            writeString(gen, FIELD_METADATA, value.getMetadata().orElse(null));
+            writeString(gen, FIELD_STATUS, value.getStatus());
+            writeList(gen, provider, FIELD_HOSTNAMES, value.getHostnames(), this.hostnamesSerializer);
+            gen.writeEndObject();
+        }
+    }
 }
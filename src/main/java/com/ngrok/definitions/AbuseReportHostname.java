@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -89,4 +96,57 @@ public class AbuseReportHostname {
             "', status='" + this.status +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link AbuseReportHostname}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<AbuseReportHostname> {
+        Deserializer() {
+            super(AbuseReportHostname.class);
+        }
+
+        @Override
+        protected AbuseReportHostname deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String hostname = null;
+            String status = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "hostname":
+                        hostname = readString(p, ctxt);
+                        break;
+                    case "status":
+                        status = readString(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new AbuseReportHostname(hostname, status);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link AbuseReportHostname}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<AbuseReportHostname> {
+        private static final SerializableString FIELD_HOSTNAME = new SerializedString("hostname");
+        private static final SerializableString FIELD_STATUS = new SerializedString("status");
+
+        Serializer() {
+            super(AbuseReportHostname.class);
+        }
+
+        @Override
+        public void serialize(final AbuseReportHostname value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_HOSTNAME, value.getHostname());
+            writeString(gen, FIELD_STATUS, value.getStatus());
+            gen.writeEndObject();
+        }
+    }
 }
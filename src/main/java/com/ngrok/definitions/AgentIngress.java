@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -237,4 +247,127 @@ public class AgentIngress {
             "', certificateManagementStatus='" + this.certificateManagementStatus.map(Object::toString).orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link AgentIngress}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<AgentIngress> {
+        private JsonDeserializer<Object> createdAtDeserializer;
+        private JsonDeserializer<Object> certificateManagementPolicyDeserializer;
+        private JsonDeserializer<Object> certificateManagementStatusDeserializer;
+
+        Deserializer() {
+            super(AgentIngress.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.createdAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.certificateManagementPolicyDeserializer = findDeserializer(ctxt, AgentIngressCertPolicy.class);
+            this.certificateManagementStatusDeserializer = findDeserializer(ctxt, AgentIngressCertStatus.class);
+        }
+
+        @Override
+        protected AgentIngress deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String id = null;
+            java.net.URI uri = null;
+            Optional<String> description = null;
+            Optional<String> metadata = null;
+            String domain = null;
+            java.util.List<String> nsTargets = null;
+            java.util.List<String> regionDomains = null;
+            java.time.OffsetDateTime createdAt = null;
+            Optional<AgentIngressCertPolicy> certificateManagementPolicy = null;
+            Optional<AgentIngressCertStatus> certificateManagementStatus = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    case "description":
+                        description = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "metadata":
+                        metadata = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "domain":
+                        domain = readString(p, ctxt);
+                        break;
+                    case "ns_targets":
+                        nsTargets = readStringList(p, ctxt);
+                        break;
+                    case "region_domains":
+                        regionDomains = readStringList(p, ctxt);
+                        break;
+                    case "created_at":
+                        createdAt = (java.time.OffsetDateTime) readValue(p, ctxt, this.createdAtDeserializer);
+                        break;
+                    case "certificate_management_policy":
+                        certificateManagementPolicy = Optional.ofNullable((AgentIngressCertPolicy) readValue(p, ctxt, this.certificateManagementPolicyDeserializer));
+                        break;
+                    case "certificate_management_status":
+                        certificateManagementStatus = Optional.ofNullable((AgentIngressCertStatus) readValue(p, ctxt, this.certificateManagementStatusDeserializer));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new AgentIngress(id, uri, description, metadata, domain, nsTargets, regionDomains, createdAt, certificateManagementPolicy, certificateManagementStatus);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link AgentIngress}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<AgentIngress> {
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+        private static final SerializableString FIELD_DESCRIPTION = new SerializedString("description");
+        private static final SerializableString FIELD_METADATA = new SerializedString("metadata");
+        private static final SerializableString FIELD_DOMAIN = new SerializedString("domain");
+        private static final SerializableString FIELD_NS_TARGETS = new SerializedString("ns_targets");
+        private static final SerializableString FIELD_REGION_DOMAINS = new SerializedString("region_domains");
+        private static final SerializableString FIELD_CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString FIELD_CERTIFICATE_MANAGEMENT_POLICY = new SerializedString("certificate_management_policy");
+        private static final SerializableString FIELD_CERTIFICATE_MANAGEMENT_STATUS = new SerializedString("certificate_management_status");
+
+        private JsonSerializer<Object> createdAtSerializer;
+        private JsonSerializer<Object> certificateManagementPolicySerializer;
+        private JsonSerializer<Object> certificateManagementStatusSerializer;
+
+        Serializer() {
+            super(AgentIngress.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.createdAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.certificateManagementPolicySerializer = findSerializer(provider, AgentIngressCertPolicy.class);
+            this.certificateManagementStatusSerializer = findSerializer(provider, AgentIngressCertStatus.class);
+        }
+
+        @Override
+        public void serialize(final AgentIngress value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ID, value.getId());
+            writeUri(gen, FIELD_URI, value.getUri());
+            writeString(gen, FIELD_DESCRIPTION, value.getDescription().orElse(null));
+            writeString(gen, FIELD_METADATA, value.getMetadata().orElse(null));
+            writeString(gen, FIELD_DOMAIN, value.getDomain());
+            writeStringList(gen, FIELD_NS_TARGETS, value.getNsTargets());
+            writeStringList(gen, FIELD_REGION_DOMAINS, value.getRegionDomains());
+            writeValue(gen, provider, FIELD_CREATED_AT, value.getCreatedAt(), this.createdAtSerializer);
+            writeValue(gen, provider, FIELD_CERTIFICATE_MANAGEMENT_POLICY, value.getCertificateManagementPolicy().orElse(null), this.certificateManagementPolicySerializer);
+            writeValue(gen, provider, FIELD_CERTIFICATE_MANAGEMENT_STATUS, value.getCertificateManagementStatus().orElse(null), this.certificateManagementStatusSerializer);
+            gen.writeEndObject();
+        }
+    }
 }
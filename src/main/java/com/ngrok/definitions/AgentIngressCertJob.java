@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -124,4 +134,87 @@ public class AgentIngressCertJob {
             "', retriesAt='" + this.retriesAt.map(Object::toString).orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link AgentIngressCertJob}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<AgentIngressCertJob> {
+        private JsonDeserializer<Object> startedAtDeserializer;
+        private JsonDeserializer<Object> retriesAtDeserializer;
+
+        Deserializer() {
+            super(AgentIngressCertJob.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.startedAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.retriesAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+        }
+
+        @Override
+        protected AgentIngressCertJob deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<String> errorCode = null;
+            String msg = null;
+            java.time.OffsetDateTime startedAt = null;
+            Optional<java.time.OffsetDateTime> retriesAt = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "error_code":
+                        errorCode = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "msg":
+                        msg = readString(p, ctxt);
+                        break;
+                    case "started_at":
+                        startedAt = (java.time.OffsetDateTime) readValue(p, ctxt, this.startedAtDeserializer);
+                        break;
+                    case "retries_at":
+                        retriesAt = Optional.ofNullable((java.time.OffsetDateTime) readValue(p, ctxt, this.retriesAtDeserializer));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new AgentIngressCertJob(errorCode, msg, startedAt, retriesAt);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link AgentIngressCertJob}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<AgentIngressCertJob> {
+        private static final SerializableString FIELD_ERROR_CODE = new SerializedString("error_code");
+        private static final SerializableString FIELD_MSG = new SerializedString("msg");
+        private static final SerializableString FIELD_STARTED_AT = new SerializedString("started_at");
+        private static final SerializableString FIELD_RETRIES_AT = new SerializedString("retries_at");
+
+        private JsonSerializer<Object> startedAtSerializer;
+        private JsonSerializer<Object> retriesAtSerializer;
+
+        Serializer() {
+            super(AgentIngressCertJob.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.startedAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.retriesAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+        }
+
+        @Override
+        public void serialize(final AgentIngressCertJob value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ERROR_CODE, value.getErrorCode().orElse(null));
+            writeString(gen, FIELD_MSG, value.getMsg());
+            writeValue(gen, provider, FIELD_STARTED_AT, value.getStartedAt(), this.startedAtSerializer);
+            writeValue(gen, provider, FIELD_RETRIES_AT, value.getRetriesAt().orElse(null), this.retriesAtSerializer);
+            gen.writeEndObject();
+        }
+    }
 }
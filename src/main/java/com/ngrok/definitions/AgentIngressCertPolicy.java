@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -171,4 +178,57 @@ public class AgentIngressCertPolicy {
             "', privateKeyType='" + this.privateKeyType +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link AgentIngressCertPolicy}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<AgentIngressCertPolicy> {
+        Deserializer() {
+            super(AgentIngressCertPolicy.class);
+        }
+
+        @Override
+        protected AgentIngressCertPolicy deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String authority = null;
+            String privateKeyType = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "authority":
+                        authority = readString(p, ctxt);
+                        break;
+                    case "private_key_type":
+                        privateKeyType = readString(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new AgentIngressCertPolicy(authority, privateKeyType);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link AgentIngressCertPolicy}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<AgentIngressCertPolicy> {
+        private static final SerializableString FIELD_AUTHORITY = new SerializedString("authority");
+        private static final SerializableString FIELD_PRIVATE_KEY_TYPE = new SerializedString("private_key_type");
+
+        Serializer() {
+            super(AgentIngressCertPolicy.class);
+        }
+
+        @Override
+        public void serialize(final AgentIngressCertPolicy value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_AUTHORITY, value.getAuthority());
+            writeString(gen, FIELD_PRIVATE_KEY_TYPE, value.getPrivateKeyType());
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -87,4 +97,75 @@ public class AgentIngressCertStatus {
             "', provisioningJob='" + this.provisioningJob.map(Object::toString).orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link AgentIngressCertStatus}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<AgentIngressCertStatus> {
+        private JsonDeserializer<Object> renewsAtDeserializer;
+        private JsonDeserializer<Object> provisioningJobDeserializer;
+
+        Deserializer() {
+            super(AgentIngressCertStatus.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.renewsAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.provisioningJobDeserializer = findDeserializer(ctxt, AgentIngressCertJob.class);
+        }
+
+        @Override
+        protected AgentIngressCertStatus deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<java.time.OffsetDateTime> renewsAt = null;
+            Optional<AgentIngressCertJob> provisioningJob = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "renews_at":
+                        renewsAt = Optional.ofNullable((java.time.OffsetDateTime) readValue(p, ctxt, this.renewsAtDeserializer));
+                        break;
+                    case "provisioning_job":
+                        provisioningJob = Optional.ofNullable((AgentIngressCertJob) readValue(p, ctxt, this.provisioningJobDeserializer));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new AgentIngressCertStatus(renewsAt, provisioningJob);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link AgentIngressCertStatus}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<AgentIngressCertStatus> {
+        private static final SerializableString FIELD_RENEWS_AT = new SerializedString("renews_at");
+        private static final SerializableString FIELD_PROVISIONING_JOB = new SerializedString("provisioning_job");
+
+        private JsonSerializer<Object> renewsAtSerializer;
+        private JsonSerializer<Object> provisioningJobSerializer;
+
+        Serializer() {
+            super(AgentIngressCertStatus.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.renewsAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.provisioningJobSerializer = findSerializer(provider, AgentIngressCertJob.class);
+        }
+
+        @Override
+        public void serialize(final AgentIngressCertStatus value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeValue(gen, provider, FIELD_RENEWS_AT, value.getRenewsAt().orElse(null), this.renewsAtSerializer);
+            writeValue(gen, provider, FIELD_PROVISIONING_JOB, value.getProvisioningJob().orElse(null), this.provisioningJobSerializer);
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -181,4 +191,101 @@ public class ApiKey {
             "', ownerId='" + this.ownerId.orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link ApiKey}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<ApiKey> {
+        private JsonDeserializer<Object> createdAtDeserializer;
+
+        Deserializer() {
+            super(ApiKey.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.createdAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+        }
+
+        @Override
+        protected ApiKey deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String id = null;
+            java.net.URI uri = null;
+            Optional<String> description = null;
+            Optional<String> metadata = null;
+            java.time.OffsetDateTime createdAt = null;
+            Optional<String> token = null;
+            Optional<String> ownerId = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    case "description":
+                        description = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "metadata":
+                        metadata = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "created_at":
+                        createdAt = (java.time.OffsetDateTime) readValue(p, ctxt, this.createdAtDeserializer);
+                        break;
+                    case "token":
+                        token = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "owner_id":
+                        ownerId = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new ApiKey(id, uri, description, metadata, createdAt, token, ownerId);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link ApiKey}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<ApiKey> {
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+        private static final SerializableString FIELD_DESCRIPTION = new SerializedString("description");
+        private static final SerializableString FIELD_METADATA = new SerializedString("metadata");
+        private static final SerializableString FIELD_CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString FIELD_TOKEN = new SerializedString("token");
+        private static final SerializableString FIELD_OWNER_ID = new SerializedString("owner_id");
+
+        private JsonSerializer<Object> createdAtSerializer;
+
+        Serializer() {
+            super(ApiKey.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.createdAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+        }
+
+        @Override
+        public void serialize(final ApiKey value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ID, value.getId());
+            writeUri(gen, FIELD_URI, value.getUri());
+            writeString(gen, FIELD_DESCRIPTION, value.getDescription().orElse(null));
+            writeString(gen, FIELD_METADATA, value.getMetadata().orElse(null));
+            writeValue(gen, provider, FIELD_CREATED_AT, value.getCreatedAt(), this.createdAtSerializer);
+            writeString(gen, FIELD_TOKEN, value.getToken().orElse(null));
+            writeString(gen, FIELD_OWNER_ID, value.getOwnerId().orElse(null));
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -248,4 +258,153 @@ public class ApplicationSession {
             "', route='" + this.route.map(Object::toString).orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link ApplicationSession}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<ApplicationSession> {
+        private JsonDeserializer<Object> browserSessionDeserializer;
+        private JsonDeserializer<Object> applicationUserDeserializer;
+        private JsonDeserializer<Object> createdAtDeserializer;
+        private JsonDeserializer<Object> lastActiveDeserializer;
+        private JsonDeserializer<Object> expiresAtDeserializer;
+        private JsonDeserializer<Object> endpointDeserializer;
+        private JsonDeserializer<Object> edgeDeserializer;
+        private JsonDeserializer<Object> routeDeserializer;
+
+        Deserializer() {
+            super(ApplicationSession.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.browserSessionDeserializer = findDeserializer(ctxt, BrowserSession.class);
+            this.applicationUserDeserializer = findDeserializer(ctxt, Ref.class);
+            this.createdAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.lastActiveDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.expiresAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.endpointDeserializer = findDeserializer(ctxt, Ref.class);
+            this.edgeDeserializer = findDeserializer(ctxt, Ref.class);
+            this.routeDeserializer = findDeserializer(ctxt, Ref.class);
+        }
+
+        @Override
+        protected ApplicationSession deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String id = null;
+            java.net.URI uri = null;
+            java.net.URI publicUrl = null;
+            BrowserSession browserSession = null;
+            Optional<Ref> applicationUser = null;
+            Optional<java.time.OffsetDateTime> createdAt = null;
+            Optional<java.time.OffsetDateTime> lastActive = null;
+            Optional<java.time.OffsetDateTime> expiresAt = null;
+            Optional<Ref> endpoint = null;
+            Optional<Ref> edge = null;
+            Optional<Ref> route = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    case "public_url":
+                        publicUrl = readUri(p, ctxt);
+                        break;
+                    case "browser_session":
+                        browserSession = (BrowserSession) readValue(p, ctxt, this.browserSessionDeserializer);
+                        break;
+                    case "application_user":
+                        applicationUser = Optional.ofNullable((Ref) readValue(p, ctxt, this.applicationUserDeserializer));
+                        break;
+                    case "created_at":
+                        createdAt = Optional.ofNullable((java.time.OffsetDateTime) readValue(p, ctxt, this.createdAtDeserializer));
+                        break;
+                    case "last_active":
+                        lastActive = Optional.ofNullable((java.time.OffsetDateTime) readValue(p, ctxt, this.lastActiveDeserializer));
+                        break;
+                    case "expires_at":
+                        expiresAt = Optional.ofNullable((java.time.OffsetDateTime) readValue(p, ctxt, this.expiresAtDeserializer));
+                        break;
+                    case "endpoint":
+                        endpoint = Optional.ofNullable((Ref) readValue(p, ctxt, this.endpointDeserializer));
+                        break;
+                    case "edge":
+                        edge = Optional.ofNullable((Ref) readValue(p, ctxt, this.edgeDeserializer));
+                        break;
+                    case "route":
+                        route = Optional.ofNullable((Ref) readValue(p, ctxt, this.routeDeserializer));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new ApplicationSession(id, uri, publicUrl, browserSession, applicationUser, createdAt, lastActive, expiresAt, endpoint, edge, route);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link ApplicationSession}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<ApplicationSession> {
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+        private static final SerializableString FIELD_PUBLIC_URL = new SerializedString("public_url");
+        private static final SerializableString FIELD_BROWSER_SESSION = new SerializedString("browser_session");
+        private static final SerializableString FIELD_APPLICATION_USER = new SerializedString("application_user");
+        private static final SerializableString FIELD_CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString FIELD_LAST_ACTIVE = new SerializedString("last_active");
+        private static final SerializableString FIELD_EXPIRES_AT = new SerializedString("expires_at");
+        private static final SerializableString FIELD_ENDPOINT = new SerializedString("endpoint");
+        private static final SerializableString FIELD_EDGE = new SerializedString("edge");
+        private static final SerializableString FIELD_ROUTE = new SerializedString("route");
+
+        private JsonSerializer<Object> browserSessionSerializer;
+        private JsonSerializer<Object> applicationUserSerializer;
+        private JsonSerializer<Object> createdAtSerializer;
+        private JsonSerializer<Object> lastActiveSerializer;
+        private JsonSerializer<Object> expiresAtSerializer;
+        private JsonSerializer<Object> endpointSerializer;
+        private JsonSerializer<Object> edgeSerializer;
+        private JsonSerializer<Object> routeSerializer;
+
+        Serializer() {
+            super(ApplicationSession.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.browserSessionSerializer = findSerializer(provider, BrowserSession.class);
+            this.applicationUserSerializer = findSerializer(provider, Ref.class);
+            this.createdAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.lastActiveSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.expiresAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.endpointSerializer = findSerializer(provider, Ref.class);
+            this.edgeSerializer = findSerializer(provider, Ref.class);
+            this.routeSerializer = findSerializer(provider, Ref.class);
+        }
+
+        @Override
+        public void serialize(final ApplicationSession value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ID, value.getId());
+            writeUri(gen, FIELD_URI, value.getUri());
+            writeUri(gen, FIELD_PUBLIC_URL, value.getPublicUrl());
+            writeValue(gen, provider, FIELD_BROWSER_SESSION, value.getBrowserSession(), this.browserSessionSerializer);
+            writeValue(gen, provider, FIELD_APPLICATION_USER, value.getApplicationUser().orElse(null), this.applicationUserSerializer);
+            writeValue(gen, provider, FIELD_CREATED_AT, value.getCreatedAt().orElse(null), this.createdAtSerializer);
+            writeValue(gen, provider, FIELD_LAST_ACTIVE, value.getLastActive().orElse(null), this.lastActiveSerializer);
+            writeValue(gen, provider, FIELD_EXPIRES_AT, value.getExpiresAt().orElse(null), this.expiresAtSerializer);
+            writeValue(gen, provider, FIELD_ENDPOINT, value.getEndpoint().orElse(null), this.endpointSerializer);
+            writeValue(gen, provider, FIELD_EDGE, value.getEdge().orElse(null), this.edgeSerializer);
+            writeValue(gen, provider, FIELD_ROUTE, value.getRoute().orElse(null), this.routeSerializer);
+            gen.writeEndObject();
+        }
+    }
 }
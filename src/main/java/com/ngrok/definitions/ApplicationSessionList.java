@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -104,4 +114,77 @@ public class ApplicationSessionList implements Pageable {
             "', nextPageUri='" + this.nextPageUri.map(Object::toString).orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link ApplicationSessionList}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<ApplicationSessionList> {
+        private JsonDeserializer<Object> applicationSessionsDeserializer;
+
+        Deserializer() {
+            super(ApplicationSessionList.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.applicationSessionsDeserializer = findDeserializer(ctxt, ApplicationSession.class);
+        }
+
+        @Override
+        protected ApplicationSessionList deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            java.util.List<ApplicationSession> applicationSessions = null;
+            java.net.URI uri = null;
+            Optional<java.net.URI> nextPageUri = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "application_sessions":
+                        applicationSessions = readItems(p, ctxt, ApplicationSession.class, this.applicationSessionsDeserializer);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    case "next_page_uri":
+                        nextPageUri = Optional.ofNullable(readUri(p, ctxt));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new ApplicationSessionList(applicationSessions, uri, nextPageUri);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link ApplicationSessionList}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<ApplicationSessionList> {
+        private static final SerializableString FIELD_APPLICATION_SESSIONS = new SerializedString("application_sessions");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+        private static final SerializableString FIELD_NEXT_PAGE_URI = new SerializedString("next_page_uri");
+
+        private JsonSerializer<Object> applicationSessionsSerializer;
+
+        Serializer() {
+            super(ApplicationSessionList.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.applicationSessionsSerializer = findSerializer(provider, ApplicationSession.class);
+        }
+
+        @Override
+        public void serialize(final ApplicationSessionList value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeList(gen, provider, FIELD_APPLICATION_SESSIONS, value.getApplicationSessions(), this.applicationSessionsSerializer);
+            writeUri(gen, FIELD_URI, value.getUri());
+            writeUri(gen, FIELD_NEXT_PAGE_URI, value.getNextPageUri().orElse(null));
+            gen.writeEndObject();
+        }
+    }
 }
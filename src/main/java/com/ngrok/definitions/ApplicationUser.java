@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -230,4 +240,131 @@ public class ApplicationUser {
             "', lastLogin='" + this.lastLogin.map(Object::toString).orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link ApplicationUser}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<ApplicationUser> {
+        private JsonDeserializer<Object> identityProviderDeserializer;
+        private JsonDeserializer<Object> createdAtDeserializer;
+        private JsonDeserializer<Object> lastActiveDeserializer;
+        private JsonDeserializer<Object> lastLoginDeserializer;
+
+        Deserializer() {
+            super(ApplicationUser.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.identityProviderDeserializer = findDeserializer(ctxt, IdentityProvider.class);
+            this.createdAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.lastActiveDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.lastLoginDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+        }
+
+        @Override
+        protected ApplicationUser deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String id = null;
+            java.net.URI uri = null;
+            IdentityProvider identityProvider = null;
+            String providerUserId = null;
+            Optional<String> username = null;
+            Optional<String> email = null;
+            Optional<String> name = null;
+            Optional<java.time.OffsetDateTime> createdAt = null;
+            Optional<java.time.OffsetDateTime> lastActive = null;
+            Optional<java.time.OffsetDateTime> lastLogin = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    case "identity_provider":
+                        identityProvider = (IdentityProvider) readValue(p, ctxt, this.identityProviderDeserializer);
+                        break;
+                    case "provider_user_id":
+                        providerUserId = readString(p, ctxt);
+                        break;
+                    case "username":
+                        username = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "email":
+                        email = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "name":
+                        name = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "created_at":
+                        createdAt = Optional.ofNullable((java.time.OffsetDateTime) readValue(p, ctxt, this.createdAtDeserializer));
+                        break;
+                    case "last_active":
+                        lastActive = Optional.ofNullable((java.time.OffsetDateTime) readValue(p, ctxt, this.lastActiveDeserializer));
+                        break;
+                    case "last_login":
+                        lastLogin = Optional.ofNullable((java.time.OffsetDateTime) readValue(p, ctxt, this.lastLoginDeserializer));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new ApplicationUser(id, uri, identityProvider, providerUserId, username, email, name, createdAt, lastActive, lastLogin);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link ApplicationUser}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<ApplicationUser> {
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+        private static final SerializableString FIELD_IDENTITY_PROVIDER = new SerializedString("identity_provider");
+        private static final SerializableString FIELD_PROVIDER_USER_ID = new SerializedString("provider_user_id");
+        private static final SerializableString FIELD_USERNAME = new SerializedString("username");
+        private static final SerializableString FIELD_EMAIL = new SerializedString("email");
+        private static final SerializableString FIELD_NAME = new SerializedString("name");
+        private static final SerializableString FIELD_CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString FIELD_LAST_ACTIVE = new SerializedString("last_active");
+        private static final SerializableString FIELD_LAST_LOGIN = new SerializedString("last_login");
+
+        private JsonSerializer<Object> identityProviderSerializer;
+        private JsonSerializer<Object> createdAtSerializer;
+        private JsonSerializer<Object> lastActiveSerializer;
+        private JsonSerializer<Object> lastLoginSerializer;
+
+        Serializer() {
+            super(ApplicationUser.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.identityProviderSerializer = findSerializer(provider, IdentityProvider.class);
+            this.createdAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.lastActiveSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.lastLoginSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+        }
+
+        @Override
+        public void serialize(final ApplicationUser value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ID, value.getId());
+            writeUri(gen, FIELD_URI, value.getUri());
+            writeValue(gen, provider, FIELD_IDENTITY_PROVIDER, value.getIdentityProvider(), this.identityProviderSerializer);
+            writeString(gen, FIELD_PROVIDER_USER_ID, value.getProviderUserId());
+            writeString(gen, FIELD_USERNAME, value.getUsername().orElse(null));
+            writeString(gen, FIELD_EMAIL, value.getEmail().orElse(null));
+            writeString(gen, FIELD_NAME, value.getName().orElse(null));
+            writeValue(gen, provider, FIELD_CREATED_AT, value.getCreatedAt().orElse(null), this.createdAtSerializer);
+            writeValue(gen, provider, FIELD_LAST_ACTIVE, value.getLastActive().orElse(null), this.lastActiveSerializer);
+            writeValue(gen, provider, FIELD_LAST_LOGIN, value.getLastLogin().orElse(null), this.lastLoginSerializer);
+            gen.writeEndObject();
+        }
+    }
 }
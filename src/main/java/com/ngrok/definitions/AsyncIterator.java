@@ -0,0 +1,29 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * An iterator whose items become available asynchronously.
+ *
+ * {@link #next()} must not be called again before the future it returned has completed. Once the iterator is
+ * exhausted, every call results in an empty {@link Optional}.
+ *
+ * @param <I> the type of the items
+ */
+public interface AsyncIterator<I> extends AutoCloseable {
+    /**
+     * Fetches the next item.
+     *
+     * @return a future of the next item, or empty if there are no more items
+     */
+    CompletionStage<Optional<I>> next();
+
+    /**
+     * Stops the iteration, discarding any item fetched ahead of time.
+     */
+    @Override
+    void close();
+}
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -171,4 +181,75 @@ public class AwsAuth {
             "', creds='" + this.creds.map(Object::toString).orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link AwsAuth}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<AwsAuth> {
+        private JsonDeserializer<Object> roleDeserializer;
+        private JsonDeserializer<Object> credsDeserializer;
+
+        Deserializer() {
+            super(AwsAuth.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.roleDeserializer = findDeserializer(ctxt, AwsRole.class);
+            this.credsDeserializer = findDeserializer(ctxt, AwsCredentials.class);
+        }
+
+        @Override
+        protected AwsAuth deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<AwsRole> role = null;
+            Optional<AwsCredentials> creds = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "role":
+                        role = Optional.ofNullable((AwsRole) readValue(p, ctxt, this.roleDeserializer));
+                        break;
+                    case "creds":
+                        creds = Optional.ofNullable((AwsCredentials) readValue(p, ctxt, this.credsDeserializer));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new AwsAuth(role, creds);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link AwsAuth}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<AwsAuth> {
+        private static final SerializableString FIELD_ROLE = new SerializedString("role");
+        private static final SerializableString FIELD_CREDS = new SerializedString("creds");
+
+        private JsonSerializer<Object> roleSerializer;
+        private JsonSerializer<Object> credsSerializer;
+
+        Serializer() {
+            super(AwsAuth.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.roleSerializer = findSerializer(provider, AwsRole.class);
+            this.credsSerializer = findSerializer(provider, AwsCredentials.class);
+        }
+
+        @Override
+        public void serialize(final AwsAuth value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeValue(gen, provider, FIELD_ROLE, value.getRole().orElse(null), this.roleSerializer);
+            writeValue(gen, provider, FIELD_CREDS, value.getCreds().orElse(null), this.credsSerializer);
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -131,4 +138,57 @@ public class AwsCredentials {
             "', awsSecretAccessKey='" + this.awsSecretAccessKey.orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link AwsCredentials}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<AwsCredentials> {
+        Deserializer() {
+            super(AwsCredentials.class);
+        }
+
+        @Override
+        protected AwsCredentials deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String awsAccessKeyId = null;
+            Optional<String> awsSecretAccessKey = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "aws_access_key_id":
+                        awsAccessKeyId = readString(p, ctxt);
+                        break;
+                    case "aws_secret_access_key":
+                        awsSecretAccessKey = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new AwsCredentials(awsAccessKeyId, awsSecretAccessKey);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link AwsCredentials}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<AwsCredentials> {
+        private static final SerializableString FIELD_AWS_ACCESS_KEY_ID = new SerializedString("aws_access_key_id");
+        private static final SerializableString FIELD_AWS_SECRET_ACCESS_KEY = new SerializedString("aws_secret_access_key");
+
+        Serializer() {
+            super(AwsCredentials.class);
+        }
+
+        @Override
+        public void serialize(final AwsCredentials value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_AWS_ACCESS_KEY_ID, value.getAwsAccessKeyId());
+            writeString(gen, FIELD_AWS_SECRET_ACCESS_KEY, value.getAwsSecretAccessKey().orElse(null));
+            gen.writeEndObject();
+        }
+    }
 }
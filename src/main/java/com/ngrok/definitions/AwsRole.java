@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -107,4 +114,51 @@ public class AwsRole {
             "roleArn='" + this.roleArn +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link AwsRole}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<AwsRole> {
+        Deserializer() {
+            super(AwsRole.class);
+        }
+
+        @Override
+        protected AwsRole deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String roleArn = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "role_arn":
+                        roleArn = readString(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new AwsRole(roleArn);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link AwsRole}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<AwsRole> {
+        private static final SerializableString FIELD_ROLE_ARN = new SerializedString("role_arn");
+
+        Serializer() {
+            super(AwsRole.class);
+        }
+
+        @Override
+        public void serialize(final AwsRole value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ROLE_ARN, value.getRoleArn());
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -140,4 +150,89 @@ public class BotUser {
             "', createdAt='" + this.createdAt +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link BotUser}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<BotUser> {
+        private JsonDeserializer<Object> createdAtDeserializer;
+
+        Deserializer() {
+            super(BotUser.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.createdAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+        }
+
+        @Override
+        protected BotUser deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String id = null;
+            java.net.URI uri = null;
+            String name = null;
+            Boolean active = null;
+            java.time.OffsetDateTime createdAt = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    case "name":
+                        name = readString(p, ctxt);
+                        break;
+                    case "active":
+                        active = readBoolean(p, ctxt);
+                        break;
+                    case "created_at":
+                        createdAt = (java.time.OffsetDateTime) readValue(p, ctxt, this.createdAtDeserializer);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new BotUser(id, uri, name, active, createdAt);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link BotUser}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<BotUser> {
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+        private static final SerializableString FIELD_NAME = new SerializedString("name");
+        private static final SerializableString FIELD_ACTIVE = new SerializedString("active");
+        private static final SerializableString FIELD_CREATED_AT = new SerializedString("created_at");
+
+        private JsonSerializer<Object> createdAtSerializer;
+
+        Serializer() {
+            super(BotUser.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.createdAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+        }
+
+        @Override
+        public void serialize(final BotUser value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ID, value.getId());
+            writeUri(gen, FIELD_URI, value.getUri());
+            writeString(gen, FIELD_NAME, value.getName());
+            writeBoolean(gen, FIELD_ACTIVE, value.getActive());
+            writeValue(gen, provider, FIELD_CREATED_AT, value.getCreatedAt(), this.createdAtSerializer);
+            gen.writeEndObject();
+        }
+    }
 }
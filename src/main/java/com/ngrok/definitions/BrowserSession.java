@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -104,4 +114,81 @@ public class BrowserSession {
             "', location='" + this.location.map(Object::toString).orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link BrowserSession}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<BrowserSession> {
+        private JsonDeserializer<Object> userAgentDeserializer;
+        private JsonDeserializer<Object> locationDeserializer;
+
+        Deserializer() {
+            super(BrowserSession.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.userAgentDeserializer = findDeserializer(ctxt, UserAgent.class);
+            this.locationDeserializer = findDeserializer(ctxt, Location.class);
+        }
+
+        @Override
+        protected BrowserSession deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            UserAgent userAgent = null;
+            String ipAddress = null;
+            Optional<Location> location = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "user_agent":
+                        userAgent = (UserAgent) readValue(p, ctxt, this.userAgentDeserializer);
+                        break;
+                    case "ip_address":
+                        ipAddress = readString(p, ctxt);
+                        break;
+                    case "location":
+                        location = Optional.ofNullable((Location) readValue(p, ctxt, this.locationDeserializer));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new BrowserSession(userAgent, ipAddress, location);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link BrowserSession}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<BrowserSession> {
+        private static final SerializableString FIELD_USER_AGENT = new SerializedString("user_agent");
+        private static final SerializableString FIELD_IP_ADDRESS = new SerializedString("ip_address");
+        private static final SerializableString FIELD_LOCATION = new SerializedString("location");
+
+        private JsonSerializer<Object> userAgentSerializer;
+        private JsonSerializer<Object> locationSerializer;
+
+        Serializer() {
+            super(BrowserSession.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.userAgentSerializer = findSerializer(provider, UserAgent.class);
+            this.locationSerializer = findSerializer(provider, Location.class);
+        }
+
+        @Override
+        public void serialize(final BrowserSession value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeValue(gen, provider, FIELD_USER_AGENT, value.getUserAgent(), this.userAgentSerializer);
+            writeString(gen, FIELD_IP_ADDRESS, value.getIpAddress());
+            writeValue(gen, provider, FIELD_LOCATION, value.getLocation().orElse(null), this.locationSerializer);
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -251,4 +261,133 @@ public class CertificateAuthority {
             "', extendedKeyUsages='" + this.extendedKeyUsages +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link CertificateAuthority}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<CertificateAuthority> {
+        private JsonDeserializer<Object> createdAtDeserializer;
+        private JsonDeserializer<Object> notBeforeDeserializer;
+        private JsonDeserializer<Object> notAfterDeserializer;
+
+        Deserializer() {
+            super(CertificateAuthority.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.createdAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.notBeforeDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.notAfterDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+        }
+
+        @Override
+        protected CertificateAuthority deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String id = null;
+            java.net.URI uri = null;
+            java.time.OffsetDateTime createdAt = null;
+            Optional<String> description = null;
+            Optional<String> metadata = null;
+            String caPem = null;
+            String subjectCommonName = null;
+            java.time.OffsetDateTime notBefore = null;
+            java.time.OffsetDateTime notAfter = null;
+            java.util.List<String> keyUsages = null;
+            java.util.List<String> extendedKeyUsages = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    case "created_at":
+                        createdAt = (java.time.OffsetDateTime) readValue(p, ctxt, this.createdAtDeserializer);
+                        break;
+                    case "description":
+                        description = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "metadata":
+                        metadata = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "ca_pem":
+                        caPem = readString(p, ctxt);
+                        break;
+                    case "subject_common_name":
+                        subjectCommonName = readString(p, ctxt);
+                        break;
+                    case "not_before":
+                        notBefore = (java.time.OffsetDateTime) readValue(p, ctxt, this.notBeforeDeserializer);
+                        break;
+                    case "not_after":
+                        notAfter = (java.time.OffsetDateTime) readValue(p, ctxt, this.notAfterDeserializer);
+                        break;
+                    case "key_usages":
+                        keyUsages = readStringList(p, ctxt);
+                        break;
+                    case "extended_key_usages":
+                        extendedKeyUsages = readStringList(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new CertificateAuthority(id, uri, createdAt, description, metadata, caPem, subjectCommonName, notBefore, notAfter, keyUsages, extendedKeyUsages);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link CertificateAuthority}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<CertificateAuthority> {
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+        private static final SerializableString FIELD_CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString FIELD_DESCRIPTION = new SerializedString("description");
+        private static final SerializableString FIELD_METADATA = new SerializedString("metadata");
+        private static final SerializableString FIELD_CA_PEM = new SerializedString("ca_pem");
+        private static final SerializableString FIELD_SUBJECT_COMMON_NAME = new SerializedString("subject_common_name");
+        private static final SerializableString FIELD_NOT_BEFORE = new SerializedString("not_before");
+        private static final SerializableString FIELD_NOT_AFTER = new SerializedString("not_after");
+        private static final SerializableString FIELD_KEY_USAGES = new SerializedString("key_usages");
+        private static final SerializableString FIELD_EXTENDED_KEY_USAGES = new SerializedString("extended_key_usages");
+
+        private JsonSerializer<Object> createdAtSerializer;
+        private JsonSerializer<Object> notBeforeSerializer;
+        private JsonSerializer<Object> notAfterSerializer;
+
+        Serializer() {
+            super(CertificateAuthority.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.createdAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.notBeforeSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.notAfterSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+        }
+
+        @Override
+        public void serialize(final CertificateAuthority value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ID, value.getId());
+            writeUri(gen, FIELD_URI, value.getUri());
+            writeValue(gen, provider, FIELD_CREATED_AT, value.getCreatedAt(), this.createdAtSerializer);
+            writeString(gen, FIELD_DESCRIPTION, value.getDescription().orElse(null));
+            writeString(gen, FIELD_METADATA, value.getMetadata().orElse(null));
+            writeString(gen, FIELD_CA_PEM, value.getCaPem());
+            writeString(gen, FIELD_SUBJECT_COMMON_NAME, value.getSubjectCommonName());
+            writeValue(gen, provider, FIELD_NOT_BEFORE, value.getNotBefore(), this.notBeforeSerializer);
+            writeValue(gen, provider, FIELD_NOT_AFTER, value.getNotAfter(), this.notAfterSerializer);
+            writeStringList(gen, FIELD_KEY_USAGES, value.getKeyUsages());
+            writeStringList(gen, FIELD_EXTENDED_KEY_USAGES, value.getExtendedKeyUsages());
+            gen.writeEndObject();
+        }
+    }
 }
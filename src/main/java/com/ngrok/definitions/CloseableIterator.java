@@ -0,0 +1,19 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import java.util.Iterator;
+
+/**
+ * An iterator that holds resources until it is exhausted or closed, so that a caller that stops iterating early
+ * can release them, preferably with a try-with-resources statement.
+ *
+ * @param <I> the type of the items
+ */
+public interface CloseableIterator<I> extends Iterator<I>, AutoCloseable {
+    /**
+     * Stops the iteration, discarding any item fetched ahead of time.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,266 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Base class of the generated deserializers registered by {@link DefinitionsModule}.
+ *
+ * Subclasses read the fields of a definition straight off the parser, by name, and pass them to the definition's
+ * {@link com.fasterxml.jackson.annotation.JsonCreator} constructor. They produce the same objects as Jackson's
+ * reflective bean deserializer: unknown fields are skipped, absent fields are passed as {@code null}, and JSON
+ * {@code null} becomes {@link java.util.Optional#empty()} for optional fields. Scalars, URIs, lists and maps are
+ * decoded inline; everything else (timestamps, durations, nested definitions) is delegated to the deserializer
+ * the mapper would have used, which is looked up once in {@link #resolve(DeserializationContext)}.
+ *
+ * @param <T> the definition type
+ */
+abstract class DefinitionDeserializer<T> extends StdDeserializer<T> implements ResolvableDeserializer {
+    protected DefinitionDeserializer(final Class<T> definitionClass) {
+        super(definitionClass);
+    }
+
+    @Override
+    public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+        // nothing to resolve by default
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        if (p.isExpectedStartObjectToken()) {
+            return deserializeFields(p, ctxt, p.nextFieldName());
+        }
+        if (p.hasToken(JsonToken.FIELD_NAME)) {
+            return deserializeFields(p, ctxt, p.currentName());
+        }
+        if (p.hasToken(JsonToken.END_OBJECT)) {
+            return deserializeFields(p, ctxt, null);
+        }
+        return (T) ctxt.handleUnexpectedToken(handledType(), p);
+    }
+
+    /**
+     * Reads the remaining fields of an object and creates the definition.
+     *
+     * @param p the parser, positioned on the name of the first field
+     * @param ctxt the deserialization context
+     * @param firstField the name of the first field, or {@code null} if the object is empty
+     * @return the definition
+     * @throws IOException if the object could not be read
+     */
+    protected abstract T deserializeFields(JsonParser p, DeserializationContext ctxt, String firstField) throws IOException;
+
+    @SuppressWarnings("unchecked")
+    protected T instantiationProblem(final DeserializationContext ctxt, final RuntimeException e) throws IOException {
+        return (T) ctxt.handleInstantiationProblem(handledType(), null, e);
+    }
+
+    protected static JsonDeserializer<Object> findDeserializer(final DeserializationContext ctxt, final Class<?> cls) throws JsonMappingException {
+        return ctxt.findRootValueDeserializer(ctxt.constructType(cls));
+    }
+
+    protected static Object readValue(final JsonParser p, final DeserializationContext ctxt, final JsonDeserializer<Object> deserializer) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return deserializer.getNullValue(ctxt);
+        }
+        return deserializer.deserialize(p, ctxt);
+    }
+
+    protected static String readString(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return p.getText();
+        }
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return StringDeserializer.instance.deserialize(p, ctxt);
+    }
+
+    protected static Boolean readBoolean(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_TRUE)) {
+            return Boolean.TRUE;
+        }
+        if (p.hasToken(JsonToken.VALUE_FALSE)) {
+            return Boolean.FALSE;
+        }
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return ctxt.readValue(p, Boolean.class);
+    }
+
+    protected static Long readLong(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return p.getLongValue();
+        }
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return ctxt.readValue(p, Long.class);
+    }
+
+    protected static Integer readInteger(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return p.getIntValue();
+        }
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return ctxt.readValue(p, Integer.class);
+    }
+
+    protected static Double readDouble(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NUMBER_FLOAT) || p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return p.getDoubleValue();
+        }
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return ctxt.readValue(p, Double.class);
+    }
+
+    protected static URI readUri(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            final String text = p.getText();
+            // leave blank and padded strings to the standard deserializer, which trims them
+            if (!text.isEmpty() && text.charAt(0) > ' ' && text.charAt(text.length() - 1) > ' ') {
+                try {
+                    return URI.create(text);
+                } catch (final IllegalArgumentException e) {
+                    // fall through so that the standard deserializer reports the error
+                }
+            }
+        } else if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return ctxt.readValue(p, URI.class);
+    }
+
+    protected static List<String> readStringList(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (!p.isExpectedStartArrayToken()) {
+            return ctxt.readValue(p, ctxt.getTypeFactory().constructCollectionType(List.class, String.class));
+        }
+        final List<String> list = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readString(p, ctxt));
+        }
+        return list;
+    }
+
+    protected static List<URI> readUriList(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (!p.isExpectedStartArrayToken()) {
+            return ctxt.readValue(p, ctxt.getTypeFactory().constructCollectionType(List.class, URI.class));
+        }
+        final List<URI> list = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readUri(p, ctxt));
+        }
+        return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static <E> List<E> readList(final JsonParser p,
+                                          final DeserializationContext ctxt,
+                                          final Class<E> elementClass,
+                                          final JsonDeserializer<Object> elementDeserializer)
+        throws IOException
+    {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (!p.isExpectedStartArrayToken()) {
+            return ctxt.readValue(p, ctxt.getTypeFactory().constructCollectionType(List.class, elementClass));
+        }
+        final List<E> list = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            list.add((E) readValue(p, ctxt, elementDeserializer));
+        }
+        return list;
+    }
+
+    /**
+     * Reads the items of a page. When the {@link DefinitionsModule#LAZY_LIST_ITEMS} attribute is set, each element
+     * is only buffered, and deserialized the first time it is accessed. Otherwise, when the
+     * {@link DefinitionsModule#PARALLEL_LIST_ITEMS} attribute is set, the elements are deserialized in parallel on
+     * its pool.
+     */
+    protected static <E> List<E> readItems(final JsonParser p,
+                                           final DeserializationContext ctxt,
+                                           final Class<E> elementClass,
+                                           final JsonDeserializer<Object> elementDeserializer)
+        throws IOException
+    {
+        if (p.getCodec() == null || !p.isExpectedStartArrayToken()) {
+            return readList(p, ctxt, elementClass, elementDeserializer);
+        }
+        if (!Boolean.TRUE.equals(ctxt.getAttribute(DefinitionsModule.LAZY_LIST_ITEMS))) {
+            final Object pool = ctxt.getAttribute(DefinitionsModule.PARALLEL_LIST_ITEMS);
+            final List<E> items = pool instanceof ForkJoinPool ? ParallelItems.read(p, (ForkJoinPool) pool, elementClass) : null;
+            return items != null ? items : readList(p, ctxt, elementClass, elementDeserializer);
+        }
+        final List<TokenBuffer> buffers = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            buffers.add(p.hasToken(JsonToken.VALUE_NULL) ? null : ctxt.bufferAsCopyOfValue(p));
+        }
+        return new LazyList<>(p.getCodec(), elementClass, buffers.toArray(new TokenBuffer[0]));
+    }
+
+    protected static Map<String, String> readStringMap(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (!p.isExpectedStartObjectToken()) {
+            return ctxt.readValue(p, ctxt.getTypeFactory().constructMapType(Map.class, String.class, String.class));
+        }
+        final Map<String, String> map = new LinkedHashMap<>();
+        for (String key = p.nextFieldName(); key != null; key = p.nextFieldName()) {
+            p.nextToken();
+            map.put(key, readString(p, ctxt));
+        }
+        return map;
+    }
+
+    protected static Map<String, Long> readLongMap(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (!p.isExpectedStartObjectToken()) {
+            return ctxt.readValue(p, ctxt.getTypeFactory().constructMapType(Map.class, String.class, Long.class));
+        }
+        final Map<String, Long> map = new LinkedHashMap<>();
+        for (String key = p.nextFieldName(); key != null; key = p.nextFieldName()) {
+            p.nextToken();
+            map.put(key, readLong(p, ctxt));
+        }
+        return map;
+    }
+}
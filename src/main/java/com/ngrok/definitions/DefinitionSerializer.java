@@ -0,0 +1,192 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class of the generated serializers registered by {@link DefinitionsModule}.
+ *
+ * Subclasses write the fields of a definition in declaration order, skipping absent values just like
+ * {@link com.fasterxml.jackson.annotation.JsonInclude.Include#NON_ABSENT} does, so their output is byte-for-byte
+ * the same as Jackson's reflective bean serializer. Values that depend on the mapper's configuration (timestamps,
+ * durations, nested definitions) are written with the serializer the mapper would have used, which is looked up
+ * once in {@link #resolve(SerializerProvider)}.
+ *
+ * @param <T> the definition type
+ */
+abstract class DefinitionSerializer<T> extends StdSerializer<T> implements ResolvableSerializer {
+    protected DefinitionSerializer(final Class<T> definitionClass) {
+        super(definitionClass);
+    }
+
+    @Override
+    public void resolve(final SerializerProvider provider) throws JsonMappingException {
+        // nothing to resolve by default
+    }
+
+    protected static JsonSerializer<Object> findSerializer(final SerializerProvider provider, final Class<?> cls) throws JsonMappingException {
+        return provider.findValueSerializer(cls, null);
+    }
+
+    protected static void writeValue(final JsonGenerator gen,
+                                     final SerializerProvider provider,
+                                     final SerializableString name,
+                                     final Object value,
+                                     final JsonSerializer<Object> serializer)
+        throws IOException
+    {
+        if (value != null) {
+            gen.writeFieldName(name);
+            serializer.serialize(value, gen, provider);
+        }
+    }
+
+    protected static void writeObject(final JsonGenerator gen,
+                                      final SerializerProvider provider,
+                                      final SerializableString name,
+                                      final Object value)
+        throws IOException
+    {
+        if (value != null) {
+            gen.writeFieldName(name);
+            provider.defaultSerializeValue(value, gen);
+        }
+    }
+
+    protected static void writeString(final JsonGenerator gen, final SerializableString name, final String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    protected static void writeBoolean(final JsonGenerator gen, final SerializableString name, final Boolean value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeBoolean(value);
+        }
+    }
+
+    protected static void writeLong(final JsonGenerator gen, final SerializableString name, final Long value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    protected static void writeInteger(final JsonGenerator gen, final SerializableString name, final Integer value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeNumber(value.intValue());
+        }
+    }
+
+    protected static void writeDouble(final JsonGenerator gen, final SerializableString name, final Double value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeNumber(value.doubleValue());
+        }
+    }
+
+    protected static void writeUri(final JsonGenerator gen, final SerializableString name, final URI value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value.toString());
+        }
+    }
+
+    protected static void writeStringList(final JsonGenerator gen, final SerializableString name, final List<String> value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeStartArray(value, value.size());
+            for (final String element : value) {
+                if (element == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeString(element);
+                }
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    protected static void writeUriList(final JsonGenerator gen, final SerializableString name, final List<URI> value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeStartArray(value, value.size());
+            for (final URI element : value) {
+                if (element == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeString(element.toString());
+                }
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    protected static void writeList(final JsonGenerator gen,
+                                    final SerializerProvider provider,
+                                    final SerializableString name,
+                                    final List<?> value,
+                                    final JsonSerializer<Object> elementSerializer)
+        throws IOException
+    {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeStartArray(value, value.size());
+            for (final Object element : value) {
+                if (element == null) {
+                    gen.writeNull();
+                } else {
+                    elementSerializer.serialize(element, gen, provider);
+                }
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    protected static void writeStringMap(final JsonGenerator gen, final SerializableString name, final Map<String, String> value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeStartObject(value);
+            for (final Map.Entry<String, String> entry : value.entrySet()) {
+                gen.writeFieldName(entry.getKey());
+                if (entry.getValue() == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeString(entry.getValue());
+                }
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    protected static void writeLongMap(final JsonGenerator gen, final SerializableString name, final Map<String, Long> value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeStartObject(value);
+            for (final Map.Entry<String, Long> entry : value.entrySet()) {
+                gen.writeFieldName(entry.getKey());
+                if (entry.getValue() == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeNumber(entry.getValue().longValue());
+                }
+            }
+            gen.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleDeserializers;
+import com.fasterxml.jackson.databind.module.SimpleSerializers;
+
+/**
+ * A Jackson module that registers generated serializers and deserializers for every ngrok API definition.
+ *
+ * Without this module, Jackson (de)serializes the definitions reflectively through their annotations. The
+ * generated codecs produce the same JSON and the same objects, but read and write fields directly, which is
+ * noticeably faster and allocates less, especially for large list responses.
+ * {@link com.ngrok.DefaultNgrokApiClient} installs it by default; register it on your own
+ * {@link com.fasterxml.jackson.databind.ObjectMapper} alongside the Jdk8 and Java time modules if you supply one.
+ */
+public final class DefinitionsModule extends Module {
+    /**
+     * Deserialization attribute that enables lazy page items. When it is set to {@link Boolean#TRUE}, e.g. through
+     * {@link com.fasterxml.jackson.databind.ObjectReader#withAttribute(Object, Object)}, the items of list
+     * responses (such as {@link TunnelList#getTunnels()}) keep each element as buffered JSON tokens and only
+     * deserialize it the first time it is accessed. Everything else, including
+     * {@link Pageable#getNextPageUri()}, is decoded right away.
+     */
+    public static final String LAZY_LIST_ITEMS = "com.ngrok.definitions.lazyListItems";
+
+    /**
+     * Deserialization attribute that enables parallel decoding of page items. When it is set to a
+     * {@link java.util.concurrent.ForkJoinPool}, the items of list responses read from a byte array are split at
+     * their element boundaries with a quick scan of the bytes, and deserialized in parallel on the pool, in chunks,
+     * then reassembled in order. It pays off for pages of many items, such as large
+     * {@link IpPolicyRuleList IP policy rule} or {@link CredentialList credential} pages; small pages are better
+     * decoded on one thread. {@link #LAZY_LIST_ITEMS} takes precedence over it.
+     */
+    public static final String PARALLEL_LIST_ITEMS = "com.ngrok.definitions.parallelListItems";
+
+    @Override
+    public String getModuleName() {
+        return "ngrok-definitions";
+    }
+
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    @Override
+    public void setupModule(final SetupContext context) {
+        // codecs cache mapper-specific delegates once resolved, so every mapper gets its own instances
+        final SimpleDeserializers deserializers = new SimpleDeserializers();
+        deserializers.addDeserializer(AbuseReport.class, new AbuseReport.Deserializer());
+        deserializers.addDeserializer(AbuseReportHostname.class, new AbuseReportHostname.Deserializer());
+        deserializers.addDeserializer(AgentIngress.class, new AgentIngress.Deserializer());
+        deserializers.addDeserializer(AgentIngressCertJob.class, new AgentIngressCertJob.Deserializer());
+        deserializers.addDeserializer(AgentIngressCertPolicy.class, new AgentIngressCertPolicy.Deserializer());
+        deserializers.addDeserializer(AgentIngressCertStatus.class, new AgentIngressCertStatus.Deserializer());
+        deserializers.addDeserializer(AgentIngressList.class, new AgentIngressList.Deserializer());
+        deserializers.addDeserializer(ApiKey.class, new ApiKey.Deserializer());
+        deserializers.addDeserializer(ApiKeyList.class, new ApiKeyList.Deserializer());
+        deserializers.addDeserializer(ApplicationSession.class, new ApplicationSession.Deserializer());
+        deserializers.addDeserializer(ApplicationSessionList.class, new ApplicationSessionList.Deserializer());
+        deserializers.addDeserializer(ApplicationUser.class, new ApplicationUser.Deserializer());
+        deserializers.addDeserializer(ApplicationUserList.class, new ApplicationUserList.Deserializer());
+        deserializers.addDeserializer(AwsAuth.class, new AwsAuth.Deserializer());
+        deserializers.addDeserializer(AwsCredentials.class, new AwsCredentials.Deserializer());
+        deserializers.addDeserializer(AwsRole.class, new AwsRole.Deserializer());
+        deserializers.addDeserializer(BotUser.class, new BotUser.Deserializer());
+        deserializers.addDeserializer(BotUserList.class, new BotUserList.Deserializer());
+        deserializers.addDeserializer(BrowserSession.class, new BrowserSession.Deserializer());
+        deserializers.addDeserializer(CertificateAuthority.class, new CertificateAuthority.Deserializer());
+        deserializers.addDeserializer(CertificateAuthorityList.class, new CertificateAuthorityList.Deserializer());
+        deserializers.addDeserializer(Credential.class, new Credential.Deserializer());
+        deserializers.addDeserializer(CredentialList.class, new CredentialList.Deserializer());
+        deserializers.addDeserializer(Endpoint.class, new Endpoint.Deserializer());
+        deserializers.addDeserializer(EndpointAction.class, new EndpointAction.Deserializer());
+        deserializers.addDeserializer(EndpointBackend.class, new EndpointBackend.Deserializer());
+        deserializers.addDeserializer(EndpointBackendMutate.class, new EndpointBackendMutate.Deserializer());
+        deserializers.addDeserializer(EndpointCircuitBreaker.class, new EndpointCircuitBreaker.Deserializer());
+        deserializers.addDeserializer(EndpointCompression.class, new EndpointCompression.Deserializer());
+        deserializers.addDeserializer(EndpointIpPolicy.class, new EndpointIpPolicy.Deserializer());
+        deserializers.addDeserializer(EndpointIpPolicyMutate.class, new EndpointIpPolicyMutate.Deserializer());
+        deserializers.addDeserializer(EndpointList.class, new EndpointList.Deserializer());
+        deserializers.addDeserializer(EndpointMutualTls.class, new EndpointMutualTls.Deserializer());
+        deserializers.addDeserializer(EndpointMutualTlsMutate.class, new EndpointMutualTlsMutate.Deserializer());
+        deserializers.addDeserializer(EndpointOAuth.class, new EndpointOAuth.Deserializer());
+        deserializers.addDeserializer(EndpointOAuthAmazon.class, new EndpointOAuthAmazon.Deserializer());
+        deserializers.addDeserializer(EndpointOAuthFacebook.class, new EndpointOAuthFacebook.Deserializer());
+        deserializers.addDeserializer(EndpointOAuthGitHub.class, new EndpointOAuthGitHub.Deserializer());
+        deserializers.addDeserializer(EndpointOAuthGitLab.class, new EndpointOAuthGitLab.Deserializer());
+        deserializers.addDeserializer(EndpointOAuthGoogle.class, new EndpointOAuthGoogle.Deserializer());
+        deserializers.addDeserializer(EndpointOAuthLinkedIn.class, new EndpointOAuthLinkedIn.Deserializer());
+        deserializers.addDeserializer(EndpointOAuthMicrosoft.class, new EndpointOAuthMicrosoft.Deserializer());
+        deserializers.addDeserializer(EndpointOAuthProvider.class, new EndpointOAuthProvider.Deserializer());
+        deserializers.addDeserializer(EndpointOAuthTwitch.class, new EndpointOAuthTwitch.Deserializer());
+        deserializers.addDeserializer(EndpointOidc.class, new EndpointOidc.Deserializer());
+        deserializers.addDeserializer(EndpointPolicy.class, new EndpointPolicy.Deserializer());
+        deserializers.addDeserializer(EndpointRequestHeaders.class, new EndpointRequestHeaders.Deserializer());
+        deserializers.addDeserializer(EndpointResponseHeaders.class, new EndpointResponseHeaders.Deserializer());
+        deserializers.addDeserializer(EndpointRule.class, new EndpointRule.Deserializer());
+        deserializers.addDeserializer(EndpointSaml.class, new EndpointSaml.Deserializer());
+        deserializers.addDeserializer(EndpointSamlMutate.class, new EndpointSamlMutate.Deserializer());
+        deserializers.addDeserializer(EndpointTlsTermination.class, new EndpointTlsTermination.Deserializer());
+        deserializers.addDeserializer(EndpointTlsTerminationAtEdge.class, new EndpointTlsTerminationAtEdge.Deserializer());
+        deserializers.addDeserializer(EndpointUserAgentFilter.class, new EndpointUserAgentFilter.Deserializer());
+        deserializers.addDeserializer(EndpointWebhookValidation.class, new EndpointWebhookValidation.Deserializer());
+        deserializers.addDeserializer(EndpointWebsocketTcpConverter.class, new EndpointWebsocketTcpConverter.Deserializer());
+        deserializers.addDeserializer(EventDestination.class, new EventDestination.Deserializer());
+        deserializers.addDeserializer(EventDestinationList.class, new EventDestinationList.Deserializer());
+        deserializers.addDeserializer(EventSource.class, new EventSource.Deserializer());
+        deserializers.addDeserializer(EventSourceList.class, new EventSourceList.Deserializer());
+        deserializers.addDeserializer(EventSourceReplace.class, new EventSourceReplace.Deserializer());
+        deserializers.addDeserializer(EventSubscription.class, new EventSubscription.Deserializer());
+        deserializers.addDeserializer(EventSubscriptionList.class, new EventSubscriptionList.Deserializer());
+        deserializers.addDeserializer(EventTarget.class, new EventTarget.Deserializer());
+        deserializers.addDeserializer(EventTargetCloudwatchLogs.class, new EventTargetCloudwatchLogs.Deserializer());
+        deserializers.addDeserializer(EventTargetDatadog.class, new EventTargetDatadog.Deserializer());
+        deserializers.addDeserializer(EventTargetFirehose.class, new EventTargetFirehose.Deserializer());
+        deserializers.addDeserializer(EventTargetKinesis.class, new EventTargetKinesis.Deserializer());
+        deserializers.addDeserializer(FailoverBackend.class, new FailoverBackend.Deserializer());
+        deserializers.addDeserializer(FailoverBackendList.class, new FailoverBackendList.Deserializer());
+        deserializers.addDeserializer(HttpResponseBackend.class, new HttpResponseBackend.Deserializer());
+        deserializers.addDeserializer(HttpResponseBackendList.class, new HttpResponseBackendList.Deserializer());
+        deserializers.addDeserializer(HttpsEdge.class, new HttpsEdge.Deserializer());
+        deserializers.addDeserializer(HttpsEdgeList.class, new HttpsEdgeList.Deserializer());
+        deserializers.addDeserializer(HttpsEdgeRoute.class, new HttpsEdgeRoute.Deserializer());
+        deserializers.addDeserializer(IdentityProvider.class, new IdentityProvider.Deserializer());
+        deserializers.addDeserializer(IpPolicy.class, new IpPolicy.Deserializer());
+        deserializers.addDeserializer(IpPolicyList.class, new IpPolicyList.Deserializer());
+        deserializers.addDeserializer(IpPolicyRule.class, new IpPolicyRule.Deserializer());
+        deserializers.addDeserializer(IpPolicyRuleList.class, new IpPolicyRuleList.Deserializer());
+        deserializers.addDeserializer(IpRestriction.class, new IpRestriction.Deserializer());
+        deserializers.addDeserializer(IpRestrictionList.class, new IpRestrictionList.Deserializer());
+        deserializers.addDeserializer(Location.class, new Location.Deserializer());
+        deserializers.addDeserializer(NgrokApiError.class, new NgrokApiError.Deserializer());
+        deserializers.addDeserializer(Ref.class, new Ref.Deserializer());
+        deserializers.addDeserializer(ReservedAddr.class, new ReservedAddr.Deserializer());
+        deserializers.addDeserializer(ReservedAddrList.class, new ReservedAddrList.Deserializer());
+        deserializers.addDeserializer(ReservedDomain.class, new ReservedDomain.Deserializer());
+        deserializers.addDeserializer(ReservedDomainCertJob.class, new ReservedDomainCertJob.Deserializer());
+        deserializers.addDeserializer(ReservedDomainCertPolicy.class, new ReservedDomainCertPolicy.Deserializer());
+        deserializers.addDeserializer(ReservedDomainCertStatus.class, new ReservedDomainCertStatus.Deserializer());
+        deserializers.addDeserializer(ReservedDomainList.class, new ReservedDomainList.Deserializer());
+        deserializers.addDeserializer(SshCertificateAuthority.class, new SshCertificateAuthority.Deserializer());
+        deserializers.addDeserializer(SshCertificateAuthorityList.class, new SshCertificateAuthorityList.Deserializer());
+        deserializers.addDeserializer(SshCredential.class, new SshCredential.Deserializer());
+        deserializers.addDeserializer(SshCredentialList.class, new SshCredentialList.Deserializer());
+        deserializers.addDeserializer(SshHostCertificate.class, new SshHostCertificate.Deserializer());
+        deserializers.addDeserializer(SshHostCertificateList.class, new SshHostCertificateList.Deserializer());
+        deserializers.addDeserializer(SshUserCertificate.class, new SshUserCertificate.Deserializer());
+        deserializers.addDeserializer(SshUserCertificateList.class, new SshUserCertificateList.Deserializer());
+        deserializers.addDeserializer(StaticBackend.class, new StaticBackend.Deserializer());
+        deserializers.addDeserializer(StaticBackendList.class, new StaticBackendList.Deserializer());
+        deserializers.addDeserializer(StaticBackendTls.class, new StaticBackendTls.Deserializer());
+        deserializers.addDeserializer(TcpEdge.class, new TcpEdge.Deserializer());
+        deserializers.addDeserializer(TcpEdgeList.class, new TcpEdgeList.Deserializer());
+        deserializers.addDeserializer(TlsCertificate.class, new TlsCertificate.Deserializer());
+        deserializers.addDeserializer(TlsCertificateList.class, new TlsCertificateList.Deserializer());
+        deserializers.addDeserializer(TlsCertificateSaNs.class, new TlsCertificateSaNs.Deserializer());
+        deserializers.addDeserializer(TlsEdge.class, new TlsEdge.Deserializer());
+        deserializers.addDeserializer(TlsEdgeList.class, new TlsEdgeList.Deserializer());
+        deserializers.addDeserializer(Tunnel.class, new Tunnel.Deserializer());
+        deserializers.addDeserializer(TunnelGroupBackend.class, new TunnelGroupBackend.Deserializer());
+        deserializers.addDeserializer(TunnelGroupBackendList.class, new TunnelGroupBackendList.Deserializer());
+        deserializers.addDeserializer(TunnelList.class, new TunnelList.Deserializer());
+        deserializers.addDeserializer(TunnelSession.class, new TunnelSession.Deserializer());
+        deserializers.addDeserializer(TunnelSessionList.class, new TunnelSessionList.Deserializer());
+        deserializers.addDeserializer(UserAgent.class, new UserAgent.Deserializer());
+        deserializers.addDeserializer(WeightedBackend.class, new WeightedBackend.Deserializer());
+        deserializers.addDeserializer(WeightedBackendList.class, new WeightedBackendList.Deserializer());
+        context.addDeserializers(deserializers);
+
+        final SimpleSerializers serializers = new SimpleSerializers();
+        serializers.addSerializer(AbuseReport.class, new AbuseReport.Serializer());
+        serializers.addSerializer(AbuseReportHostname.class, new AbuseReportHostname.Serializer());
+        serializers.addSerializer(AgentIngress.class, new AgentIngress.Serializer());
+        serializers.addSerializer(AgentIngressCertJob.class, new AgentIngressCertJob.Serializer());
+        serializers.addSerializer(AgentIngressCertPolicy.class, new AgentIngressCertPolicy.Serializer());
+        serializers.addSerializer(AgentIngressCertStatus.class, new AgentIngressCertStatus.Serializer());
+        serializers.addSerializer(AgentIngressList.class, new AgentIngressList.Serializer());
+        serializers.addSerializer(ApiKey.class, new ApiKey.Serializer());
+        serializers.addSerializer(ApiKeyList.class, new ApiKeyList.Serializer());
+        serializers.addSerializer(ApplicationSession.class, new ApplicationSession.Serializer());
+        serializers.addSerializer(ApplicationSessionList.class, new ApplicationSessionList.Serializer());
+        serializers.addSerializer(ApplicationUser.class, new ApplicationUser.Serializer());
+        serializers.addSerializer(ApplicationUserList.class, new ApplicationUserList.Serializer());
+        serializers.addSerializer(AwsAuth.class, new AwsAuth.Serializer());
+        serializers.addSerializer(AwsCredentials.class, new AwsCredentials.Serializer());
+        serializers.addSerializer(AwsRole.class, new AwsRole.Serializer());
+        serializers.addSerializer(BotUser.class, new BotUser.Serializer());
+        serializers.addSerializer(BotUserList.class, new BotUserList.Serializer());
+        serializers.addSerializer(BrowserSession.class, new BrowserSession.Serializer());
+        serializers.addSerializer(CertificateAuthority.class, new CertificateAuthority.Serializer());
+        serializers.addSerializer(CertificateAuthorityList.class, new CertificateAuthorityList.Serializer());
+        serializers.addSerializer(Credential.class, new Credential.Serializer());
+        serializers.addSerializer(CredentialList.class, new CredentialList.Serializer());
+        serializers.addSerializer(Endpoint.class, new Endpoint.Serializer());
+        serializers.addSerializer(EndpointAction.class, new EndpointAction.Serializer());
+        serializers.addSerializer(EndpointBackend.class, new EndpointBackend.Serializer());
+        serializers.addSerializer(EndpointBackendMutate.class, new EndpointBackendMutate.Serializer());
+        serializers.addSerializer(EndpointCircuitBreaker.class, new EndpointCircuitBreaker.Serializer());
+        serializers.addSerializer(EndpointCompression.class, new EndpointCompression.Serializer());
+        serializers.addSerializer(EndpointIpPolicy.class, new EndpointIpPolicy.Serializer());
+        serializers.addSerializer(EndpointIpPolicyMutate.class, new EndpointIpPolicyMutate.Serializer());
+        serializers.addSerializer(EndpointList.class, new EndpointList.Serializer());
+        serializers.addSerializer(EndpointMutualTls.class, new EndpointMutualTls.Serializer());
+        serializers.addSerializer(EndpointMutualTlsMutate.class, new EndpointMutualTlsMutate.Serializer());
+        serializers.addSerializer(EndpointOAuth.class, new EndpointOAuth.Serializer());
+        serializers.addSerializer(EndpointOAuthAmazon.class, new EndpointOAuthAmazon.Serializer());
+        serializers.addSerializer(EndpointOAuthFacebook.class, new EndpointOAuthFacebook.Serializer());
+        serializers.addSerializer(EndpointOAuthGitHub.class, new EndpointOAuthGitHub.Serializer());
+        serializers.addSerializer(EndpointOAuthGitLab.class, new EndpointOAuthGitLab.Serializer());
+        serializers.addSerializer(EndpointOAuthGoogle.class, new EndpointOAuthGoogle.Serializer());
+        serializers.addSerializer(EndpointOAuthLinkedIn.class, new EndpointOAuthLinkedIn.Serializer());
+        serializers.addSerializer(EndpointOAuthMicrosoft.class, new EndpointOAuthMicrosoft.Serializer());
+        serializers.addSerializer(EndpointOAuthProvider.class, new EndpointOAuthProvider.Serializer());
+        serializers.addSerializer(EndpointOAuthTwitch.class, new EndpointOAuthTwitch.Serializer());
+        serializers.addSerializer(EndpointOidc.class, new EndpointOidc.Serializer());
+        serializers.addSerializer(EndpointPolicy.class, new EndpointPolicy.Serializer());
+        serializers.addSerializer(EndpointRequestHeaders.class, new EndpointRequestHeaders.Serializer());
+        serializers.addSerializer(EndpointResponseHeaders.class, new EndpointResponseHeaders.Serializer());
+        serializers.addSerializer(EndpointRule.class, new EndpointRule.Serializer());
+        serializers.addSerializer(EndpointSaml.class, new EndpointSaml.Serializer());
+        serializers.addSerializer(EndpointSamlMutate.class, new EndpointSamlMutate.Serializer());
+        serializers.addSerializer(EndpointTlsTermination.class, new EndpointTlsTermination.Serializer());
+        serializers.addSerializer(EndpointTlsTerminationAtEdge.class, new EndpointTlsTerminationAtEdge.Serializer());
+        serializers.addSerializer(EndpointUserAgentFilter.class, new EndpointUserAgentFilter.Serializer());
+        serializers.addSerializer(EndpointWebhookValidation.class, new EndpointWebhookValidation.Serializer());
+        serializers.addSerializer(EndpointWebsocketTcpConverter.class, new EndpointWebsocketTcpConverter.Serializer());
+        serializers.addSerializer(EventDestination.class, new EventDestination.Serializer());
+        serializers.addSerializer(EventDestinationList.class, new EventDestinationList.Serializer());
+        serializers.addSerializer(EventSource.class, new EventSource.Serializer());
+        serializers.addSerializer(EventSourceList.class, new EventSourceList.Serializer());
+        serializers.addSerializer(EventSourceReplace.class, new EventSourceReplace.Serializer());
+        serializers.addSerializer(EventSubscription.class, new EventSubscription.Serializer());
+        serializers.addSerializer(EventSubscriptionList.class, new EventSubscriptionList.Serializer());
+        serializers.addSerializer(EventTarget.class, new EventTarget.Serializer());
+        serializers.addSerializer(EventTargetCloudwatchLogs.class, new EventTargetCloudwatchLogs.Serializer());
+        serializers.addSerializer(EventTargetDatadog.class, new EventTargetDatadog.Serializer());
+        serializers.addSerializer(EventTargetFirehose.class, new EventTargetFirehose.Serializer());
+        serializers.addSerializer(EventTargetKinesis.class, new EventTargetKinesis.Serializer());
+        serializers.addSerializer(FailoverBackend.class, new FailoverBackend.Serializer());
+        serializers.addSerializer(FailoverBackendList.class, new FailoverBackendList.Serializer());
+        serializers.addSerializer(HttpResponseBackend.class, new HttpResponseBackend.Serializer());
+        serializers.addSerializer(HttpResponseBackendList.class, new HttpResponseBackendList.Serializer());
+        serializers.addSerializer(HttpsEdge.class, new HttpsEdge.Serializer());
+        serializers.addSerializer(HttpsEdgeList.class, new HttpsEdgeList.Serializer());
+        serializers.addSerializer(HttpsEdgeRoute.class, new HttpsEdgeRoute.Serializer());
+        serializers.addSerializer(IdentityProvider.class, new IdentityProvider.Serializer());
+        serializers.addSerializer(IpPolicy.class, new IpPolicy.Serializer());
+        serializers.addSerializer(IpPolicyList.class, new IpPolicyList.Serializer());
+        serializers.addSerializer(IpPolicyRule.class, new IpPolicyRule.Serializer());
+        serializers.addSerializer(IpPolicyRuleList.class, new IpPolicyRuleList.Serializer());
+        serializers.addSerializer(IpRestriction.class, new IpRestriction.Serializer());
+        serializers.addSerializer(IpRestrictionList.class, new IpRestrictionList.Serializer());
+        serializers.addSerializer(Location.class, new Location.Serializer());
+        serializers.addSerializer(Ref.class, new Ref.Serializer());
+        serializers.addSerializer(ReservedAddr.class, new ReservedAddr.Serializer());
+        serializers.addSerializer(ReservedAddrList.class, new ReservedAddrList.Serializer());
+        serializers.addSerializer(ReservedDomain.class, new ReservedDomain.Serializer());
+        serializers.addSerializer(ReservedDomainCertJob.class, new ReservedDomainCertJob.Serializer());
+        serializers.addSerializer(ReservedDomainCertPolicy.class, new ReservedDomainCertPolicy.Serializer());
+        serializers.addSerializer(ReservedDomainCertStatus.class, new ReservedDomainCertStatus.Serializer());
+        serializers.addSerializer(ReservedDomainList.class, new ReservedDomainList.Serializer());
+        serializers.addSerializer(SshCertificateAuthority.class, new SshCertificateAuthority.Serializer());
+        serializers.addSerializer(SshCertificateAuthorityList.class, new SshCertificateAuthorityList.Serializer());
+        serializers.addSerializer(SshCredential.class, new SshCredential.Serializer());
+        serializers.addSerializer(SshCredentialList.class, new SshCredentialList.Serializer());
+        serializers.addSerializer(SshHostCertificate.class, new SshHostCertificate.Serializer());
+        serializers.addSerializer(SshHostCertificateList.class, new SshHostCertificateList.Serializer());
+        serializers.addSerializer(SshUserCertificate.class, new SshUserCertificate.Serializer());
+        serializers.addSerializer(SshUserCertificateList.class, new SshUserCertificateList.Serializer());
+        serializers.addSerializer(StaticBackend.class, new StaticBackend.Serializer());
+        serializers.addSerializer(StaticBackendList.class, new StaticBackendList.Serializer());
+        serializers.addSerializer(StaticBackendTls.class, new StaticBackendTls.Serializer());
+        serializers.addSerializer(TcpEdge.class, new TcpEdge.Serializer());
+        serializers.addSerializer(TcpEdgeList.class, new TcpEdgeList.Serializer());
+        serializers.addSerializer(TlsCertificate.class, new TlsCertificate.Serializer());
+        serializers.addSerializer(TlsCertificateList.class, new TlsCertificateList.Serializer());
+        serializers.addSerializer(TlsCertificateSaNs.class, new TlsCertificateSaNs.Serializer());
+        serializers.addSerializer(TlsEdge.class, new TlsEdge.Serializer());
+        serializers.addSerializer(TlsEdgeList.class, new TlsEdgeList.Serializer());
+        serializers.addSerializer(Tunnel.class, new Tunnel.Serializer());
+        serializers.addSerializer(TunnelGroupBackend.class, new TunnelGroupBackend.Serializer());
+        serializers.addSerializer(TunnelGroupBackendList.class, new TunnelGroupBackendList.Serializer());
+        serializers.addSerializer(TunnelList.class, new TunnelList.Serializer());
+        serializers.addSerializer(TunnelSession.class, new TunnelSession.Serializer());
+        serializers.addSerializer(TunnelSessionList.class, new TunnelSessionList.Serializer());
+        serializers.addSerializer(UserAgent.class, new UserAgent.Serializer());
+        serializers.addSerializer(WeightedBackend.class, new WeightedBackend.Serializer());
+        serializers.addSerializer(WeightedBackendList.class, new WeightedBackendList.Serializer());
+        context.addSerializers(serializers);
+    }
+}
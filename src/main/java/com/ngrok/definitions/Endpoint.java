@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -286,4 +296,157 @@ public class Endpoint {
             "', edge='" + this.edge.map(Object::toString).orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link Endpoint}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<Endpoint> {
+        private JsonDeserializer<Object> createdAtDeserializer;
+        private JsonDeserializer<Object> updatedAtDeserializer;
+        private JsonDeserializer<Object> domainDeserializer;
+        private JsonDeserializer<Object> tcpAddrDeserializer;
+        private JsonDeserializer<Object> tunnelDeserializer;
+        private JsonDeserializer<Object> edgeDeserializer;
+
+        Deserializer() {
+            super(Endpoint.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.createdAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.updatedAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.domainDeserializer = findDeserializer(ctxt, Ref.class);
+            this.tcpAddrDeserializer = findDeserializer(ctxt, Ref.class);
+            this.tunnelDeserializer = findDeserializer(ctxt, Ref.class);
+            this.edgeDeserializer = findDeserializer(ctxt, Ref.class);
+        }
+
+        @Override
+        protected Endpoint deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String id = null;
+            Optional<String> region = null;
+            Optional<java.time.OffsetDateTime> createdAt = null;
+            Optional<java.time.OffsetDateTime> updatedAt = null;
+            java.net.URI publicUrl = null;
+            String proto = null;
+            String hostport = null;
+            String type = null;
+            Optional<String> metadata = null;
+            Optional<Ref> domain = null;
+            Optional<Ref> tcpAddr = null;
+            Optional<Ref> tunnel = null;
+            Optional<Ref> edge = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "region":
+                        region = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "created_at":
+                        createdAt = Optional.ofNullable((java.time.OffsetDateTime) readValue(p, ctxt, this.createdAtDeserializer));
+                        break;
+                    case "updated_at":
+                        updatedAt = Optional.ofNullable((java.time.OffsetDateTime) readValue(p, ctxt, this.updatedAtDeserializer));
+                        break;
+                    case "public_url":
+                        publicUrl = readUri(p, ctxt);
+                        break;
+                    case "proto":
+                        proto = readString(p, ctxt);
+                        break;
+                    case "hostport":
+                        hostport = readString(p, ctxt);
+                        break;
+                    case "type":
+                        type = readString(p, ctxt);
+                        break;
+                    case "metadata":
+                        metadata = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "domain":
+                        domain = Optional.ofNullable((Ref) readValue(p, ctxt, this.domainDeserializer));
+                        break;
+                    case "tcp_addr":
+                        tcpAddr = Optional.ofNullable((Ref) readValue(p, ctxt, this.tcpAddrDeserializer));
+                        break;
+                    case "tunnel":
+                        tunnel = Optional.ofNullable((Ref) readValue(p, ctxt, this.tunnelDeserializer));
+                        break;
+                    case "edge":
+                        edge = Optional.ofNullable((Ref) readValue(p, ctxt, this.edgeDeserializer));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new Endpoint(id, region, createdAt, updatedAt, publicUrl, proto, hostport, type, metadata, domain, tcpAddr, tunnel, edge);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link Endpoint}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<Endpoint> {
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_REGION = new SerializedString("region");
+        private static final SerializableString FIELD_CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString FIELD_UPDATED_AT = new SerializedString("updated_at");
+        private static final SerializableString FIELD_PUBLIC_URL = new SerializedString("public_url");
+        private static final SerializableString FIELD_PROTO = new SerializedString("proto");
+        private static final SerializableString FIELD_HOSTPORT = new SerializedString("hostport");
+        private static final SerializableString FIELD_TYPE = new SerializedString("type");
+        private static final SerializableString FIELD_METADATA = new SerializedString("metadata");
+        private static final SerializableString FIELD_DOMAIN = new SerializedString("domain");
+        private static final SerializableString FIELD_TCP_ADDR = new SerializedString("tcp_addr");
+        private static final SerializableString FIELD_TUNNEL = new SerializedString("tunnel");
+        private static final SerializableString FIELD_EDGE = new SerializedString("edge");
+
+        private JsonSerializer<Object> createdAtSerializer;
+        private JsonSerializer<Object> updatedAtSerializer;
+        private JsonSerializer<Object> domainSerializer;
+        private JsonSerializer<Object> tcpAddrSerializer;
+        private JsonSerializer<Object> tunnelSerializer;
+        private JsonSerializer<Object> edgeSerializer;
+
+        Serializer() {
+            super(Endpoint.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.createdAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.updatedAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.domainSerializer = findSerializer(provider, Ref.class);
+            this.tcpAddrSerializer = findSerializer(provider, Ref.class);
+            this.tunnelSerializer = findSerializer(provider, Ref.class);
+            this.edgeSerializer = findSerializer(provider, Ref.class);
+        }
+
+        @Override
+        public void serialize(final Endpoint value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ID, value.getId());
+            writeString(gen, FIELD_REGION, value.getRegion().orElse(null));
+            writeValue(gen, provider, FIELD_CREATED_AT, value.getCreatedAt().orElse(null), this.createdAtSerializer);
+            writeValue(gen, provider, FIELD_UPDATED_AT, value.getUpdatedAt().orElse(null), this.updatedAtSerializer);
+            writeUri(gen, FIELD_PUBLIC_URL, value.getPublicUrl());
+            writeString(gen, FIELD_PROTO, value.getProto());
+            writeString(gen, FIELD_HOSTPORT, value.getHostport());
+            writeString(gen, FIELD_TYPE, value.getType());
+            writeString(gen, FIELD_METADATA, value.getMetadata().orElse(null));
+            writeValue(gen, provider, FIELD_DOMAIN, value.getDomain().orElse(null), this.domainSerializer);
+            writeValue(gen, provider, FIELD_TCP_ADDR, value.getTcpAddr().orElse(null), this.tcpAddrSerializer);
+            writeValue(gen, provider, FIELD_TUNNEL, value.getTunnel().orElse(null), this.tunnelSerializer);
+            writeValue(gen, provider, FIELD_EDGE, value.getEdge().orElse(null), this.edgeSerializer);
+            gen.writeEndObject();
+        }
+    }
 }
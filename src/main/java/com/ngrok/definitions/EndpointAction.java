@@ -6,7 +6,16 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -165,4 +174,64 @@ public class EndpointAction {
             "', config='" + this.config +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointAction}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointAction> {
+        private JsonDeserializer<Object> configDeserializer;
+
+        Deserializer() {
+            super(EndpointAction.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.configDeserializer = findDeserializer(ctxt, java.lang.Object.class);
+        }
+
+        @Override
+        protected EndpointAction deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String type = null;
+            java.lang.Object config = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "type":
+                        type = readString(p, ctxt);
+                        break;
+                    case "config":
+                        config = readValue(p, ctxt, this.configDeserializer);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointAction(type, config);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointAction}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointAction> {
+        private static final SerializableString FIELD_TYPE = new SerializedString("type");
+        private static final SerializableString FIELD_CONFIG = new SerializedString("config");
+
+        Serializer() {
+            super(EndpointAction.class);
+        }
+
+        @Override
+        public void serialize(final EndpointAction value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_TYPE, value.getType());
+            writeObject(gen, provider, FIELD_CONFIG, value.getConfig());
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -87,4 +97,71 @@ public class EndpointBackend {
             "', backend='" + this.backend +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointBackend}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointBackend> {
+        private JsonDeserializer<Object> backendDeserializer;
+
+        Deserializer() {
+            super(EndpointBackend.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.backendDeserializer = findDeserializer(ctxt, Ref.class);
+        }
+
+        @Override
+        protected EndpointBackend deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<Boolean> enabled = null;
+            Ref backend = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "enabled":
+                        enabled = Optional.ofNullable(readBoolean(p, ctxt));
+                        break;
+                    case "backend":
+                        backend = (Ref) readValue(p, ctxt, this.backendDeserializer);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointBackend(enabled, backend);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointBackend}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointBackend> {
+        private static final SerializableString FIELD_ENABLED = new SerializedString("enabled");
+        private static final SerializableString FIELD_BACKEND = new SerializedString("backend");
+
+        private JsonSerializer<Object> backendSerializer;
+
+        Serializer() {
+            super(EndpointBackend.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.backendSerializer = findSerializer(provider, Ref.class);
+        }
+
+        @Override
+        public void serialize(final EndpointBackend value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeBoolean(gen, FIELD_ENABLED, value.getEnabled().orElse(null));
+            writeValue(gen, provider, FIELD_BACKEND, value.getBackend(), this.backendSerializer);
+            gen.writeEndObject();
+        }
+    }
 }
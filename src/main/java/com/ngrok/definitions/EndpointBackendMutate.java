@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -168,4 +175,57 @@ public class EndpointBackendMutate {
             "', backendId='" + this.backendId +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointBackendMutate}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointBackendMutate> {
+        Deserializer() {
+            super(EndpointBackendMutate.class);
+        }
+
+        @Override
+        protected EndpointBackendMutate deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<Boolean> enabled = null;
+            String backendId = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "enabled":
+                        enabled = Optional.ofNullable(readBoolean(p, ctxt));
+                        break;
+                    case "backend_id":
+                        backendId = readString(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointBackendMutate(enabled, backendId);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointBackendMutate}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointBackendMutate> {
+        private static final SerializableString FIELD_ENABLED = new SerializedString("enabled");
+        private static final SerializableString FIELD_BACKEND_ID = new SerializedString("backend_id");
+
+        Serializer() {
+            super(EndpointBackendMutate.class);
+        }
+
+        @Override
+        public void serialize(final EndpointBackendMutate value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeBoolean(gen, FIELD_ENABLED, value.getEnabled().orElse(null));
+            writeString(gen, FIELD_BACKEND_ID, value.getBackendId());
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -345,4 +355,95 @@ public class EndpointCircuitBreaker {
             "', errorThresholdPercentage='" + this.errorThresholdPercentage +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointCircuitBreaker}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointCircuitBreaker> {
+        private JsonDeserializer<Object> trippedDurationDeserializer;
+
+        Deserializer() {
+            super(EndpointCircuitBreaker.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.trippedDurationDeserializer = findDeserializer(ctxt, java.time.Duration.class);
+        }
+
+        @Override
+        protected EndpointCircuitBreaker deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<Boolean> enabled = null;
+            java.time.Duration trippedDuration = null;
+            Long rollingWindow = null;
+            Long numBuckets = null;
+            Long volumeThreshold = null;
+            Double errorThresholdPercentage = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "enabled":
+                        enabled = Optional.ofNullable(readBoolean(p, ctxt));
+                        break;
+                    case "tripped_duration":
+                        trippedDuration = (java.time.Duration) readValue(p, ctxt, this.trippedDurationDeserializer);
+                        break;
+                    case "rolling_window":
+                        rollingWindow = readLong(p, ctxt);
+                        break;
+                    case "num_buckets":
+                        numBuckets = readLong(p, ctxt);
+                        break;
+                    case "volume_threshold":
+                        volumeThreshold = readLong(p, ctxt);
+                        break;
+                    case "error_threshold_percentage":
+                        errorThresholdPercentage = readDouble(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointCircuitBreaker(enabled, trippedDuration, rollingWindow, numBuckets, volumeThreshold, errorThresholdPercentage);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointCircuitBreaker}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointCircuitBreaker> {
+        private static final SerializableString FIELD_ENABLED = new SerializedString("enabled");
+        private static final SerializableString FIELD_TRIPPED_DURATION = new SerializedString("tripped_duration");
+        private static final SerializableString FIELD_ROLLING_WINDOW = new SerializedString("rolling_window");
+        private static final SerializableString FIELD_NUM_BUCKETS = new SerializedString("num_buckets");
+        private static final SerializableString FIELD_VOLUME_THRESHOLD = new SerializedString("volume_threshold");
+        private static final SerializableString FIELD_ERROR_THRESHOLD_PERCENTAGE = new SerializedString("error_threshold_percentage");
+
+        private JsonSerializer<Object> trippedDurationSerializer;
+
+        Serializer() {
+            super(EndpointCircuitBreaker.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.trippedDurationSerializer = findSerializer(provider, java.time.Duration.class);
+        }
+
+        @Override
+        public void serialize(final EndpointCircuitBreaker value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeBoolean(gen, FIELD_ENABLED, value.getEnabled().orElse(null));
+            writeValue(gen, provider, FIELD_TRIPPED_DURATION, value.getTrippedDuration(), this.trippedDurationSerializer);
+            writeLong(gen, FIELD_ROLLING_WINDOW, value.getRollingWindow());
+            writeLong(gen, FIELD_NUM_BUCKETS, value.getNumBuckets());
+            writeLong(gen, FIELD_VOLUME_THRESHOLD, value.getVolumeThreshold());
+            writeDouble(gen, FIELD_ERROR_THRESHOLD_PERCENTAGE, value.getErrorThresholdPercentage());
+            gen.writeEndObject();
+        }
+    }
 }
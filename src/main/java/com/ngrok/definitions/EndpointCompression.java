@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -126,4 +133,51 @@ public class EndpointCompression {
             "enabled='" + this.enabled.map(Object::toString).orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointCompression}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointCompression> {
+        Deserializer() {
+            super(EndpointCompression.class);
+        }
+
+        @Override
+        protected EndpointCompression deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<Boolean> enabled = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "enabled":
+                        enabled = Optional.ofNullable(readBoolean(p, ctxt));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointCompression(enabled);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointCompression}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointCompression> {
+        private static final SerializableString FIELD_ENABLED = new SerializedString("enabled");
+
+        Serializer() {
+            super(EndpointCompression.class);
+        }
+
+        @Override
+        public void serialize(final EndpointCompression value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeBoolean(gen, FIELD_ENABLED, value.getEnabled().orElse(null));
+            gen.writeEndObject();
+        }
+    }
 }
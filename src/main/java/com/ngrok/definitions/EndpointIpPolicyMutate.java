@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -171,4 +178,57 @@ public class EndpointIpPolicyMutate {
             "', ipPolicyIds='" + this.ipPolicyIds +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointIpPolicyMutate}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointIpPolicyMutate> {
+        Deserializer() {
+            super(EndpointIpPolicyMutate.class);
+        }
+
+        @Override
+        protected EndpointIpPolicyMutate deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<Boolean> enabled = null;
+            java.util.List<String> ipPolicyIds = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "enabled":
+                        enabled = Optional.ofNullable(readBoolean(p, ctxt));
+                        break;
+                    case "ip_policy_ids":
+                        ipPolicyIds = readStringList(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointIpPolicyMutate(enabled, ipPolicyIds);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointIpPolicyMutate}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointIpPolicyMutate> {
+        private static final SerializableString FIELD_ENABLED = new SerializedString("enabled");
+        private static final SerializableString FIELD_IP_POLICY_IDS = new SerializedString("ip_policy_ids");
+
+        Serializer() {
+            super(EndpointIpPolicyMutate.class);
+        }
+
+        @Override
+        public void serialize(final EndpointIpPolicyMutate value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeBoolean(gen, FIELD_ENABLED, value.getEnabled().orElse(null));
+            writeStringList(gen, FIELD_IP_POLICY_IDS, value.getIpPolicyIds());
+            gen.writeEndObject();
+        }
+    }
 }
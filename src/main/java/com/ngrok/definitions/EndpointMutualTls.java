@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -88,4 +98,71 @@ public class EndpointMutualTls {
             "', certificateAuthorities='" + this.certificateAuthorities +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointMutualTls}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointMutualTls> {
+        private JsonDeserializer<Object> certificateAuthoritiesDeserializer;
+
+        Deserializer() {
+            super(EndpointMutualTls.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.certificateAuthoritiesDeserializer = findDeserializer(ctxt, Ref.class);
+        }
+
+        @Override
+        protected EndpointMutualTls deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<Boolean> enabled = null;
+            java.util.List<Ref> certificateAuthorities = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "enabled":
+                        enabled = Optional.ofNullable(readBoolean(p, ctxt));
+                        break;
+                    case "certificate_authorities":
+                        certificateAuthorities = readList(p, ctxt, Ref.class, this.certificateAuthoritiesDeserializer);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointMutualTls(enabled, certificateAuthorities);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointMutualTls}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointMutualTls> {
+        private static final SerializableString FIELD_ENABLED = new SerializedString("enabled");
+        private static final SerializableString FIELD_CERTIFICATE_AUTHORITIES = new SerializedString("certificate_authorities");
+
+        private JsonSerializer<Object> certificateAuthoritiesSerializer;
+
+        Serializer() {
+            super(EndpointMutualTls.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.certificateAuthoritiesSerializer = findSerializer(provider, Ref.class);
+        }
+
+        @Override
+        public void serialize(final EndpointMutualTls value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeBoolean(gen, FIELD_ENABLED, value.getEnabled().orElse(null));
+            writeList(gen, provider, FIELD_CERTIFICATE_AUTHORITIES, value.getCertificateAuthorities(), this.certificateAuthoritiesSerializer);
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -171,4 +178,57 @@ public class EndpointMutualTlsMutate {
             "', certificateAuthorityIds='" + this.certificateAuthorityIds +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointMutualTlsMutate}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointMutualTlsMutate> {
+        Deserializer() {
+            super(EndpointMutualTlsMutate.class);
+        }
+
+        @Override
+        protected EndpointMutualTlsMutate deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<Boolean> enabled = null;
+            java.util.List<String> certificateAuthorityIds = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "enabled":
+                        enabled = Optional.ofNullable(readBoolean(p, ctxt));
+                        break;
+                    case "certificate_authority_ids":
+                        certificateAuthorityIds = readStringList(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointMutualTlsMutate(enabled, certificateAuthorityIds);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointMutualTlsMutate}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointMutualTlsMutate> {
+        private static final SerializableString FIELD_ENABLED = new SerializedString("enabled");
+        private static final SerializableString FIELD_CERTIFICATE_AUTHORITY_IDS = new SerializedString("certificate_authority_ids");
+
+        Serializer() {
+            super(EndpointMutualTlsMutate.class);
+        }
+
+        @Override
+        public void serialize(final EndpointMutualTlsMutate value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeBoolean(gen, FIELD_ENABLED, value.getEnabled().orElse(null));
+            writeStringList(gen, FIELD_CERTIFICATE_AUTHORITY_IDS, value.getCertificateAuthorityIds());
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -408,4 +418,105 @@ public class EndpointOAuth {
             "', authCheckInterval='" + this.authCheckInterval +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointOAuth}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointOAuth> {
+        private JsonDeserializer<Object> providerDeserializer;
+        private JsonDeserializer<Object> maximumDurationDeserializer;
+
+        Deserializer() {
+            super(EndpointOAuth.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.providerDeserializer = findDeserializer(ctxt, EndpointOAuthProvider.class);
+            this.maximumDurationDeserializer = findDeserializer(ctxt, java.time.Duration.class);
+        }
+
+        @Override
+        protected EndpointOAuth deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<Boolean> enabled = null;
+            EndpointOAuthProvider provider = null;
+            Boolean optionsPassthrough = null;
+            String cookiePrefix = null;
+            Long inactivityTimeout = null;
+            java.time.Duration maximumDuration = null;
+            Long authCheckInterval = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "enabled":
+                        enabled = Optional.ofNullable(readBoolean(p, ctxt));
+                        break;
+                    case "provider":
+                        provider = (EndpointOAuthProvider) readValue(p, ctxt, this.providerDeserializer);
+                        break;
+                    case "options_passthrough":
+                        optionsPassthrough = readBoolean(p, ctxt);
+                        break;
+                    case "cookie_prefix":
+                        cookiePrefix = readString(p, ctxt);
+                        break;
+                    case "inactivity_timeout":
+                        inactivityTimeout = readLong(p, ctxt);
+                        break;
+                    case "maximum_duration":
+                        maximumDuration = (java.time.Duration) readValue(p, ctxt, this.maximumDurationDeserializer);
+                        break;
+                    case "auth_check_interval":
+                        authCheckInterval = readLong(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointOAuth(enabled, provider, optionsPassthrough, cookiePrefix, inactivityTimeout, maximumDuration, authCheckInterval);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointOAuth}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointOAuth> {
+        private static final SerializableString FIELD_ENABLED = new SerializedString("enabled");
+        private static final SerializableString FIELD_PROVIDER = new SerializedString("provider");
+        private static final SerializableString FIELD_OPTIONS_PASSTHROUGH = new SerializedString("options_passthrough");
+        private static final SerializableString FIELD_COOKIE_PREFIX = new SerializedString("cookie_prefix");
+        private static final SerializableString FIELD_INACTIVITY_TIMEOUT = new SerializedString("inactivity_timeout");
+        private static final SerializableString FIELD_MAXIMUM_DURATION = new SerializedString("maximum_duration");
+        private static final SerializableString FIELD_AUTH_CHECK_INTERVAL = new SerializedString("auth_check_interval");
+
+        private JsonSerializer<Object> providerSerializer;
+        private JsonSerializer<Object> maximumDurationSerializer;
+
+        Serializer() {
+            super(EndpointOAuth.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.providerSerializer = findSerializer(provider, EndpointOAuthProvider.class);
+            this.maximumDurationSerializer = findSerializer(provider, java.time.Duration.class);
+        }
+
+        @Override
+        public void serialize(final EndpointOAuth value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeBoolean(gen, FIELD_ENABLED, value.getEnabled().orElse(null));
+            writeValue(gen, provider, FIELD_PROVIDER, value.getProvider(), this.providerSerializer);
+            writeBoolean(gen, FIELD_OPTIONS_PASSTHROUGH, value.getOptionsPassthrough());
+            writeString(gen, FIELD_COOKIE_PREFIX, value.getCookiePrefix());
+            writeLong(gen, FIELD_INACTIVITY_TIMEOUT, value.getInactivityTimeout());
+            writeValue(gen, provider, FIELD_MAXIMUM_DURATION, value.getMaximumDuration(), this.maximumDurationSerializer);
+            writeLong(gen, FIELD_AUTH_CHECK_INTERVAL, value.getAuthCheckInterval());
+            gen.writeEndObject();
+        }
+    }
 }
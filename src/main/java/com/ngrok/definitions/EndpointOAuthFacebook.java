@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -324,4 +331,75 @@ public class EndpointOAuthFacebook {
             "', emailDomains='" + this.emailDomains +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointOAuthFacebook}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointOAuthFacebook> {
+        Deserializer() {
+            super(EndpointOAuthFacebook.class);
+        }
+
+        @Override
+        protected EndpointOAuthFacebook deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<String> clientId = null;
+            Optional<String> clientSecret = null;
+            java.util.List<String> scopes = null;
+            java.util.List<String> emailAddresses = null;
+            java.util.List<String> emailDomains = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "client_id":
+                        clientId = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "client_secret":
+                        clientSecret = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "scopes":
+                        scopes = readStringList(p, ctxt);
+                        break;
+                    case "email_addresses":
+                        emailAddresses = readStringList(p, ctxt);
+                        break;
+                    case "email_domains":
+                        emailDomains = readStringList(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointOAuthFacebook(clientId, clientSecret, scopes, emailAddresses, emailDomains);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointOAuthFacebook}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointOAuthFacebook> {
+        private static final SerializableString FIELD_CLIENT_ID = new SerializedString("client_id");
+        private static final SerializableString FIELD_CLIENT_SECRET = new SerializedString("client_secret");
+        private static final SerializableString FIELD_SCOPES = new SerializedString("scopes");
+        private static final SerializableString FIELD_EMAIL_ADDRESSES = new SerializedString("email_addresses");
+        private static final SerializableString FIELD_EMAIL_DOMAINS = new SerializedString("email_domains");
+
+        Serializer() {
+            super(EndpointOAuthFacebook.class);
+        }
+
+        @Override
+        public void serialize(final EndpointOAuthFacebook value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_CLIENT_ID, value.getClientId().orElse(null));
+            writeString(gen, FIELD_CLIENT_SECRET, value.getClientSecret().orElse(null));
+            writeStringList(gen, FIELD_SCOPES, value.getScopes());
+            writeStringList(gen, FIELD_EMAIL_ADDRESSES, value.getEmailAddresses());
+            writeStringList(gen, FIELD_EMAIL_DOMAINS, value.getEmailDomains());
+            gen.writeEndObject();
+        }
+    }
 }
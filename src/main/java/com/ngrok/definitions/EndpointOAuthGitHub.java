@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -423,4 +430,87 @@ public class EndpointOAuthGitHub {
             "', organizations='" + this.organizations.map(Object::toString).orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointOAuthGitHub}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointOAuthGitHub> {
+        Deserializer() {
+            super(EndpointOAuthGitHub.class);
+        }
+
+        @Override
+        protected EndpointOAuthGitHub deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<String> clientId = null;
+            Optional<String> clientSecret = null;
+            Optional<java.util.List<String>> scopes = null;
+            Optional<java.util.List<String>> emailAddresses = null;
+            Optional<java.util.List<String>> emailDomains = null;
+            Optional<java.util.List<String>> teams = null;
+            Optional<java.util.List<String>> organizations = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "client_id":
+                        clientId = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "client_secret":
+                        clientSecret = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "scopes":
+                        scopes = Optional.ofNullable(readStringList(p, ctxt));
+                        break;
+                    case "email_addresses":
+                        emailAddresses = Optional.ofNullable(readStringList(p, ctxt));
+                        break;
+                    case "email_domains":
+                        emailDomains = Optional.ofNullable(readStringList(p, ctxt));
+                        break;
+                    case "teams":
+                        teams = Optional.ofNullable(readStringList(p, ctxt));
+                        break;
+                    case "organizations":
+                        organizations = Optional.ofNullable(readStringList(p, ctxt));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointOAuthGitHub(clientId, clientSecret, scopes, emailAddresses, emailDomains, teams, organizations);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointOAuthGitHub}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointOAuthGitHub> {
+        private static final SerializableString FIELD_CLIENT_ID = new SerializedString("client_id");
+        private static final SerializableString FIELD_CLIENT_SECRET = new SerializedString("client_secret");
+        private static final SerializableString FIELD_SCOPES = new SerializedString("scopes");
+        private static final SerializableString FIELD_EMAIL_ADDRESSES = new SerializedString("email_addresses");
+        private static final SerializableString FIELD_EMAIL_DOMAINS = new SerializedString("email_domains");
+        private static final SerializableString FIELD_TEAMS = new SerializedString("teams");
+        private static final SerializableString FIELD_ORGANIZATIONS = new SerializedString("organizations");
+
+        Serializer() {
+            super(EndpointOAuthGitHub.class);
+        }
+
+        @Override
+        public void serialize(final EndpointOAuthGitHub value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_CLIENT_ID, value.getClientId().orElse(null));
+            writeString(gen, FIELD_CLIENT_SECRET, value.getClientSecret().orElse(null));
+            writeStringList(gen, FIELD_SCOPES, value.getScopes().orElse(null));
+            writeStringList(gen, FIELD_EMAIL_ADDRESSES, value.getEmailAddresses().orElse(null));
+            writeStringList(gen, FIELD_EMAIL_DOMAINS, value.getEmailDomains().orElse(null));
+            writeStringList(gen, FIELD_TEAMS, value.getTeams().orElse(null));
+            writeStringList(gen, FIELD_ORGANIZATIONS, value.getOrganizations().orElse(null));
+            gen.writeEndObject();
+        }
+    }
 }
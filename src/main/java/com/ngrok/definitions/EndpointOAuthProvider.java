@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -417,4 +427,135 @@ public class EndpointOAuthProvider {
             "', amazon='" + this.amazon.map(Object::toString).orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointOAuthProvider}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointOAuthProvider> {
+        private JsonDeserializer<Object> githubDeserializer;
+        private JsonDeserializer<Object> facebookDeserializer;
+        private JsonDeserializer<Object> microsoftDeserializer;
+        private JsonDeserializer<Object> googleDeserializer;
+        private JsonDeserializer<Object> linkedinDeserializer;
+        private JsonDeserializer<Object> gitlabDeserializer;
+        private JsonDeserializer<Object> twitchDeserializer;
+        private JsonDeserializer<Object> amazonDeserializer;
+
+        Deserializer() {
+            super(EndpointOAuthProvider.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.githubDeserializer = findDeserializer(ctxt, EndpointOAuthGitHub.class);
+            this.facebookDeserializer = findDeserializer(ctxt, EndpointOAuthFacebook.class);
+            this.microsoftDeserializer = findDeserializer(ctxt, EndpointOAuthMicrosoft.class);
+            this.googleDeserializer = findDeserializer(ctxt, EndpointOAuthGoogle.class);
+            this.linkedinDeserializer = findDeserializer(ctxt, EndpointOAuthLinkedIn.class);
+            this.gitlabDeserializer = findDeserializer(ctxt, EndpointOAuthGitLab.class);
+            this.twitchDeserializer = findDeserializer(ctxt, EndpointOAuthTwitch.class);
+            this.amazonDeserializer = findDeserializer(ctxt, EndpointOAuthAmazon.class);
+        }
+
+        @Override
+        protected EndpointOAuthProvider deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<EndpointOAuthGitHub> github = null;
+            Optional<EndpointOAuthFacebook> facebook = null;
+            Optional<EndpointOAuthMicrosoft> microsoft = null;
+            Optional<EndpointOAuthGoogle> google = null;
+            Optional<EndpointOAuthLinkedIn> linkedin = null;
+            Optional<EndpointOAuthGitLab> gitlab = null;
+            Optional<EndpointOAuthTwitch> twitch = null;
+            Optional<EndpointOAuthAmazon> amazon = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "github":
+                        github = Optional.ofNullable((EndpointOAuthGitHub) readValue(p, ctxt, this.githubDeserializer));
+                        break;
+                    case "facebook":
+                        facebook = Optional.ofNullable((EndpointOAuthFacebook) readValue(p, ctxt, this.facebookDeserializer));
+                        break;
+                    case "microsoft":
+                        microsoft = Optional.ofNullable((EndpointOAuthMicrosoft) readValue(p, ctxt, this.microsoftDeserializer));
+                        break;
+                    case "google":
+                        google = Optional.ofNullable((EndpointOAuthGoogle) readValue(p, ctxt, this.googleDeserializer));
+                        break;
+                    case "linkedin":
+                        linkedin = Optional.ofNullable((EndpointOAuthLinkedIn) readValue(p, ctxt, this.linkedinDeserializer));
+                        break;
+                    case "gitlab":
+                        gitlab = Optional.ofNullable((EndpointOAuthGitLab) readValue(p, ctxt, this.gitlabDeserializer));
+                        break;
+                    case "twitch":
+                        twitch = Optional.ofNullable((EndpointOAuthTwitch) readValue(p, ctxt, this.twitchDeserializer));
+                        break;
+                    case "amazon":
+                        amazon = Optional.ofNullable((EndpointOAuthAmazon) readValue(p, ctxt, this.amazonDeserializer));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointOAuthProvider(github, facebook, microsoft, google, linkedin, gitlab, twitch, amazon);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointOAuthProvider}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointOAuthProvider> {
+        private static final SerializableString FIELD_GITHUB = new SerializedString("github");
+        private static final SerializableString FIELD_FACEBOOK = new SerializedString("facebook");
+        private static final SerializableString FIELD_MICROSOFT = new SerializedString("microsoft");
+        private static final SerializableString FIELD_GOOGLE = new SerializedString("google");
+        private static final SerializableString FIELD_LINKEDIN = new SerializedString("linkedin");
+        private static final SerializableString FIELD_GITLAB = new SerializedString("gitlab");
+        private static final SerializableString FIELD_TWITCH = new SerializedString("twitch");
+        private static final SerializableString FIELD_AMAZON = new SerializedString("amazon");
+
+        private JsonSerializer<Object> githubSerializer;
+        private JsonSerializer<Object> facebookSerializer;
+        private JsonSerializer<Object> microsoftSerializer;
+        private JsonSerializer<Object> googleSerializer;
+        private JsonSerializer<Object> linkedinSerializer;
+        private JsonSerializer<Object> gitlabSerializer;
+        private JsonSerializer<Object> twitchSerializer;
+        private JsonSerializer<Object> amazonSerializer;
+
+        Serializer() {
+            super(EndpointOAuthProvider.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.githubSerializer = findSerializer(provider, EndpointOAuthGitHub.class);
+            this.facebookSerializer = findSerializer(provider, EndpointOAuthFacebook.class);
+            this.microsoftSerializer = findSerializer(provider, EndpointOAuthMicrosoft.class);
+            this.googleSerializer = findSerializer(provider, EndpointOAuthGoogle.class);
+            this.linkedinSerializer = findSerializer(provider, EndpointOAuthLinkedIn.class);
+            this.gitlabSerializer = findSerializer(provider, EndpointOAuthGitLab.class);
+            this.twitchSerializer = findSerializer(provider, EndpointOAuthTwitch.class);
+            this.amazonSerializer = findSerializer(provider, EndpointOAuthAmazon.class);
+        }
+
+        @Override
+        public void serialize(final EndpointOAuthProvider value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeValue(gen, provider, FIELD_GITHUB, value.getGithub().orElse(null), this.githubSerializer);
+            writeValue(gen, provider, FIELD_FACEBOOK, value.getFacebook().orElse(null), this.facebookSerializer);
+            writeValue(gen, provider, FIELD_MICROSOFT, value.getMicrosoft().orElse(null), this.microsoftSerializer);
+            writeValue(gen, provider, FIELD_GOOGLE, value.getGoogle().orElse(null), this.googleSerializer);
+            writeValue(gen, provider, FIELD_LINKEDIN, value.getLinkedin().orElse(null), this.linkedinSerializer);
+            writeValue(gen, provider, FIELD_GITLAB, value.getGitlab().orElse(null), this.gitlabSerializer);
+            writeValue(gen, provider, FIELD_TWITCH, value.getTwitch().orElse(null), this.twitchSerializer);
+            writeValue(gen, provider, FIELD_AMAZON, value.getAmazon().orElse(null), this.amazonSerializer);
+            gen.writeEndObject();
+        }
+    }
 }
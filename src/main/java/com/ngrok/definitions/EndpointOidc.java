@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -480,4 +490,113 @@ public class EndpointOidc {
             "', scopes='" + this.scopes +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointOidc}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointOidc> {
+        private JsonDeserializer<Object> maximumDurationDeserializer;
+
+        Deserializer() {
+            super(EndpointOidc.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.maximumDurationDeserializer = findDeserializer(ctxt, java.time.Duration.class);
+        }
+
+        @Override
+        protected EndpointOidc deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<Boolean> enabled = null;
+            Boolean optionsPassthrough = null;
+            String cookiePrefix = null;
+            Long inactivityTimeout = null;
+            java.time.Duration maximumDuration = null;
+            String issuer = null;
+            String clientId = null;
+            String clientSecret = null;
+            java.util.List<String> scopes = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "enabled":
+                        enabled = Optional.ofNullable(readBoolean(p, ctxt));
+                        break;
+                    case "options_passthrough":
+                        optionsPassthrough = readBoolean(p, ctxt);
+                        break;
+                    case "cookie_prefix":
+                        cookiePrefix = readString(p, ctxt);
+                        break;
+                    case "inactivity_timeout":
+                        inactivityTimeout = readLong(p, ctxt);
+                        break;
+                    case "maximum_duration":
+                        maximumDuration = (java.time.Duration) readValue(p, ctxt, this.maximumDurationDeserializer);
+                        break;
+                    case "issuer":
+                        issuer = readString(p, ctxt);
+                        break;
+                    case "client_id":
+                        clientId = readString(p, ctxt);
+                        break;
+                    case "client_secret":
+                        clientSecret = readString(p, ctxt);
+                        break;
+                    case "scopes":
+                        scopes = readStringList(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointOidc(enabled, optionsPassthrough, cookiePrefix, inactivityTimeout, maximumDuration, issuer, clientId, clientSecret, scopes);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointOidc}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointOidc> {
+        private static final SerializableString FIELD_ENABLED = new SerializedString("enabled");
+        private static final SerializableString FIELD_OPTIONS_PASSTHROUGH = new SerializedString("options_passthrough");
+        private static final SerializableString FIELD_COOKIE_PREFIX = new SerializedString("cookie_prefix");
+        private static final SerializableString FIELD_INACTIVITY_TIMEOUT = new SerializedString("inactivity_timeout");
+        private static final SerializableString FIELD_MAXIMUM_DURATION = new SerializedString("maximum_duration");
+        private static final SerializableString FIELD_ISSUER = new SerializedString("issuer");
+        private static final SerializableString FIELD_CLIENT_ID = new SerializedString("client_id");
+        private static final SerializableString FIELD_CLIENT_SECRET = new SerializedString("client_secret");
+        private static final SerializableString FIELD_SCOPES = new SerializedString("scopes");
+
+        private JsonSerializer<Object> maximumDurationSerializer;
+
+        Serializer() {
+            super(EndpointOidc.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.maximumDurationSerializer = findSerializer(provider, java.time.Duration.class);
+        }
+
+        @Override
+        public void serialize(final EndpointOidc value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeBoolean(gen, FIELD_ENABLED, value.getEnabled().orElse(null));
+            writeBoolean(gen, FIELD_OPTIONS_PASSTHROUGH, value.getOptionsPassthrough());
+            writeString(gen, FIELD_COOKIE_PREFIX, value.getCookiePrefix());
+            writeLong(gen, FIELD_INACTIVITY_TIMEOUT, value.getInactivityTimeout());
+            writeValue(gen, provider, FIELD_MAXIMUM_DURATION, value.getMaximumDuration(), this.maximumDurationSerializer);
+            writeString(gen, FIELD_ISSUER, value.getIssuer());
+            writeString(gen, FIELD_CLIENT_ID, value.getClientId());
+            writeString(gen, FIELD_CLIENT_SECRET, value.getClientSecret());
+            writeStringList(gen, FIELD_SCOPES, value.getScopes());
+            gen.writeEndObject();
+        }
+    }
 }
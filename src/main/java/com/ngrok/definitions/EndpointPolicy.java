@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -210,4 +220,81 @@ public class EndpointPolicy {
             "', outbound='" + this.outbound +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointPolicy}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointPolicy> {
+        private JsonDeserializer<Object> inboundDeserializer;
+        private JsonDeserializer<Object> outboundDeserializer;
+
+        Deserializer() {
+            super(EndpointPolicy.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.inboundDeserializer = findDeserializer(ctxt, EndpointRule.class);
+            this.outboundDeserializer = findDeserializer(ctxt, EndpointRule.class);
+        }
+
+        @Override
+        protected EndpointPolicy deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<Boolean> enabled = null;
+            java.util.List<EndpointRule> inbound = null;
+            java.util.List<EndpointRule> outbound = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "enabled":
+                        enabled = Optional.ofNullable(readBoolean(p, ctxt));
+                        break;
+                    case "inbound":
+                        inbound = readList(p, ctxt, EndpointRule.class, this.inboundDeserializer);
+                        break;
+                    case "outbound":
+                        outbound = readList(p, ctxt, EndpointRule.class, this.outboundDeserializer);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointPolicy(enabled, inbound, outbound);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointPolicy}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointPolicy> {
+        private static final SerializableString FIELD_ENABLED = new SerializedString("enabled");
+        private static final SerializableString FIELD_INBOUND = new SerializedString("inbound");
+        private static final SerializableString FIELD_OUTBOUND = new SerializedString("outbound");
+
+        private JsonSerializer<Object> inboundSerializer;
+        private JsonSerializer<Object> outboundSerializer;
+
+        Serializer() {
+            super(EndpointPolicy.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.inboundSerializer = findSerializer(provider, EndpointRule.class);
+            this.outboundSerializer = findSerializer(provider, EndpointRule.class);
+        }
+
+        @Override
+        public void serialize(final EndpointPolicy value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeBoolean(gen, FIELD_ENABLED, value.getEnabled().orElse(null));
+            writeList(gen, provider, FIELD_INBOUND, value.getInbound(), this.inboundSerializer);
+            writeList(gen, provider, FIELD_OUTBOUND, value.getOutbound(), this.outboundSerializer);
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -216,4 +223,63 @@ public class EndpointResponseHeaders {
             "', remove='" + this.remove +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointResponseHeaders}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointResponseHeaders> {
+        Deserializer() {
+            super(EndpointResponseHeaders.class);
+        }
+
+        @Override
+        protected EndpointResponseHeaders deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<Boolean> enabled = null;
+            java.util.Map<String, String> add = null;
+            java.util.List<String> remove = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "enabled":
+                        enabled = Optional.ofNullable(readBoolean(p, ctxt));
+                        break;
+                    case "add":
+                        add = readStringMap(p, ctxt);
+                        break;
+                    case "remove":
+                        remove = readStringList(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointResponseHeaders(enabled, add, remove);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointResponseHeaders}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointResponseHeaders> {
+        private static final SerializableString FIELD_ENABLED = new SerializedString("enabled");
+        private static final SerializableString FIELD_ADD = new SerializedString("add");
+        private static final SerializableString FIELD_REMOVE = new SerializedString("remove");
+
+        Serializer() {
+            super(EndpointResponseHeaders.class);
+        }
+
+        @Override
+        public void serialize(final EndpointResponseHeaders value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeBoolean(gen, FIELD_ENABLED, value.getEnabled().orElse(null));
+            writeStringMap(gen, FIELD_ADD, value.getAdd());
+            writeStringList(gen, FIELD_REMOVE, value.getRemove());
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -207,4 +217,77 @@ public class EndpointRule {
             "', name='" + this.name +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointRule}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointRule> {
+        private JsonDeserializer<Object> actionsDeserializer;
+
+        Deserializer() {
+            super(EndpointRule.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.actionsDeserializer = findDeserializer(ctxt, EndpointAction.class);
+        }
+
+        @Override
+        protected EndpointRule deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            java.util.List<String> expressions = null;
+            java.util.List<EndpointAction> actions = null;
+            String name = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "expressions":
+                        expressions = readStringList(p, ctxt);
+                        break;
+                    case "actions":
+                        actions = readList(p, ctxt, EndpointAction.class, this.actionsDeserializer);
+                        break;
+                    case "name":
+                        name = readString(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointRule(expressions, actions, name);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointRule}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointRule> {
+        private static final SerializableString FIELD_EXPRESSIONS = new SerializedString("expressions");
+        private static final SerializableString FIELD_ACTIONS = new SerializedString("actions");
+        private static final SerializableString FIELD_NAME = new SerializedString("name");
+
+        private JsonSerializer<Object> actionsSerializer;
+
+        Serializer() {
+            super(EndpointRule.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.actionsSerializer = findSerializer(provider, EndpointAction.class);
+        }
+
+        @Override
+        public void serialize(final EndpointRule value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeStringList(gen, FIELD_EXPRESSIONS, value.getExpressions());
+            writeList(gen, provider, FIELD_ACTIONS, value.getActions(), this.actionsSerializer);
+            writeString(gen, FIELD_NAME, value.getName());
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -347,4 +357,149 @@ public class EndpointSaml {
             "', nameidFormat='" + this.nameidFormat +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointSaml}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointSaml> {
+        private JsonDeserializer<Object> maximumDurationDeserializer;
+
+        Deserializer() {
+            super(EndpointSaml.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.maximumDurationDeserializer = findDeserializer(ctxt, java.time.Duration.class);
+        }
+
+        @Override
+        protected EndpointSaml deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<Boolean> enabled = null;
+            Boolean optionsPassthrough = null;
+            String cookiePrefix = null;
+            Long inactivityTimeout = null;
+            java.time.Duration maximumDuration = null;
+            String idpMetadata = null;
+            Boolean forceAuthn = null;
+            Optional<Boolean> allowIdpInitiated = null;
+            java.util.List<String> authorizedGroups = null;
+            String entityId = null;
+            java.net.URI assertionConsumerServiceUrl = null;
+            java.net.URI singleLogoutUrl = null;
+            String requestSigningCertificatePem = null;
+            java.net.URI metadataUrl = null;
+            String nameidFormat = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "enabled":
+                        enabled = Optional.ofNullable(readBoolean(p, ctxt));
+                        break;
+                    case "options_passthrough":
+                        optionsPassthrough = readBoolean(p, ctxt);
+                        break;
+                    case "cookie_prefix":
+                        cookiePrefix = readString(p, ctxt);
+                        break;
+                    case "inactivity_timeout":
+                        inactivityTimeout = readLong(p, ctxt);
+                        break;
+                    case "maximum_duration":
+                        maximumDuration = (java.time.Duration) readValue(p, ctxt, this.maximumDurationDeserializer);
+                        break;
+                    case "idp_metadata":
+                        idpMetadata = readString(p, ctxt);
+                        break;
+                    case "force_authn":
+                        forceAuthn = readBoolean(p, ctxt);
+                        break;
+                    case "allow_idp_initiated":
+                        allowIdpInitiated = Optional.ofNullable(readBoolean(p, ctxt));
+                        break;
+                    case "authorized_groups":
+                        authorizedGroups = readStringList(p, ctxt);
+                        break;
+                    case "entity_id":
+                        entityId = readString(p, ctxt);
+                        break;
+                    case "assertion_consumer_service_url":
+                        assertionConsumerServiceUrl = readUri(p, ctxt);
+                        break;
+                    case "single_logout_url":
+                        singleLogoutUrl = readUri(p, ctxt);
+                        break;
+                    case "request_signing_certificate_pem":
+                        requestSigningCertificatePem = readString(p, ctxt);
+                        break;
+                    case "metadata_url":
+                        metadataUrl = readUri(p, ctxt);
+                        break;
+                    case "nameid_format":
+                        nameidFormat = readString(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointSaml(enabled, optionsPassthrough, cookiePrefix, inactivityTimeout, maximumDuration, idpMetadata, forceAuthn, allowIdpInitiated, authorizedGroups, entityId, assertionConsumerServiceUrl, singleLogoutUrl, requestSigningCertificatePem, metadataUrl, nameidFormat);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointSaml}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointSaml> {
+        private static final SerializableString FIELD_ENABLED = new SerializedString("enabled");
+        private static final SerializableString FIELD_OPTIONS_PASSTHROUGH = new SerializedString("options_passthrough");
+        private static final SerializableString FIELD_COOKIE_PREFIX = new SerializedString("cookie_prefix");
+        private static final SerializableString FIELD_INACTIVITY_TIMEOUT = new SerializedString("inactivity_timeout");
+        private static final SerializableString FIELD_MAXIMUM_DURATION = new SerializedString("maximum_duration");
+        private static final SerializableString FIELD_IDP_METADATA = new SerializedString("idp_metadata");
+        private static final SerializableString FIELD_FORCE_AUTHN = new SerializedString("force_authn");
+        private static final SerializableString FIELD_ALLOW_IDP_INITIATED = new SerializedString("allow_idp_initiated");
+        private static final SerializableString FIELD_AUTHORIZED_GROUPS = new SerializedString("authorized_groups");
+        private static final SerializableString FIELD_ENTITY_ID = new SerializedString("entity_id");
+        private static final SerializableString FIELD_ASSERTION_CONSUMER_SERVICE_URL = new SerializedString("assertion_consumer_service_url");
+        private static final SerializableString FIELD_SINGLE_LOGOUT_URL = new SerializedString("single_logout_url");
+        private static final SerializableString FIELD_REQUEST_SIGNING_CERTIFICATE_PEM = new SerializedString("request_signing_certificate_pem");
+        private static final SerializableString FIELD_METADATA_URL = new SerializedString("metadata_url");
+        private static final SerializableString FIELD_NAMEID_FORMAT = new SerializedString("nameid_format");
+
+        private JsonSerializer<Object> maximumDurationSerializer;
+
+        Serializer() {
+            super(EndpointSaml.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.maximumDurationSerializer = findSerializer(provider, java.time.Duration.class);
+        }
+
+        @Override
+        public void serialize(final EndpointSaml value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeBoolean(gen, FIELD_ENABLED, value.getEnabled().orElse(null));
+            writeBoolean(gen, FIELD_OPTIONS_PASSTHROUGH, value.getOptionsPassthrough());
+            writeString(gen, FIELD_COOKIE_PREFIX, value.getCookiePrefix());
+            writeLong(gen, FIELD_INACTIVITY_TIMEOUT, value.getInactivityTimeout());
+            writeValue(gen, provider, FIELD_MAXIMUM_DURATION, value.getMaximumDuration(), this.maximumDurationSerializer);
+            writeString(gen, FIELD_IDP_METADATA, value.getIdpMetadata());
+            writeBoolean(gen, FIELD_FORCE_AUTHN, value.getForceAuthn());
+            writeBoolean(gen, FIELD_ALLOW_IDP_INITIATED, value.getAllowIdpInitiated().orElse(null));
+            writeStringList(gen, FIELD_AUTHORIZED_GROUPS, value.getAuthorizedGroups());
+            writeString(gen, FIELD_ENTITY_ID, value.getEntityId());
+            writeUri(gen, FIELD_ASSERTION_CONSUMER_SERVICE_URL, value.getAssertionConsumerServiceUrl());
+            writeUri(gen, FIELD_SINGLE_LOGOUT_URL, value.getSingleLogoutUrl());
+            writeString(gen, FIELD_REQUEST_SIGNING_CERTIFICATE_PEM, value.getRequestSigningCertificatePem());
+            writeUri(gen, FIELD_METADATA_URL, value.getMetadataUrl());
+            writeString(gen, FIELD_NAMEID_FORMAT, value.getNameidFormat());
+            gen.writeEndObject();
+        }
+    }
 }
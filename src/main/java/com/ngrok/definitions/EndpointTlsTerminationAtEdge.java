@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -177,4 +184,57 @@ public class EndpointTlsTerminationAtEdge {
             "', minVersion='" + this.minVersion.orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointTlsTerminationAtEdge}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointTlsTerminationAtEdge> {
+        Deserializer() {
+            super(EndpointTlsTerminationAtEdge.class);
+        }
+
+        @Override
+        protected EndpointTlsTerminationAtEdge deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<Boolean> enabled = null;
+            Optional<String> minVersion = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "enabled":
+                        enabled = Optional.ofNullable(readBoolean(p, ctxt));
+                        break;
+                    case "min_version":
+                        minVersion = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointTlsTerminationAtEdge(enabled, minVersion);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointTlsTerminationAtEdge}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointTlsTerminationAtEdge> {
+        private static final SerializableString FIELD_ENABLED = new SerializedString("enabled");
+        private static final SerializableString FIELD_MIN_VERSION = new SerializedString("min_version");
+
+        Serializer() {
+            super(EndpointTlsTerminationAtEdge.class);
+        }
+
+        @Override
+        public void serialize(final EndpointTlsTerminationAtEdge value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeBoolean(gen, FIELD_ENABLED, value.getEnabled().orElse(null));
+            writeString(gen, FIELD_MIN_VERSION, value.getMinVersion().orElse(null));
+            gen.writeEndObject();
+        }
+    }
 }
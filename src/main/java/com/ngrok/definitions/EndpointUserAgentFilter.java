@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -207,4 +214,63 @@ public class EndpointUserAgentFilter {
             "', deny='" + this.deny +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointUserAgentFilter}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointUserAgentFilter> {
+        Deserializer() {
+            super(EndpointUserAgentFilter.class);
+        }
+
+        @Override
+        protected EndpointUserAgentFilter deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<Boolean> enabled = null;
+            java.util.List<String> allow = null;
+            java.util.List<String> deny = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "enabled":
+                        enabled = Optional.ofNullable(readBoolean(p, ctxt));
+                        break;
+                    case "allow":
+                        allow = readStringList(p, ctxt);
+                        break;
+                    case "deny":
+                        deny = readStringList(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointUserAgentFilter(enabled, allow, deny);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointUserAgentFilter}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointUserAgentFilter> {
+        private static final SerializableString FIELD_ENABLED = new SerializedString("enabled");
+        private static final SerializableString FIELD_ALLOW = new SerializedString("allow");
+        private static final SerializableString FIELD_DENY = new SerializedString("deny");
+
+        Serializer() {
+            super(EndpointUserAgentFilter.class);
+        }
+
+        @Override
+        public void serialize(final EndpointUserAgentFilter value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeBoolean(gen, FIELD_ENABLED, value.getEnabled().orElse(null));
+            writeStringList(gen, FIELD_ALLOW, value.getAllow());
+            writeStringList(gen, FIELD_DENY, value.getDeny());
+            gen.writeEndObject();
+        }
+    }
 }
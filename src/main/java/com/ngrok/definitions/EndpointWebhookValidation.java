@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -219,4 +226,63 @@ public class EndpointWebhookValidation {
             "', secret='" + this.secret +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EndpointWebhookValidation}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EndpointWebhookValidation> {
+        Deserializer() {
+            super(EndpointWebhookValidation.class);
+        }
+
+        @Override
+        protected EndpointWebhookValidation deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<Boolean> enabled = null;
+            String provider = null;
+            String secret = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "enabled":
+                        enabled = Optional.ofNullable(readBoolean(p, ctxt));
+                        break;
+                    case "provider":
+                        provider = readString(p, ctxt);
+                        break;
+                    case "secret":
+                        secret = readString(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EndpointWebhookValidation(enabled, provider, secret);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EndpointWebhookValidation}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EndpointWebhookValidation> {
+        private static final SerializableString FIELD_ENABLED = new SerializedString("enabled");
+        private static final SerializableString FIELD_PROVIDER = new SerializedString("provider");
+        private static final SerializableString FIELD_SECRET = new SerializedString("secret");
+
+        Serializer() {
+            super(EndpointWebhookValidation.class);
+        }
+
+        @Override
+        public void serialize(final EndpointWebhookValidation value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeBoolean(gen, FIELD_ENABLED, value.getEnabled().orElse(null));
+            writeString(gen, FIELD_PROVIDER, value.getProvider());
+            writeString(gen, FIELD_SECRET, value.getSecret());
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -181,4 +191,105 @@ public class EventDestination {
             "', uri='" + this.uri +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EventDestination}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EventDestination> {
+        private JsonDeserializer<Object> createdAtDeserializer;
+        private JsonDeserializer<Object> targetDeserializer;
+
+        Deserializer() {
+            super(EventDestination.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.createdAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.targetDeserializer = findDeserializer(ctxt, EventTarget.class);
+        }
+
+        @Override
+        protected EventDestination deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String id = null;
+            Optional<String> metadata = null;
+            java.time.OffsetDateTime createdAt = null;
+            Optional<String> description = null;
+            String format = null;
+            EventTarget target = null;
+            java.net.URI uri = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "metadata":
+                        metadata = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "created_at":
+                        createdAt = (java.time.OffsetDateTime) readValue(p, ctxt, this.createdAtDeserializer);
+                        break;
+                    case "description":
+                        description = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "format":
+                        format = readString(p, ctxt);
+                        break;
+                    case "target":
+                        target = (EventTarget) readValue(p, ctxt, this.targetDeserializer);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EventDestination(id, metadata, createdAt, description, format, target, uri);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EventDestination}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EventDestination> {
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_METADATA = new SerializedString("metadata");
+        private static final SerializableString FIELD_CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString FIELD_DESCRIPTION = new SerializedString("description");
+        private static final SerializableString FIELD_FORMAT = new SerializedString("format");
+        private static final SerializableString FIELD_TARGET = new SerializedString("target");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+
+        private JsonSerializer<Object> createdAtSerializer;
+        private JsonSerializer<Object> targetSerializer;
+
+        Serializer() {
+            super(EventDestination.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.createdAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.targetSerializer = findSerializer(provider, EventTarget.class);
+        }
+
+        @Override
+        public void serialize(final EventDestination value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ID, value.getId());
+            writeString(gen, FIELD_METADATA, value.getMetadata().orElse(null));
+            writeValue(gen, provider, FIELD_CREATED_AT, value.getCreatedAt(), this.createdAtSerializer);
+            writeString(gen, FIELD_DESCRIPTION, value.getDescription().orElse(null));
+            writeString(gen, FIELD_FORMAT, value.getFormat());
+            writeValue(gen, provider, FIELD_TARGET, value.getTarget(), this.targetSerializer);
+            writeUri(gen, FIELD_URI, value.getUri());
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -86,4 +93,57 @@ public class EventSource {
             "', uri='" + this.uri +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EventSource}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EventSource> {
+        Deserializer() {
+            super(EventSource.class);
+        }
+
+        @Override
+        protected EventSource deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String type = null;
+            java.net.URI uri = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "type":
+                        type = readString(p, ctxt);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EventSource(type, uri);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EventSource}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EventSource> {
+        private static final SerializableString FIELD_TYPE = new SerializedString("type");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+
+        Serializer() {
+            super(EventSource.class);
+        }
+
+        @Override
+        public void serialize(final EventSource value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_TYPE, value.getType());
+            writeUri(gen, FIELD_URI, value.getUri());
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -86,4 +96,71 @@ public class EventSourceList {
             "', uri='" + this.uri +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EventSourceList}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EventSourceList> {
+        private JsonDeserializer<Object> sourcesDeserializer;
+
+        Deserializer() {
+            super(EventSourceList.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.sourcesDeserializer = findDeserializer(ctxt, EventSource.class);
+        }
+
+        @Override
+        protected EventSourceList deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            java.util.List<EventSource> sources = null;
+            java.net.URI uri = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "sources":
+                        sources = readList(p, ctxt, EventSource.class, this.sourcesDeserializer);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EventSourceList(sources, uri);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EventSourceList}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EventSourceList> {
+        private static final SerializableString FIELD_SOURCES = new SerializedString("sources");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+
+        private JsonSerializer<Object> sourcesSerializer;
+
+        Serializer() {
+            super(EventSourceList.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.sourcesSerializer = findSerializer(provider, EventSource.class);
+        }
+
+        @Override
+        public void serialize(final EventSourceList value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeList(gen, provider, FIELD_SOURCES, value.getSources(), this.sourcesSerializer);
+            writeUri(gen, FIELD_URI, value.getUri());
+            gen.writeEndObject();
+        }
+    }
 }
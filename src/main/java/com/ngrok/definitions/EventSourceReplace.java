@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -123,4 +130,51 @@ public class EventSourceReplace {
             "type='" + this.type +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EventSourceReplace}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EventSourceReplace> {
+        Deserializer() {
+            super(EventSourceReplace.class);
+        }
+
+        @Override
+        protected EventSourceReplace deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String type = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "type":
+                        type = readString(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EventSourceReplace(type);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EventSourceReplace}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EventSourceReplace> {
+        private static final SerializableString FIELD_TYPE = new SerializedString("type");
+
+        Serializer() {
+            super(EventSourceReplace.class);
+        }
+
+        @Override
+        public void serialize(final EventSourceReplace value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_TYPE, value.getType());
+            gen.writeEndObject();
+        }
+    }
 }
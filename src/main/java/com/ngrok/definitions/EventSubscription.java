@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -178,4 +188,109 @@ public class EventSubscription {
             "', destinations='" + this.destinations +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EventSubscription}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EventSubscription> {
+        private JsonDeserializer<Object> createdAtDeserializer;
+        private JsonDeserializer<Object> sourcesDeserializer;
+        private JsonDeserializer<Object> destinationsDeserializer;
+
+        Deserializer() {
+            super(EventSubscription.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.createdAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.sourcesDeserializer = findDeserializer(ctxt, EventSource.class);
+            this.destinationsDeserializer = findDeserializer(ctxt, Ref.class);
+        }
+
+        @Override
+        protected EventSubscription deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String id = null;
+            java.net.URI uri = null;
+            java.time.OffsetDateTime createdAt = null;
+            Optional<String> metadata = null;
+            Optional<String> description = null;
+            java.util.List<EventSource> sources = null;
+            java.util.List<Ref> destinations = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    case "created_at":
+                        createdAt = (java.time.OffsetDateTime) readValue(p, ctxt, this.createdAtDeserializer);
+                        break;
+                    case "metadata":
+                        metadata = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "description":
+                        description = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "sources":
+                        sources = readList(p, ctxt, EventSource.class, this.sourcesDeserializer);
+                        break;
+                    case "destinations":
+                        destinations = readList(p, ctxt, Ref.class, this.destinationsDeserializer);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EventSubscription(id, uri, createdAt, metadata, description, sources, destinations);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EventSubscription}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EventSubscription> {
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+        private static final SerializableString FIELD_CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString FIELD_METADATA = new SerializedString("metadata");
+        private static final SerializableString FIELD_DESCRIPTION = new SerializedString("description");
+        private static final SerializableString FIELD_SOURCES = new SerializedString("sources");
+        private static final SerializableString FIELD_DESTINATIONS = new SerializedString("destinations");
+
+        private JsonSerializer<Object> createdAtSerializer;
+        private JsonSerializer<Object> sourcesSerializer;
+        private JsonSerializer<Object> destinationsSerializer;
+
+        Serializer() {
+            super(EventSubscription.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.createdAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.sourcesSerializer = findSerializer(provider, EventSource.class);
+            this.destinationsSerializer = findSerializer(provider, Ref.class);
+        }
+
+        @Override
+        public void serialize(final EventSubscription value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ID, value.getId());
+            writeUri(gen, FIELD_URI, value.getUri());
+            writeValue(gen, provider, FIELD_CREATED_AT, value.getCreatedAt(), this.createdAtSerializer);
+            writeString(gen, FIELD_METADATA, value.getMetadata().orElse(null));
+            writeString(gen, FIELD_DESCRIPTION, value.getDescription().orElse(null));
+            writeList(gen, provider, FIELD_SOURCES, value.getSources(), this.sourcesSerializer);
+            writeList(gen, provider, FIELD_DESTINATIONS, value.getDestinations(), this.destinationsSerializer);
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -249,4 +259,95 @@ public class EventTarget {
             "', datadog='" + this.datadog.map(Object::toString).orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EventTarget}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EventTarget> {
+        private JsonDeserializer<Object> firehoseDeserializer;
+        private JsonDeserializer<Object> kinesisDeserializer;
+        private JsonDeserializer<Object> cloudwatchLogsDeserializer;
+        private JsonDeserializer<Object> datadogDeserializer;
+
+        Deserializer() {
+            super(EventTarget.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.firehoseDeserializer = findDeserializer(ctxt, EventTargetFirehose.class);
+            this.kinesisDeserializer = findDeserializer(ctxt, EventTargetKinesis.class);
+            this.cloudwatchLogsDeserializer = findDeserializer(ctxt, EventTargetCloudwatchLogs.class);
+            this.datadogDeserializer = findDeserializer(ctxt, EventTargetDatadog.class);
+        }
+
+        @Override
+        protected EventTarget deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<EventTargetFirehose> firehose = null;
+            Optional<EventTargetKinesis> kinesis = null;
+            Optional<EventTargetCloudwatchLogs> cloudwatchLogs = null;
+            Optional<EventTargetDatadog> datadog = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "firehose":
+                        firehose = Optional.ofNullable((EventTargetFirehose) readValue(p, ctxt, this.firehoseDeserializer));
+                        break;
+                    case "kinesis":
+                        kinesis = Optional.ofNullable((EventTargetKinesis) readValue(p, ctxt, this.kinesisDeserializer));
+                        break;
+                    case "cloudwatch_logs":
+                        cloudwatchLogs = Optional.ofNullable((EventTargetCloudwatchLogs) readValue(p, ctxt, this.cloudwatchLogsDeserializer));
+                        break;
+                    case "datadog":
+                        datadog = Optional.ofNullable((EventTargetDatadog) readValue(p, ctxt, this.datadogDeserializer));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EventTarget(firehose, kinesis, cloudwatchLogs, datadog);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EventTarget}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EventTarget> {
+        private static final SerializableString FIELD_FIREHOSE = new SerializedString("firehose");
+        private static final SerializableString FIELD_KINESIS = new SerializedString("kinesis");
+        private static final SerializableString FIELD_CLOUDWATCH_LOGS = new SerializedString("cloudwatch_logs");
+        private static final SerializableString FIELD_DATADOG = new SerializedString("datadog");
+
+        private JsonSerializer<Object> firehoseSerializer;
+        private JsonSerializer<Object> kinesisSerializer;
+        private JsonSerializer<Object> cloudwatchLogsSerializer;
+        private JsonSerializer<Object> datadogSerializer;
+
+        Serializer() {
+            super(EventTarget.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.firehoseSerializer = findSerializer(provider, EventTargetFirehose.class);
+            this.kinesisSerializer = findSerializer(provider, EventTargetKinesis.class);
+            this.cloudwatchLogsSerializer = findSerializer(provider, EventTargetCloudwatchLogs.class);
+            this.datadogSerializer = findSerializer(provider, EventTargetDatadog.class);
+        }
+
+        @Override
+        public void serialize(final EventTarget value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeValue(gen, provider, FIELD_FIREHOSE, value.getFirehose().orElse(null), this.firehoseSerializer);
+            writeValue(gen, provider, FIELD_KINESIS, value.getKinesis().orElse(null), this.kinesisSerializer);
+            writeValue(gen, provider, FIELD_CLOUDWATCH_LOGS, value.getCloudwatchLogs().orElse(null), this.cloudwatchLogsSerializer);
+            writeValue(gen, provider, FIELD_DATADOG, value.getDatadog().orElse(null), this.datadogSerializer);
+            gen.writeEndObject();
+        }
+    }
 }
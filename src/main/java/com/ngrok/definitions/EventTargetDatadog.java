@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -249,4 +256,69 @@ public class EventTargetDatadog {
             "', ddsite='" + this.ddsite.orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EventTargetDatadog}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EventTargetDatadog> {
+        Deserializer() {
+            super(EventTargetDatadog.class);
+        }
+
+        @Override
+        protected EventTargetDatadog deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<String> apiKey = null;
+            Optional<String> ddtags = null;
+            Optional<String> service = null;
+            Optional<String> ddsite = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "api_key":
+                        apiKey = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "ddtags":
+                        ddtags = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "service":
+                        service = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "ddsite":
+                        ddsite = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EventTargetDatadog(apiKey, ddtags, service, ddsite);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EventTargetDatadog}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EventTargetDatadog> {
+        private static final SerializableString FIELD_API_KEY = new SerializedString("api_key");
+        private static final SerializableString FIELD_DDTAGS = new SerializedString("ddtags");
+        private static final SerializableString FIELD_SERVICE = new SerializedString("service");
+        private static final SerializableString FIELD_DDSITE = new SerializedString("ddsite");
+
+        Serializer() {
+            super(EventTargetDatadog.class);
+        }
+
+        @Override
+        public void serialize(final EventTargetDatadog value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_API_KEY, value.getApiKey().orElse(null));
+            writeString(gen, FIELD_DDTAGS, value.getDdtags().orElse(null));
+            writeString(gen, FIELD_SERVICE, value.getService().orElse(null));
+            writeString(gen, FIELD_DDSITE, value.getDdsite().orElse(null));
+            gen.writeEndObject();
+        }
+    }
 }
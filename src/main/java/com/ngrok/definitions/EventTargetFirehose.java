@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -171,4 +181,71 @@ public class EventTargetFirehose {
             "', deliveryStreamArn='" + this.deliveryStreamArn +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link EventTargetFirehose}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<EventTargetFirehose> {
+        private JsonDeserializer<Object> authDeserializer;
+
+        Deserializer() {
+            super(EventTargetFirehose.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.authDeserializer = findDeserializer(ctxt, AwsAuth.class);
+        }
+
+        @Override
+        protected EventTargetFirehose deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            AwsAuth auth = null;
+            String deliveryStreamArn = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "auth":
+                        auth = (AwsAuth) readValue(p, ctxt, this.authDeserializer);
+                        break;
+                    case "delivery_stream_arn":
+                        deliveryStreamArn = readString(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new EventTargetFirehose(auth, deliveryStreamArn);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link EventTargetFirehose}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<EventTargetFirehose> {
+        private static final SerializableString FIELD_AUTH = new SerializedString("auth");
+        private static final SerializableString FIELD_DELIVERY_STREAM_ARN = new SerializedString("delivery_stream_arn");
+
+        private JsonSerializer<Object> authSerializer;
+
+        Serializer() {
+            super(EventTargetFirehose.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.authSerializer = findSerializer(provider, AwsAuth.class);
+        }
+
+        @Override
+        public void serialize(final EventTargetFirehose value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeValue(gen, provider, FIELD_AUTH, value.getAuth(), this.authSerializer);
+            writeString(gen, FIELD_DELIVERY_STREAM_ARN, value.getDeliveryStreamArn());
+            gen.writeEndObject();
+        }
+    }
 }
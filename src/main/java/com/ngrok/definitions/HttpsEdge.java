@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -214,4 +224,125 @@ public class HttpsEdge {
             "', routes='" + this.routes +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link HttpsEdge}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<HttpsEdge> {
+        private JsonDeserializer<Object> createdAtDeserializer;
+        private JsonDeserializer<Object> mutualTlsDeserializer;
+        private JsonDeserializer<Object> tlsTerminationDeserializer;
+        private JsonDeserializer<Object> routesDeserializer;
+
+        Deserializer() {
+            super(HttpsEdge.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.createdAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.mutualTlsDeserializer = findDeserializer(ctxt, EndpointMutualTls.class);
+            this.tlsTerminationDeserializer = findDeserializer(ctxt, EndpointTlsTermination.class);
+            this.routesDeserializer = findDeserializer(ctxt, HttpsEdgeRoute.class);
+        }
+
+        @Override
+        protected HttpsEdge deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String id = null;
+            Optional<String> description = null;
+            Optional<String> metadata = null;
+            java.time.OffsetDateTime createdAt = null;
+            java.net.URI uri = null;
+            Optional<java.util.List<String>> hostports = null;
+            Optional<EndpointMutualTls> mutualTls = null;
+            Optional<EndpointTlsTermination> tlsTermination = null;
+            java.util.List<HttpsEdgeRoute> routes = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "description":
+                        description = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "metadata":
+                        metadata = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "created_at":
+                        createdAt = (java.time.OffsetDateTime) readValue(p, ctxt, this.createdAtDeserializer);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    case "hostports":
+                        hostports = Optional.ofNullable(readStringList(p, ctxt));
+                        break;
+                    case "mutual_tls":
+                        mutualTls = Optional.ofNullable((EndpointMutualTls) readValue(p, ctxt, this.mutualTlsDeserializer));
+                        break;
+                    case "tls_termination":
+                        tlsTermination = Optional.ofNullable((EndpointTlsTermination) readValue(p, ctxt, this.tlsTerminationDeserializer));
+                        break;
+                    case "routes":
+                        routes = readList(p, ctxt, HttpsEdgeRoute.class, this.routesDeserializer);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new HttpsEdge(id, description, metadata, createdAt, uri, hostports, mutualTls, tlsTermination, routes);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link HttpsEdge}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<HttpsEdge> {
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_DESCRIPTION = new SerializedString("description");
+        private static final SerializableString FIELD_METADATA = new SerializedString("metadata");
+        private static final SerializableString FIELD_CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+        private static final SerializableString FIELD_HOSTPORTS = new SerializedString("hostports");
+        private static final SerializableString FIELD_MUTUAL_TLS = new SerializedString("mutual_tls");
+        private static final SerializableString FIELD_TLS_TERMINATION = new SerializedString("tls_termination");
+        private static final SerializableString FIELD_ROUTES = new SerializedString("routes");
+
+        private JsonSerializer<Object> createdAtSerializer;
+        private JsonSerializer<Object> mutualTlsSerializer;
+        private JsonSerializer<Object> tlsTerminationSerializer;
+        private JsonSerializer<Object> routesSerializer;
+
+        Serializer() {
+            super(HttpsEdge.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.createdAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.mutualTlsSerializer = findSerializer(provider, EndpointMutualTls.class);
+            this.tlsTerminationSerializer = findSerializer(provider, EndpointTlsTermination.class);
+            this.routesSerializer = findSerializer(provider, HttpsEdgeRoute.class);
+        }
+
+        @Override
+        public void serialize(final HttpsEdge value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ID, value.getId());
+            writeString(gen, FIELD_DESCRIPTION, value.getDescription().orElse(null));
+            writeString(gen, FIELD_METADATA, value.getMetadata().orElse(null));
+            writeValue(gen, provider, FIELD_CREATED_AT, value.getCreatedAt(), this.createdAtSerializer);
+            writeUri(gen, FIELD_URI, value.getUri());
+            writeStringList(gen, FIELD_HOSTPORTS, value.getHostports().orElse(null));
+            writeValue(gen, provider, FIELD_MUTUAL_TLS, value.getMutualTls().orElse(null), this.mutualTlsSerializer);
+            writeValue(gen, provider, FIELD_TLS_TERMINATION, value.getTlsTermination().orElse(null), this.tlsTerminationSerializer);
+            writeList(gen, provider, FIELD_ROUTES, value.getRoutes(), this.routesSerializer);
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -432,4 +442,237 @@ public class HttpsEdgeRoute {
             "', policy='" + this.policy.map(Object::toString).orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link HttpsEdgeRoute}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<HttpsEdgeRoute> {
+        private JsonDeserializer<Object> createdAtDeserializer;
+        private JsonDeserializer<Object> backendDeserializer;
+        private JsonDeserializer<Object> ipRestrictionDeserializer;
+        private JsonDeserializer<Object> circuitBreakerDeserializer;
+        private JsonDeserializer<Object> compressionDeserializer;
+        private JsonDeserializer<Object> requestHeadersDeserializer;
+        private JsonDeserializer<Object> responseHeadersDeserializer;
+        private JsonDeserializer<Object> webhookVerificationDeserializer;
+        private JsonDeserializer<Object> oauthDeserializer;
+        private JsonDeserializer<Object> samlDeserializer;
+        private JsonDeserializer<Object> oidcDeserializer;
+        private JsonDeserializer<Object> websocketTcpConverterDeserializer;
+        private JsonDeserializer<Object> userAgentFilterDeserializer;
+        private JsonDeserializer<Object> policyDeserializer;
+
+        Deserializer() {
+            super(HttpsEdgeRoute.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.createdAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.backendDeserializer = findDeserializer(ctxt, EndpointBackend.class);
+            this.ipRestrictionDeserializer = findDeserializer(ctxt, EndpointIpPolicy.class);
+            this.circuitBreakerDeserializer = findDeserializer(ctxt, EndpointCircuitBreaker.class);
+            this.compressionDeserializer = findDeserializer(ctxt, EndpointCompression.class);
+            this.requestHeadersDeserializer = findDeserializer(ctxt, EndpointRequestHeaders.class);
+            this.responseHeadersDeserializer = findDeserializer(ctxt, EndpointResponseHeaders.class);
+            this.webhookVerificationDeserializer = findDeserializer(ctxt, EndpointWebhookValidation.class);
+            this.oauthDeserializer = findDeserializer(ctxt, EndpointOAuth.class);
+            this.samlDeserializer = findDeserializer(ctxt, EndpointSaml.class);
+            this.oidcDeserializer = findDeserializer(ctxt, EndpointOidc.class);
+            this.websocketTcpConverterDeserializer = findDeserializer(ctxt, EndpointWebsocketTcpConverter.class);
+            this.userAgentFilterDeserializer = findDeserializer(ctxt, EndpointUserAgentFilter.class);
+            this.policyDeserializer = findDeserializer(ctxt, EndpointPolicy.class);
+        }
+
+        @Override
+        protected HttpsEdgeRoute deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String edgeId = null;
+            String id = null;
+            java.time.OffsetDateTime createdAt = null;
+            String matchType = null;
+            String match = null;
+            java.net.URI uri = null;
+            Optional<String> description = null;
+            Optional<String> metadata = null;
+            Optional<EndpointBackend> backend = null;
+            Optional<EndpointIpPolicy> ipRestriction = null;
+            Optional<EndpointCircuitBreaker> circuitBreaker = null;
+            Optional<EndpointCompression> compression = null;
+            Optional<EndpointRequestHeaders> requestHeaders = null;
+            Optional<EndpointResponseHeaders> responseHeaders = null;
+            Optional<EndpointWebhookValidation> webhookVerification = null;
+            Optional<EndpointOAuth> oauth = null;
+            Optional<EndpointSaml> saml = null;
+            Optional<EndpointOidc> oidc = null;
+            Optional<EndpointWebsocketTcpConverter> websocketTcpConverter = null;
+            Optional<EndpointUserAgentFilter> userAgentFilter = null;
+            Optional<EndpointPolicy> policy = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "edge_id":
+                        edgeId = readString(p, ctxt);
+                        break;
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "created_at":
+                        createdAt = (java.time.OffsetDateTime) readValue(p, ctxt, this.createdAtDeserializer);
+                        break;
+                    case "match_type":
+                        matchType = readString(p, ctxt);
+                        break;
+                    case "match":
+                        match = readString(p, ctxt);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    case "description":
+                        description = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "metadata":
+                        metadata = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "backend":
+                        backend = Optional.ofNullable((EndpointBackend) readValue(p, ctxt, this.backendDeserializer));
+                        break;
+                    case "ip_restriction":
+                        ipRestriction = Optional.ofNullable((EndpointIpPolicy) readValue(p, ctxt, this.ipRestrictionDeserializer));
+                        break;
+                    case "circuit_breaker":
+                        circuitBreaker = Optional.ofNullable((EndpointCircuitBreaker) readValue(p, ctxt, this.circuitBreakerDeserializer));
+                        break;
+                    case "compression":
+                        compression = Optional.ofNullable((EndpointCompression) readValue(p, ctxt, this.compressionDeserializer));
+                        break;
+                    case "request_headers":
+                        requestHeaders = Optional.ofNullable((EndpointRequestHeaders) readValue(p, ctxt, this.requestHeadersDeserializer));
+                        break;
+                    case "response_headers":
+                        responseHeaders = Optional.ofNullable((EndpointResponseHeaders) readValue(p, ctxt, this.responseHeadersDeserializer));
+                        break;
+                    case "webhook_verification":
+                        webhookVerification = Optional.ofNullable((EndpointWebhookValidation) readValue(p, ctxt, this.webhookVerificationDeserializer));
+                        break;
+                    case "oauth":
+                        oauth = Optional.ofNullable((EndpointOAuth) readValue(p, ctxt, this.oauthDeserializer));
+                        break;
+                    case "saml":
+                        saml = Optional.ofNullable((EndpointSaml) readValue(p, ctxt, this.samlDeserializer));
+                        break;
+                    case "oidc":
+                        oidc = Optional.ofNullable((EndpointOidc) readValue(p, ctxt, this.oidcDeserializer));
+                        break;
+                    case "websocket_tcp_converter":
+                        websocketTcpConverter = Optional.ofNullable((EndpointWebsocketTcpConverter) readValue(p, ctxt, this.websocketTcpConverterDeserializer));
+                        break;
+                    case "user_agent_filter":
+                        userAgentFilter = Optional.ofNullable((EndpointUserAgentFilter) readValue(p, ctxt, this.userAgentFilterDeserializer));
+                        break;
+                    case "policy":
+                        policy = Optional.ofNullable((EndpointPolicy) readValue(p, ctxt, this.policyDeserializer));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new HttpsEdgeRoute(edgeId, id, createdAt, matchType, match, uri, description, metadata, backend, ipRestriction, circuitBreaker, compression, requestHeaders, responseHeaders, webhookVerification, oauth, saml, oidc, websocketTcpConverter, userAgentFilter, policy);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link HttpsEdgeRoute}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<HttpsEdgeRoute> {
+        private static final SerializableString FIELD_EDGE_ID = new SerializedString("edge_id");
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString FIELD_MATCH_TYPE = new SerializedString("match_type");
+        private static final SerializableString FIELD_MATCH = new SerializedString("match");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+        private static final SerializableString FIELD_DESCRIPTION = new SerializedString("description");
+        private static final SerializableString FIELD_METADATA = new SerializedString("metadata");
+        private static final SerializableString FIELD_BACKEND = new SerializedString("backend");
+        private static final SerializableString FIELD_IP_RESTRICTION = new SerializedString("ip_restriction");
+        private static final SerializableString FIELD_CIRCUIT_BREAKER = new SerializedString("circuit_breaker");
+        private static final SerializableString FIELD_COMPRESSION = new SerializedString("compression");
+        private static final SerializableString FIELD_REQUEST_HEADERS = new SerializedString("request_headers");
+        private static final SerializableString FIELD_RESPONSE_HEADERS = new SerializedString("response_headers");
+        private static final SerializableString FIELD_WEBHOOK_VERIFICATION = new SerializedString("webhook_verification");
+        private static final SerializableString FIELD_OAUTH = new SerializedString("oauth");
+        private static final SerializableString FIELD_SAML = new SerializedString("saml");
+        private static final SerializableString FIELD_OIDC = new SerializedString("oidc");
+        private static final SerializableString FIELD_WEBSOCKET_TCP_CONVERTER = new SerializedString("websocket_tcp_converter");
+        private static final SerializableString FIELD_USER_AGENT_FILTER = new SerializedString("user_agent_filter");
+        private static final SerializableString FIELD_POLICY = new SerializedString("policy");
+
+        private JsonSerializer<Object> createdAtSerializer;
+        private JsonSerializer<Object> backendSerializer;
+        private JsonSerializer<Object> ipRestrictionSerializer;
+        private JsonSerializer<Object> circuitBreakerSerializer;
+        private JsonSerializer<Object> compressionSerializer;
+        private JsonSerializer<Object> requestHeadersSerializer;
+        private JsonSerializer<Object> responseHeadersSerializer;
+        private JsonSerializer<Object> webhookVerificationSerializer;
+        private JsonSerializer<Object> oauthSerializer;
+        private JsonSerializer<Object> samlSerializer;
+        private JsonSerializer<Object> oidcSerializer;
+        private JsonSerializer<Object> websocketTcpConverterSerializer;
+        private JsonSerializer<Object> userAgentFilterSerializer;
+        private JsonSerializer<Object> policySerializer;
+
+        Serializer() {
+            super(HttpsEdgeRoute.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.createdAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.backendSerializer = findSerializer(provider, EndpointBackend.class);
+            this.ipRestrictionSerializer = findSerializer(provider, EndpointIpPolicy.class);
+            this.circuitBreakerSerializer = findSerializer(provider, EndpointCircuitBreaker.class);
+            this.compressionSerializer = findSerializer(provider, EndpointCompression.class);
+            this.requestHeadersSerializer = findSerializer(provider, EndpointRequestHeaders.class);
+            this.responseHeadersSerializer = findSerializer(provider, EndpointResponseHeaders.class);
+            this.webhookVerificationSerializer = findSerializer(provider, EndpointWebhookValidation.class);
+            this.oauthSerializer = findSerializer(provider, EndpointOAuth.class);
+            this.samlSerializer = findSerializer(provider, EndpointSaml.class);
+            this.oidcSerializer = findSerializer(provider, EndpointOidc.class);
+            this.websocketTcpConverterSerializer = findSerializer(provider, EndpointWebsocketTcpConverter.class);
+            this.userAgentFilterSerializer = findSerializer(provider, EndpointUserAgentFilter.class);
+            this.policySerializer = findSerializer(provider, EndpointPolicy.class);
+        }
+
+        @Override
+        public void serialize(final HttpsEdgeRoute value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_EDGE_ID, value.getEdgeId());
+            writeString(gen, FIELD_ID, value.getId());
+            writeValue(gen, provider, FIELD_CREATED_AT, value.getCreatedAt(), this.createdAtSerializer);
+            writeString(gen, FIELD_MATCH_TYPE, value.getMatchType());
+            writeString(gen, FIELD_MATCH, value.getMatch());
+            writeUri(gen, FIELD_URI, value.getUri());
+            writeString(gen, FIELD_DESCRIPTION, value.getDescription().orElse(null));
+            writeString(gen, FIELD_METADATA, value.getMetadata().orElse(null));
+            writeValue(gen, provider, FIELD_BACKEND, value.getBackend().orElse(null), this.backendSerializer);
+            writeValue(gen, provider, FIELD_IP_RESTRICTION, value.getIpRestriction().orElse(null), this.ipRestrictionSerializer);
+            writeValue(gen, provider, FIELD_CIRCUIT_BREAKER, value.getCircuitBreaker().orElse(null), this.circuitBreakerSerializer);
+            writeValue(gen, provider, FIELD_COMPRESSION, value.getCompression().orElse(null), this.compressionSerializer);
+            writeValue(gen, provider, FIELD_REQUEST_HEADERS, value.getRequestHeaders().orElse(null), this.requestHeadersSerializer);
+            writeValue(gen, provider, FIELD_RESPONSE_HEADERS, value.getResponseHeaders().orElse(null), this.responseHeadersSerializer);
+            writeValue(gen, provider, FIELD_WEBHOOK_VERIFICATION, value.getWebhookVerification().orElse(null), this.webhookVerificationSerializer);
+            writeValue(gen, provider, FIELD_OAUTH, value.getOauth().orElse(null), this.oauthSerializer);
+            writeValue(gen, provider, FIELD_SAML, value.getSaml().orElse(null), this.samlSerializer);
+            writeValue(gen, provider, FIELD_OIDC, value.getOidc().orElse(null), this.oidcSerializer);
+            writeValue(gen, provider, FIELD_WEBSOCKET_TCP_CONVERTER, value.getWebsocketTcpConverter().orElse(null), this.websocketTcpConverterSerializer);
+            writeValue(gen, provider, FIELD_USER_AGENT_FILTER, value.getUserAgentFilter().orElse(null), this.userAgentFilterSerializer);
+            writeValue(gen, provider, FIELD_POLICY, value.getPolicy().orElse(null), this.policySerializer);
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -87,4 +94,57 @@ public class IdentityProvider {
             "', url='" + this.url +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link IdentityProvider}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<IdentityProvider> {
+        Deserializer() {
+            super(IdentityProvider.class);
+        }
+
+        @Override
+        protected IdentityProvider deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String name = null;
+            String url = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "name":
+                        name = readString(p, ctxt);
+                        break;
+                    case "url":
+                        url = readString(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new IdentityProvider(name, url);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link IdentityProvider}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<IdentityProvider> {
+        private static final SerializableString FIELD_NAME = new SerializedString("name");
+        private static final SerializableString FIELD_URL = new SerializedString("url");
+
+        Serializer() {
+            super(IdentityProvider.class);
+        }
+
+        @Override
+        public void serialize(final IdentityProvider value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_NAME, value.getName());
+            writeString(gen, FIELD_URL, value.getUrl());
+            gen.writeEndObject();
+        }
+    }
 }
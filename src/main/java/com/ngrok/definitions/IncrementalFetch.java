@@ -0,0 +1,122 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A fetch of the items of a list created since a {@link Watermark}.
+ *
+ * Lists are returned newest first, so the fetch follows <code>next_page_uri</code> only until it reaches an item
+ * the watermark covers, and the cost of polling a list grows with the number of new items rather than with the
+ * size of the list. Each fetch returns the watermark to pass to the next one:
+ *
+ * <pre>{@code
+ * String saved = store.get("tunnels");
+ * Watermark watermark = saved == null ? Watermark.empty() : Watermark.of(saved);
+ * IncrementalFetch.Result<Tunnel> result = ngrok.tunnels().listAll().since(watermark).blockingCall();
+ * result.getItems().forEach(this::onNewTunnel);
+ * result.getWatermark().getId().ifPresent(id -> store.put("tunnels", id));
+ * }</pre>
+ *
+ * Starting from {@link Watermark#empty()} lists every item. Items are only ever reported once, but items
+ * deleted since the watermark are not reported at all.
+ *
+ * @param <I> the type of the items
+ */
+public final class IncrementalFetch<I> {
+    /**
+     * The items created since a watermark, along with the watermark to fetch the following ones from.
+     *
+     * @param <I> the type of the items
+     */
+    public static final class Result<I> {
+        private final List<I> items;
+        private final Watermark watermark;
+
+        private Result(final List<I> items, final Watermark watermark) {
+            this.items = Collections.unmodifiableList(items);
+            this.watermark = watermark;
+        }
+
+        /**
+         * The items created since the watermark, newest first.
+         *
+         * @return the value of the property as a {@link List} of the items
+         */
+        public List<I> getItems() {
+            return this.items;
+        }
+
+        /**
+         * The watermark to start the next fetch from, covering the newest item listed. It is the watermark the
+         * fetch started from if there are no new items.
+         *
+         * @return the value of the property as a {@link Watermark}
+         */
+        public Watermark getWatermark() {
+            return this.watermark;
+        }
+
+        @Override
+        public String toString() {
+            return "Result{" +
+                "items='" + this.items +
+                "', watermark='" + this.watermark +
+                "'}";
+        }
+    }
+
+    private final ListItems<I> items;
+    private final Watermark watermark;
+
+    IncrementalFetch(final ListItems<I> items, final Watermark watermark) {
+        this.items = items;
+        this.watermark = Objects.requireNonNull(watermark, "watermark is required");
+    }
+
+    /**
+     * Initiates the fetch asynchronously.
+     *
+     * @return a {@link CompletionStage} of the items created since the watermark
+     */
+    public CompletionStage<Result<I>> call() {
+        final List<I> found = new ArrayList<>();
+        return this.items.fetchFirstPage(null).thenCompose(page -> collect(page, found)).thenApply(v -> new Result<>(
+            found,
+            found.isEmpty() ? this.watermark : Watermark.of(this.items.idOf(found.get(0)))
+        ));
+    }
+
+    /**
+     * Initiates the fetch and blocks until it completes.
+     *
+     * @return the items created since the watermark
+     * @throws InterruptedException if the thread was interrupted during the fetch
+     */
+    public Result<I> blockingCall() throws InterruptedException {
+        try {
+            return call().toCompletableFuture().get();
+        } catch (final ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private CompletionStage<Void> collect(final Object page, final List<I> found) {
+        for (final I item : this.items.itemsOf(page)) {
+            if (this.watermark.covers(this.items.idOf(item))) {
+                return CompletableFuture.completedFuture(null);
+            }
+            found.add(item);
+        }
+        return ListItems.nextPageUriOf(page)
+            .map(uri -> this.items.fetchPage(uri).thenCompose(next -> collect(next, found)))
+            .orElseGet(() -> CompletableFuture.completedFuture(null));
+    }
+}
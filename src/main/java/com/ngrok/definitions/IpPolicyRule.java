@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -197,4 +207,111 @@ public class IpPolicyRule {
             "', action='" + this.action +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link IpPolicyRule}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<IpPolicyRule> {
+        private JsonDeserializer<Object> createdAtDeserializer;
+        private JsonDeserializer<Object> ipPolicyDeserializer;
+
+        Deserializer() {
+            super(IpPolicyRule.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.createdAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.ipPolicyDeserializer = findDeserializer(ctxt, Ref.class);
+        }
+
+        @Override
+        protected IpPolicyRule deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String id = null;
+            java.net.URI uri = null;
+            java.time.OffsetDateTime createdAt = null;
+            Optional<String> description = null;
+            Optional<String> metadata = null;
+            String cidr = null;
+            Ref ipPolicy = null;
+            String action = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    case "created_at":
+                        createdAt = (java.time.OffsetDateTime) readValue(p, ctxt, this.createdAtDeserializer);
+                        break;
+                    case "description":
+                        description = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "metadata":
+                        metadata = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "cidr":
+                        cidr = readString(p, ctxt);
+                        break;
+                    case "ip_policy":
+                        ipPolicy = (Ref) readValue(p, ctxt, this.ipPolicyDeserializer);
+                        break;
+                    case "action":
+                        action = readString(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new IpPolicyRule(id, uri, createdAt, description, metadata, cidr, ipPolicy, action);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link IpPolicyRule}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<IpPolicyRule> {
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+        private static final SerializableString FIELD_CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString FIELD_DESCRIPTION = new SerializedString("description");
+        private static final SerializableString FIELD_METADATA = new SerializedString("metadata");
+        private static final SerializableString FIELD_CIDR = new SerializedString("cidr");
+        private static final SerializableString FIELD_IP_POLICY = new SerializedString("ip_policy");
+        private static final SerializableString FIELD_ACTION = new SerializedString("action");
+
+        private JsonSerializer<Object> createdAtSerializer;
+        private JsonSerializer<Object> ipPolicySerializer;
+
+        Serializer() {
+            super(IpPolicyRule.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.createdAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.ipPolicySerializer = findSerializer(provider, Ref.class);
+        }
+
+        @Override
+        public void serialize(final IpPolicyRule value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ID, value.getId());
+            writeUri(gen, FIELD_URI, value.getUri());
+            writeValue(gen, provider, FIELD_CREATED_AT, value.getCreatedAt(), this.createdAtSerializer);
+            writeString(gen, FIELD_DESCRIPTION, value.getDescription().orElse(null));
+            writeString(gen, FIELD_METADATA, value.getMetadata().orElse(null));
+            writeString(gen, FIELD_CIDR, value.getCidr());
+            writeValue(gen, provider, FIELD_IP_POLICY, value.getIpPolicy(), this.ipPolicySerializer);
+            writeString(gen, FIELD_ACTION, value.getAction());
+            gen.writeEndObject();
+        }
+    }
 }
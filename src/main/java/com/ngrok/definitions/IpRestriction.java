@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -199,4 +209,111 @@ public class IpRestriction {
             "', ipPolicies='" + this.ipPolicies +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link IpRestriction}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<IpRestriction> {
+        private JsonDeserializer<Object> createdAtDeserializer;
+        private JsonDeserializer<Object> ipPoliciesDeserializer;
+
+        Deserializer() {
+            super(IpRestriction.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.createdAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.ipPoliciesDeserializer = findDeserializer(ctxt, Ref.class);
+        }
+
+        @Override
+        protected IpRestriction deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String id = null;
+            java.net.URI uri = null;
+            java.time.OffsetDateTime createdAt = null;
+            Optional<String> description = null;
+            Optional<String> metadata = null;
+            Boolean enforced = null;
+            String type = null;
+            java.util.List<Ref> ipPolicies = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    case "created_at":
+                        createdAt = (java.time.OffsetDateTime) readValue(p, ctxt, this.createdAtDeserializer);
+                        break;
+                    case "description":
+                        description = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "metadata":
+                        metadata = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "enforced":
+                        enforced = readBoolean(p, ctxt);
+                        break;
+                    case "type":
+                        type = readString(p, ctxt);
+                        break;
+                    case "ip_policies":
+                        ipPolicies = readList(p, ctxt, Ref.class, this.ipPoliciesDeserializer);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new IpRestriction(id, uri, createdAt, description, metadata, enforced, type, ipPolicies);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link IpRestriction}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<IpRestriction> {
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+        private static final SerializableString FIELD_CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString FIELD_DESCRIPTION = new SerializedString("description");
+        private static final SerializableString FIELD_METADATA = new SerializedString("metadata");
+        private static final SerializableString FIELD_ENFORCED = new SerializedString("enforced");
+        private static final SerializableString FIELD_TYPE = new SerializedString("type");
+        private static final SerializableString FIELD_IP_POLICIES = new SerializedString("ip_policies");
+
+        private JsonSerializer<Object> createdAtSerializer;
+        private JsonSerializer<Object> ipPoliciesSerializer;
+
+        Serializer() {
+            super(IpRestriction.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.createdAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.ipPoliciesSerializer = findSerializer(provider, Ref.class);
+        }
+
+        @Override
+        public void serialize(final IpRestriction value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ID, value.getId());
+            writeUri(gen, FIELD_URI, value.getUri());
+            writeValue(gen, provider, FIELD_CREATED_AT, value.getCreatedAt(), this.createdAtSerializer);
+            writeString(gen, FIELD_DESCRIPTION, value.getDescription().orElse(null));
+            writeString(gen, FIELD_METADATA, value.getMetadata().orElse(null));
+            writeBoolean(gen, FIELD_ENFORCED, value.getEnforced());
+            writeString(gen, FIELD_TYPE, value.getType());
+            writeList(gen, provider, FIELD_IP_POLICIES, value.getIpPolicies(), this.ipPoliciesSerializer);
+            gen.writeEndObject();
+        }
+    }
 }
@@ -0,0 +1,140 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Publishes the items of a list call across all of its pages, honoring the demand of each subscriber.
+ *
+ * A page is only taken from the {@link PagePrefetcher} once the items of the previous one have all been delivered
+ * and more are requested, so a slow subscriber holds back fetching instead of causing items to pile up. Cancelling
+ * a subscription cancels the request for the page being fetched. Every subscription lists the items from the
+ * first page again. Null items are skipped, like {@link ListItems} does, since Reactive Streams rule 2.13 forbids
+ * signalling them.
+ *
+ * @param <I> the type of the items
+ */
+final class ItemPublisher<I> implements Publisher<I> {
+    private final Supplier<PagePrefetcher<I>> prefetchers;
+
+    /**
+     * Creates a new publisher.
+     *
+     * @param prefetchers creates the prefetcher of each subscription
+     */
+    ItemPublisher(final Supplier<PagePrefetcher<I>> prefetchers) {
+        this.prefetchers = prefetchers;
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super I> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is required");
+        final ItemSubscription subscription = new ItemSubscription(subscriber, this.prefetchers.get());
+        subscriber.onSubscribe(subscription);
+    }
+
+    private final class ItemSubscription implements Subscription {
+        private final Subscriber<? super I> subscriber;
+        private final PagePrefetcher<I> prefetcher;
+        private final AtomicInteger wip = new AtomicInteger();
+
+        // written by the fetch callback while fetching is set, read by the draining thread otherwise
+        private Iterator<I> page = Collections.emptyIterator();
+        private volatile boolean fetching = false;
+        private volatile boolean done = false;
+        private volatile Throwable failure;
+        private volatile boolean cancelled = false;
+        private long demand = 0;
+
+        private ItemSubscription(final Subscriber<? super I> subscriber, final PagePrefetcher<I> prefetcher) {
+            this.subscriber = subscriber;
+            this.prefetcher = prefetcher;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                cancel();
+                this.subscriber.onError(new IllegalArgumentException("Reactive Streams rule 3.9: request must be positive, got " + n));
+                return;
+            }
+            synchronized (this) {
+                this.demand = this.demand + n < 0 ? Long.MAX_VALUE : this.demand + n;
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            this.prefetcher.close();
+        }
+
+        private synchronized boolean takeDemand() {
+            if (this.demand == 0) {
+                return false;
+            }
+            if (this.demand != Long.MAX_VALUE) {
+                this.demand--;
+            }
+            return true;
+        }
+
+        private synchronized boolean hasDemand() {
+            return this.demand > 0;
+        }
+
+        private void drain() {
+            if (this.wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                while (!this.cancelled && !this.fetching) {
+                    if (this.failure != null) {
+                        this.cancelled = true;
+                        this.subscriber.onError(this.failure);
+                    } else if (this.page.hasNext()) {
+                        if (!takeDemand()) {
+                            break;
+                        }
+                        this.subscriber.onNext(this.page.next());
+                    } else if (this.done) {
+                        this.cancelled = true;
+                        this.subscriber.onComplete();
+                    } else if (hasDemand()) {
+                        fetch();
+                    } else {
+                        break;
+                    }
+                }
+                missed = this.wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void fetch() {
+            this.fetching = true;
+            this.prefetcher.nextPage().whenComplete((next, cause) -> {
+                if (cause != null) {
+                    this.failure = cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause;
+                } else if (next.isPresent()) {
+                    this.page = next.get().stream().filter(Objects::nonNull).iterator();
+                } else {
+                    this.done = true;
+                }
+                this.fetching = false;
+                drain();
+            });
+        }
+    }
+}
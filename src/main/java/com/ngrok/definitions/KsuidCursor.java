@@ -0,0 +1,79 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import java.math.BigInteger;
+
+/**
+ * Reads and builds ngrok resource IDs as pagination cursors.
+ *
+ * ngrok IDs are a type prefix followed by a KSUID, e.g. <code>ippr_2DkTB7MvDqExrM0EZM2eJh9DsSn</code>. A KSUID
+ * is 20 bytes, a big-endian timestamp in seconds since {@link #EPOCH} followed by 16 random bytes, encoded as
+ * 27 base62 characters whose lexicographic order is the numeric one. IDs of one type therefore sort by creation
+ * time, and the smallest ID created at a given second can be used as a <code>before_id</code> cursor.
+ */
+final class KsuidCursor {
+    /** The KSUID epoch, in seconds since the Unix epoch (2014-05-13T16:53:20Z). */
+    static final long EPOCH = 1_400_000_000L;
+
+    private static final int LENGTH = 27;
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final BigInteger BASE = BigInteger.valueOf(62);
+    private static final int PAYLOAD_BITS = 128;
+
+    private KsuidCursor() {
+    }
+
+    /**
+     * Splits the type prefix off an ID.
+     *
+     * @param id an ngrok ID
+     * @return the prefix, including the trailing underscore, or {@code null} if the ID does not end with a KSUID
+     */
+    static String prefix(final String id) {
+        final int separator = id.lastIndexOf('_');
+        if (separator < 0 || id.length() - separator - 1 != LENGTH) {
+            return null;
+        }
+        for (int i = separator + 1; i < id.length(); i++) {
+            if (ALPHABET.indexOf(id.charAt(i)) < 0) {
+                return null;
+            }
+        }
+        return id.substring(0, separator + 1);
+    }
+
+    /**
+     * Reads the creation time of an ID.
+     *
+     * @param id an ngrok ID whose {@link #prefix(String)} is not {@code null}
+     * @return the creation time, in seconds since the Unix epoch
+     */
+    static long timestamp(final String id) {
+        BigInteger value = BigInteger.ZERO;
+        for (int i = id.length() - LENGTH; i < id.length(); i++) {
+            value = value.multiply(BASE).add(BigInteger.valueOf(ALPHABET.indexOf(id.charAt(i))));
+        }
+        return value.shiftRight(PAYLOAD_BITS).longValue() + EPOCH;
+    }
+
+    /**
+     * Builds the smallest ID of a type created at a given second. Every ID created before that second sorts
+     * before it, and every other one after it.
+     *
+     * @param prefix the type prefix, including the trailing underscore
+     * @param epochSeconds the creation time, in seconds since the Unix epoch
+     * @return the cursor ID
+     */
+    static String cursor(final String prefix, final long epochSeconds) {
+        final long timestamp = Math.max(0, Math.min(0xFFFFFFFFL, epochSeconds - EPOCH));
+        BigInteger value = BigInteger.valueOf(timestamp).shiftLeft(PAYLOAD_BITS);
+        final char[] chars = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            final BigInteger[] qr = value.divideAndRemainder(BASE);
+            chars[i] = ALPHABET.charAt(qr[1].intValue());
+            value = qr[0];
+        }
+        return prefix + new String(chars);
+    }
+}
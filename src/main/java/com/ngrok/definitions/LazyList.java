@@ -0,0 +1,80 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An immutable list of the items of a page whose elements are kept as buffered JSON tokens and only deserialized
+ * the first time they are accessed. The buffer of an element is dropped once it has been deserialized.
+ *
+ * Concurrent readers may occasionally deserialize the same element twice; as definitions are immutable, either
+ * instance is as good as the other.
+ *
+ * @param <E> the type of the items
+ * @see DefinitionsModule#LAZY_LIST_ITEMS
+ */
+final class LazyList<E> extends AbstractList<E> implements RandomAccess {
+    private final ObjectCodec codec;
+    private final Class<E> elementClass;
+    private final AtomicReferenceArray<TokenBuffer> buffers;
+    private final AtomicReferenceArray<Object> elements;
+
+    LazyList(final ObjectCodec codec, final Class<E> elementClass, final TokenBuffer[] buffers) {
+        this.codec = codec;
+        this.elementClass = elementClass;
+        this.buffers = new AtomicReferenceArray<>(buffers);
+        this.elements = new AtomicReferenceArray<>(buffers.length);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(final int index) {
+        final Object element = this.elements.get(index);
+        if (element != null) {
+            return (E) element;
+        }
+        final TokenBuffer buffer = this.buffers.get(index);
+        if (buffer == null) {
+            // either a JSON null or decoded concurrently after the first read
+            return (E) this.elements.get(index);
+        }
+        final E decoded;
+        try (final JsonParser p = buffer.asParser(this.codec)) {
+            decoded = this.codec.readValue(p, this.elementClass);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to deserialize " + this.elementClass.getSimpleName() + " at index " + index, e);
+        }
+        this.elements.set(index, decoded);
+        this.buffers.set(index, null);
+        return decoded;
+    }
+
+    @Override
+    public int size() {
+        return this.elements.length();
+    }
+
+    /**
+     * Counts the items that have been deserialized so far.
+     *
+     * @return the number of materialized items
+     */
+    int materializedCount() {
+        int count = 0;
+        for (int i = 0; i < this.elements.length(); i++) {
+            if (this.elements.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,481 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import com.ngrok.NgrokApiClient;
+import com.ngrok.Operation;
+import com.ngrok.ResponseDecoder;
+import org.reactivestreams.Publisher;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The items of a list call, across all of its pages.
+ *
+ * Items can be pushed to a consumer with {@link #forEach(Consumer)}, which hands them out one at a time as soon as
+ * they have been decoded and only requests the next page once every item of the current one has been consumed.
+ * This keeps memory bounded to about one item, whatever the size of the pages:
+ *
+ * <pre>{@code
+ * ngrok.ipPolicyRules().listAll().forEach(rule -> index.add(rule.getCidr()));
+ * }</pre>
+ *
+ * They can also be pulled with {@link #iterator()}, {@link #stream()} or {@link #asyncIterator()}, or published
+ * to a Reactive Streams subscriber with {@link #publisher()}, which fetch whole pages ahead of the consumer: as
+ * soon as a page arrives, the next one is requested, so that round trips overlap with the processing of the items.
+ * The number of pages fetched ahead is set with {@link #prefetch(int)}:
+ *
+ * <pre>{@code
+ * try (Stream<Tunnel> tunnels = ngrok.tunnels().listAll().prefetch(2).stream()) {
+ *     tunnels.forEach(inventory::add);
+ * }
+ * }</pre>
+ *
+ * Items a page holds as JSON <code>null</code> are skipped, however the items are consumed. Instances are
+ * immutable; every iteration lists the items from the first page again.
+ *
+ * @param <I> the type of the items
+ * @see NgrokApiClient#streamRequest(Operation, Object[], String, Class, Consumer)
+ */
+public final class ListItems<I> {
+    private final NgrokApiClient apiClient;
+    private final Operation<?> operation;
+    private final Object[] values;
+    private final String itemsField;
+    private final Class<I> itemClass;
+    private final Function<Object, List<I>> items;
+    private final Function<? super I, String> ids;
+    private final int prefetch;
+    private final PageSizeTuner tuner;
+
+    /**
+     * Creates the items of a list call.
+     *
+     * @param apiClient the API client used to fetch the pages
+     * @param operation the list operation
+     * @param values the parameter values of the first page, laid out as described by {@link Operation}
+     * @param itemsField the name of the JSON field holding the items, e.g. <code>ip_policy_rules</code>
+     * @param itemClass the type of the items
+     * @param items extracts the items of a page
+     * @param <L> the type of the pages
+     */
+    public <L> ListItems(final NgrokApiClient apiClient,
+                         final Operation<L> operation,
+                         final Object[] values,
+                         final String itemsField,
+                         final Class<I> itemClass,
+                         final Function<? super L, List<I>> items)
+    {
+        this(apiClient, operation, values, itemsField, itemClass, items, null, 1, null);
+    }
+
+    /**
+     * Creates the items of a list call whose items have a time-sortable ID, which can be scanned with
+     * {@link #partitioned(int)}.
+     *
+     * @param apiClient the API client used to fetch the pages
+     * @param operation the list operation, which must take a <code>before_id</code> query parameter
+     * @param values the parameter values of the first page, laid out as described by {@link Operation}
+     * @param itemsField the name of the JSON field holding the items, e.g. <code>ip_policy_rules</code>
+     * @param itemClass the type of the items
+     * @param items extracts the items of a page
+     * @param ids extracts the ID of an item
+     * @param <L> the type of the pages
+     */
+    public <L> ListItems(final NgrokApiClient apiClient,
+                         final Operation<L> operation,
+                         final Object[] values,
+                         final String itemsField,
+                         final Class<I> itemClass,
+                         final Function<? super L, List<I>> items,
+                         final Function<? super I, String> ids)
+    {
+        this(apiClient, operation, values, itemsField, itemClass, items, Objects.requireNonNull(ids, "ids is required"), 1, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ListItems(final NgrokApiClient apiClient,
+                      final Operation<?> operation,
+                      final Object[] values,
+                      final String itemsField,
+                      final Class<I> itemClass,
+                      final Function<?, List<I>> items,
+                      final Function<? super I, String> ids,
+                      final int prefetch,
+                      final PageSizeTuner tuner)
+    {
+        this.apiClient = Objects.requireNonNull(apiClient, "apiClient is required");
+        this.operation = Objects.requireNonNull(operation, "operation is required");
+        this.values = Objects.requireNonNull(values, "values is required");
+        this.itemsField = Objects.requireNonNull(itemsField, "itemsField is required");
+        this.itemClass = Objects.requireNonNull(itemClass, "itemClass is required");
+        this.items = (Function<Object, List<I>>) Objects.requireNonNull(items, "items is required");
+        this.ids = ids;
+        this.prefetch = prefetch;
+        this.tuner = tuner;
+    }
+
+    /**
+     * Sets how many pages {@link #iterator()}, {@link #stream()}, {@link #asyncIterator()} and {@link #publisher()}
+     * fetch ahead of the page being consumed. Defaults to one, meaning the next page is requested as soon as the
+     * current one arrives; zero only requests a page once the items of the previous one have all been consumed.
+     *
+     * @param pages the number of pages to fetch ahead
+     * @return a copy of these items with the given prefetch depth
+     * @throws IllegalArgumentException if <code>pages</code> is negative
+     */
+    public ListItems<I> prefetch(final int pages) {
+        if (pages < 0) {
+            throw new IllegalArgumentException("pages must not be negative: " + pages);
+        }
+        return new ListItems<>(this.apiClient, this.operation, this.values, this.itemsField, this.itemClass, this.items, this.ids, pages, this.tuner);
+    }
+
+    /**
+     * Lets a {@link PageSizeTuner} pick the <code>limit</code> of every page fetched by {@link #iterator()},
+     * {@link #stream()}, {@link #asyncIterator()}, {@link #publisher()} and {@link #partitioned(int)}, in place of
+     * the one set on the call. The tuner measures each page and adjusts the page size of the endpoint to
+     * maximize throughput. Tuning requires an {@link NgrokApiClient} that supports response decoders, like
+     * {@link com.ngrok.DefaultNgrokApiClient}, to measure the size of the pages.
+     *
+     * @param tuner the page size tuner, usually shared by all the list calls of an application
+     * @return a copy of these items whose page size is tuned
+     * @throws UnsupportedOperationException if the list call does not take a <code>limit</code>
+     */
+    public ListItems<I> tuned(final PageSizeTuner tuner) {
+        Objects.requireNonNull(tuner, "tuner is required");
+        if (!this.operation.getQueryParams().contains("limit")) {
+            throw new UnsupportedOperationException(this.operation + " does not take a limit");
+        }
+        return new ListItems<>(this.apiClient, this.operation, this.values, this.itemsField, this.itemClass, this.items, this.ids, this.prefetch, tuner);
+    }
+
+    /**
+     * Streams every item of every page to a consumer, following <code>next_page_uri</code> until the last page.
+     *
+     * The consumer may be called from the thread reading the response, so it should hand long-running work off
+     * rather than block. If it throws, the remaining items are skipped and the returned future fails with its
+     * exception.
+     *
+     * @param consumer the consumer of the items
+     * @return a {@link CompletionStage} that completes once every item has been consumed
+     */
+    public CompletionStage<Void> forEach(final Consumer<? super I> consumer) {
+        Objects.requireNonNull(consumer, "consumer is required");
+        final Consumer<I> nonNull = item -> {
+            if (item != null) {
+                consumer.accept(item);
+            }
+        };
+        return this.apiClient.streamRequest(this.operation, this.values, this.itemsField, this.itemClass, nonNull)
+            .thenCompose(nextPageUri -> forEachFrom(nextPageUri, nonNull));
+    }
+
+    /**
+     * Streams every item of every page to a consumer and blocks until the last one has been consumed.
+     *
+     * @param consumer the consumer of the items
+     * @throws InterruptedException if the thread was interrupted during the call
+     * @see #forEach(Consumer)
+     */
+    public void blockingForEach(final Consumer<? super I> consumer) throws InterruptedException {
+        try {
+            forEach(consumer).toCompletableFuture().get();
+        } catch (final ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Iterates over every item of every page, prefetching pages as set by {@link #prefetch(int)}. The iterator
+     * blocks while it waits for a page; a failed page request is thrown from {@link Iterator#hasNext()}. Pages
+     * are fetched ahead until the iterator is exhausted or closed, so a caller that may stop early should close it:
+     *
+     * <pre>{@code
+     * try (CloseableIterator<Tunnel> tunnels = ngrok.tunnels().listAll().iterator()) {
+     *     ...
+     * }
+     * }</pre>
+     *
+     * @return an iterator over the items
+     */
+    public CloseableIterator<I> iterator() {
+        return new PrefetchingIterator(newPrefetcher());
+    }
+
+    /**
+     * Streams every item of every page, prefetching pages as set by {@link #prefetch(int)}. Closing the stream
+     * stops fetching pages.
+     *
+     * @return a sequential stream of the items
+     * @see #iterator()
+     */
+    public Stream<I> stream() {
+        final PagePrefetcher<I> prefetcher = newPrefetcher();
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(new PrefetchingIterator(prefetcher), Spliterator.ORDERED | Spliterator.NONNULL),
+            false
+        ).onClose(prefetcher::close);
+    }
+
+    /**
+     * Iterates asynchronously over every item of every page, prefetching pages as set by {@link #prefetch(int)}.
+     *
+     * @return an asynchronous iterator over the items
+     */
+    public AsyncIterator<I> asyncIterator() {
+        return new PrefetchingAsyncIterator(newPrefetcher());
+    }
+
+    /**
+     * Publishes every item of every page to Reactive Streams subscribers. Pages are only taken once the items
+     * of the previous one have been delivered and the subscriber requests more, prefetching pages as set by
+     * {@link #prefetch(int)}, so a slow subscriber holds back fetching. Cancelling a subscription cancels the
+     * request for the page being fetched. Each subscription lists the items from the first page again.
+     *
+     * @return a publisher of the items
+     */
+    public Publisher<I> publisher() {
+        return new ItemPublisher<>(this::newPrefetcher);
+    }
+
+    /**
+     * Scans every item of every page by splitting the list into ranges of creation time that are fetched
+     * concurrently, rather than following <code>next_page_uri</code> one page at a time.
+     *
+     * @param partitions the number of ranges to split the list into
+     * @return a {@link PartitionedScan} of the items
+     * @throws IllegalArgumentException if <code>partitions</code> is not positive
+     * @throws UnsupportedOperationException if the list call does not support <code>before_id</code> cursors
+     */
+    public PartitionedScan<I> partitioned(final int partitions) {
+        if (this.ids == null || !this.operation.getQueryParams().contains("before_id")) {
+            throw new UnsupportedOperationException(this.operation + " cannot be partitioned by before_id");
+        }
+        return new PartitionedScan<>(this, partitions);
+    }
+
+    /**
+     * Fetches the items created since a watermark, following <code>next_page_uri</code> only until reaching
+     * an item the watermark covers.
+     *
+     * @param watermark the watermark returned by the previous fetch, or {@link Watermark#empty()}
+     * @return an {@link IncrementalFetch} of the new items
+     * @throws UnsupportedOperationException if the items of the list have no IDs
+     */
+    public IncrementalFetch<I> since(final Watermark watermark) {
+        if (this.ids == null) {
+            throw new UnsupportedOperationException(this.operation + " does not list items with IDs");
+        }
+        return new IncrementalFetch<>(this, watermark);
+    }
+
+    /**
+     * Fetches the first page of the list, optionally starting before another ID.
+     *
+     * @param beforeId the <code>before_id</code> cursor, or {@code null} to use the one of the call
+     * @return a future of the page
+     */
+    CompletionStage<?> fetchFirstPage(final String beforeId) {
+        if (beforeId == null && this.tuner == null) {
+            return this.apiClient.sendRequest(this.operation, this.values);
+        }
+        final Object[] values = this.values.clone();
+        if (beforeId != null) {
+            values[queryIndex("before_id")] = beforeId;
+        }
+        if (this.tuner == null) {
+            return this.apiClient.sendRequest(this.operation, values);
+        }
+        final int pageSize = this.tuner.pageSize(this.operation.getPathTemplate());
+        values[queryIndex("limit")] = String.valueOf(pageSize);
+        return measure(pageSize, decoder -> this.apiClient.sendRequest(this.operation, values, decoder));
+    }
+
+    /**
+     * Fetches a following page of the list.
+     *
+     * @param uri the <code>next_page_uri</code> of the previous page
+     * @return a future of the page
+     */
+    CompletionStage<?> fetchPage(final URI uri) {
+        if (this.tuner == null) {
+            return this.apiClient.sendRequest(uri, pageClass());
+        }
+        final int pageSize = this.tuner.pageSize(this.operation.getPathTemplate());
+        final URI tunedUri = PageSizeTuner.withLimit(uri, pageSize);
+        return measure(pageSize, decoder -> this.apiClient.sendRequest(tunedUri, decoder));
+    }
+
+    private CompletionStage<Object> measure(final int pageSize, final Function<ResponseDecoder<Object>, CompletionStage<Object>> send) {
+        final Class<?> pageClass = pageClass();
+        final long[] bytes = { -1 };
+        final long start = System.nanoTime();
+        final CompletableFuture<Object> response = send.apply(p -> {
+            final long offset = p.getCurrentLocation().getByteOffset();
+            final Object page = p.readValueAs(pageClass);
+            final long end = p.getCurrentLocation().getByteOffset();
+            bytes[0] = offset < 0 || end < 0 ? -1 : end - offset;
+            return page;
+        }).toCompletableFuture();
+        final CompletableFuture<Object> measured = response.thenApply(page -> {
+            this.tuner.record(this.operation.getPathTemplate(), pageSize, itemsOf(page).size(), bytes[0], Duration.ofNanos(System.nanoTime() - start));
+            return page;
+        });
+        // cancelling the page, e.g. when closing a prefetcher, still aborts the request
+        measured.whenComplete((page, cause) -> {
+            if (cause instanceof CancellationException) {
+                response.cancel(true);
+            }
+        });
+        return measured;
+    }
+
+    private int queryIndex(final String name) {
+        return this.operation.getQueryOffset() + this.operation.getQueryParams().indexOf(name);
+    }
+
+    private Class<?> pageClass() {
+        return this.operation.getResponseClass()
+            .orElseThrow(() -> new IllegalStateException("list operation has no response class"));
+    }
+
+    List<I> itemsOf(final Object page) {
+        final List<I> pageItems = page != null ? this.items.apply(page) : null;
+        if (pageItems == null) {
+            return Collections.emptyList();
+        }
+        if (!pageItems.contains(null)) {
+            return pageItems;
+        }
+        return pageItems.stream().filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    boolean hasIds() {
+        return this.ids != null;
+    }
+
+    String idOf(final I item) {
+        return this.ids.apply(item);
+    }
+
+    static Optional<URI> nextPageUriOf(final Object page) {
+        return page instanceof Pageable ? ((Pageable) page).getNextPageUri() : Optional.empty();
+    }
+
+    private PagePrefetcher<I> newPrefetcher() {
+        return new PagePrefetcher<>(
+            uri -> uri.isPresent() ? fetchPage(uri.get()) : fetchFirstPage(null),
+            this::itemsOf,
+            this.prefetch
+        );
+    }
+
+    private CompletionStage<Void> forEachFrom(final Optional<URI> pageUri, final Consumer<? super I> consumer) {
+        return pageUri
+            .map(uri -> this.apiClient.streamRequest(uri, this.itemsField, this.itemClass, consumer)
+                .thenCompose(nextPageUri -> forEachFrom(nextPageUri, consumer))
+            )
+            .orElseGet(() -> CompletableFuture.completedFuture(null));
+    }
+
+    private final class PrefetchingIterator implements CloseableIterator<I> {
+        private final PagePrefetcher<I> prefetcher;
+        private Iterator<I> page = Collections.emptyIterator();
+        private boolean done = false;
+
+        private PrefetchingIterator(final PagePrefetcher<I> prefetcher) {
+            this.prefetcher = prefetcher;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!this.page.hasNext() && !this.done) {
+                final Optional<List<I>> next;
+                try {
+                    next = this.prefetcher.nextPage().toCompletableFuture().get();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    this.prefetcher.close();
+                    throw new RuntimeException("Interrupted while fetching a page", e);
+                } catch (final ExecutionException e) {
+                    this.done = true;
+                    throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+                }
+                if (next.isPresent()) {
+                    this.page = next.get().iterator();
+                } else {
+                    this.done = true;
+                }
+            }
+            return this.page.hasNext();
+        }
+
+        @Override
+        public I next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return this.page.next();
+        }
+
+        @Override
+        public void close() {
+            this.done = true;
+            this.page = Collections.emptyIterator();
+            this.prefetcher.close();
+        }
+    }
+
+    private final class PrefetchingAsyncIterator implements AsyncIterator<I> {
+        private final PagePrefetcher<I> prefetcher;
+        private volatile Iterator<I> page = Collections.emptyIterator();
+        private volatile boolean done = false;
+
+        private PrefetchingAsyncIterator(final PagePrefetcher<I> prefetcher) {
+            this.prefetcher = prefetcher;
+        }
+
+        @Override
+        public CompletionStage<Optional<I>> next() {
+            if (this.page.hasNext()) {
+                return CompletableFuture.completedFuture(Optional.of(this.page.next()));
+            }
+            if (this.done) {
+                return CompletableFuture.completedFuture(Optional.empty());
+            }
+            return this.prefetcher.nextPage().thenCompose(next -> {
+                if (!next.isPresent()) {
+                    this.done = true;
+                    return CompletableFuture.completedFuture(Optional.empty());
+                }
+                this.page = next.get().iterator();
+                return next();
+            });
+        }
+
+        @Override
+        public void close() {
+            this.done = true;
+            this.prefetcher.close();
+        }
+    }
+}
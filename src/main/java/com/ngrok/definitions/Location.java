@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -122,4 +129,69 @@ public class Location {
             "', latLongRadiusKm='" + this.latLongRadiusKm.map(Object::toString).orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link Location}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<Location> {
+        Deserializer() {
+            super(Location.class);
+        }
+
+        @Override
+        protected Location deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Optional<String> countryCode = null;
+            Optional<Double> latitude = null;
+            Optional<Double> longitude = null;
+            Optional<Long> latLongRadiusKm = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "country_code":
+                        countryCode = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "latitude":
+                        latitude = Optional.ofNullable(readDouble(p, ctxt));
+                        break;
+                    case "longitude":
+                        longitude = Optional.ofNullable(readDouble(p, ctxt));
+                        break;
+                    case "lat_long_radius_km":
+                        latLongRadiusKm = Optional.ofNullable(readLong(p, ctxt));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new Location(countryCode, latitude, longitude, latLongRadiusKm);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link Location}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<Location> {
+        private static final SerializableString FIELD_COUNTRY_CODE = new SerializedString("country_code");
+        private static final SerializableString FIELD_LATITUDE = new SerializedString("latitude");
+        private static final SerializableString FIELD_LONGITUDE = new SerializedString("longitude");
+        private static final SerializableString FIELD_LAT_LONG_RADIUS_KM = new SerializedString("lat_long_radius_km");
+
+        Serializer() {
+            super(Location.class);
+        }
+
+        @Override
+        public void serialize(final Location value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_COUNTRY_CODE, value.getCountryCode().orElse(null));
+            writeDouble(gen, FIELD_LATITUDE, value.getLatitude().orElse(null));
+            writeDouble(gen, FIELD_LONGITUDE, value.getLongitude().orElse(null));
+            writeLong(gen, FIELD_LAT_LONG_RADIUS_KM, value.getLatLongRadiusKm().orElse(null));
+            gen.writeEndObject();
+        }
+    }
 }
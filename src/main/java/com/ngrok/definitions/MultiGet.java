@@ -0,0 +1,301 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A fetch of many resources by ID, either with one GET request per ID, at most {@link #concurrency(int)} at a
+ * time, or by listing the resources and picking the requested ones out of the pages, whichever takes fewer
+ * round trips.
+ *
+ * When there are more IDs than can be fetched in one round of GET requests, and the resources can be listed, the
+ * first page of the list is fetched to estimate how many pages the requested resources are spread over. ngrok IDs
+ * sort by creation time and lists are returned newest first, so the list only needs to be followed down to the
+ * oldest requested ID, and the creation times of the first page tell how many pages that takes. The list is
+ * followed if that is no more pages than there are rounds of GET requests; otherwise the resources missing from
+ * the first page are fetched by ID. Either way the first page is not wasted.
+ *
+ * <pre>{@code
+ * MultiGet.Result<Credential> result = ngrok.credentials().getAll(ids).concurrency(16).blockingCall();
+ * result.getItems().forEach((id, credential) -> ...);
+ * result.getErrors().forEach((id, error) -> ...);
+ * }</pre>
+ *
+ * @param <I> the type of the resources
+ */
+public final class MultiGet<I> {
+    /**
+     * How the resources were fetched.
+     */
+    public enum Strategy {
+        /** One GET request per ID. */
+        GET,
+        /** Listing the resources and picking the requested ones. */
+        LIST
+    }
+
+    /**
+     * The resources fetched, along with the error of each one that could not be.
+     *
+     * @param <I> the type of the resources
+     */
+    public static final class Result<I> {
+        private final Map<String, I> items;
+        private final Map<String, Throwable> errors;
+        private final Strategy strategy;
+
+        private Result(final Map<String, I> items, final Map<String, Throwable> errors, final Strategy strategy) {
+            this.items = Collections.unmodifiableMap(items);
+            this.errors = Collections.unmodifiableMap(errors);
+            this.strategy = strategy;
+        }
+
+        /**
+         * The resources fetched, by ID, in the order they were requested.
+         *
+         * @return the value of the property as a {@link Map} of the resources
+         */
+        public Map<String, I> getItems() {
+            return this.items;
+        }
+
+        /**
+         * The error of each resource that could not be fetched, by ID. Resources that do not exist fail with an
+         * {@link NgrokApiError} whose status code is 404.
+         *
+         * @return the value of the property as a {@link Map} of {@link Throwable}
+         */
+        public Map<String, Throwable> getErrors() {
+            return this.errors;
+        }
+
+        /**
+         * How the resources were fetched.
+         *
+         * @return the value of the property as a {@link Strategy}
+         */
+        public Strategy getStrategy() {
+            return this.strategy;
+        }
+
+        @Override
+        public String toString() {
+            return "Result{" +
+                "items='" + this.items +
+                "', errors='" + this.errors +
+                "', strategy='" + this.strategy +
+                "'}";
+        }
+    }
+
+    private final Set<String> ids;
+    private final Function<String, CompletionStage<I>> get;
+    private final ListItems<I> items;
+    private int concurrency = 16;
+
+    /**
+     * Creates a fetch of resources that can only be fetched by ID.
+     *
+     * @param ids the IDs of the resources
+     * @param get fetches a resource by ID
+     */
+    public MultiGet(final Collection<String> ids, final Function<String, CompletionStage<I>> get) {
+        this(ids, get, null);
+    }
+
+    /**
+     * Creates a fetch of resources that can be fetched by ID or listed.
+     *
+     * @param ids the IDs of the resources
+     * @param get fetches a resource by ID
+     * @param items the items of the list of the resources, which must have IDs
+     * @throws IllegalArgumentException if the items of the list have no IDs
+     */
+    public MultiGet(final Collection<String> ids, final Function<String, CompletionStage<I>> get, final ListItems<I> items) {
+        this.ids = new LinkedHashSet<>(Objects.requireNonNull(ids, "ids is required"));
+        this.get = Objects.requireNonNull(get, "get is required");
+        if (items != null && !items.hasIds()) {
+            throw new IllegalArgumentException("the items of the list must have IDs");
+        }
+        this.items = items;
+    }
+
+    /**
+     * Sets the maximum number of GET requests in flight. Defaults to 16.
+     *
+     * @param concurrency the maximum number of GET requests in flight
+     * @return the fetch instance
+     * @throws IllegalArgumentException if <code>concurrency</code> is not positive
+     */
+    public MultiGet<I> concurrency(final int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Initiates the fetch asynchronously.
+     *
+     * @return a {@link CompletionStage} of the resources and errors
+     */
+    public CompletionStage<Result<I>> call() {
+        final int concurrency = this.concurrency;
+        final Map<String, I> found = new ConcurrentHashMap<>();
+        final Map<String, Throwable> errors = new ConcurrentHashMap<>();
+        if (this.items == null || this.ids.size() <= concurrency) {
+            return getEach(new ArrayList<>(this.ids), concurrency, found, errors).thenApply(v -> result(found, errors, Strategy.GET));
+        }
+        return this.items.fetchFirstPage(null).thenCompose(first -> {
+            final List<I> firstItems = this.items.itemsOf(first);
+            final Set<String> missing = new LinkedHashSet<>(this.ids);
+            pick(firstItems, missing, found);
+            final Optional<URI> nextPageUri = ListItems.nextPageUriOf(first);
+            if (missing.isEmpty() || !nextPageUri.isPresent()) {
+                return CompletableFuture.completedFuture(result(found, errors, Strategy.LIST));
+            }
+            final String oldest = firstItems.isEmpty() ? null : oldest(firstItems, missing);
+            final long rounds = (missing.size() + concurrency - 1) / concurrency;
+            if (oldest != null && pagesUntil(firstItems, oldest) <= rounds) {
+                return scan(nextPageUri.get(), missing, oldest, found).thenApply(v -> result(found, errors, Strategy.LIST));
+            }
+            return getEach(new ArrayList<>(missing), concurrency, found, errors).thenApply(v -> result(found, errors, Strategy.GET));
+        });
+    }
+
+    /**
+     * Initiates the fetch and blocks until it completes.
+     *
+     * @return the resources and errors
+     * @throws InterruptedException if the thread was interrupted during the fetch
+     */
+    public Result<I> blockingCall() throws InterruptedException {
+        try {
+            return call().toCompletableFuture().get();
+        } catch (final ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private CompletionStage<Void> getEach(final List<String> ids, final int concurrency, final Map<String, I> found, final Map<String, Throwable> errors) {
+        final AtomicInteger next = new AtomicInteger();
+        final CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(concurrency, ids.size())];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = getNext(ids, next, found, errors).toCompletableFuture();
+        }
+        return CompletableFuture.allOf(workers);
+    }
+
+    private CompletionStage<Void> getNext(final List<String> ids, final AtomicInteger next, final Map<String, I> found, final Map<String, Throwable> errors) {
+        final int index = next.getAndIncrement();
+        if (index >= ids.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final String id = ids.get(index);
+        CompletionStage<I> response;
+        try {
+            response = this.get.apply(id);
+        } catch (final RuntimeException e) {
+            final CompletableFuture<I> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            response = failed;
+        }
+        return response.handle((item, cause) -> {
+            if (cause != null) {
+                errors.put(id, cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause);
+            } else {
+                found.put(id, item);
+            }
+            return null;
+        }).thenCompose(v -> getNext(ids, next, found, errors));
+    }
+
+    private CompletionStage<Void> scan(final URI uri, final Set<String> missing, final String oldest, final Map<String, I> found) {
+        return this.items.fetchPage(uri).thenCompose(page -> {
+            final List<I> pageItems = this.items.itemsOf(page);
+            pick(pageItems, missing, found);
+            final Optional<URI> nextPageUri = ListItems.nextPageUriOf(page);
+            if (missing.isEmpty() || !nextPageUri.isPresent()
+                || (!pageItems.isEmpty() && this.items.idOf(pageItems.get(pageItems.size() - 1)).compareTo(oldest) <= 0))
+            {
+                return CompletableFuture.completedFuture(null);
+            }
+            return scan(nextPageUri.get(), missing, oldest, found);
+        });
+    }
+
+    private void pick(final List<I> pageItems, final Set<String> missing, final Map<String, I> found) {
+        for (final I item : pageItems) {
+            final String id = this.items.idOf(item);
+            if (missing.remove(id)) {
+                found.put(id, item);
+            }
+        }
+    }
+
+    /**
+     * Finds the oldest of the missing IDs, or {@code null} if they are not all time-sortable IDs of the type of the
+     * listed items.
+     */
+    private String oldest(final List<I> firstItems, final Set<String> missing) {
+        final String prefix = KsuidCursor.prefix(this.items.idOf(firstItems.get(0)));
+        if (prefix == null) {
+            return null;
+        }
+        String oldest = null;
+        for (final String id : missing) {
+            if (!prefix.equals(KsuidCursor.prefix(id))) {
+                return null;
+            }
+            if (oldest == null || id.compareTo(oldest) < 0) {
+                oldest = id;
+            }
+        }
+        return oldest;
+    }
+
+    /**
+     * Estimates how many more pages to fetch to list an ID, assuming the following pages span as much time as the
+     * first one.
+     */
+    private long pagesUntil(final List<I> firstItems, final String id) {
+        final long newest = KsuidCursor.timestamp(this.items.idOf(firstItems.get(0)));
+        final long last = KsuidCursor.timestamp(this.items.idOf(firstItems.get(firstItems.size() - 1)));
+        final long span = Math.max(1, newest - last);
+        return Math.max(1, (last - KsuidCursor.timestamp(id) + span - 1) / span);
+    }
+
+    private Result<I> result(final Map<String, I> found, final Map<String, Throwable> errors, final Strategy strategy) {
+        final Map<String, I> items = new LinkedHashMap<>();
+        final Map<String, Throwable> failures = new LinkedHashMap<>();
+        for (final String id : this.ids) {
+            if (found.containsKey(id)) {
+                items.put(id, found.get(id));
+            } else {
+                failures.put(id, errors.containsKey(id)
+                    ? errors.get(id)
+                    : new NgrokApiError("no resource with ID " + id + " was listed", 404, Optional.empty(), Collections.emptyMap()));
+            }
+        }
+        return new Result<>(items, failures, strategy);
+    }
+}
@@ -5,7 +5,11 @@ package com.ngrok.definitions;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -25,6 +29,8 @@ public class NgrokApiError extends RuntimeException {
     private final Optional<String> errorCode;
     /** */
     private final Map<String, String> details;
+    /** */
+    private final Optional<Duration> retryAfter;
 
     /**
      * Creates a new API error.
@@ -44,6 +50,7 @@ public class NgrokApiError extends RuntimeException {
         this.httpStatusCode = httpStatusCode;
         this.errorCode = errorCode != null ? errorCode : Optional.empty();
         this.details = details != null ? details : Collections.emptyMap();
+        this.retryAfter = Optional.empty();
     }
 
     /**
@@ -62,6 +69,7 @@ public class NgrokApiError extends RuntimeException {
             details.put("response_body", body);
             return Collections.unmodifiableMap(details);
         }).orElse(Collections.emptyMap());
+        this.retryAfter = Optional.empty();
     }
 
     /**
@@ -73,6 +81,15 @@ public class NgrokApiError extends RuntimeException {
         this("HTTP server returned status " + httpStatusCode, httpStatusCode, Optional.empty(), Collections.emptyMap());
     }
 
+    private NgrokApiError(final NgrokApiError error, final Optional<Duration> retryAfter) {
+        super(error.getMessage(), error.getCause());
+        this.httpStatusCode = error.httpStatusCode;
+        this.errorCode = error.errorCode;
+        this.details = error.details;
+        this.retryAfter = retryAfter;
+        setStackTrace(error.getStackTrace());
+    }
+
     /**
      * Fetches the HTTP status code.
      *
@@ -100,6 +117,26 @@ public class NgrokApiError extends RuntimeException {
         return this.details;
     }
 
+    /**
+     * Fetches how long the server asked to wait before retrying, from the <code>Retry-After</code> header of the
+     * response, if any.
+     *
+     * @return the delay before retrying
+     */
+    public Optional<Duration> getRetryAfter() {
+        return this.retryAfter;
+    }
+
+    /**
+     * Copies this error along with how long the server asked to wait before retrying.
+     *
+     * @param retryAfter the delay before retrying
+     * @return a copy of this error
+     */
+    public NgrokApiError withRetryAfter(final Duration retryAfter) {
+        return new NgrokApiError(this, Optional.of(retryAfter));
+    }
+
     /**
      * Checks if this error object contains one of the provided codes.
      *
@@ -110,4 +147,46 @@ public class NgrokApiError extends RuntimeException {
         final Set<String> codeSet = new HashSet<>(Arrays.asList(codes));
         return this.errorCode.filter(codeSet::contains).isPresent();
     }
+
+    /**
+     * Generated deserializer for {@link NgrokApiError}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<NgrokApiError> {
+        Deserializer() {
+            super(NgrokApiError.class);
+        }
+
+        @Override
+        protected NgrokApiError deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String message = null;
+            int httpStatusCode = 0;
+            Optional<String> errorCode = null;
+            Map<String, String> details = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "msg":
+                        message = readString(p, ctxt);
+                        break;
+                    case "status_code":
+                        final Integer httpStatusCodeValue = readInteger(p, ctxt);
+                        httpStatusCode = httpStatusCodeValue != null ? httpStatusCodeValue : 0;
+                        break;
+                    case "error_code":
+                        errorCode = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "details":
+                        details = readStringMap(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new NgrokApiError(message, httpStatusCode, errorCode, details);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
 }
@@ -3,6 +3,7 @@
 package com.ngrok.definitions;
 
 import com.ngrok.NgrokApiClient;
+import com.ngrok.ResponseDecoder;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -14,6 +15,7 @@ import java.util.concurrent.CompletionStage;
 public class Page<T extends Pageable> {
     private final NgrokApiClient apiClient;
     private final T page;
+    private final Optional<ResponseDecoder<T>> decoder;
 
     /**
      * Create a new page.
@@ -24,6 +26,21 @@ public class Page<T extends Pageable> {
     public Page(final NgrokApiClient apiClient, final T page) {
         this.apiClient = apiClient;
         this.page = page;
+        this.decoder = Optional.empty();
+    }
+
+    /**
+     * Create a new page whose following pages are decoded with a {@link ResponseDecoder} rather than bound to
+     * the class of the page.
+     *
+     * @param apiClient the API client used to fetch the page
+     * @param page the page itself
+     * @param decoder the decoder used to decode the page
+     */
+    public Page(final NgrokApiClient apiClient, final T page, final ResponseDecoder<T> decoder) {
+        this.apiClient = apiClient;
+        this.page = page;
+        this.decoder = Optional.of(decoder);
     }
 
     /**
@@ -43,8 +60,13 @@ public class Page<T extends Pageable> {
     @SuppressWarnings("unchecked")
     public CompletionStage<Optional<Page<T>>> next() {
         return page.getNextPageUri()
-            .map(nextPageUri -> apiClient.sendRequest(nextPageUri, (Class<T>) this.page.getClass())
-                .thenApply(nextPage -> Optional.of(new Page<>(this.apiClient, nextPage)))
+            .map(nextPageUri -> this.decoder
+                .map(d -> apiClient.sendRequest(nextPageUri, d)
+                    .thenApply(nextPage -> Optional.of(new Page<>(this.apiClient, nextPage, d)))
+                )
+                .orElseGet(() -> apiClient.sendRequest(nextPageUri, (Class<T>) this.page.getClass())
+                    .thenApply(nextPage -> Optional.of(new Page<>(this.apiClient, nextPage)))
+                )
             )
             .orElseGet(() -> CompletableFuture.completedFuture(Optional.empty()));
     }
@@ -0,0 +1,121 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Fetches the pages of a list call ahead of their consumption. As soon as a page arrives, the request for the next
+ * one is issued, as long as fewer than <code>depth</code> pages have been fetched (or are being fetched) ahead of
+ * the consumer. A depth of zero only fetches pages on demand, like {@link Page#next()}.
+ *
+ * Pages are fetched one after the other, since the URI of a page is only known once the previous one has
+ * arrived, and are handed out in order. Instances are thread-safe.
+ *
+ * @param <I> the type of the items
+ */
+final class PagePrefetcher<I> {
+    private final Function<Optional<URI>, CompletionStage<?>> fetch;
+    private final Function<Object, List<I>> items;
+    private final int depth;
+    private final ArrayDeque<CompletableFuture<List<I>>> pages = new ArrayDeque<>();
+
+    private Optional<URI> nextPageUri = Optional.empty();
+    private boolean started = false;
+    private boolean inFlight = false;
+    private boolean closed = false;
+    private CompletableFuture<?> request;
+
+    /**
+     * Creates a new prefetcher.
+     *
+     * @param fetch fetches the first page (given an empty URI) or a following one
+     * @param items extracts the items of a page
+     * @param depth the maximum number of pages to fetch ahead of the consumer
+     */
+    PagePrefetcher(final Function<Optional<URI>, CompletionStage<?>> fetch, final Function<Object, List<I>> items, final int depth) {
+        this.fetch = fetch;
+        this.items = items;
+        this.depth = depth;
+    }
+
+    /**
+     * Takes the items of the next page, fetching it if it has not been fetched yet.
+     *
+     * @return a future of the items of the next page, or empty after the last page
+     */
+    synchronized CompletionStage<Optional<List<I>>> nextPage() {
+        if (this.pages.isEmpty()) {
+            if (this.closed || (this.started && !this.nextPageUri.isPresent())) {
+                return CompletableFuture.completedFuture(Optional.empty());
+            }
+            request();
+        }
+        final CompletableFuture<List<I>> page = this.pages.poll();
+        prefetch();
+        return page.thenApply(Optional::of);
+    }
+
+    /**
+     * Stops fetching pages. Pages that have already been fetched are discarded, and the request for the page being
+     * fetched, if any, is cancelled.
+     */
+    synchronized void close() {
+        this.closed = true;
+        if (this.inFlight) {
+            this.request.cancel(true);
+        }
+        this.pages.forEach(page -> page.cancel(false));
+        this.pages.clear();
+    }
+
+    private void prefetch() {
+        if (!this.closed && !this.inFlight && this.nextPageUri.isPresent() && this.pages.size() < this.depth) {
+            request();
+        }
+    }
+
+    private void request() {
+        final Optional<URI> uri = this.nextPageUri;
+        this.started = true;
+        this.inFlight = true;
+        this.nextPageUri = Optional.empty();
+        final CompletableFuture<List<I>> page = new CompletableFuture<>();
+        this.pages.add(page);
+        try {
+            this.request = this.fetch.apply(uri).toCompletableFuture();
+        } catch (final RuntimeException e) {
+            this.inFlight = false;
+            page.completeExceptionally(e);
+            return;
+        }
+        this.request.whenComplete((result, cause) -> {
+            synchronized (this) {
+                this.inFlight = false;
+                if (cause != null) {
+                    page.completeExceptionally(cause);
+                    return;
+                }
+                try {
+                    this.nextPageUri = ListItems.nextPageUriOf(result);
+                } catch (final RuntimeException e) {
+                    page.completeExceptionally(e);
+                    return;
+                }
+                prefetch();
+            }
+            // a page that cannot be read must still complete, or its consumer would wait forever
+            try {
+                page.complete(this.items.apply(result));
+            } catch (final RuntimeException e) {
+                page.completeExceptionally(e);
+            }
+        });
+    }
+}
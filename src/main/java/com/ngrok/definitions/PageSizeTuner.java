@@ -0,0 +1,357 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Learns, for each list endpoint, the page size that maximizes the number of items fetched per second.
+ *
+ * A tuner is shared by the list calls it tunes (see {@link ListItems#tuned(PageSizeTuner)}) and overrides the
+ * <code>limit</code> of every page they fetch. After each full page it compares the throughput of the page with
+ * that of the previous one: while throughput improves it keeps moving the page size in the same direction, and
+ * when it drops it turns around. Pages whose latency per item spikes well above the recent average halve the page
+ * size right away, and pages are kept under a maximum size in bytes once the size of the items is known.
+ *
+ * The learned page sizes, along with the throughput and latency they were learned from, are available from
+ * {@link #getStats()} and can be exported as metrics:
+ *
+ * <pre>{@code
+ * PageSizeTuner tuner = PageSizeTuner.newBuilder().maxPageSize(100).build();
+ * try (Stream<Tunnel> tunnels = ngrok.tunnels().listAll().tuned(tuner).stream()) {
+ *     tunnels.forEach(inventory::add);
+ * }
+ * tuner.getStats().forEach((endpoint, stats) -> gauge("ngrok.page_size", endpoint, stats.getPageSize()));
+ * }</pre>
+ *
+ * Instances are thread-safe.
+ */
+public final class PageSizeTuner {
+    /**
+     * Builder class for {@link PageSizeTuner}.
+     */
+    public static class Builder {
+        private int minPageSize = 10;
+        private int maxPageSize = 100;
+        private Optional<Integer> initialPageSize = Optional.empty();
+        private long maxPageBytes = 4 * 1024 * 1024;
+        private double latencySpikeFactor = 3.0;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the smallest page size to use. Defaults to 10.
+         *
+         * @param minPageSize the smallest page size
+         * @return the tuner builder
+         */
+        public Builder minPageSize(final int minPageSize) {
+            this.minPageSize = minPageSize;
+            return this;
+        }
+
+        /**
+         * Sets the largest page size to use, which should not exceed the largest <code>limit</code> the server
+         * accepts. Defaults to 100.
+         *
+         * @param maxPageSize the largest page size
+         * @return the tuner builder
+         */
+        public Builder maxPageSize(final int maxPageSize) {
+            this.maxPageSize = maxPageSize;
+            return this;
+        }
+
+        /**
+         * Sets the page size to start from for endpoints that have not been tuned yet. Defaults to the middle of
+         * the page size range.
+         *
+         * @param initialPageSize the initial page size
+         * @return the tuner builder
+         */
+        public Builder initialPageSize(final int initialPageSize) {
+            this.initialPageSize = Optional.of(initialPageSize);
+            return this;
+        }
+
+        /**
+         * Sets the largest size in bytes of a page. Defaults to 4 MiB.
+         *
+         * @param maxPageBytes the largest size of a page
+         * @return the tuner builder
+         */
+        public Builder maxPageBytes(final long maxPageBytes) {
+            this.maxPageBytes = maxPageBytes;
+            return this;
+        }
+
+        /**
+         * Sets how many times slower per item than the recent average a page must be for its latency to count as a
+         * spike, halving the page size. Defaults to 3.
+         *
+         * @param latencySpikeFactor the latency spike factor
+         * @return the tuner builder
+         */
+        public Builder latencySpikeFactor(final double latencySpikeFactor) {
+            this.latencySpikeFactor = latencySpikeFactor;
+            return this;
+        }
+
+        /**
+         * Builds the page size tuner.
+         *
+         * @return a page size tuner
+         * @throws IllegalArgumentException if the page size range is empty, or a bound is not positive
+         */
+        public PageSizeTuner build() {
+            final int initial = this.initialPageSize.orElse((this.minPageSize + this.maxPageSize) / 2);
+            if (this.minPageSize < 1 || this.maxPageSize < this.minPageSize || initial < this.minPageSize || initial > this.maxPageSize) {
+                throw new IllegalArgumentException("invalid page sizes: min " + this.minPageSize + ", max " + this.maxPageSize + ", initial " + initial);
+            }
+            if (this.maxPageBytes < 1 || this.latencySpikeFactor <= 1) {
+                throw new IllegalArgumentException("maxPageBytes must be positive and latencySpikeFactor greater than 1");
+            }
+            return new PageSizeTuner(this.minPageSize, this.maxPageSize, initial, this.maxPageBytes, this.latencySpikeFactor);
+        }
+    }
+
+    /**
+     * Creates a new page size tuner builder.
+     *
+     * @return a tuner builder
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * What a tuner has learned about an endpoint.
+     */
+    public static final class Stats {
+        private final int pageSize;
+        private final double itemsPerSecond;
+        private final Duration latency;
+        private final Optional<Double> bytesPerItem;
+        private final long pages;
+
+        private Stats(final int pageSize, final double itemsPerSecond, final Duration latency, final Optional<Double> bytesPerItem, final long pages) {
+            this.pageSize = pageSize;
+            this.itemsPerSecond = itemsPerSecond;
+            this.latency = latency;
+            this.bytesPerItem = bytesPerItem;
+            this.pages = pages;
+        }
+
+        /**
+         * The page size currently used for the endpoint.
+         *
+         * @return the page size
+         */
+        public int getPageSize() {
+            return this.pageSize;
+        }
+
+        /**
+         * The throughput of the last full page, in items per second.
+         *
+         * @return the throughput
+         */
+        public double getItemsPerSecond() {
+            return this.itemsPerSecond;
+        }
+
+        /**
+         * The moving average of the latency of a page.
+         *
+         * @return the latency
+         */
+        public Duration getLatency() {
+            return this.latency;
+        }
+
+        /**
+         * The moving average of the size of an item in bytes, if it has been measured.
+         *
+         * @return the size of an item
+         */
+        public Optional<Double> getBytesPerItem() {
+            return this.bytesPerItem;
+        }
+
+        /**
+         * The number of pages measured.
+         *
+         * @return the number of pages
+         */
+        public long getPages() {
+            return this.pages;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                "pageSize='" + this.pageSize +
+                "', itemsPerSecond='" + this.itemsPerSecond +
+                "', latency='" + this.latency +
+                "', bytesPerItem='" + this.bytesPerItem.map(String::valueOf).orElse("(null)") +
+                "', pages='" + this.pages +
+                "'}";
+        }
+    }
+
+    private static final double SMOOTHING = 0.3;
+    private static final double STEP = 1.25;
+
+    private final int minPageSize;
+    private final int maxPageSize;
+    private final int initialPageSize;
+    private final long maxPageBytes;
+    private final double latencySpikeFactor;
+    private final ConcurrentMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    private PageSizeTuner(final int minPageSize,
+                          final int maxPageSize,
+                          final int initialPageSize,
+                          final long maxPageBytes,
+                          final double latencySpikeFactor)
+    {
+        this.minPageSize = minPageSize;
+        this.maxPageSize = maxPageSize;
+        this.initialPageSize = initialPageSize;
+        this.maxPageBytes = maxPageBytes;
+        this.latencySpikeFactor = latencySpikeFactor;
+    }
+
+    /**
+     * Fetches the page size to use for the next page of an endpoint.
+     *
+     * @param endpoint the endpoint, e.g. <code>/ip_policy_rules</code>
+     * @return the page size
+     */
+    public int pageSize(final String endpoint) {
+        return endpoint(endpoint).pageSize();
+    }
+
+    /**
+     * Records the fetch of a page, adjusting the page size of its endpoint.
+     *
+     * @param endpoint the endpoint, e.g. <code>/ip_policy_rules</code>
+     * @param pageSize the page size the page was requested with
+     * @param items the number of items in the page
+     * @param bytes the size of the page in bytes, or a negative number if it is unknown
+     * @param latency how long it took to fetch the page
+     */
+    public void record(final String endpoint, final int pageSize, final int items, final long bytes, final Duration latency) {
+        endpoint(endpoint).record(pageSize, items, bytes, latency.toNanos());
+    }
+
+    /**
+     * Fetches what has been learned about every endpoint tuned so far.
+     *
+     * @return the stats of each endpoint, by endpoint
+     */
+    public Map<String, Stats> getStats() {
+        final Map<String, Stats> stats = new TreeMap<>();
+        this.endpoints.forEach((name, endpoint) -> stats.put(name, endpoint.stats()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * Sets or replaces the <code>limit</code> query parameter of a page URI.
+     *
+     * @param uri a page URI, e.g. a <code>next_page_uri</code>
+     * @param pageSize the page size
+     * @return the URI with the page size as its limit
+     */
+    static URI withLimit(final URI uri, final int pageSize) {
+        final String string = uri.toString();
+        final int hash = string.indexOf('#');
+        final String fragment = hash < 0 ? "" : string.substring(hash);
+        final String withoutFragment = hash < 0 ? string : string.substring(0, hash);
+        final int question = withoutFragment.indexOf('?');
+        final StringBuilder sb = new StringBuilder(string.length() + 12)
+            .append(question < 0 ? withoutFragment : withoutFragment.substring(0, question))
+            .append('?');
+        if (question >= 0) {
+            for (final String param : withoutFragment.substring(question + 1).split("&")) {
+                if (!param.isEmpty() && !param.startsWith("limit=") && !param.equals("limit")) {
+                    sb.append(param).append('&');
+                }
+            }
+        }
+        return URI.create(sb.append("limit=").append(pageSize).append(fragment).toString());
+    }
+
+    private Endpoint endpoint(final String endpoint) {
+        return this.endpoints.computeIfAbsent(Objects.requireNonNull(endpoint, "endpoint is required"), name -> new Endpoint());
+    }
+
+    private final class Endpoint {
+        private int pageSize = PageSizeTuner.this.initialPageSize;
+        private int direction = 1;
+        private double itemsPerSecond = 0;
+        private double latencyNanos = 0;
+        private double nanosPerItem = 0;
+        private double bytesPerItem = -1;
+        private long pages = 0;
+
+        private synchronized int pageSize() {
+            return this.pageSize;
+        }
+
+        private synchronized void record(final int requested, final int items, final long bytes, final long nanos) {
+            this.pages++;
+            if (bytes >= 0 && items > 0) {
+                final double size = (double) bytes / items;
+                this.bytesPerItem = this.bytesPerItem < 0 ? size : this.bytesPerItem + SMOOTHING * (size - this.bytesPerItem);
+            }
+            final double perItem = (double) nanos / Math.max(1, requested);
+            final boolean spike = this.nanosPerItem > 0 && perItem > PageSizeTuner.this.latencySpikeFactor * this.nanosPerItem;
+            this.nanosPerItem = this.nanosPerItem == 0 ? perItem : this.nanosPerItem + SMOOTHING * (perItem - this.nanosPerItem);
+            this.latencyNanos = this.latencyNanos == 0 ? nanos : this.latencyNanos + SMOOTHING * (nanos - this.latencyNanos);
+            if (spike) {
+                this.direction = -1;
+                resize(this.pageSize / 2);
+            } else if (items >= requested && requested == this.pageSize) {
+                // only full pages at the current size say anything about it; the last page of a list is smaller
+                final double throughput = items * 1e9 / Math.max(1, nanos);
+                if (throughput < this.itemsPerSecond) {
+                    this.direction = -this.direction;
+                }
+                this.itemsPerSecond = throughput;
+                resize(this.direction > 0 ? (int) Math.ceil(this.pageSize * STEP) : (int) (this.pageSize / STEP));
+            }
+        }
+
+        private void resize(final int pageSize) {
+            int bounded = Math.max(PageSizeTuner.this.minPageSize, Math.min(PageSizeTuner.this.maxPageSize, pageSize));
+            if (this.bytesPerItem > 0) {
+                bounded = (int) Math.max(PageSizeTuner.this.minPageSize, Math.min(bounded, PageSizeTuner.this.maxPageBytes / this.bytesPerItem));
+            }
+            if (bounded == this.pageSize && (bounded == PageSizeTuner.this.minPageSize || bounded == PageSizeTuner.this.maxPageSize)) {
+                // bounced off a bound: probe the other way next time
+                this.direction = bounded == PageSizeTuner.this.minPageSize ? 1 : -1;
+            }
+            this.pageSize = bounded;
+        }
+
+        private synchronized Stats stats() {
+            return new Stats(
+                this.pageSize,
+                this.itemsPerSecond,
+                Duration.ofNanos((long) this.latencyNanos),
+                this.bytesPerItem < 0 ? Optional.empty() : Optional.of(this.bytesPerItem),
+                this.pages
+            );
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.io.ContentReference;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Decodes the items of a page in parallel on a {@link ForkJoinPool}.
+ *
+ * The bytes of the items array are scanned once for the boundaries of its elements, tracking only nesting and
+ * strings, which is much cheaper than tokenizing them. The elements are then split into chunks that are
+ * deserialized concurrently into their slot of the list, so the items keep their order, while the thread that
+ * reads the page skips the array with its own parser.
+ *
+ * @see DefinitionsModule#PARALLEL_LIST_ITEMS
+ */
+final class ParallelItems {
+    /**
+     * The number of elements below which a chunk is not split any further.
+     */
+    private static final int MIN_CHUNK = 8;
+
+    private ParallelItems() {
+    }
+
+    /**
+     * Reads the items array the parser is on in parallel, if the parser reads from a byte array.
+     *
+     * @param p the parser, positioned on the start of the items array
+     * @param pool the pool to decode the items on
+     * @param elementClass the class of the items
+     * @return the items, or {@code null} if they could not be located in the source, in which case the parser has
+     *         not moved
+     * @throws IOException if an item could not be read
+     */
+    static <E> List<E> read(final JsonParser p, final ForkJoinPool pool, final Class<E> elementClass) throws IOException {
+        final ObjectCodec codec = p.getCodec();
+        final JsonLocation location = p.getTokenLocation();
+        final ContentReference source = location.contentReference();
+        if (codec == null || source == null || !(source.getRawContent() instanceof byte[]) || location.getByteOffset() < 0) {
+            return null;
+        }
+        final byte[] bytes = (byte[]) source.getRawContent();
+        // the parser counts bytes from the start of its input, which may be a slice of the array
+        final int offset = Math.max(0, source.contentOffset());
+        final int end = source.contentLength() < 0 ? bytes.length : Math.min(bytes.length, offset + source.contentLength());
+        final long start = offset + location.getByteOffset();
+        if (start >= end || bytes[(int) start] != '[') {
+            return null;
+        }
+        final int[] bounds = scan(bytes, (int) start, end);
+        if (bounds == null) {
+            return null;
+        }
+
+        final Object[] elements = new Object[bounds.length / 2];
+        final Chunk<E> chunk = new Chunk<>(codec, elementClass, bytes, bounds, elements, 0, elements.length,
+            Math.max(MIN_CHUNK, elements.length / (pool.getParallelism() * 4) + 1));
+        final ForkJoinTask<Void> task = pool.submit(chunk);
+        try {
+            p.skipChildren();
+        } catch (final IOException e) {
+            task.cancel(true);
+            throw e;
+        }
+        try {
+            task.join();
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+        @SuppressWarnings("unchecked")
+        final List<E> items = (List<E>) Arrays.asList(elements);
+        return new ArrayList<>(items);
+    }
+
+    /**
+     * Finds the elements of the array starting at an offset: the offset of the first byte of each element, and the
+     * one of the comma or bracket that ends it, trailing whitespace aside. Bytes from the end offset on are not
+     * looked at.
+     *
+     * @return the offsets, two per element, or {@code null} if the array is not terminated
+     */
+    static int[] scan(final byte[] bytes, final int start, final int end) {
+        int[] bounds = new int[64];
+        int count = 0;
+        int depth = 0;
+        int element = -1;
+        boolean inString = false;
+        for (int i = start + 1; i < end; i++) {
+            final byte b = bytes[i];
+            if (inString) {
+                if (b == '\\') {
+                    i++;
+                } else if (b == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+            switch (b) {
+                case ' ':
+                case '\t':
+                case '\n':
+                case '\r':
+                    continue;
+                case '"':
+                    inString = true;
+                    break;
+                case '{':
+                case '[':
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                    if (depth-- > 0) {
+                        break;
+                    }
+                    // fall through: the end of the array
+                case ',':
+                    if (depth > 0) {
+                        break;
+                    }
+                    if (element >= 0) {
+                        if (count + 2 > bounds.length) {
+                            bounds = Arrays.copyOf(bounds, bounds.length * 2);
+                        }
+                        bounds[count++] = element;
+                        bounds[count++] = i;
+                        element = -1;
+                    }
+                    if (b != ',') {
+                        return Arrays.copyOf(bounds, count);
+                    }
+                    continue;
+                default:
+                    break;
+            }
+            if (element < 0) {
+                element = i;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Deserializes a range of elements, splitting it in two until it is small enough.
+     */
+    private static final class Chunk<E> extends RecursiveAction {
+        private final ObjectCodec codec;
+        private final Class<E> elementClass;
+        private final byte[] bytes;
+        private final int[] bounds;
+        private final Object[] elements;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        private Chunk(final ObjectCodec codec,
+                      final Class<E> elementClass,
+                      final byte[] bytes,
+                      final int[] bounds,
+                      final Object[] elements,
+                      final int from,
+                      final int to,
+                      final int threshold)
+        {
+            this.codec = codec;
+            this.elementClass = elementClass;
+            this.bytes = bytes;
+            this.bounds = bounds;
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > this.threshold) {
+                final int middle = (this.from + this.to) >>> 1;
+                invokeAll(
+                    new Chunk<>(this.codec, this.elementClass, this.bytes, this.bounds, this.elements, this.from, middle, this.threshold),
+                    new Chunk<>(this.codec, this.elementClass, this.bytes, this.bounds, this.elements, middle, this.to, this.threshold)
+                );
+                return;
+            }
+            final JsonFactory factory = this.codec.getFactory();
+            for (int i = this.from; i < this.to; i++) {
+                final int start = this.bounds[2 * i];
+                final int end = this.bounds[2 * i + 1];
+                try (final JsonParser parser = factory.createParser(this.bytes, start, end - start)) {
+                    parser.setCodec(this.codec);
+                    this.elements[i] = this.codec.readValue(parser, this.elementClass);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException("Failed to deserialize " + this.elementClass.getSimpleName() + " at index " + i, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,356 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A full scan of a list call that fetches several ranges of items concurrently instead of following a single
+ * chain of <code>next_page_uri</code>s.
+ *
+ * ngrok IDs sort by creation time and lists are returned newest first, so any ID created at a given second is
+ * a valid <code>before_id</code> cursor for the items created before it. The scan fetches the first page,
+ * splits the time between the oldest item of that page and {@link #since(OffsetDateTime)} into equal
+ * partitions, and fetches each partition from its upper cursor down to its lower bound, with at most
+ * {@link #concurrency(int)} partitions in flight. Since items are usually crowded in the most recent partitions,
+ * a worker left without a partition to start splits off the older half of the remaining time of the busiest
+ * running one, so that all workers keep fetching until the end of the scan. The partitions are then
+ * concatenated, newest first and without duplicates, just as a serial scan would have returned them:
+ *
+ * <pre>{@code
+ * List<Credential> credentials = ngrok.credentials().listAll()
+ *     .partitioned(16)
+ *     .concurrency(8)
+ *     .blockingCall();
+ * }</pre>
+ *
+ * The scan falls back to following pages serially when the first page already is the last one, or when the IDs
+ * of the items are not time-sortable. All the items are held in memory until the scan completes. If a page
+ * cannot be fetched, or the scan is cancelled, the requests of the other partitions are cancelled.
+ *
+ * @param <I> the type of the items
+ */
+public final class PartitionedScan<I> {
+    private final ListItems<I> items;
+    private final int partitions;
+    private int concurrency;
+    private long since = KsuidCursor.EPOCH;
+
+    PartitionedScan(final ListItems<I> items, final int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions must be positive: " + partitions);
+        }
+        this.items = items;
+        this.partitions = partitions;
+        this.concurrency = partitions;
+    }
+
+    /**
+     * Sets the maximum number of partitions fetched at the same time. Defaults to the number of partitions.
+     *
+     * @param concurrency the maximum number of partitions in flight
+     * @return the scan instance
+     * @throws IllegalArgumentException if <code>concurrency</code> is not positive
+     */
+    public PartitionedScan<I> concurrency(final int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Sets the creation time of the oldest items to scan. Items created before it are not listed, and the
+     * partitions only span the time after it, so a tighter bound (e.g. when the account was created) spreads the
+     * items more evenly across partitions. Defaults to the start of ngrok IDs. When the IDs of the items are not
+     * time-sortable, the scan falls back to following pages serially and lists every item.
+     *
+     * @param since the creation time of the oldest items to scan
+     * @return the scan instance
+     */
+    public PartitionedScan<I> since(final OffsetDateTime since) {
+        this.since = Math.max(KsuidCursor.EPOCH, Objects.requireNonNull(since, "since is required").toEpochSecond());
+        return this;
+    }
+
+    /**
+     * Initiates the scan asynchronously.
+     *
+     * @return a {@link CompletionStage} of every item, newest first
+     */
+    public CompletionStage<List<I>> call() {
+        final long since = this.since;
+        final int concurrency = this.concurrency;
+        return this.items.fetchFirstPage(null).thenCompose(first -> {
+            final List<I> pageItems = this.items.itemsOf(first);
+            final Optional<URI> nextPageUri = ListItems.nextPageUriOf(first);
+            if (pageItems.isEmpty()) {
+                return CompletableFuture.completedFuture(pageItems);
+            }
+            final String prefix = KsuidCursor.prefix(this.items.idOf(pageItems.get(0)));
+            final String last = this.items.idOf(pageItems.get(pageItems.size() - 1));
+            if (prefix == null || !last.startsWith(prefix) || KsuidCursor.prefix(last) == null) {
+                if (!nextPageUri.isPresent()) {
+                    return CompletableFuture.completedFuture(pageItems);
+                }
+                final SerialPartition serial = new SerialPartition(nextPageUri.get());
+                return serial.run().thenApply(v -> {
+                    final List<I> all = new ArrayList<>(pageItems);
+                    all.addAll(serial.items);
+                    return all;
+                });
+            }
+            // the first page may already reach past the oldest items to scan
+            final List<I> firstItems = newerThan(pageItems, KsuidCursor.cursor(prefix, since));
+            if (firstItems.size() < pageItems.size() || !nextPageUri.isPresent()) {
+                return CompletableFuture.completedFuture(firstItems);
+            }
+            return new Run(prefix, firstItems, KsuidCursor.timestamp(last) + 1, since, nextPageUri.get()).start(concurrency);
+        });
+    }
+
+    /**
+     * The items of a page, newest first, up to the first one older than a lower bound.
+     */
+    private List<I> newerThan(final List<I> pageItems, final String lowerBound) {
+        for (int i = 0; i < pageItems.size(); i++) {
+            if (this.items.idOf(pageItems.get(i)).compareTo(lowerBound) < 0) {
+                return new ArrayList<>(pageItems.subList(0, i));
+            }
+        }
+        return pageItems;
+    }
+
+    /**
+     * Initiates the scan and blocks until it completes.
+     *
+     * @return every item, newest first
+     * @throws InterruptedException if the thread was interrupted during the scan
+     */
+    public List<I> blockingCall() throws InterruptedException {
+        try {
+            return call().toCompletableFuture().get();
+        } catch (final ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * The state of one scan: its partitions, newest first, and the ones no worker has started yet.
+     */
+    private final class Run {
+        private final String prefix;
+        private final List<I> firstItems;
+        private final List<Partition> parts;
+        private final ArrayDeque<Partition> pending;
+        private final CompletableFuture<List<I>> result = new CompletableFuture<>();
+        private boolean cancelled = false;
+
+        private Run(final String prefix, final List<I> firstItems, final long until, final long since, final URI nextPageUri) {
+            this.prefix = prefix;
+            this.firstItems = firstItems;
+            this.parts = split(until, since, nextPageUri);
+            this.pending = new ArrayDeque<>(this.parts);
+        }
+
+        private List<Partition> split(final long until, final long since, final URI nextPageUri) {
+            final List<Partition> parts = new ArrayList<>(PartitionedScan.this.partitions);
+            final long span = Math.max(0, until - since);
+            final int count = (int) Math.max(1, Math.min(PartitionedScan.this.partitions, span));
+            for (int i = 0; i < count; i++) {
+                final long upper = until - span * i / count;
+                final long lower = i == count - 1 ? since : until - span * (i + 1) / count;
+                parts.add(i == 0
+                    ? new Partition(this.prefix, lower, upper, null, nextPageUri)
+                    : new Partition(this.prefix, lower, upper, KsuidCursor.cursor(this.prefix, upper), null)
+                );
+            }
+            return parts;
+        }
+
+        private CompletionStage<List<I>> start(final int concurrency) {
+            // cancelling the scan, or the failure of any partition, stops every other partition
+            this.result.whenComplete((items, cause) -> {
+                if (cause != null) {
+                    cancel();
+                }
+            });
+            final CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(concurrency, this.parts.size())];
+            for (int i = 0; i < workers.length; i++) {
+                workers[i] = work().toCompletableFuture();
+                workers[i].whenComplete((v, cause) -> {
+                    if (cause != null) {
+                        this.result.completeExceptionally(cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause);
+                    }
+                });
+            }
+            CompletableFuture.allOf(workers).thenRun(() -> this.result.complete(merge()));
+            return this.result;
+        }
+
+        private CompletionStage<Void> work() {
+            final Partition part = take();
+            if (part == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return part.run().thenCompose(v -> work());
+        }
+
+        /**
+         * Takes a partition no worker has started yet or, once there are none left, splits off the older half of the
+         * running partition with the most time left to scan. Items are usually crowded in the most recent
+         * partitions, which keeps idle workers busy with them.
+         */
+        private synchronized Partition take() {
+            if (this.cancelled) {
+                return null;
+            }
+            final Partition next = this.pending.poll();
+            if (next != null) {
+                next.running = true;
+                return next;
+            }
+            Partition busiest = null;
+            for (final Partition part : this.parts) {
+                if (part.running && part.upperTime - part.lowerTime >= 2 && (busiest == null || part.upperTime - part.lowerTime > busiest.upperTime - busiest.lowerTime)) {
+                    busiest = part;
+                }
+            }
+            if (busiest == null) {
+                return null;
+            }
+            final long middle = busiest.lowerTime + (busiest.upperTime - busiest.lowerTime) / 2;
+            final Partition older = new Partition(this.prefix, busiest.lowerTime, middle, KsuidCursor.cursor(this.prefix, middle), null);
+            older.lowerBound = busiest.lowerBound;
+            older.running = true;
+            busiest.lowerTime = middle;
+            busiest.lowerBound = KsuidCursor.cursor(this.prefix, middle);
+            this.parts.add(this.parts.indexOf(busiest) + 1, older);
+            return older;
+        }
+
+        private void cancel() {
+            final List<CompletableFuture<?>> requests = new ArrayList<>();
+            synchronized (this) {
+                this.cancelled = true;
+                for (final Partition part : this.parts) {
+                    if (part.request != null) {
+                        requests.add(part.request);
+                    }
+                }
+            }
+            requests.forEach(request -> request.cancel(true));
+        }
+
+        private synchronized List<I> merge() {
+            final List<I> merged = new ArrayList<>(this.firstItems);
+            String previous = PartitionedScan.this.items.idOf(this.firstItems.get(this.firstItems.size() - 1));
+            for (final Partition part : this.parts) {
+                for (final I item : part.items) {
+                    final String id = PartitionedScan.this.items.idOf(item);
+                    if (id.compareTo(previous) < 0) {
+                        merged.add(item);
+                        previous = id;
+                    }
+                }
+            }
+            return merged;
+        }
+
+        /**
+         * The items created in a range of time, fetched newest first from an upper cursor (or from a page URI) until
+         * an item older than the lower bound shows up. The lower bound is raised when the older part of the range
+         * is split off to another partition.
+         */
+        private final class Partition {
+            private final String beforeId;
+            private final URI firstPageUri;
+            private final List<I> items = new ArrayList<>();
+            private String lowerBound;
+            private long lowerTime;
+            private long upperTime;
+            private boolean running = false;
+            private CompletableFuture<?> request;
+
+            private Partition(final String prefix, final long lowerTime, final long upperTime, final String beforeId, final URI firstPageUri) {
+                this.lowerBound = KsuidCursor.cursor(prefix, lowerTime);
+                this.lowerTime = lowerTime;
+                this.upperTime = upperTime;
+                this.beforeId = beforeId;
+                this.firstPageUri = firstPageUri;
+            }
+
+            private CompletionStage<Void> run() {
+                return fetch(this.firstPageUri != null ? PartitionedScan.this.items.fetchPage(this.firstPageUri) : PartitionedScan.this.items.fetchFirstPage(this.beforeId));
+            }
+
+            private CompletionStage<Void> fetch(final CompletionStage<?> page) {
+                final CompletableFuture<?> request = page.toCompletableFuture();
+                synchronized (Run.this) {
+                    if (Run.this.cancelled) {
+                        request.cancel(true);
+                    }
+                    this.request = request;
+                }
+                return request.thenCompose(this::collect);
+            }
+
+            private CompletionStage<Void> collect(final Object page) {
+                synchronized (Run.this) {
+                    for (final I item : PartitionedScan.this.items.itemsOf(page)) {
+                        final String id = PartitionedScan.this.items.idOf(item);
+                        if (id.compareTo(this.lowerBound) < 0) {
+                            return finish();
+                        }
+                        this.items.add(item);
+                        this.upperTime = Math.max(this.lowerTime, KsuidCursor.timestamp(id));
+                    }
+                }
+                final Optional<URI> nextPageUri = ListItems.nextPageUriOf(page);
+                return nextPageUri.isPresent() ? fetch(PartitionedScan.this.items.fetchPage(nextPageUri.get())) : finish();
+            }
+
+            private CompletionStage<Void> finish() {
+                synchronized (Run.this) {
+                    this.running = false;
+                    this.request = null;
+                }
+                return CompletableFuture.completedFuture(null);
+            }
+        }
+    }
+
+    /**
+     * The items of a list followed serially, from a page URI until the last page.
+     */
+    private final class SerialPartition {
+        private final URI firstPageUri;
+        private final List<I> items = new ArrayList<>();
+
+        private SerialPartition(final URI firstPageUri) {
+            this.firstPageUri = firstPageUri;
+        }
+
+        private CompletionStage<Void> run() {
+            return PartitionedScan.this.items.fetchPage(this.firstPageUri).thenCompose(this::collect);
+        }
+
+        private CompletionStage<Void> collect(final Object page) {
+            this.items.addAll(PartitionedScan.this.items.itemsOf(page));
+            return ListItems.nextPageUriOf(page)
+                .map(uri -> PartitionedScan.this.items.fetchPage(uri).thenCompose(this::collect))
+                .orElseGet(() -> CompletableFuture.completedFuture(null));
+        }
+    }
+}
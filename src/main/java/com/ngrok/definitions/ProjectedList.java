@@ -0,0 +1,70 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A page of a list response whose items have been decoded through a {@link Projection}.
+ *
+ * @param <V> the type of the projected items
+ */
+public class ProjectedList<V> implements Pageable {
+    private final List<V> items;
+    private final Optional<URI> uri;
+    private final Optional<URI> nextPageUri;
+
+    /**
+     * Creates a new projected list.
+     *
+     * @param items the projected items
+     * @param uri URI of the list API resource, if it was present in the response
+     * @param nextPageUri URI of the next page, or empty if there is no next page
+     */
+    public ProjectedList(final List<V> items, final URI uri, final Optional<URI> nextPageUri) {
+        this.items = Collections.unmodifiableList(Objects.requireNonNull(items, "items is required"));
+        this.uri = Optional.ofNullable(uri);
+        this.nextPageUri = Objects.requireNonNull(nextPageUri, "nextPageUri is required");
+    }
+
+    /**
+     * The projected items of the page.
+     *
+     * @return the items
+     */
+    public List<V> getItems() {
+        return this.items;
+    }
+
+    /**
+     * URI of the list API resource.
+     *
+     * @return the value of the property as a {@link URI} wrapped in an {@link Optional}
+     */
+    public Optional<URI> getUri() {
+        return this.uri;
+    }
+
+    /**
+     * URI of the next page, or empty if there is no next page
+     *
+     * @return the value of the property as a {@link URI} wrapped in an {@link Optional}
+     */
+    @Override
+    public Optional<URI> getNextPageUri() {
+        return this.nextPageUri;
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectedList{" +
+            "items='" + this.items +
+            "', uri='" + this.uri.map(URI::toString).orElse("(null)") +
+            "', nextPageUri='" + this.nextPageUri.map(URI::toString).orElse("(null)") +
+            "'}";
+    }
+}
@@ -0,0 +1,337 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.ngrok.ResponseDecoder;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Selects the fields of a resource to decode, for get and list calls that only need a few of them.
+ *
+ * The decoder skips every other field at the token level, so large fields (certificates, nested routes, status
+ * objects) are never bound. A projection is either a set of JSON field names, decoded into an {@link ObjectNode}
+ * holding just those fields, or a view interface whose getters name the fields to decode:
+ *
+ * <pre>{@code
+ * interface DomainSummary {
+ *     String getId();
+ *     Optional<String> getMetadata();
+ *     OffsetDateTime getCreatedAt();
+ * }
+ *
+ * Page<ProjectedList<DomainSummary>> page = ngrok.reservedDomains().list()
+ *     .call(Projection.of(DomainSummary.class))
+ *     .toCompletableFuture().get();
+ * }</pre>
+ *
+ * Getters are mapped to JSON fields by their {@link JsonProperty} annotation or, failing that, by converting
+ * the property name to snake case ({@code getCreatedAt} reads {@code created_at}). A field that is absent from
+ * the response reads as {@link Optional#empty()} for {@link Optional} getters, and {@code null} otherwise.
+ *
+ * Projections are immutable and can be shared between calls.
+ *
+ * @param <V> the type of the projected view
+ */
+public final class Projection<V> {
+    private final List<String> fieldNames;
+    private final Map<String, Integer> fieldIndexes;
+    private final FieldReader[] readers;
+    private final ViewFactory<V> factory;
+
+    private Projection(final List<String> fieldNames, final FieldReader[] readers, final ViewFactory<V> factory) {
+        this.fieldNames = Collections.unmodifiableList(fieldNames);
+        this.fieldIndexes = new HashMap<>();
+        for (int i = 0; i < fieldNames.size(); i++) {
+            this.fieldIndexes.put(fieldNames.get(i), i);
+        }
+        this.readers = readers;
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a projection onto a set of JSON fields.
+     *
+     * @param fieldNames the names of the JSON fields to decode, e.g. <code>created_at</code>
+     * @return a new {@link Projection}
+     */
+    public static Projection<ObjectNode> fields(final String... fieldNames) {
+        return fields(Arrays.asList(fieldNames));
+    }
+
+    /**
+     * Creates a projection onto a set of JSON fields.
+     *
+     * @param fieldNames the names of the JSON fields to decode, e.g. <code>created_at</code>
+     * @return a new {@link Projection}
+     */
+    public static Projection<ObjectNode> fields(final Collection<String> fieldNames) {
+        final List<String> names = new ArrayList<>(new LinkedHashSet<>(fieldNames));
+        names.forEach(name -> Objects.requireNonNull(name, "fieldNames must not contain null"));
+        final FieldReader[] readers = new FieldReader[names.size()];
+        Arrays.fill(readers, (FieldReader) p -> p.getCodec().readTree(p));
+        return new Projection<>(names, readers, values -> {
+            final ObjectNode node = JsonNodeFactory.instance.objectNode();
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    node.set(names.get(i), (JsonNode) values[i]);
+                }
+            }
+            return node;
+        });
+    }
+
+    /**
+     * Creates a projection onto a view interface. Every abstract method of the interface must be a getter taking
+     * no arguments and returning a reference type.
+     *
+     * @param viewInterface the view interface
+     * @param <V> the type of the view
+     * @return a new {@link Projection}
+     * @throws IllegalArgumentException if the interface cannot be used as a view
+     */
+    public static <V> Projection<V> of(final Class<V> viewInterface) {
+        if (!viewInterface.isInterface()) {
+            throw new IllegalArgumentException(viewInterface.getName() + " is not an interface");
+        }
+        final List<String> names = new ArrayList<>();
+        final List<FieldReader> readers = new ArrayList<>();
+        final Map<Method, Integer> getters = new HashMap<>();
+        final Map<Method, Object> absentValues = new HashMap<>();
+        for (final Method method : viewInterface.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            if (method.isDefault() || method.getParameterCount() != 0 || method.getReturnType().isPrimitive()) {
+                throw new IllegalArgumentException(method + " is not a getter of a reference type");
+            }
+            final String name = fieldName(method);
+            Integer index = names.indexOf(name);
+            if (index < 0) {
+                index = names.size();
+                names.add(name);
+                readers.add(new TypedFieldReader(method.getGenericReturnType()));
+            }
+            getters.put(method, index);
+            absentValues.put(method, method.getReturnType() == Optional.class ? Optional.empty() : null);
+        }
+        return new Projection<>(names, readers.toArray(new FieldReader[0]), values -> viewInterface.cast(Proxy.newProxyInstance(
+            viewInterface.getClassLoader(),
+            new Class<?>[] { viewInterface },
+            new View(viewInterface, names, getters, absentValues, values)
+        )));
+    }
+
+    /**
+     * Fetches the names of the JSON fields that are decoded.
+     *
+     * @return the field names
+     */
+    public List<String> getFieldNames() {
+        return this.fieldNames;
+    }
+
+    /**
+     * Reads a projected view of a JSON object, skipping the fields that are not part of the projection.
+     *
+     * @param p a parser positioned on (or just before) the start of the object
+     * @return the view, or {@code null} if the value is a JSON null
+     * @throws IOException if the object could not be read
+     */
+    public V read(final JsonParser p) throws IOException {
+        final JsonToken token = p.hasCurrentToken() ? p.currentToken() : p.nextToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw JsonMappingException.from(p, "Expected a JSON object to project, got " + token);
+        }
+        final Object[] values = new Object[this.readers.length];
+        for (String field = p.nextFieldName(); field != null; field = p.nextFieldName()) {
+            p.nextToken();
+            final Integer index = this.fieldIndexes.get(field);
+            if (index == null) {
+                p.skipChildren();
+            } else {
+                values[index] = this.readers[index].read(p);
+            }
+        }
+        return this.factory.create(values);
+    }
+
+    /**
+     * Creates a decoder for list responses that projects each item of the list.
+     *
+     * @param itemsField the name of the JSON field holding the items, e.g. <code>reserved_domains</code>
+     * @return a decoder of {@link ProjectedList}s
+     */
+    public ResponseDecoder<ProjectedList<V>> forList(final String itemsField) {
+        Objects.requireNonNull(itemsField, "itemsField is required");
+        return p -> {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                throw JsonMappingException.from(p, "Expected a JSON object, got " + p.currentToken());
+            }
+            final List<V> items = new ArrayList<>();
+            URI uri = null;
+            URI nextPageUri = null;
+            for (String field = p.nextFieldName(); field != null; field = p.nextFieldName()) {
+                final JsonToken token = p.nextToken();
+                if (field.equals(itemsField) && token == JsonToken.START_ARRAY) {
+                    while (p.nextToken() != JsonToken.END_ARRAY) {
+                        items.add(read(p));
+                    }
+                } else if (field.equals("uri") && token == JsonToken.VALUE_STRING) {
+                    uri = URI.create(p.getText());
+                } else if (field.equals("next_page_uri") && token == JsonToken.VALUE_STRING) {
+                    nextPageUri = URI.create(p.getText());
+                } else {
+                    p.skipChildren();
+                }
+            }
+            return new ProjectedList<>(items, uri, Optional.ofNullable(nextPageUri));
+        };
+    }
+
+    private static String fieldName(final Method method) {
+        final JsonProperty property = method.getAnnotation(JsonProperty.class);
+        if (property != null && !property.value().isEmpty()) {
+            return property.value();
+        }
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            name = name.substring(3);
+        } else if (name.startsWith("is") && name.length() > 2) {
+            name = name.substring(2);
+        }
+        final StringBuilder sb = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0) {
+                    sb.append('_');
+                }
+                sb.append(Character.toLowerCase(c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    @FunctionalInterface
+    private interface FieldReader {
+        Object read(JsonParser p) throws IOException;
+    }
+
+    /**
+     * Binds a field to the return type of a getter. The type is resolved with the type factory of the codec doing
+     * the reading, as modules like the Jdk8 one customize it (e.g. to recognize {@link Optional}).
+     */
+    private static final class TypedFieldReader implements FieldReader {
+        private final Type type;
+        private volatile TypeFactory typeFactory;
+        private volatile JavaType javaType;
+
+        private TypedFieldReader(final Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public Object read(final JsonParser p) throws IOException {
+            final ObjectCodec codec = p.getCodec();
+            final TypeFactory factory = codec instanceof ObjectMapper ? ((ObjectMapper) codec).getTypeFactory()
+                : codec instanceof ObjectReader ? ((ObjectReader) codec).getTypeFactory()
+                : TypeFactory.defaultInstance();
+            JavaType resolved = this.javaType;
+            if (resolved == null || this.typeFactory != factory) {
+                resolved = factory.constructType(this.type);
+                this.javaType = resolved;
+                this.typeFactory = factory;
+            }
+            return codec.readValue(p, resolved);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ViewFactory<V> {
+        V create(Object[] values);
+    }
+
+    private static final class View implements InvocationHandler {
+        private final Class<?> viewInterface;
+        private final List<String> names;
+        private final Map<Method, Integer> getters;
+        private final Map<Method, Object> absentValues;
+        private final Object[] values;
+
+        private View(final Class<?> viewInterface,
+                     final List<String> names,
+                     final Map<Method, Integer> getters,
+                     final Map<Method, Object> absentValues,
+                     final Object[] values)
+        {
+            this.viewInterface = viewInterface;
+            this.names = names;
+            this.getters = getters;
+            this.absentValues = absentValues;
+            this.values = values;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) {
+            final Integer index = this.getters.get(method);
+            if (index != null) {
+                final Object value = this.values[index];
+                return value != null ? value : this.absentValues.get(method);
+            }
+            switch (method.getName()) {
+                case "equals":
+                    if (args[0] == null || !Proxy.isProxyClass(args[0].getClass())) {
+                        return false;
+                    }
+                    final InvocationHandler other = Proxy.getInvocationHandler(args[0]);
+                    return other instanceof View
+                        && ((View) other).viewInterface == this.viewInterface
+                        && Arrays.equals(((View) other).values, this.values);
+                case "hashCode":
+                    return Arrays.hashCode(this.values);
+                case "toString":
+                    final StringBuilder sb = new StringBuilder(this.viewInterface.getSimpleName()).append('{');
+                    for (int i = 0; i < this.values.length; i++) {
+                        sb.append(i == 0 ? "" : ", ").append(this.names.get(i)).append("='").append(this.values[i]).append('\'');
+                    }
+                    return sb.append('}').toString();
+                default:
+                    throw new UnsupportedOperationException(method.toString());
+            }
+        }
+    }
+}
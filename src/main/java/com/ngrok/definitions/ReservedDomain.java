@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -278,4 +288,143 @@ public class ReservedDomain {
             "', acmeChallengeCnameTarget='" + this.acmeChallengeCnameTarget.orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link ReservedDomain}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<ReservedDomain> {
+        private JsonDeserializer<Object> createdAtDeserializer;
+        private JsonDeserializer<Object> certificateDeserializer;
+        private JsonDeserializer<Object> certificateManagementPolicyDeserializer;
+        private JsonDeserializer<Object> certificateManagementStatusDeserializer;
+
+        Deserializer() {
+            super(ReservedDomain.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.createdAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.certificateDeserializer = findDeserializer(ctxt, Ref.class);
+            this.certificateManagementPolicyDeserializer = findDeserializer(ctxt, ReservedDomainCertPolicy.class);
+            this.certificateManagementStatusDeserializer = findDeserializer(ctxt, ReservedDomainCertStatus.class);
+        }
+
+        @Override
+        protected ReservedDomain deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String id = null;
+            java.net.URI uri = null;
+            java.time.OffsetDateTime createdAt = null;
+            Optional<String> description = null;
+            Optional<String> metadata = null;
+            String domain = null;
+            String region = null;
+            Optional<String> cnameTarget = null;
+            Optional<Ref> certificate = null;
+            Optional<ReservedDomainCertPolicy> certificateManagementPolicy = null;
+            Optional<ReservedDomainCertStatus> certificateManagementStatus = null;
+            Optional<String> acmeChallengeCnameTarget = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    case "created_at":
+                        createdAt = (java.time.OffsetDateTime) readValue(p, ctxt, this.createdAtDeserializer);
+                        break;
+                    case "description":
+                        description = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "metadata":
+                        metadata = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "domain":
+                        domain = readString(p, ctxt);
+                        break;
+                    case "region":
+                        region = readString(p, ctxt);
+                        break;
+                    case "cname_target":
+                        cnameTarget = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "certificate":
+                        certificate = Optional.ofNullable((Ref) readValue(p, ctxt, this.certificateDeserializer));
+                        break;
+                    case "certificate_management_policy":
+                        certificateManagementPolicy = Optional.ofNullable((ReservedDomainCertPolicy) readValue(p, ctxt, this.certificateManagementPolicyDeserializer));
+                        break;
+                    case "certificate_management_status":
+                        certificateManagementStatus = Optional.ofNullable((ReservedDomainCertStatus) readValue(p, ctxt, this.certificateManagementStatusDeserializer));
+                        break;
+                    case "acme_challenge_cname_target":
+                        acmeChallengeCnameTarget = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new ReservedDomain(id, uri, createdAt, description, metadata, domain, region, cnameTarget, certificate, certificateManagementPolicy, certificateManagementStatus, acmeChallengeCnameTarget);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link ReservedDomain}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<ReservedDomain> {
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+        private static final SerializableString FIELD_CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString FIELD_DESCRIPTION = new SerializedString("description");
+        private static final SerializableString FIELD_METADATA = new SerializedString("metadata");
+        private static final SerializableString FIELD_DOMAIN = new SerializedString("domain");
+        private static final SerializableString FIELD_REGION = new SerializedString("region");
+        private static final SerializableString FIELD_CNAME_TARGET = new SerializedString("cname_target");
+        private static final SerializableString FIELD_CERTIFICATE = new SerializedString("certificate");
+        private static final SerializableString FIELD_CERTIFICATE_MANAGEMENT_POLICY = new SerializedString("certificate_management_policy");
+        private static final SerializableString FIELD_CERTIFICATE_MANAGEMENT_STATUS = new SerializedString("certificate_management_status");
+        private static final SerializableString FIELD_ACME_CHALLENGE_CNAME_TARGET = new SerializedString("acme_challenge_cname_target");
+
+        private JsonSerializer<Object> createdAtSerializer;
+        private JsonSerializer<Object> certificateSerializer;
+        private JsonSerializer<Object> certificateManagementPolicySerializer;
+        private JsonSerializer<Object> certificateManagementStatusSerializer;
+
+        Serializer() {
+            super(ReservedDomain.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.createdAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.certificateSerializer = findSerializer(provider, Ref.class);
+            this.certificateManagementPolicySerializer = findSerializer(provider, ReservedDomainCertPolicy.class);
+            this.certificateManagementStatusSerializer = findSerializer(provider, ReservedDomainCertStatus.class);
+        }
+
+        @Override
+        public void serialize(final ReservedDomain value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ID, value.getId());
+            writeUri(gen, FIELD_URI, value.getUri());
+            writeValue(gen, provider, FIELD_CREATED_AT, value.getCreatedAt(), this.createdAtSerializer);
+            writeString(gen, FIELD_DESCRIPTION, value.getDescription().orElse(null));
+            writeString(gen, FIELD_METADATA, value.getMetadata().orElse(null));
+            writeString(gen, FIELD_DOMAIN, value.getDomain());
+            writeString(gen, FIELD_REGION, value.getRegion());
+            writeString(gen, FIELD_CNAME_TARGET, value.getCnameTarget().orElse(null));
+            writeValue(gen, provider, FIELD_CERTIFICATE, value.getCertificate().orElse(null), this.certificateSerializer);
+            writeValue(gen, provider, FIELD_CERTIFICATE_MANAGEMENT_POLICY, value.getCertificateManagementPolicy().orElse(null), this.certificateManagementPolicySerializer);
+            writeValue(gen, provider, FIELD_CERTIFICATE_MANAGEMENT_STATUS, value.getCertificateManagementStatus().orElse(null), this.certificateManagementStatusSerializer);
+            writeString(gen, FIELD_ACME_CHALLENGE_CNAME_TARGET, value.getAcmeChallengeCnameTarget().orElse(null));
+            gen.writeEndObject();
+        }
+    }
 }
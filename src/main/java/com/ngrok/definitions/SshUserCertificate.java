@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -325,4 +335,151 @@ public class SshUserCertificate {
             "', certificate='" + this.certificate +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link SshUserCertificate}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<SshUserCertificate> {
+        private JsonDeserializer<Object> createdAtDeserializer;
+        private JsonDeserializer<Object> validAfterDeserializer;
+        private JsonDeserializer<Object> validUntilDeserializer;
+
+        Deserializer() {
+            super(SshUserCertificate.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.createdAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.validAfterDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.validUntilDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+        }
+
+        @Override
+        protected SshUserCertificate deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String id = null;
+            java.net.URI uri = null;
+            java.time.OffsetDateTime createdAt = null;
+            Optional<String> description = null;
+            Optional<String> metadata = null;
+            String publicKey = null;
+            String keyType = null;
+            String sshCertificateAuthorityId = null;
+            java.util.List<String> principals = null;
+            java.util.Map<String, String> criticalOptions = null;
+            java.util.Map<String, String> extensions = null;
+            java.time.OffsetDateTime validAfter = null;
+            java.time.OffsetDateTime validUntil = null;
+            String certificate = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    case "created_at":
+                        createdAt = (java.time.OffsetDateTime) readValue(p, ctxt, this.createdAtDeserializer);
+                        break;
+                    case "description":
+                        description = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "metadata":
+                        metadata = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "public_key":
+                        publicKey = readString(p, ctxt);
+                        break;
+                    case "key_type":
+                        keyType = readString(p, ctxt);
+                        break;
+                    case "ssh_certificate_authority_id":
+                        sshCertificateAuthorityId = readString(p, ctxt);
+                        break;
+                    case "principals":
+                        principals = readStringList(p, ctxt);
+                        break;
+                    case "critical_options":
+                        criticalOptions = readStringMap(p, ctxt);
+                        break;
+                    case "extensions":
+                        extensions = readStringMap(p, ctxt);
+                        break;
+                    case "valid_after":
+                        validAfter = (java.time.OffsetDateTime) readValue(p, ctxt, this.validAfterDeserializer);
+                        break;
+                    case "valid_until":
+                        validUntil = (java.time.OffsetDateTime) readValue(p, ctxt, this.validUntilDeserializer);
+                        break;
+                    case "certificate":
+                        certificate = readString(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new SshUserCertificate(id, uri, createdAt, description, metadata, publicKey, keyType, sshCertificateAuthorityId, principals, criticalOptions, extensions, validAfter, validUntil, certificate);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link SshUserCertificate}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<SshUserCertificate> {
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+        private static final SerializableString FIELD_CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString FIELD_DESCRIPTION = new SerializedString("description");
+        private static final SerializableString FIELD_METADATA = new SerializedString("metadata");
+        private static final SerializableString FIELD_PUBLIC_KEY = new SerializedString("public_key");
+        private static final SerializableString FIELD_KEY_TYPE = new SerializedString("key_type");
+        private static final SerializableString FIELD_SSH_CERTIFICATE_AUTHORITY_ID = new SerializedString("ssh_certificate_authority_id");
+        private static final SerializableString FIELD_PRINCIPALS = new SerializedString("principals");
+        private static final SerializableString FIELD_CRITICAL_OPTIONS = new SerializedString("critical_options");
+        private static final SerializableString FIELD_EXTENSIONS = new SerializedString("extensions");
+        private static final SerializableString FIELD_VALID_AFTER = new SerializedString("valid_after");
+        private static final SerializableString FIELD_VALID_UNTIL = new SerializedString("valid_until");
+        private static final SerializableString FIELD_CERTIFICATE = new SerializedString("certificate");
+
+        private JsonSerializer<Object> createdAtSerializer;
+        private JsonSerializer<Object> validAfterSerializer;
+        private JsonSerializer<Object> validUntilSerializer;
+
+        Serializer() {
+            super(SshUserCertificate.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.createdAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.validAfterSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.validUntilSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+        }
+
+        @Override
+        public void serialize(final SshUserCertificate value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ID, value.getId());
+            writeUri(gen, FIELD_URI, value.getUri());
+            writeValue(gen, provider, FIELD_CREATED_AT, value.getCreatedAt(), this.createdAtSerializer);
+            writeString(gen, FIELD_DESCRIPTION, value.getDescription().orElse(null));
+            writeString(gen, FIELD_METADATA, value.getMetadata().orElse(null));
+            writeString(gen, FIELD_PUBLIC_KEY, value.getPublicKey());
+            writeString(gen, FIELD_KEY_TYPE, value.getKeyType());
+            writeString(gen, FIELD_SSH_CERTIFICATE_AUTHORITY_ID, value.getSshCertificateAuthorityId());
+            writeStringList(gen, FIELD_PRINCIPALS, value.getPrincipals());
+            writeStringMap(gen, FIELD_CRITICAL_OPTIONS, value.getCriticalOptions());
+            writeStringMap(gen, FIELD_EXTENSIONS, value.getExtensions());
+            writeValue(gen, provider, FIELD_VALID_AFTER, value.getValidAfter(), this.validAfterSerializer);
+            writeValue(gen, provider, FIELD_VALID_UNTIL, value.getValidUntil(), this.validUntilSerializer);
+            writeString(gen, FIELD_CERTIFICATE, value.getCertificate());
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -123,4 +130,51 @@ public class StaticBackendTls {
             "enabled='" + this.enabled +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link StaticBackendTls}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<StaticBackendTls> {
+        Deserializer() {
+            super(StaticBackendTls.class);
+        }
+
+        @Override
+        protected StaticBackendTls deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            Boolean enabled = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "enabled":
+                        enabled = readBoolean(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new StaticBackendTls(enabled);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link StaticBackendTls}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<StaticBackendTls> {
+        private static final SerializableString FIELD_ENABLED = new SerializedString("enabled");
+
+        Serializer() {
+            super(StaticBackendTls.class);
+        }
+
+        @Override
+        public void serialize(final StaticBackendTls value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeBoolean(gen, FIELD_ENABLED, value.getEnabled());
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -432,4 +442,201 @@ public class TlsCertificate {
             "', subjectCountry='" + this.subjectCountry +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link TlsCertificate}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<TlsCertificate> {
+        private JsonDeserializer<Object> createdAtDeserializer;
+        private JsonDeserializer<Object> subjectAlternativeNamesDeserializer;
+        private JsonDeserializer<Object> issuedAtDeserializer;
+        private JsonDeserializer<Object> notBeforeDeserializer;
+        private JsonDeserializer<Object> notAfterDeserializer;
+
+        Deserializer() {
+            super(TlsCertificate.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.createdAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.subjectAlternativeNamesDeserializer = findDeserializer(ctxt, TlsCertificateSaNs.class);
+            this.issuedAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.notBeforeDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.notAfterDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+        }
+
+        @Override
+        protected TlsCertificate deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String id = null;
+            java.net.URI uri = null;
+            java.time.OffsetDateTime createdAt = null;
+            Optional<String> description = null;
+            Optional<String> metadata = null;
+            String certificatePem = null;
+            String subjectCommonName = null;
+            TlsCertificateSaNs subjectAlternativeNames = null;
+            Optional<java.time.OffsetDateTime> issuedAt = null;
+            java.time.OffsetDateTime notBefore = null;
+            java.time.OffsetDateTime notAfter = null;
+            java.util.List<String> keyUsages = null;
+            java.util.List<String> extendedKeyUsages = null;
+            String privateKeyType = null;
+            String issuerCommonName = null;
+            String serialNumber = null;
+            String subjectOrganization = null;
+            String subjectOrganizationalUnit = null;
+            String subjectLocality = null;
+            String subjectProvince = null;
+            String subjectCountry = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    case "created_at":
+                        createdAt = (java.time.OffsetDateTime) readValue(p, ctxt, this.createdAtDeserializer);
+                        break;
+                    case "description":
+                        description = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "metadata":
+                        metadata = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "certificate_pem":
+                        certificatePem = readString(p, ctxt);
+                        break;
+                    case "subject_common_name":
+                        subjectCommonName = readString(p, ctxt);
+                        break;
+                    case "subject_alternative_names":
+                        subjectAlternativeNames = (TlsCertificateSaNs) readValue(p, ctxt, this.subjectAlternativeNamesDeserializer);
+                        break;
+                    case "issued_at":
+                        issuedAt = Optional.ofNullable((java.time.OffsetDateTime) readValue(p, ctxt, this.issuedAtDeserializer));
+                        break;
+                    case "not_before":
+                        notBefore = (java.time.OffsetDateTime) readValue(p, ctxt, this.notBeforeDeserializer);
+                        break;
+                    case "not_after":
+                        notAfter = (java.time.OffsetDateTime) readValue(p, ctxt, this.notAfterDeserializer);
+                        break;
+                    case "key_usages":
+                        keyUsages = readStringList(p, ctxt);
+                        break;
+                    case "extended_key_usages":
+                        extendedKeyUsages = readStringList(p, ctxt);
+                        break;
+                    case "private_key_type":
+                        privateKeyType = readString(p, ctxt);
+                        break;
+                    case "issuer_common_name":
+                        issuerCommonName = readString(p, ctxt);
+                        break;
+                    case "serial_number":
+                        serialNumber = readString(p, ctxt);
+                        break;
+                    case "subject_organization":
+                        subjectOrganization = readString(p, ctxt);
+                        break;
+                    case "subject_organizational_unit":
+                        subjectOrganizationalUnit = readString(p, ctxt);
+                        break;
+                    case "subject_locality":
+                        subjectLocality = readString(p, ctxt);
+                        break;
+                    case "subject_province":
+                        subjectProvince = readString(p, ctxt);
+                        break;
+                    case "subject_country":
+                        subjectCountry = readString(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new TlsCertificate(id, uri, createdAt, description, metadata, certificatePem, subjectCommonName, subjectAlternativeNames, issuedAt, notBefore, notAfter, keyUsages, extendedKeyUsages, privateKeyType, issuerCommonName, serialNumber, subjectOrganization, subjectOrganizationalUnit, subjectLocality, subjectProvince, subjectCountry);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link TlsCertificate}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<TlsCertificate> {
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+        private static final SerializableString FIELD_CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString FIELD_DESCRIPTION = new SerializedString("description");
+        private static final SerializableString FIELD_METADATA = new SerializedString("metadata");
+        private static final SerializableString FIELD_CERTIFICATE_PEM = new SerializedString("certificate_pem");
+        private static final SerializableString FIELD_SUBJECT_COMMON_NAME = new SerializedString("subject_common_name");
+        private static final SerializableString FIELD_SUBJECT_ALTERNATIVE_NAMES = new SerializedString("subject_alternative_names");
+        private static final SerializableString FIELD_ISSUED_AT = new SerializedString("issued_at");
+        private static final SerializableString FIELD_NOT_BEFORE = new SerializedString("not_before");
+        private static final SerializableString FIELD_NOT_AFTER = new SerializedString("not_after");
+        private static final SerializableString FIELD_KEY_USAGES = new SerializedString("key_usages");
+        private static final SerializableString FIELD_EXTENDED_KEY_USAGES = new SerializedString("extended_key_usages");
+        private static final SerializableString FIELD_PRIVATE_KEY_TYPE = new SerializedString("private_key_type");
+        private static final SerializableString FIELD_ISSUER_COMMON_NAME = new SerializedString("issuer_common_name");
+        private static final SerializableString FIELD_SERIAL_NUMBER = new SerializedString("serial_number");
+        private static final SerializableString FIELD_SUBJECT_ORGANIZATION = new SerializedString("subject_organization");
+        private static final SerializableString FIELD_SUBJECT_ORGANIZATIONAL_UNIT = new SerializedString("subject_organizational_unit");
+        private static final SerializableString FIELD_SUBJECT_LOCALITY = new SerializedString("subject_locality");
+        private static final SerializableString FIELD_SUBJECT_PROVINCE = new SerializedString("subject_province");
+        private static final SerializableString FIELD_SUBJECT_COUNTRY = new SerializedString("subject_country");
+
+        private JsonSerializer<Object> createdAtSerializer;
+        private JsonSerializer<Object> subjectAlternativeNamesSerializer;
+        private JsonSerializer<Object> issuedAtSerializer;
+        private JsonSerializer<Object> notBeforeSerializer;
+        private JsonSerializer<Object> notAfterSerializer;
+
+        Serializer() {
+            super(TlsCertificate.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.createdAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.subjectAlternativeNamesSerializer = findSerializer(provider, TlsCertificateSaNs.class);
+            this.issuedAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.notBeforeSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.notAfterSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+        }
+
+        @Override
+        public void serialize(final TlsCertificate value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ID, value.getId());
+            writeUri(gen, FIELD_URI, value.getUri());
+            writeValue(gen, provider, FIELD_CREATED_AT, value.getCreatedAt(), this.createdAtSerializer);
+            writeString(gen, FIELD_DESCRIPTION, value.getDescription().orElse(null));
+            writeString(gen, FIELD_METADATA, value.getMetadata().orElse(null));
+            writeString(gen, FIELD_CERTIFICATE_PEM, value.getCertificatePem());
+            writeString(gen, FIELD_SUBJECT_COMMON_NAME, value.getSubjectCommonName());
+            writeValue(gen, provider, FIELD_SUBJECT_ALTERNATIVE_NAMES, value.getSubjectAlternativeNames(), this.subjectAlternativeNamesSerializer);
+            writeValue(gen, provider, FIELD_ISSUED_AT, value.getIssuedAt().orElse(null), this.issuedAtSerializer);
+            writeValue(gen, provider, FIELD_NOT_BEFORE, value.getNotBefore(), this.notBeforeSerializer);
+            writeValue(gen, provider, FIELD_NOT_AFTER, value.getNotAfter(), this.notAfterSerializer);
+            writeStringList(gen, FIELD_KEY_USAGES, value.getKeyUsages());
+            writeStringList(gen, FIELD_EXTENDED_KEY_USAGES, value.getExtendedKeyUsages());
+            writeString(gen, FIELD_PRIVATE_KEY_TYPE, value.getPrivateKeyType());
+            writeString(gen, FIELD_ISSUER_COMMON_NAME, value.getIssuerCommonName());
+            writeString(gen, FIELD_SERIAL_NUMBER, value.getSerialNumber());
+            writeString(gen, FIELD_SUBJECT_ORGANIZATION, value.getSubjectOrganization());
+            writeString(gen, FIELD_SUBJECT_ORGANIZATIONAL_UNIT, value.getSubjectOrganizationalUnit());
+            writeString(gen, FIELD_SUBJECT_LOCALITY, value.getSubjectLocality());
+            writeString(gen, FIELD_SUBJECT_PROVINCE, value.getSubjectProvince());
+            writeString(gen, FIELD_SUBJECT_COUNTRY, value.getSubjectCountry());
+            gen.writeEndObject();
+        }
+    }
 }
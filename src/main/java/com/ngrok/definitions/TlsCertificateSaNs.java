@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -87,4 +94,57 @@ public class TlsCertificateSaNs {
             "', ips='" + this.ips +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link TlsCertificateSaNs}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<TlsCertificateSaNs> {
+        Deserializer() {
+            super(TlsCertificateSaNs.class);
+        }
+
+        @Override
+        protected TlsCertificateSaNs deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            java.util.List<String> dnsNames = null;
+            java.util.List<String> ips = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "dns_names":
+                        dnsNames = readStringList(p, ctxt);
+                        break;
+                    case "ips":
+                        ips = readStringList(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new TlsCertificateSaNs(dnsNames, ips);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link TlsCertificateSaNs}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<TlsCertificateSaNs> {
+        private static final SerializableString FIELD_DNS_NAMES = new SerializedString("dns_names");
+        private static final SerializableString FIELD_IPS = new SerializedString("ips");
+
+        Serializer() {
+            super(TlsCertificateSaNs.class);
+        }
+
+        @Override
+        public void serialize(final TlsCertificateSaNs value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeStringList(gen, FIELD_DNS_NAMES, value.getDnsNames());
+            writeStringList(gen, FIELD_IPS, value.getIps());
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -250,4 +260,145 @@ public class TlsEdge {
             "', policy='" + this.policy.map(Object::toString).orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link TlsEdge}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<TlsEdge> {
+        private JsonDeserializer<Object> createdAtDeserializer;
+        private JsonDeserializer<Object> backendDeserializer;
+        private JsonDeserializer<Object> ipRestrictionDeserializer;
+        private JsonDeserializer<Object> mutualTlsDeserializer;
+        private JsonDeserializer<Object> tlsTerminationDeserializer;
+        private JsonDeserializer<Object> policyDeserializer;
+
+        Deserializer() {
+            super(TlsEdge.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.createdAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.backendDeserializer = findDeserializer(ctxt, EndpointBackend.class);
+            this.ipRestrictionDeserializer = findDeserializer(ctxt, EndpointIpPolicy.class);
+            this.mutualTlsDeserializer = findDeserializer(ctxt, EndpointMutualTls.class);
+            this.tlsTerminationDeserializer = findDeserializer(ctxt, EndpointTlsTermination.class);
+            this.policyDeserializer = findDeserializer(ctxt, EndpointPolicy.class);
+        }
+
+        @Override
+        protected TlsEdge deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String id = null;
+            Optional<String> description = null;
+            Optional<String> metadata = null;
+            java.time.OffsetDateTime createdAt = null;
+            java.net.URI uri = null;
+            Optional<java.util.List<String>> hostports = null;
+            Optional<EndpointBackend> backend = null;
+            Optional<EndpointIpPolicy> ipRestriction = null;
+            Optional<EndpointMutualTls> mutualTls = null;
+            Optional<EndpointTlsTermination> tlsTermination = null;
+            Optional<EndpointPolicy> policy = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "description":
+                        description = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "metadata":
+                        metadata = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "created_at":
+                        createdAt = (java.time.OffsetDateTime) readValue(p, ctxt, this.createdAtDeserializer);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    case "hostports":
+                        hostports = Optional.ofNullable(readStringList(p, ctxt));
+                        break;
+                    case "backend":
+                        backend = Optional.ofNullable((EndpointBackend) readValue(p, ctxt, this.backendDeserializer));
+                        break;
+                    case "ip_restriction":
+                        ipRestriction = Optional.ofNullable((EndpointIpPolicy) readValue(p, ctxt, this.ipRestrictionDeserializer));
+                        break;
+                    case "mutual_tls":
+                        mutualTls = Optional.ofNullable((EndpointMutualTls) readValue(p, ctxt, this.mutualTlsDeserializer));
+                        break;
+                    case "tls_termination":
+                        tlsTermination = Optional.ofNullable((EndpointTlsTermination) readValue(p, ctxt, this.tlsTerminationDeserializer));
+                        break;
+                    case "policy":
+                        policy = Optional.ofNullable((EndpointPolicy) readValue(p, ctxt, this.policyDeserializer));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new TlsEdge(id, description, metadata, createdAt, uri, hostports, backend, ipRestriction, mutualTls, tlsTermination, policy);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link TlsEdge}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<TlsEdge> {
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_DESCRIPTION = new SerializedString("description");
+        private static final SerializableString FIELD_METADATA = new SerializedString("metadata");
+        private static final SerializableString FIELD_CREATED_AT = new SerializedString("created_at");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+        private static final SerializableString FIELD_HOSTPORTS = new SerializedString("hostports");
+        private static final SerializableString FIELD_BACKEND = new SerializedString("backend");
+        private static final SerializableString FIELD_IP_RESTRICTION = new SerializedString("ip_restriction");
+        private static final SerializableString FIELD_MUTUAL_TLS = new SerializedString("mutual_tls");
+        private static final SerializableString FIELD_TLS_TERMINATION = new SerializedString("tls_termination");
+        private static final SerializableString FIELD_POLICY = new SerializedString("policy");
+
+        private JsonSerializer<Object> createdAtSerializer;
+        private JsonSerializer<Object> backendSerializer;
+        private JsonSerializer<Object> ipRestrictionSerializer;
+        private JsonSerializer<Object> mutualTlsSerializer;
+        private JsonSerializer<Object> tlsTerminationSerializer;
+        private JsonSerializer<Object> policySerializer;
+
+        Serializer() {
+            super(TlsEdge.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.createdAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.backendSerializer = findSerializer(provider, EndpointBackend.class);
+            this.ipRestrictionSerializer = findSerializer(provider, EndpointIpPolicy.class);
+            this.mutualTlsSerializer = findSerializer(provider, EndpointMutualTls.class);
+            this.tlsTerminationSerializer = findSerializer(provider, EndpointTlsTermination.class);
+            this.policySerializer = findSerializer(provider, EndpointPolicy.class);
+        }
+
+        @Override
+        public void serialize(final TlsEdge value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ID, value.getId());
+            writeString(gen, FIELD_DESCRIPTION, value.getDescription().orElse(null));
+            writeString(gen, FIELD_METADATA, value.getMetadata().orElse(null));
+            writeValue(gen, provider, FIELD_CREATED_AT, value.getCreatedAt(), this.createdAtSerializer);
+            writeUri(gen, FIELD_URI, value.getUri());
+            writeStringList(gen, FIELD_HOSTPORTS, value.getHostports().orElse(null));
+            writeValue(gen, provider, FIELD_BACKEND, value.getBackend().orElse(null), this.backendSerializer);
+            writeValue(gen, provider, FIELD_IP_RESTRICTION, value.getIpRestriction().orElse(null), this.ipRestrictionSerializer);
+            writeValue(gen, provider, FIELD_MUTUAL_TLS, value.getMutualTls().orElse(null), this.mutualTlsSerializer);
+            writeValue(gen, provider, FIELD_TLS_TERMINATION, value.getTlsTermination().orElse(null), this.tlsTerminationSerializer);
+            writeValue(gen, provider, FIELD_POLICY, value.getPolicy().orElse(null), this.policySerializer);
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -258,4 +268,137 @@ public class Tunnel {
             "', forwardsTo='" + this.forwardsTo +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link Tunnel}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<Tunnel> {
+        private JsonDeserializer<Object> startedAtDeserializer;
+        private JsonDeserializer<Object> tunnelSessionDeserializer;
+        private JsonDeserializer<Object> endpointDeserializer;
+        private JsonDeserializer<Object> backendsDeserializer;
+
+        Deserializer() {
+            super(Tunnel.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.startedAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+            this.tunnelSessionDeserializer = findDeserializer(ctxt, Ref.class);
+            this.endpointDeserializer = findDeserializer(ctxt, Ref.class);
+            this.backendsDeserializer = findDeserializer(ctxt, Ref.class);
+        }
+
+        @Override
+        protected Tunnel deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String id = null;
+            Optional<java.net.URI> publicUrl = null;
+            java.time.OffsetDateTime startedAt = null;
+            Optional<String> metadata = null;
+            Optional<String> proto = null;
+            String region = null;
+            Ref tunnelSession = null;
+            Optional<Ref> endpoint = null;
+            Optional<java.util.Map<String, String>> labels = null;
+            Optional<java.util.List<Ref>> backends = null;
+            String forwardsTo = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "public_url":
+                        publicUrl = Optional.ofNullable(readUri(p, ctxt));
+                        break;
+                    case "started_at":
+                        startedAt = (java.time.OffsetDateTime) readValue(p, ctxt, this.startedAtDeserializer);
+                        break;
+                    case "metadata":
+                        metadata = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "proto":
+                        proto = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "region":
+                        region = readString(p, ctxt);
+                        break;
+                    case "tunnel_session":
+                        tunnelSession = (Ref) readValue(p, ctxt, this.tunnelSessionDeserializer);
+                        break;
+                    case "endpoint":
+                        endpoint = Optional.ofNullable((Ref) readValue(p, ctxt, this.endpointDeserializer));
+                        break;
+                    case "labels":
+                        labels = Optional.ofNullable(readStringMap(p, ctxt));
+                        break;
+                    case "backends":
+                        backends = Optional.ofNullable(readList(p, ctxt, Ref.class, this.backendsDeserializer));
+                        break;
+                    case "forwards_to":
+                        forwardsTo = readString(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new Tunnel(id, publicUrl, startedAt, metadata, proto, region, tunnelSession, endpoint, labels, backends, forwardsTo);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link Tunnel}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<Tunnel> {
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_PUBLIC_URL = new SerializedString("public_url");
+        private static final SerializableString FIELD_STARTED_AT = new SerializedString("started_at");
+        private static final SerializableString FIELD_METADATA = new SerializedString("metadata");
+        private static final SerializableString FIELD_PROTO = new SerializedString("proto");
+        private static final SerializableString FIELD_REGION = new SerializedString("region");
+        private static final SerializableString FIELD_TUNNEL_SESSION = new SerializedString("tunnel_session");
+        private static final SerializableString FIELD_ENDPOINT = new SerializedString("endpoint");
+        private static final SerializableString FIELD_LABELS = new SerializedString("labels");
+        private static final SerializableString FIELD_BACKENDS = new SerializedString("backends");
+        private static final SerializableString FIELD_FORWARDS_TO = new SerializedString("forwards_to");
+
+        private JsonSerializer<Object> startedAtSerializer;
+        private JsonSerializer<Object> tunnelSessionSerializer;
+        private JsonSerializer<Object> endpointSerializer;
+        private JsonSerializer<Object> backendsSerializer;
+
+        Serializer() {
+            super(Tunnel.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.startedAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+            this.tunnelSessionSerializer = findSerializer(provider, Ref.class);
+            this.endpointSerializer = findSerializer(provider, Ref.class);
+            this.backendsSerializer = findSerializer(provider, Ref.class);
+        }
+
+        @Override
+        public void serialize(final Tunnel value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_ID, value.getId());
+            writeUri(gen, FIELD_PUBLIC_URL, value.getPublicUrl().orElse(null));
+            writeValue(gen, provider, FIELD_STARTED_AT, value.getStartedAt(), this.startedAtSerializer);
+            writeString(gen, FIELD_METADATA, value.getMetadata().orElse(null));
+            writeString(gen, FIELD_PROTO, value.getProto().orElse(null));
+            writeString(gen, FIELD_REGION, value.getRegion());
+            writeValue(gen, provider, FIELD_TUNNEL_SESSION, value.getTunnelSession(), this.tunnelSessionSerializer);
+            writeValue(gen, provider, FIELD_ENDPOINT, value.getEndpoint().orElse(null), this.endpointSerializer);
+            writeStringMap(gen, FIELD_LABELS, value.getLabels().orElse(null));
+            writeList(gen, provider, FIELD_BACKENDS, value.getBackends().orElse(null), this.backendsSerializer);
+            writeString(gen, FIELD_FORWARDS_TO, value.getForwardsTo());
+            gen.writeEndObject();
+        }
+    }
 }
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -233,4 +243,123 @@ public class TunnelSession {
             "', uri='" + this.uri +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link TunnelSession}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<TunnelSession> {
+        private JsonDeserializer<Object> credentialDeserializer;
+        private JsonDeserializer<Object> startedAtDeserializer;
+
+        Deserializer() {
+            super(TunnelSession.class);
+        }
+
+        @Override
+        public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+            this.credentialDeserializer = findDeserializer(ctxt, Ref.class);
+            this.startedAtDeserializer = findDeserializer(ctxt, java.time.OffsetDateTime.class);
+        }
+
+        @Override
+        protected TunnelSession deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String agentVersion = null;
+            Ref credential = null;
+            String id = null;
+            String ip = null;
+            Optional<String> metadata = null;
+            String os = null;
+            String region = null;
+            java.time.OffsetDateTime startedAt = null;
+            String transport = null;
+            java.net.URI uri = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "agent_version":
+                        agentVersion = readString(p, ctxt);
+                        break;
+                    case "credential":
+                        credential = (Ref) readValue(p, ctxt, this.credentialDeserializer);
+                        break;
+                    case "id":
+                        id = readString(p, ctxt);
+                        break;
+                    case "ip":
+                        ip = readString(p, ctxt);
+                        break;
+                    case "metadata":
+                        metadata = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "os":
+                        os = readString(p, ctxt);
+                        break;
+                    case "region":
+                        region = readString(p, ctxt);
+                        break;
+                    case "started_at":
+                        startedAt = (java.time.OffsetDateTime) readValue(p, ctxt, this.startedAtDeserializer);
+                        break;
+                    case "transport":
+                        transport = readString(p, ctxt);
+                        break;
+                    case "uri":
+                        uri = readUri(p, ctxt);
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new TunnelSession(agentVersion, credential, id, ip, metadata, os, region, startedAt, transport, uri);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link TunnelSession}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<TunnelSession> {
+        private static final SerializableString FIELD_AGENT_VERSION = new SerializedString("agent_version");
+        private static final SerializableString FIELD_CREDENTIAL = new SerializedString("credential");
+        private static final SerializableString FIELD_ID = new SerializedString("id");
+        private static final SerializableString FIELD_IP = new SerializedString("ip");
+        private static final SerializableString FIELD_METADATA = new SerializedString("metadata");
+        private static final SerializableString FIELD_OS = new SerializedString("os");
+        private static final SerializableString FIELD_REGION = new SerializedString("region");
+        private static final SerializableString FIELD_STARTED_AT = new SerializedString("started_at");
+        private static final SerializableString FIELD_TRANSPORT = new SerializedString("transport");
+        private static final SerializableString FIELD_URI = new SerializedString("uri");
+
+        private JsonSerializer<Object> credentialSerializer;
+        private JsonSerializer<Object> startedAtSerializer;
+
+        Serializer() {
+            super(TunnelSession.class);
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            this.credentialSerializer = findSerializer(provider, Ref.class);
+            this.startedAtSerializer = findSerializer(provider, java.time.OffsetDateTime.class);
+        }
+
+        @Override
+        public void serialize(final TunnelSession value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_AGENT_VERSION, value.getAgentVersion());
+            writeValue(gen, provider, FIELD_CREDENTIAL, value.getCredential(), this.credentialSerializer);
+            writeString(gen, FIELD_ID, value.getId());
+            writeString(gen, FIELD_IP, value.getIp());
+            writeString(gen, FIELD_METADATA, value.getMetadata().orElse(null));
+            writeString(gen, FIELD_OS, value.getOs());
+            writeString(gen, FIELD_REGION, value.getRegion());
+            writeValue(gen, provider, FIELD_STARTED_AT, value.getStartedAt(), this.startedAtSerializer);
+            writeString(gen, FIELD_TRANSPORT, value.getTransport());
+            writeUri(gen, FIELD_URI, value.getUri());
+            gen.writeEndObject();
+        }
+    }
 }
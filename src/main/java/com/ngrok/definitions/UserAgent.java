@@ -6,7 +6,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -158,4 +165,81 @@ public class UserAgent {
             "', osVersion='" + this.osVersion.orElse("(null)") +
             "'}";
     }
+
+    /**
+     * Generated deserializer for {@link UserAgent}, registered by {@link DefinitionsModule}.
+     */
+    static final class Deserializer extends DefinitionDeserializer<UserAgent> {
+        Deserializer() {
+            super(UserAgent.class);
+        }
+
+        @Override
+        protected UserAgent deserializeFields(final JsonParser p, final DeserializationContext ctxt, final String firstField) throws IOException {
+            String raw = null;
+            Optional<String> browserName = null;
+            Optional<String> browserVersion = null;
+            Optional<String> deviceType = null;
+            Optional<String> osName = null;
+            Optional<String> osVersion = null;
+            for (String field = firstField; field != null; field = p.nextFieldName()) {
+                p.nextToken();
+                switch (field) {
+                    case "raw":
+                        raw = readString(p, ctxt);
+                        break;
+                    case "browser_name":
+                        browserName = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "browser_version":
+                        browserVersion = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "device_type":
+                        deviceType = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "os_name":
+                        osName = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    case "os_version":
+                        osVersion = Optional.ofNullable(readString(p, ctxt));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+            try {
+                return new UserAgent(raw, browserName, browserVersion, deviceType, osName, osVersion);
+            } catch (final RuntimeException e) {
+                return instantiationProblem(ctxt, e);
+            }
+        }
+    }
+
+    /**
+     * Generated serializer for {@link UserAgent}, registered by {@link DefinitionsModule}.
+     */
+    static final class Serializer extends DefinitionSerializer<UserAgent> {
+        private static final SerializableString FIELD_RAW = new SerializedString("raw");
+        private static final SerializableString FIELD_BROWSER_NAME = new SerializedString("browser_name");
+        private static final SerializableString FIELD_BROWSER_VERSION = new SerializedString("browser_version");
+        private static final SerializableString FIELD_DEVICE_TYPE = new SerializedString("device_type");
+        private static final SerializableString FIELD_OS_NAME = new SerializedString("os_name");
+        private static final SerializableString FIELD_OS_VERSION = new SerializedString("os_version");
+
+        Serializer() {
+            super(UserAgent.class);
+        }
+
+        @Override
+        public void serialize(final UserAgent value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, FIELD_RAW, value.getRaw());
+            writeString(gen, FIELD_BROWSER_NAME, value.getBrowserName().orElse(null));
+            writeString(gen, FIELD_BROWSER_VERSION, value.getBrowserVersion().orElse(null));
+            writeString(gen, FIELD_DEVICE_TYPE, value.getDeviceType().orElse(null));
+            writeString(gen, FIELD_OS_NAME, value.getOsName().orElse(null));
+            writeString(gen, FIELD_OS_VERSION, value.getOsVersion().orElse(null));
+            gen.writeEndObject();
+        }
+    }
 }
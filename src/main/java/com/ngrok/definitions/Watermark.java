@@ -0,0 +1,110 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The newest item an {@link IncrementalFetch} has seen of a list, marking where the next fetch can stop.
+ *
+ * A watermark only holds the ID of that item, so it can be persisted across restarts either as that ID (see
+ * {@link #getId()} and {@link #of(String)}) or as JSON with any Jackson object mapper.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class Watermark {
+    private static final Watermark EMPTY = new Watermark(null);
+
+    @JsonProperty("id")
+    @JsonInclude(value = JsonInclude.Include.NON_NULL)
+    private final String id;
+
+    /**
+     * Creates a new instance of {@link Watermark}.
+     *
+     * @param id the ID of the newest item seen, or {@code null} if none has been seen yet
+     */
+    @JsonCreator
+    private Watermark(@JsonProperty("id") final String id) {
+        this.id = id;
+    }
+
+    /**
+     * Fetches the watermark of a list none of whose items has been seen yet, from which a fetch lists every item.
+     *
+     * @return the empty watermark
+     */
+    public static Watermark empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Restores a watermark from the ID of the newest item seen.
+     *
+     * @param id the ID of the newest item seen, as returned by {@link #getId()}
+     * @return the watermark
+     */
+    public static Watermark of(final String id) {
+        return new Watermark(Objects.requireNonNull(id, "id is required"));
+    }
+
+    /**
+     * The ID of the newest item seen, if any.
+     *
+     * @return the value of the property as a {@link String} wrapped in an {@link Optional}
+     */
+    @JsonIgnore
+    public Optional<String> getId() {
+        return Optional.ofNullable(this.id);
+    }
+
+    /**
+     * Checks whether an item had already been seen when this watermark was taken. Time-sortable IDs of the same
+     * type are compared, so the watermark is recognized even if its item has since been deleted; other IDs must
+     * match exactly.
+     *
+     * @param itemId the ID of an item of the list
+     * @return whether the item is not newer than the watermark
+     */
+    boolean covers(final String itemId) {
+        if (this.id == null) {
+            return false;
+        }
+        final String prefix = KsuidCursor.prefix(this.id);
+        if (prefix != null && prefix.equals(KsuidCursor.prefix(itemId))) {
+            return itemId.compareTo(this.id) <= 0;
+        }
+        return itemId.equals(this.id);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final Watermark other = (Watermark) o;
+        return Objects.equals(this.id, other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    @Override
+    public String toString() {
+        return "Watermark{" +
+            "id='" + (this.id != null ? this.id : "(null)") +
+            "'}";
+    }
+}
@@ -3,15 +3,15 @@
 package com.ngrok.services;
 
 import com.ngrok.NgrokApiClient;
+import com.ngrok.Operation;
+import com.ngrok.RawResponse;
 import com.ngrok.definitions.*;
 
-import java.util.AbstractMap;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
-import java.util.function.Function;
-import java.util.stream.Stream;
 
 /**
  * Abuse Reports allow you to submit take-down requests for URLs hosted by
@@ -20,6 +20,15 @@ import java.util.stream.Stream;
  * See also <a href="https://ngrok.com/docs/api#api-abuse-reports">https://ngrok.com/docs/api#api-abuse-reports</a>.
  */
 public class AbuseReports {
+    private static final Operation<AbuseReport> CREATE_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.POST, "/abuse_reports", AbuseReport.class)
+        .bodyParams("urls", "metadata")
+        .build();
+
+    private static final Operation<AbuseReport> GET_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.GET, "/abuse_reports/{id}", AbuseReport.class)
+        .build();
+
     private final NgrokApiClient apiClient;
 
     /**
@@ -73,14 +82,11 @@ public class AbuseReports {
          */
         public CompletionStage<AbuseReport> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.POST,
-                "/abuse_reports",
-                Stream.empty(),
-                Stream.of(
-                    new AbstractMap.SimpleEntry<>("urls", Optional.of(this.urls).filter(urls -> !urls.isEmpty()).map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("metadata", this.metadata.map(Function.identity()))
-                ),
-                Optional.of(AbuseReport.class)
+                CREATE_OPERATION,
+                new Object[] {
+                    this.urls.isEmpty() ? null : this.urls,
+                    this.metadata.orElse(null)
+                }
             );
         }
 
@@ -97,6 +103,35 @@ public class AbuseReports {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                CREATE_OPERATION,
+                new Object[] {
+                    this.urls.isEmpty() ? null : this.urls,
+                    this.metadata.orElse(null)
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
@@ -136,11 +171,10 @@ public class AbuseReports {
          */
         public CompletionStage<AbuseReport> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.GET,
-                "/abuse_reports/" + this.id,
-                Stream.empty(),
-                Stream.empty(),
-                Optional.of(AbuseReport.class)
+                GET_OPERATION,
+                new Object[] {
+                    this.id
+                }
             );
         }
 
@@ -157,6 +191,67 @@ public class AbuseReports {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                GET_OPERATION,
+                new Object[] {
+                    this.id
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        /**
+         * Initiates the API call asynchronously, only decoding the fields selected by a projection.
+         *
+         * @param projection the fields of the {@link AbuseReport} to decode
+         * @param <V> the type of the projected view
+         * @return a {@link CompletionStage} of the projected view
+         */
+        public <V> CompletionStage<V> call(final Projection<V> projection) {
+            return apiClient.sendRequest(
+                GET_OPERATION,
+                new Object[] {
+                    this.id
+                },
+                projection::read
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, only decoding the fields selected by a projection.
+         *
+         * @param projection the fields of the {@link AbuseReport} to decode
+         * @param <V> the type of the projected view
+         * @return the projected view
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public <V> V blockingCall(final Projection<V> projection) throws InterruptedException {
+            try {
+                return call(projection).toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
@@ -174,4 +269,14 @@ public class AbuseReports {
             id
         );
     }
+    
+    /**
+     * Fetches many {@link AbuseReport}s at once, with one GET request per ID.
+     *
+     * @param ids the IDs to pass to {@link #get(String)}
+     * @return a {@link MultiGet} of the resources
+     */
+    public MultiGet<AbuseReport> getAll(final Collection<String> ids) {
+        return new MultiGet<>(ids, id -> get(id).call());
+    }
 }
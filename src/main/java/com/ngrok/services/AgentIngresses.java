@@ -3,15 +3,16 @@
 package com.ngrok.services;
 
 import com.ngrok.NgrokApiClient;
+import com.ngrok.Operation;
+import com.ngrok.RawResponse;
+import com.ngrok.ResponseDecoder;
 import com.ngrok.definitions.*;
 
-import java.util.AbstractMap;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
-import java.util.function.Function;
-import java.util.stream.Stream;
 
 /**
  * An API client for {@link AgentIngresses}.
@@ -19,6 +20,29 @@ import java.util.stream.Stream;
  * See also <a href="https://ngrok.com/docs/api#api-agent-ingresses">https://ngrok.com/docs/api#api-agent-ingresses</a>.
  */
 public class AgentIngresses {
+    private static final Operation<AgentIngress> CREATE_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.POST, "/agent_ingresses", AgentIngress.class)
+        .bodyParams("description", "metadata", "domain", "certificate_management_policy")
+        .build();
+
+    private static final Operation<Void> DELETE_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.DELETE, "/agent_ingresses/{id}")
+        .build();
+
+    private static final Operation<AgentIngress> GET_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.GET, "/agent_ingresses/{id}", AgentIngress.class)
+        .build();
+
+    private static final Operation<AgentIngressList> LIST_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.GET, "/agent_ingresses", AgentIngressList.class)
+        .queryParams("before_id", "limit")
+        .build();
+
+    private static final Operation<AgentIngress> UPDATE_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.PATCH, "/agent_ingresses/{id}", AgentIngress.class)
+        .bodyParams("description", "metadata", "certificate_management_policy")
+        .build();
+
     private final NgrokApiClient apiClient;
 
     /**
@@ -124,16 +148,13 @@ public class AgentIngresses {
          */
         public CompletionStage<AgentIngress> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.POST,
-                "/agent_ingresses",
-                Stream.empty(),
-                Stream.of(
-                    new AbstractMap.SimpleEntry<>("description", this.description.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("metadata", this.metadata.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("domain", Optional.of(this.domain)),
-                    new AbstractMap.SimpleEntry<>("certificate_management_policy", this.certificateManagementPolicy.map(Function.identity()))
-                ),
-                Optional.of(AgentIngress.class)
+                CREATE_OPERATION,
+                new Object[] {
+                    this.description.orElse(null),
+                    this.metadata.orElse(null),
+                    this.domain,
+                    this.certificateManagementPolicy.orElse(null)
+                }
             );
         }
 
@@ -150,6 +171,37 @@ public class AgentIngresses {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                CREATE_OPERATION,
+                new Object[] {
+                    this.description.orElse(null),
+                    this.metadata.orElse(null),
+                    this.domain,
+                    this.certificateManagementPolicy.orElse(null)
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
@@ -188,11 +240,10 @@ public class AgentIngresses {
          */
         public CompletionStage<Void> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.DELETE,
-                "/agent_ingresses/" + this.id,
-                Stream.empty(),
-                Stream.empty(),
-                Optional.empty()
+                DELETE_OPERATION,
+                new Object[] {
+                    this.id
+                }
             );
         }
 
@@ -208,6 +259,34 @@ public class AgentIngresses {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                DELETE_OPERATION,
+                new Object[] {
+                    this.id
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
@@ -245,11 +324,10 @@ public class AgentIngresses {
          */
         public CompletionStage<AgentIngress> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.GET,
-                "/agent_ingresses/" + this.id,
-                Stream.empty(),
-                Stream.empty(),
-                Optional.of(AgentIngress.class)
+                GET_OPERATION,
+                new Object[] {
+                    this.id
+                }
             );
         }
 
@@ -266,6 +344,67 @@ public class AgentIngresses {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                GET_OPERATION,
+                new Object[] {
+                    this.id
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        /**
+         * Initiates the API call asynchronously, only decoding the fields selected by a projection.
+         *
+         * @param projection the fields of the {@link AgentIngress} to decode
+         * @param <V> the type of the projected view
+         * @return a {@link CompletionStage} of the projected view
+         */
+        public <V> CompletionStage<V> call(final Projection<V> projection) {
+            return apiClient.sendRequest(
+                GET_OPERATION,
+                new Object[] {
+                    this.id
+                },
+                projection::read
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, only decoding the fields selected by a projection.
+         *
+         * @param projection the fields of the {@link AgentIngress} to decode
+         * @param <V> the type of the projected view
+         * @return the projected view
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public <V> V blockingCall(final Projection<V> projection) throws InterruptedException {
+            try {
+                return call(projection).toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
@@ -284,6 +423,17 @@ public class AgentIngresses {
         );
     }
     
+    /**
+     * Fetches many {@link AgentIngress}s by ID, with one GET request per ID or by listing them, whichever takes fewer
+     * round trips.
+     *
+     * @param ids the IDs of the resources
+     * @return a {@link MultiGet} of the resources
+     */
+    public MultiGet<AgentIngress> getAll(final Collection<String> ids) {
+        return new MultiGet<>(ids, id -> get(id).call(), list().limit("100").items());
+    }
+    
     /**
      * A builder object encapsulating state for an unsent List API call.
      */
@@ -346,14 +496,11 @@ public class AgentIngresses {
          */
         public CompletionStage<Page<AgentIngressList>> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.GET,
-                "/agent_ingresses",
-                Stream.of(
-                    new AbstractMap.SimpleEntry<>("before_id", this.beforeId.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("limit", this.limit.map(Function.identity()))
-                ),
-                Stream.empty(),
-                Optional.of(AgentIngressList.class)
+                LIST_OPERATION,
+                new Object[] {
+                    this.beforeId.orElse(null),
+                    this.limit.orElse(null)
+                }
             ).thenApply(list -> new Page<>(apiClient, list));
         }
 
@@ -370,6 +517,94 @@ public class AgentIngresses {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * The <code>next_page_uri</code> of a raw page can be fetched with
+         * {@link NgrokApiClient#sendRawRequest(java.net.URI)}.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                LIST_OPERATION,
+                new Object[] {
+                    this.beforeId.orElse(null),
+                    this.limit.orElse(null)
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        /**
+         * Initiates the API call asynchronously, only decoding the fields of each item selected by a projection.
+         *
+         * @param projection the fields of the items of the {@link AgentIngressList} to decode
+         * @param <V> the type of the projected items
+         * @return a {@link CompletionStage} of a {@link Page} of {@link ProjectedList}
+         */
+        public <V> CompletionStage<Page<ProjectedList<V>>> call(final Projection<V> projection) {
+            final ResponseDecoder<ProjectedList<V>> decoder = projection.forList("ingresses");
+            return apiClient.sendRequest(
+                LIST_OPERATION,
+                new Object[] {
+                    this.beforeId.orElse(null),
+                    this.limit.orElse(null)
+                },
+                decoder
+            ).thenApply(list -> new Page<>(apiClient, list, decoder));
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, only decoding the fields of each item selected by a
+         * projection.
+         *
+         * @param projection the fields of the items of the {@link AgentIngressList} to decode
+         * @param <V> the type of the projected items
+         * @return a {@link Page} of {@link ProjectedList}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public <V> Page<ProjectedList<V>> blockingCall(final Projection<V> projection) throws InterruptedException {
+            try {
+                return call(projection).toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        /**
+         * Streams the items of the list, one at a time and across all pages, rather than decoding whole pages.
+         *
+         * @return the {@link ListItems} of {@link AgentIngress}
+         */
+        public ListItems<AgentIngress> items() {
+            return new ListItems<>(
+                apiClient,
+                LIST_OPERATION,
+                new Object[] {
+                    this.beforeId.orElse(null),
+                    this.limit.orElse(null)
+                },
+                "ingresses",
+                AgentIngress.class,
+                AgentIngressList::getIngresses,
+                AgentIngress::getId
+            );
+        }
     }
 
     /**
@@ -384,6 +619,18 @@ public class AgentIngresses {
         return new ListCallBuilder(
         );
     }
+
+    /**
+     * List all Agent Ingresses owned by this account, iterating over the items of every page.
+     *
+     * This is the same as <code>list().items()</code>: the {@link ListItems} can be streamed to a consumer
+     * or iterated over with pages fetched ahead of time.
+     *
+     * @return the {@link ListItems} of {@link AgentIngress}
+     */
+    public ListItems<AgentIngress> listAll() {
+        return list().items();
+    }
     
     /**
      * A builder object encapsulating state for an unsent Update API call.
@@ -479,15 +726,13 @@ public class AgentIngresses {
          */
         public CompletionStage<AgentIngress> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.PATCH,
-                "/agent_ingresses/" + this.id,
-                Stream.empty(),
-                Stream.of(
-                    new AbstractMap.SimpleEntry<>("description", this.description.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("metadata", this.metadata.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("certificate_management_policy", this.certificateManagementPolicy.map(Function.identity()))
-                ),
-                Optional.of(AgentIngress.class)
+                UPDATE_OPERATION,
+                new Object[] {
+                    this.id,
+                    this.description.orElse(null),
+                    this.metadata.orElse(null),
+                    this.certificateManagementPolicy.orElse(null)
+                }
             );
         }
 
@@ -504,6 +749,37 @@ public class AgentIngresses {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                UPDATE_OPERATION,
+                new Object[] {
+                    this.id,
+                    this.description.orElse(null),
+                    this.metadata.orElse(null),
+                    this.certificateManagementPolicy.orElse(null)
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
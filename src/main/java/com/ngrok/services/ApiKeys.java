@@ -3,15 +3,16 @@
 package com.ngrok.services;
 
 import com.ngrok.NgrokApiClient;
+import com.ngrok.Operation;
+import com.ngrok.RawResponse;
+import com.ngrok.ResponseDecoder;
 import com.ngrok.definitions.*;
 
-import java.util.AbstractMap;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
-import java.util.function.Function;
-import java.util.stream.Stream;
 
 /**
  * API Keys are used to authenticate to the <a
@@ -26,6 +27,29 @@ import java.util.stream.Stream;
  * See also <a href="https://ngrok.com/docs/api#api-api-keys">https://ngrok.com/docs/api#api-api-keys</a>.
  */
 public class ApiKeys {
+    private static final Operation<ApiKey> CREATE_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.POST, "/api_keys", ApiKey.class)
+        .bodyParams("description", "metadata", "owner_id")
+        .build();
+
+    private static final Operation<Void> DELETE_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.DELETE, "/api_keys/{id}")
+        .build();
+
+    private static final Operation<ApiKey> GET_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.GET, "/api_keys/{id}", ApiKey.class)
+        .build();
+
+    private static final Operation<ApiKeyList> LIST_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.GET, "/api_keys", ApiKeyList.class)
+        .queryParams("before_id", "limit")
+        .build();
+
+    private static final Operation<ApiKey> UPDATE_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.PATCH, "/api_keys/{id}", ApiKey.class)
+        .bodyParams("description", "metadata")
+        .build();
+
     private final NgrokApiClient apiClient;
 
     /**
@@ -128,15 +152,12 @@ public class ApiKeys {
          */
         public CompletionStage<ApiKey> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.POST,
-                "/api_keys",
-                Stream.empty(),
-                Stream.of(
-                    new AbstractMap.SimpleEntry<>("description", this.description.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("metadata", this.metadata.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("owner_id", this.ownerId.map(Function.identity()))
-                ),
-                Optional.of(ApiKey.class)
+                CREATE_OPERATION,
+                new Object[] {
+                    this.description.orElse(null),
+                    this.metadata.orElse(null),
+                    this.ownerId.orElse(null)
+                }
             );
         }
 
@@ -153,6 +174,36 @@ public class ApiKeys {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                CREATE_OPERATION,
+                new Object[] {
+                    this.description.orElse(null),
+                    this.metadata.orElse(null),
+                    this.ownerId.orElse(null)
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
@@ -188,11 +239,10 @@ public class ApiKeys {
          */
         public CompletionStage<Void> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.DELETE,
-                "/api_keys/" + this.id,
-                Stream.empty(),
-                Stream.empty(),
-                Optional.empty()
+                DELETE_OPERATION,
+                new Object[] {
+                    this.id
+                }
             );
         }
 
@@ -208,6 +258,34 @@ public class ApiKeys {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                DELETE_OPERATION,
+                new Object[] {
+                    this.id
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
@@ -245,11 +323,10 @@ public class ApiKeys {
          */
         public CompletionStage<ApiKey> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.GET,
-                "/api_keys/" + this.id,
-                Stream.empty(),
-                Stream.empty(),
-                Optional.of(ApiKey.class)
+                GET_OPERATION,
+                new Object[] {
+                    this.id
+                }
             );
         }
 
@@ -266,6 +343,67 @@ public class ApiKeys {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                GET_OPERATION,
+                new Object[] {
+                    this.id
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        /**
+         * Initiates the API call asynchronously, only decoding the fields selected by a projection.
+         *
+         * @param projection the fields of the {@link ApiKey} to decode
+         * @param <V> the type of the projected view
+         * @return a {@link CompletionStage} of the projected view
+         */
+        public <V> CompletionStage<V> call(final Projection<V> projection) {
+            return apiClient.sendRequest(
+                GET_OPERATION,
+                new Object[] {
+                    this.id
+                },
+                projection::read
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, only decoding the fields selected by a projection.
+         *
+         * @param projection the fields of the {@link ApiKey} to decode
+         * @param <V> the type of the projected view
+         * @return the projected view
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public <V> V blockingCall(final Projection<V> projection) throws InterruptedException {
+            try {
+                return call(projection).toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
@@ -284,6 +422,17 @@ public class ApiKeys {
         );
     }
     
+    /**
+     * Fetches many {@link ApiKey}s by ID, with one GET request per ID or by listing them, whichever takes fewer
+     * round trips.
+     *
+     * @param ids the IDs of the resources
+     * @return a {@link MultiGet} of the resources
+     */
+    public MultiGet<ApiKey> getAll(final Collection<String> ids) {
+        return new MultiGet<>(ids, id -> get(id).call(), list().limit("100").items());
+    }
+    
     /**
      * A builder object encapsulating state for an unsent List API call.
      */
@@ -346,14 +495,11 @@ public class ApiKeys {
          */
         public CompletionStage<Page<ApiKeyList>> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.GET,
-                "/api_keys",
-                Stream.of(
-                    new AbstractMap.SimpleEntry<>("before_id", this.beforeId.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("limit", this.limit.map(Function.identity()))
-                ),
-                Stream.empty(),
-                Optional.of(ApiKeyList.class)
+                LIST_OPERATION,
+                new Object[] {
+                    this.beforeId.orElse(null),
+                    this.limit.orElse(null)
+                }
             ).thenApply(list -> new Page<>(apiClient, list));
         }
 
@@ -370,6 +516,94 @@ public class ApiKeys {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * The <code>next_page_uri</code> of a raw page can be fetched with
+         * {@link NgrokApiClient#sendRawRequest(java.net.URI)}.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                LIST_OPERATION,
+                new Object[] {
+                    this.beforeId.orElse(null),
+                    this.limit.orElse(null)
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        /**
+         * Initiates the API call asynchronously, only decoding the fields of each item selected by a projection.
+         *
+         * @param projection the fields of the items of the {@link ApiKeyList} to decode
+         * @param <V> the type of the projected items
+         * @return a {@link CompletionStage} of a {@link Page} of {@link ProjectedList}
+         */
+        public <V> CompletionStage<Page<ProjectedList<V>>> call(final Projection<V> projection) {
+            final ResponseDecoder<ProjectedList<V>> decoder = projection.forList("keys");
+            return apiClient.sendRequest(
+                LIST_OPERATION,
+                new Object[] {
+                    this.beforeId.orElse(null),
+                    this.limit.orElse(null)
+                },
+                decoder
+            ).thenApply(list -> new Page<>(apiClient, list, decoder));
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, only decoding the fields of each item selected by a
+         * projection.
+         *
+         * @param projection the fields of the items of the {@link ApiKeyList} to decode
+         * @param <V> the type of the projected items
+         * @return a {@link Page} of {@link ProjectedList}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public <V> Page<ProjectedList<V>> blockingCall(final Projection<V> projection) throws InterruptedException {
+            try {
+                return call(projection).toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        /**
+         * Streams the items of the list, one at a time and across all pages, rather than decoding whole pages.
+         *
+         * @return the {@link ListItems} of {@link ApiKey}
+         */
+        public ListItems<ApiKey> items() {
+            return new ListItems<>(
+                apiClient,
+                LIST_OPERATION,
+                new Object[] {
+                    this.beforeId.orElse(null),
+                    this.limit.orElse(null)
+                },
+                "keys",
+                ApiKey.class,
+                ApiKeyList::getKeys,
+                ApiKey::getId
+            );
+        }
     }
 
     /**
@@ -384,6 +618,18 @@ public class ApiKeys {
         return new ListCallBuilder(
         );
     }
+
+    /**
+     * List all API keys owned by this account, iterating over the items of every page.
+     *
+     * This is the same as <code>list().items()</code>: the {@link ListItems} can be streamed to a consumer
+     * or iterated over with pages fetched ahead of time.
+     *
+     * @return the {@link ListItems} of {@link ApiKey}
+     */
+    public ListItems<ApiKey> listAll() {
+        return list().items();
+    }
     
     /**
      * A builder object encapsulating state for an unsent Update API call.
@@ -452,14 +698,12 @@ public class ApiKeys {
          */
         public CompletionStage<ApiKey> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.PATCH,
-                "/api_keys/" + this.id,
-                Stream.empty(),
-                Stream.of(
-                    new AbstractMap.SimpleEntry<>("description", this.description.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("metadata", this.metadata.map(Function.identity()))
-                ),
-                Optional.of(ApiKey.class)
+                UPDATE_OPERATION,
+                new Object[] {
+                    this.id,
+                    this.description.orElse(null),
+                    this.metadata.orElse(null)
+                }
             );
         }
 
@@ -476,6 +720,36 @@ public class ApiKeys {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                UPDATE_OPERATION,
+                new Object[] {
+                    this.id,
+                    this.description.orElse(null),
+                    this.metadata.orElse(null)
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
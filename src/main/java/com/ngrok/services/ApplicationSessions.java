@@ -3,15 +3,16 @@
 package com.ngrok.services;
 
 import com.ngrok.NgrokApiClient;
+import com.ngrok.Operation;
+import com.ngrok.RawResponse;
+import com.ngrok.ResponseDecoder;
 import com.ngrok.definitions.*;
 
-import java.util.AbstractMap;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
-import java.util.function.Function;
-import java.util.stream.Stream;
 
 /**
  * An API client for {@link ApplicationSessions}.
@@ -19,6 +20,19 @@ import java.util.stream.Stream;
  * See also <a href="https://ngrok.com/docs/api#api-application-sessions">https://ngrok.com/docs/api#api-application-sessions</a>.
  */
 public class ApplicationSessions {
+    private static final Operation<ApplicationSession> GET_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.GET, "/app/sessions/{id}", ApplicationSession.class)
+        .build();
+
+    private static final Operation<Void> DELETE_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.DELETE, "/app/sessions/{id}")
+        .build();
+
+    private static final Operation<ApplicationSessionList> LIST_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.GET, "/app/sessions", ApplicationSessionList.class)
+        .queryParams("before_id", "limit")
+        .build();
+
     private final NgrokApiClient apiClient;
 
     /**
@@ -49,11 +63,10 @@ public class ApplicationSessions {
          */
         public CompletionStage<ApplicationSession> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.GET,
-                "/app/sessions/" + this.id,
-                Stream.empty(),
-                Stream.empty(),
-                Optional.of(ApplicationSession.class)
+                GET_OPERATION,
+                new Object[] {
+                    this.id
+                }
             );
         }
 
@@ -70,6 +83,67 @@ public class ApplicationSessions {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                GET_OPERATION,
+                new Object[] {
+                    this.id
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        /**
+         * Initiates the API call asynchronously, only decoding the fields selected by a projection.
+         *
+         * @param projection the fields of the {@link ApplicationSession} to decode
+         * @param <V> the type of the projected view
+         * @return a {@link CompletionStage} of the projected view
+         */
+        public <V> CompletionStage<V> call(final Projection<V> projection) {
+            return apiClient.sendRequest(
+                GET_OPERATION,
+                new Object[] {
+                    this.id
+                },
+                projection::read
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, only decoding the fields selected by a projection.
+         *
+         * @param projection the fields of the {@link ApplicationSession} to decode
+         * @param <V> the type of the projected view
+         * @return the projected view
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public <V> V blockingCall(final Projection<V> projection) throws InterruptedException {
+            try {
+                return call(projection).toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
@@ -88,6 +162,17 @@ public class ApplicationSessions {
         );
     }
     
+    /**
+     * Fetches many {@link ApplicationSession}s by ID, with one GET request per ID or by listing them, whichever takes fewer
+     * round trips.
+     *
+     * @param ids the IDs of the resources
+     * @return a {@link MultiGet} of the resources
+     */
+    public MultiGet<ApplicationSession> getAll(final Collection<String> ids) {
+        return new MultiGet<>(ids, id -> get(id).call(), list().limit("100").items());
+    }
+    
     /**
      * A builder object encapsulating state for an unsent Delete API call.
      */
@@ -107,11 +192,10 @@ public class ApplicationSessions {
          */
         public CompletionStage<Void> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.DELETE,
-                "/app/sessions/" + this.id,
-                Stream.empty(),
-                Stream.empty(),
-                Optional.empty()
+                DELETE_OPERATION,
+                new Object[] {
+                    this.id
+                }
             );
         }
 
@@ -127,6 +211,34 @@ public class ApplicationSessions {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                DELETE_OPERATION,
+                new Object[] {
+                    this.id
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
@@ -207,14 +319,11 @@ public class ApplicationSessions {
          */
         public CompletionStage<Page<ApplicationSessionList>> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.GET,
-                "/app/sessions",
-                Stream.of(
-                    new AbstractMap.SimpleEntry<>("before_id", this.beforeId.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("limit", this.limit.map(Function.identity()))
-                ),
-                Stream.empty(),
-                Optional.of(ApplicationSessionList.class)
+                LIST_OPERATION,
+                new Object[] {
+                    this.beforeId.orElse(null),
+                    this.limit.orElse(null)
+                }
             ).thenApply(list -> new Page<>(apiClient, list));
         }
 
@@ -231,6 +340,94 @@ public class ApplicationSessions {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * The <code>next_page_uri</code> of a raw page can be fetched with
+         * {@link NgrokApiClient#sendRawRequest(java.net.URI)}.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                LIST_OPERATION,
+                new Object[] {
+                    this.beforeId.orElse(null),
+                    this.limit.orElse(null)
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        /**
+         * Initiates the API call asynchronously, only decoding the fields of each item selected by a projection.
+         *
+         * @param projection the fields of the items of the {@link ApplicationSessionList} to decode
+         * @param <V> the type of the projected items
+         * @return a {@link CompletionStage} of a {@link Page} of {@link ProjectedList}
+         */
+        public <V> CompletionStage<Page<ProjectedList<V>>> call(final Projection<V> projection) {
+            final ResponseDecoder<ProjectedList<V>> decoder = projection.forList("application_sessions");
+            return apiClient.sendRequest(
+                LIST_OPERATION,
+                new Object[] {
+                    this.beforeId.orElse(null),
+                    this.limit.orElse(null)
+                },
+                decoder
+            ).thenApply(list -> new Page<>(apiClient, list, decoder));
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, only decoding the fields of each item selected by a
+         * projection.
+         *
+         * @param projection the fields of the items of the {@link ApplicationSessionList} to decode
+         * @param <V> the type of the projected items
+         * @return a {@link Page} of {@link ProjectedList}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public <V> Page<ProjectedList<V>> blockingCall(final Projection<V> projection) throws InterruptedException {
+            try {
+                return call(projection).toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        /**
+         * Streams the items of the list, one at a time and across all pages, rather than decoding whole pages.
+         *
+         * @return the {@link ListItems} of {@link ApplicationSession}
+         */
+        public ListItems<ApplicationSession> items() {
+            return new ListItems<>(
+                apiClient,
+                LIST_OPERATION,
+                new Object[] {
+                    this.beforeId.orElse(null),
+                    this.limit.orElse(null)
+                },
+                "application_sessions",
+                ApplicationSession.class,
+                ApplicationSessionList::getApplicationSessions,
+                ApplicationSession::getId
+            );
+        }
     }
 
     /**
@@ -245,4 +442,16 @@ public class ApplicationSessions {
         return new ListCallBuilder(
         );
     }
+
+    /**
+     * List all application sessions for this account, iterating over the items of every page.
+     *
+     * This is the same as <code>list().items()</code>: the {@link ListItems} can be streamed to a consumer
+     * or iterated over with pages fetched ahead of time.
+     *
+     * @return the {@link ListItems} of {@link ApplicationSession}
+     */
+    public ListItems<ApplicationSession> listAll() {
+        return list().items();
+    }
 }
@@ -3,15 +3,16 @@
 package com.ngrok.services;
 
 import com.ngrok.NgrokApiClient;
+import com.ngrok.Operation;
+import com.ngrok.RawResponse;
+import com.ngrok.ResponseDecoder;
 import com.ngrok.definitions.*;
 
-import java.util.AbstractMap;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
-import java.util.function.Function;
-import java.util.stream.Stream;
 
 /**
  * An API client for {@link BotUsers}.
@@ -19,6 +20,29 @@ import java.util.stream.Stream;
  * See also <a href="https://ngrok.com/docs/api#api-bot-users">https://ngrok.com/docs/api#api-bot-users</a>.
  */
 public class BotUsers {
+    private static final Operation<BotUser> CREATE_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.POST, "/bot_users", BotUser.class)
+        .bodyParams("name", "active")
+        .build();
+
+    private static final Operation<Void> DELETE_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.DELETE, "/bot_users/{id}")
+        .build();
+
+    private static final Operation<BotUser> GET_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.GET, "/bot_users/{id}", BotUser.class)
+        .build();
+
+    private static final Operation<BotUserList> LIST_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.GET, "/bot_users", BotUserList.class)
+        .queryParams("before_id", "limit")
+        .build();
+
+    private static final Operation<BotUser> UPDATE_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.PATCH, "/bot_users/{id}", BotUser.class)
+        .bodyParams("name", "active")
+        .build();
+
     private final NgrokApiClient apiClient;
 
     /**
@@ -92,14 +116,11 @@ public class BotUsers {
          */
         public CompletionStage<BotUser> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.POST,
-                "/bot_users",
-                Stream.empty(),
-                Stream.of(
-                    new AbstractMap.SimpleEntry<>("name", this.name.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("active", this.active.map(Function.identity()))
-                ),
-                Optional.of(BotUser.class)
+                CREATE_OPERATION,
+                new Object[] {
+                    this.name.orElse(null),
+                    this.active.orElse(null)
+                }
             );
         }
 
@@ -116,6 +137,35 @@ public class BotUsers {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                CREATE_OPERATION,
+                new Object[] {
+                    this.name.orElse(null),
+                    this.active.orElse(null)
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
@@ -150,11 +200,10 @@ public class BotUsers {
          */
         public CompletionStage<Void> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.DELETE,
-                "/bot_users/" + this.id,
-                Stream.empty(),
-                Stream.empty(),
-                Optional.empty()
+                DELETE_OPERATION,
+                new Object[] {
+                    this.id
+                }
             );
         }
 
@@ -170,6 +219,34 @@ public class BotUsers {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                DELETE_OPERATION,
+                new Object[] {
+                    this.id
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
@@ -207,11 +284,10 @@ public class BotUsers {
          */
         public CompletionStage<BotUser> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.GET,
-                "/bot_users/" + this.id,
-                Stream.empty(),
-                Stream.empty(),
-                Optional.of(BotUser.class)
+                GET_OPERATION,
+                new Object[] {
+                    this.id
+                }
             );
         }
 
@@ -228,6 +304,67 @@ public class BotUsers {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                GET_OPERATION,
+                new Object[] {
+                    this.id
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        /**
+         * Initiates the API call asynchronously, only decoding the fields selected by a projection.
+         *
+         * @param projection the fields of the {@link BotUser} to decode
+         * @param <V> the type of the projected view
+         * @return a {@link CompletionStage} of the projected view
+         */
+        public <V> CompletionStage<V> call(final Projection<V> projection) {
+            return apiClient.sendRequest(
+                GET_OPERATION,
+                new Object[] {
+                    this.id
+                },
+                projection::read
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, only decoding the fields selected by a projection.
+         *
+         * @param projection the fields of the {@link BotUser} to decode
+         * @param <V> the type of the projected view
+         * @return the projected view
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public <V> V blockingCall(final Projection<V> projection) throws InterruptedException {
+            try {
+                return call(projection).toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
@@ -246,6 +383,17 @@ public class BotUsers {
         );
     }
     
+    /**
+     * Fetches many {@link BotUser}s by ID, with one GET request per ID or by listing them, whichever takes fewer
+     * round trips.
+     *
+     * @param ids the IDs of the resources
+     * @return a {@link MultiGet} of the resources
+     */
+    public MultiGet<BotUser> getAll(final Collection<String> ids) {
+        return new MultiGet<>(ids, id -> get(id).call(), list().limit("100").items());
+    }
+    
     /**
      * A builder object encapsulating state for an unsent List API call.
      */
@@ -308,14 +456,11 @@ public class BotUsers {
          */
         public CompletionStage<Page<BotUserList>> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.GET,
-                "/bot_users",
-                Stream.of(
-                    new AbstractMap.SimpleEntry<>("before_id", this.beforeId.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("limit", this.limit.map(Function.identity()))
-                ),
-                Stream.empty(),
-                Optional.of(BotUserList.class)
+                LIST_OPERATION,
+                new Object[] {
+                    this.beforeId.orElse(null),
+                    this.limit.orElse(null)
+                }
             ).thenApply(list -> new Page<>(apiClient, list));
         }
 
@@ -332,6 +477,94 @@ public class BotUsers {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * The <code>next_page_uri</code> of a raw page can be fetched with
+         * {@link NgrokApiClient#sendRawRequest(java.net.URI)}.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                LIST_OPERATION,
+                new Object[] {
+                    this.beforeId.orElse(null),
+                    this.limit.orElse(null)
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        /**
+         * Initiates the API call asynchronously, only decoding the fields of each item selected by a projection.
+         *
+         * @param projection the fields of the items of the {@link BotUserList} to decode
+         * @param <V> the type of the projected items
+         * @return a {@link CompletionStage} of a {@link Page} of {@link ProjectedList}
+         */
+        public <V> CompletionStage<Page<ProjectedList<V>>> call(final Projection<V> projection) {
+            final ResponseDecoder<ProjectedList<V>> decoder = projection.forList("bot_users");
+            return apiClient.sendRequest(
+                LIST_OPERATION,
+                new Object[] {
+                    this.beforeId.orElse(null),
+                    this.limit.orElse(null)
+                },
+                decoder
+            ).thenApply(list -> new Page<>(apiClient, list, decoder));
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, only decoding the fields of each item selected by a
+         * projection.
+         *
+         * @param projection the fields of the items of the {@link BotUserList} to decode
+         * @param <V> the type of the projected items
+         * @return a {@link Page} of {@link ProjectedList}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public <V> Page<ProjectedList<V>> blockingCall(final Projection<V> projection) throws InterruptedException {
+            try {
+                return call(projection).toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        /**
+         * Streams the items of the list, one at a time and across all pages, rather than decoding whole pages.
+         *
+         * @return the {@link ListItems} of {@link BotUser}
+         */
+        public ListItems<BotUser> items() {
+            return new ListItems<>(
+                apiClient,
+                LIST_OPERATION,
+                new Object[] {
+                    this.beforeId.orElse(null),
+                    this.limit.orElse(null)
+                },
+                "bot_users",
+                BotUser.class,
+                BotUserList::getBotUsers,
+                BotUser::getId
+            );
+        }
     }
 
     /**
@@ -346,6 +579,18 @@ public class BotUsers {
         return new ListCallBuilder(
         );
     }
+
+    /**
+     * List all bot users in this account, iterating over the items of every page.
+     *
+     * This is the same as <code>list().items()</code>: the {@link ListItems} can be streamed to a consumer
+     * or iterated over with pages fetched ahead of time.
+     *
+     * @return the {@link ListItems} of {@link BotUser}
+     */
+    public ListItems<BotUser> listAll() {
+        return list().items();
+    }
     
     /**
      * A builder object encapsulating state for an unsent Update API call.
@@ -412,14 +657,12 @@ public class BotUsers {
          */
         public CompletionStage<BotUser> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.PATCH,
-                "/bot_users/" + this.id,
-                Stream.empty(),
-                Stream.of(
-                    new AbstractMap.SimpleEntry<>("name", this.name.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("active", this.active.map(Function.identity()))
-                ),
-                Optional.of(BotUser.class)
+                UPDATE_OPERATION,
+                new Object[] {
+                    this.id,
+                    this.name.orElse(null),
+                    this.active.orElse(null)
+                }
             );
         }
 
@@ -436,6 +679,36 @@ public class BotUsers {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                UPDATE_OPERATION,
+                new Object[] {
+                    this.id,
+                    this.name.orElse(null),
+                    this.active.orElse(null)
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
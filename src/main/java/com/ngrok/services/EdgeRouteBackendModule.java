@@ -3,15 +3,14 @@
 package com.ngrok.services;
 
 import com.ngrok.NgrokApiClient;
+import com.ngrok.Operation;
+import com.ngrok.RawResponse;
 import com.ngrok.definitions.*;
 
-import java.util.AbstractMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
-import java.util.function.Function;
-import java.util.stream.Stream;
 
 /**
  * An API client for {@link EdgeRouteBackendModule}.
@@ -19,6 +18,19 @@ import java.util.stream.Stream;
  * See also <a href="https://ngrok.com/docs/api#api-edge-route-backend-module">https://ngrok.com/docs/api#api-edge-route-backend-module</a>.
  */
 public class EdgeRouteBackendModule {
+    private static final Operation<EndpointBackend> REPLACE_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.PUT, "/edges/https/{edge_id}/routes/{id}/backend", EndpointBackend.class)
+        .bodyParams("module")
+        .build();
+
+    private static final Operation<EndpointBackend> GET_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.GET, "/edges/https/{edge_id}/routes/{id}/backend", EndpointBackend.class)
+        .build();
+
+    private static final Operation<Void> DELETE_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.DELETE, "/edges/https/{edge_id}/routes/{id}/backend")
+        .build();
+
     private final NgrokApiClient apiClient;
 
     /**
@@ -75,13 +87,12 @@ public class EdgeRouteBackendModule {
          */
         public CompletionStage<EndpointBackend> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.PUT,
-                "/edges/https/" + this.edgeId + "/routes/" + this.id + "/backend",
-                Stream.empty(),
-                Stream.of(
-                    new AbstractMap.SimpleEntry<>("module", this.module.map(Function.identity()))
-                ),
-                Optional.of(EndpointBackend.class)
+                REPLACE_OPERATION,
+                new Object[] {
+                    this.edgeId,
+                    this.id,
+                    this.module.orElse(null)
+                }
             );
         }
 
@@ -98,6 +109,36 @@ public class EdgeRouteBackendModule {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                REPLACE_OPERATION,
+                new Object[] {
+                    this.edgeId,
+                    this.id,
+                    this.module.orElse(null)
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
@@ -141,11 +182,11 @@ public class EdgeRouteBackendModule {
          */
         public CompletionStage<EndpointBackend> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.GET,
-                "/edges/https/" + this.edgeId + "/routes/" + this.id + "/backend",
-                Stream.empty(),
-                Stream.empty(),
-                Optional.of(EndpointBackend.class)
+                GET_OPERATION,
+                new Object[] {
+                    this.edgeId,
+                    this.id
+                }
             );
         }
 
@@ -162,6 +203,69 @@ public class EdgeRouteBackendModule {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                GET_OPERATION,
+                new Object[] {
+                    this.edgeId,
+                    this.id
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        /**
+         * Initiates the API call asynchronously, only decoding the fields selected by a projection.
+         *
+         * @param projection the fields of the {@link EndpointBackend} to decode
+         * @param <V> the type of the projected view
+         * @return a {@link CompletionStage} of the projected view
+         */
+        public <V> CompletionStage<V> call(final Projection<V> projection) {
+            return apiClient.sendRequest(
+                GET_OPERATION,
+                new Object[] {
+                    this.edgeId,
+                    this.id
+                },
+                projection::read
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, only decoding the fields selected by a projection.
+         *
+         * @param projection the fields of the {@link EndpointBackend} to decode
+         * @param <V> the type of the projected view
+         * @return the projected view
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public <V> V blockingCall(final Projection<V> projection) throws InterruptedException {
+            try {
+                return call(projection).toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
@@ -205,11 +309,11 @@ public class EdgeRouteBackendModule {
          */
         public CompletionStage<Void> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.DELETE,
-                "/edges/https/" + this.edgeId + "/routes/" + this.id + "/backend",
-                Stream.empty(),
-                Stream.empty(),
-                Optional.empty()
+                DELETE_OPERATION,
+                new Object[] {
+                    this.edgeId,
+                    this.id
+                }
             );
         }
 
@@ -225,6 +329,35 @@ public class EdgeRouteBackendModule {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                DELETE_OPERATION,
+                new Object[] {
+                    this.edgeId,
+                    this.id
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
@@ -3,15 +3,14 @@
 package com.ngrok.services;
 
 import com.ngrok.NgrokApiClient;
+import com.ngrok.Operation;
+import com.ngrok.RawResponse;
 import com.ngrok.definitions.*;
 
-import java.util.AbstractMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
-import java.util.function.Function;
-import java.util.stream.Stream;
 
 /**
  * An API client for {@link EdgesHttpsRoutes}.
@@ -19,6 +18,24 @@ import java.util.stream.Stream;
  * See also <a href="https://ngrok.com/docs/api#api-edges-https-routes">https://ngrok.com/docs/api#api-edges-https-routes</a>.
  */
 public class EdgesHttpsRoutes {
+    private static final Operation<HttpsEdgeRoute> CREATE_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.POST, "/edges/https/{edge_id}/routes", HttpsEdgeRoute.class)
+        .bodyParams("match_type", "match", "description", "metadata", "backend", "ip_restriction", "circuit_breaker", "compression", "request_headers", "response_headers", "webhook_verification", "oauth", "saml", "oidc", "websocket_tcp_converter", "user_agent_filter", "policy")
+        .build();
+
+    private static final Operation<HttpsEdgeRoute> GET_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.GET, "/edges/https/{edge_id}/routes/{id}", HttpsEdgeRoute.class)
+        .build();
+
+    private static final Operation<HttpsEdgeRoute> UPDATE_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.PATCH, "/edges/https/{edge_id}/routes/{id}", HttpsEdgeRoute.class)
+        .bodyParams("match_type", "match", "description", "metadata", "backend", "ip_restriction", "circuit_breaker", "compression", "request_headers", "response_headers", "webhook_verification", "oauth", "saml", "oidc", "websocket_tcp_converter", "user_agent_filter", "policy")
+        .build();
+
+    private static final Operation<Void> DELETE_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.DELETE, "/edges/https/{edge_id}/routes/{id}")
+        .build();
+
     private final NgrokApiClient apiClient;
 
     /**
@@ -404,29 +421,27 @@ public class EdgesHttpsRoutes {
          */
         public CompletionStage<HttpsEdgeRoute> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.POST,
-                "/edges/https/" + this.edgeId + "/routes",
-                Stream.empty(),
-                Stream.of(
-                    new AbstractMap.SimpleEntry<>("match_type", Optional.of(this.matchType)),
-                    new AbstractMap.SimpleEntry<>("match", Optional.of(this.match)),
-                    new AbstractMap.SimpleEntry<>("description", this.description.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("metadata", this.metadata.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("backend", this.backend.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("ip_restriction", this.ipRestriction.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("circuit_breaker", this.circuitBreaker.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("compression", this.compression.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("request_headers", this.requestHeaders.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("response_headers", this.responseHeaders.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("webhook_verification", this.webhookVerification.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("oauth", this.oauth.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("saml", this.saml.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("oidc", this.oidc.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("websocket_tcp_converter", this.websocketTcpConverter.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("user_agent_filter", this.userAgentFilter.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("policy", this.policy.map(Function.identity()))
-                ),
-                Optional.of(HttpsEdgeRoute.class)
+                CREATE_OPERATION,
+                new Object[] {
+                    this.edgeId,
+                    this.matchType,
+                    this.match,
+                    this.description.orElse(null),
+                    this.metadata.orElse(null),
+                    this.backend.orElse(null),
+                    this.ipRestriction.orElse(null),
+                    this.circuitBreaker.orElse(null),
+                    this.compression.orElse(null),
+                    this.requestHeaders.orElse(null),
+                    this.responseHeaders.orElse(null),
+                    this.webhookVerification.orElse(null),
+                    this.oauth.orElse(null),
+                    this.saml.orElse(null),
+                    this.oidc.orElse(null),
+                    this.websocketTcpConverter.orElse(null),
+                    this.userAgentFilter.orElse(null),
+                    this.policy.orElse(null)
+                }
             );
         }
 
@@ -443,6 +458,51 @@ public class EdgesHttpsRoutes {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                CREATE_OPERATION,
+                new Object[] {
+                    this.edgeId,
+                    this.matchType,
+                    this.match,
+                    this.description.orElse(null),
+                    this.metadata.orElse(null),
+                    this.backend.orElse(null),
+                    this.ipRestriction.orElse(null),
+                    this.circuitBreaker.orElse(null),
+                    this.compression.orElse(null),
+                    this.requestHeaders.orElse(null),
+                    this.responseHeaders.orElse(null),
+                    this.webhookVerification.orElse(null),
+                    this.oauth.orElse(null),
+                    this.saml.orElse(null),
+                    this.oidc.orElse(null),
+                    this.websocketTcpConverter.orElse(null),
+                    this.userAgentFilter.orElse(null),
+                    this.policy.orElse(null)
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
@@ -489,11 +549,11 @@ public class EdgesHttpsRoutes {
          */
         public CompletionStage<HttpsEdgeRoute> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.GET,
-                "/edges/https/" + this.edgeId + "/routes/" + this.id,
-                Stream.empty(),
-                Stream.empty(),
-                Optional.of(HttpsEdgeRoute.class)
+                GET_OPERATION,
+                new Object[] {
+                    this.edgeId,
+                    this.id
+                }
             );
         }
 
@@ -510,6 +570,69 @@ public class EdgesHttpsRoutes {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                GET_OPERATION,
+                new Object[] {
+                    this.edgeId,
+                    this.id
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        /**
+         * Initiates the API call asynchronously, only decoding the fields selected by a projection.
+         *
+         * @param projection the fields of the {@link HttpsEdgeRoute} to decode
+         * @param <V> the type of the projected view
+         * @return a {@link CompletionStage} of the projected view
+         */
+        public <V> CompletionStage<V> call(final Projection<V> projection) {
+            return apiClient.sendRequest(
+                GET_OPERATION,
+                new Object[] {
+                    this.edgeId,
+                    this.id
+                },
+                projection::read
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, only decoding the fields selected by a projection.
+         *
+         * @param projection the fields of the {@link HttpsEdgeRoute} to decode
+         * @param <V> the type of the projected view
+         * @return the projected view
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public <V> V blockingCall(final Projection<V> projection) throws InterruptedException {
+            try {
+                return call(projection).toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
@@ -952,29 +1075,28 @@ public class EdgesHttpsRoutes {
          */
         public CompletionStage<HttpsEdgeRoute> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.PATCH,
-                "/edges/https/" + this.edgeId + "/routes/" + this.id,
-                Stream.empty(),
-                Stream.of(
-                    new AbstractMap.SimpleEntry<>("match_type", this.matchType.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("match", this.match.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("description", this.description.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("metadata", this.metadata.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("backend", this.backend.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("ip_restriction", this.ipRestriction.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("circuit_breaker", this.circuitBreaker.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("compression", this.compression.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("request_headers", this.requestHeaders.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("response_headers", this.responseHeaders.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("webhook_verification", this.webhookVerification.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("oauth", this.oauth.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("saml", this.saml.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("oidc", this.oidc.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("websocket_tcp_converter", this.websocketTcpConverter.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("user_agent_filter", this.userAgentFilter.map(Function.identity())),
-                    new AbstractMap.SimpleEntry<>("policy", this.policy.map(Function.identity()))
-                ),
-                Optional.of(HttpsEdgeRoute.class)
+                UPDATE_OPERATION,
+                new Object[] {
+                    this.edgeId,
+                    this.id,
+                    this.matchType.orElse(null),
+                    this.match.orElse(null),
+                    this.description.orElse(null),
+                    this.metadata.orElse(null),
+                    this.backend.orElse(null),
+                    this.ipRestriction.orElse(null),
+                    this.circuitBreaker.orElse(null),
+                    this.compression.orElse(null),
+                    this.requestHeaders.orElse(null),
+                    this.responseHeaders.orElse(null),
+                    this.webhookVerification.orElse(null),
+                    this.oauth.orElse(null),
+                    this.saml.orElse(null),
+                    this.oidc.orElse(null),
+                    this.websocketTcpConverter.orElse(null),
+                    this.userAgentFilter.orElse(null),
+                    this.policy.orElse(null)
+                }
             );
         }
 
@@ -991,6 +1113,52 @@ public class EdgesHttpsRoutes {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                UPDATE_OPERATION,
+                new Object[] {
+                    this.edgeId,
+                    this.id,
+                    this.matchType.orElse(null),
+                    this.match.orElse(null),
+                    this.description.orElse(null),
+                    this.metadata.orElse(null),
+                    this.backend.orElse(null),
+                    this.ipRestriction.orElse(null),
+                    this.circuitBreaker.orElse(null),
+                    this.compression.orElse(null),
+                    this.requestHeaders.orElse(null),
+                    this.responseHeaders.orElse(null),
+                    this.webhookVerification.orElse(null),
+                    this.oauth.orElse(null),
+                    this.saml.orElse(null),
+                    this.oidc.orElse(null),
+                    this.websocketTcpConverter.orElse(null),
+                    this.userAgentFilter.orElse(null),
+                    this.policy.orElse(null)
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
@@ -1037,11 +1205,11 @@ public class EdgesHttpsRoutes {
          */
         public CompletionStage<Void> call() {
             return apiClient.sendRequest(
-                NgrokApiClient.HttpMethod.DELETE,
-                "/edges/https/" + this.edgeId + "/routes/" + this.id,
-                Stream.empty(),
-                Stream.empty(),
-                Optional.empty()
+                DELETE_OPERATION,
+                new Object[] {
+                    this.edgeId,
+                    this.id
+                }
             );
         }
 
@@ -1057,6 +1225,35 @@ public class EdgesHttpsRoutes {
                 throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
             }
         }
+
+        /**
+         * Initiates the API call asynchronously, without decoding the response body.
+         *
+         * @return a {@link CompletionStage} of {@link RawResponse}
+         */
+        public CompletionStage<RawResponse> callRaw() {
+            return apiClient.sendRawRequest(
+                DELETE_OPERATION,
+                new Object[] {
+                    this.edgeId,
+                    this.id
+                }
+            );
+        }
+
+        /**
+         * Initiates the API call and blocks until it returns, without decoding the response body.
+         *
+         * @return {@link RawResponse}
+         * @throws InterruptedException if the thread was interrupted during the call
+         */
+        public RawResponse blockingCallRaw() throws InterruptedException {
+            try {
+                return callRaw().toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        }
     }
 
     /**
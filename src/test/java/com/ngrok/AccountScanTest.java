@@ -0,0 +1,111 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.ngrok.definitions.ApiKey;
+import com.ngrok.definitions.NgrokApiError;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AccountScanTest {
+    @Test
+    public void testScanAccount() throws Exception {
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            final FakeApiClient apiClient = new FakeApiClient(executor);
+            final List<Object> items = new ArrayList<>();
+            final AccountScan scan = new Ngrok(apiClient).scanAccount().concurrency(3);
+            final Map<String, AccountScan.TypeStats> stats = scan.blockingCall(items::add);
+
+            assertThat(stats.keySet()).containsExactlyInAnyOrderElementsOf(AccountScan.getResourceTypes());
+            assertThat(items).hasSize(3).allMatch(item -> item instanceof ApiKey);
+            assertThat(stats.get("/api_keys").getItems()).isEqualTo(3);
+            assertThat(stats.get("/api_keys").getRequests()).isEqualTo(1);
+            assertThat(stats.get("/tunnels").getError()).containsInstanceOf(NgrokApiError.class);
+            assertThat(stats.get("/endpoints").getError()).isEmpty();
+            assertThat(apiClient.maxInFlight.get()).isEqualTo(3);
+
+            // the largest resource type of the previous scan goes first
+            assertThat(scan.blockingCall(item -> { }).keySet().iterator().next()).isEqualTo("/api_keys");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Lists three API keys, fails to list tunnels, and lists nothing else, answering a little later.
+     */
+    private static class FakeApiClient implements NgrokApiClient {
+        private final ScheduledExecutorService executor;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        private FakeApiClient(final ScheduledExecutorService executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public <I> CompletionStage<Optional<URI>> streamRequest(final Operation<?> operation,
+                                                                final Object[] values,
+                                                                final String itemsField,
+                                                                final Class<I> itemClass,
+                                                                final Consumer<? super I> consumer)
+        {
+            this.maxInFlight.accumulateAndGet(this.inFlight.incrementAndGet(), Math::max);
+            final CompletableFuture<Optional<URI>> future = new CompletableFuture<>();
+            this.executor.schedule(() -> {
+                this.inFlight.decrementAndGet();
+                if (operation.getPathTemplate().equals("/tunnels")) {
+                    future.completeExceptionally(new NgrokApiError(503));
+                    return;
+                }
+                if (itemClass == ApiKey.class) {
+                    for (int i = 0; i < 3; i++) {
+                        consumer.accept(itemClass.cast(new ApiKey(
+                            "ak_" + i,
+                            URI.create("https://api.ngrok.com/api_keys/ak_" + i),
+                            Optional.empty(),
+                            Optional.empty(),
+                            OffsetDateTime.now(),
+                            Optional.empty(),
+                            Optional.empty()
+                        )));
+                    }
+                }
+                future.complete(Optional.empty());
+            }, 5, TimeUnit.MILLISECONDS);
+            return future;
+        }
+
+        @Override
+        public <O> CompletionStage<O> sendRequest(final URI uri, final Class<O> responseClass) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <O> CompletionStage<O> sendRequest(final HttpMethod method,
+                                                  final String endpoint,
+                                                  final Stream<Map.Entry<String, Optional<Object>>> queryParams,
+                                                  final Stream<Map.Entry<String, Optional<Object>>> bodyParams,
+                                                  final Optional<Class<O>> responseClass)
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
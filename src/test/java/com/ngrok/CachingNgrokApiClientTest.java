@@ -0,0 +1,118 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.ngrok.definitions.IpPolicy;
+import com.ngrok.definitions.NgrokApiError;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CachingNgrokApiClientTest {
+    @Test
+    public void testCachesAndInvalidates() throws Exception {
+        final FakeApiClient fake = new FakeApiClient();
+        final CachingNgrokApiClient apiClient = CachingNgrokApiClient.newBuilder(fake)
+            .ttl("/ip_policies", Duration.ofMinutes(1))
+            .maxEntries(2)
+            .build();
+        final Ngrok ngrok = new Ngrok(apiClient);
+
+        assertThat(ngrok.ipPolicies().get("ipp_1").blockingCall().getDescription()).contains("v1");
+        assertThat(ngrok.ipPolicies().get("ipp_1").blockingCall().getDescription()).contains("v1");
+        assertThatThrownBy(() -> ngrok.ipPolicies().get("ipp_missing").blockingCall()).isInstanceOf(NgrokApiError.class);
+        assertThatThrownBy(() -> ngrok.ipPolicies().get("ipp_missing").blockingCall()).isInstanceOf(NgrokApiError.class);
+        assertThat(fake.requests).containsExactly("GET /ip_policies/ipp_1", "GET /ip_policies/ipp_missing");
+        assertThat(apiClient.getHitCount()).isEqualTo(2);
+        assertThat(apiClient.getMissCount()).isEqualTo(2);
+
+        // the update replaces the cached policy
+        ngrok.ipPolicies().update("ipp_1").description("v2").blockingCall();
+        assertThat(ngrok.ipPolicies().get("ipp_1").blockingCall().getDescription()).contains("v2");
+        assertThat(fake.requests).hasSize(3);
+
+        // the deletion evicts it
+        ngrok.ipPolicies().delete("ipp_1").blockingCall();
+        assertThatThrownBy(() -> ngrok.ipPolicies().get("ipp_1").blockingCall()).isInstanceOf(NgrokApiError.class);
+        assertThat(fake.requests).hasSize(5);
+
+        ngrok.ipPolicies().get("ipp_2").blockingCall();
+        ngrok.ipPolicies().get("ipp_3").blockingCall();
+        assertThat(apiClient.getEvictionCount()).isEqualTo(1);
+        assertThat(apiClient.getSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void testEvictsResponsesFetchedByUri() throws Exception {
+        final FakeApiClient fake = new FakeApiClient();
+        final CachingNgrokApiClient apiClient = CachingNgrokApiClient.newBuilder(fake)
+            .ttl(Duration.ofMinutes(1))
+            .build();
+        final Ngrok ngrok = new Ngrok(apiClient);
+        // an escaped path, as a next_page_uri may have
+        final URI uri = URI.create("https://api.ngrok.com/ip%5Fpolicies/ipp_1?fields=a%20b");
+
+        apiClient.sendRequest(uri, IpPolicy.class).toCompletableFuture().get();
+        apiClient.sendRequest(uri, IpPolicy.class).toCompletableFuture().get();
+        assertThat(fake.requests).hasSize(1);
+
+        ngrok.ipPolicies().update("ipp_1").description("v2").blockingCall();
+        assertThat(apiClient.sendRequest(uri, IpPolicy.class).toCompletableFuture().get().getDescription()).contains("v1");
+        assertThat(fake.requests).hasSize(3);
+    }
+
+    /**
+     * Serves IP policies, ipp_1 until it is deleted, and a description that updates change.
+     */
+    private static class FakeApiClient implements NgrokApiClient {
+        private final List<String> requests = new ArrayList<>();
+        private boolean deleted = false;
+
+        @Override
+        public <O> CompletionStage<O> sendRequest(final URI uri, final Class<O> responseClass) {
+            return sendRequest(HttpMethod.GET, uri.getPath(), Stream.empty(), Stream.empty(), Optional.of(responseClass));
+        }
+
+        @Override
+        public <O> CompletionStage<O> sendRequest(final HttpMethod method,
+                                                  final String endpoint,
+                                                  final Stream<Map.Entry<String, Optional<Object>>> queryParams,
+                                                  final Stream<Map.Entry<String, Optional<Object>>> bodyParams,
+                                                  final Optional<Class<O>> responseClass)
+        {
+            this.requests.add(method + " " + endpoint);
+            final CompletableFuture<O> future = new CompletableFuture<>();
+            final String id = endpoint.substring(endpoint.lastIndexOf('/') + 1);
+            if (method == HttpMethod.DELETE) {
+                this.deleted = true;
+                future.complete(null);
+            } else if (id.equals("ipp_missing") || (this.deleted && id.equals("ipp_1"))) {
+                future.completeExceptionally(new NgrokApiError(404));
+            } else {
+                final Optional<Object> description = method == HttpMethod.PATCH
+                    ? bodyParams.filter(param -> param.getKey().equals("description")).findFirst().flatMap(Map.Entry::getValue)
+                    : Optional.of("v1");
+                future.complete(responseClass.get().cast(new IpPolicy(
+                    id,
+                    URI.create("https://api.ngrok.com/ip_policies/" + id),
+                    OffsetDateTime.now(),
+                    description.map(Object::toString),
+                    Optional.empty()
+                )));
+            }
+            return future;
+        }
+    }
+}
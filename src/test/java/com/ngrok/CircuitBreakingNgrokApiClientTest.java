@@ -0,0 +1,89 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.ngrok.definitions.NgrokApiError;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CircuitBreakingNgrokApiClientTest {
+    private static final URI CREDENTIAL = URI.create("https://api.ngrok.com/credentials/cr_1");
+    private static final URI API_KEY = URI.create("https://api.ngrok.com/api_keys/ak_1");
+
+    @Test
+    public void testOpensAndCloses() throws Exception {
+        final FakeApiClient fake = new FakeApiClient();
+        final List<CircuitBreakingNgrokApiClient.StateChange> changes = new ArrayList<>();
+        final CircuitBreakingNgrokApiClient apiClient = CircuitBreakingNgrokApiClient.newBuilder(fake)
+            .minimumRequests(4)
+            .openDuration(Duration.ofMillis(50))
+            .halfOpenProbes(1)
+            .listener(changes::add)
+            .build();
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> apiClient.sendRequest(CREDENTIAL, String.class).toCompletableFuture().get())
+                .hasCauseInstanceOf(NgrokApiError.class);
+        }
+        assertThat(apiClient.getState("/credentials")).isEqualTo(CircuitBreakingNgrokApiClient.State.OPEN);
+        assertThatThrownBy(() -> apiClient.sendRequest(CREDENTIAL, String.class).toCompletableFuture().get())
+            .hasCauseInstanceOf(CircuitOpenException.class);
+        assertThat(fake.requests.get()).isEqualTo(4);
+
+        // other endpoint families are not affected
+        assertThat(apiClient.sendRequest(API_KEY, String.class).toCompletableFuture().get()).isEqualTo("ok");
+
+        Thread.sleep(60);
+        assertThat(apiClient.sendRequest(CREDENTIAL, String.class).toCompletableFuture().get()).isEqualTo("ok");
+        assertThat(apiClient.getState("/credentials")).isEqualTo(CircuitBreakingNgrokApiClient.State.CLOSED);
+        assertThat(changes.stream().map(CircuitBreakingNgrokApiClient.StateChange::getTo).collect(Collectors.toList()))
+            .containsExactly(
+                CircuitBreakingNgrokApiClient.State.OPEN,
+                CircuitBreakingNgrokApiClient.State.HALF_OPEN,
+                CircuitBreakingNgrokApiClient.State.CLOSED
+            );
+    }
+
+    /**
+     * Fails the first four credential requests with a 503, and answers the others.
+     */
+    private static class FakeApiClient implements NgrokApiClient {
+        private final AtomicInteger requests = new AtomicInteger();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <O> CompletionStage<O> sendRequest(final URI uri, final Class<O> responseClass) {
+            final CompletableFuture<O> future = new CompletableFuture<>();
+            if (uri.getPath().startsWith("/credentials") && this.requests.incrementAndGet() <= 4) {
+                future.completeExceptionally(new NgrokApiError(503));
+            } else {
+                future.complete((O) "ok");
+            }
+            return future;
+        }
+
+        @Override
+        public <O> CompletionStage<O> sendRequest(final HttpMethod method,
+                                                  final String endpoint,
+                                                  final Stream<Map.Entry<String, Optional<Object>>> queryParams,
+                                                  final Stream<Map.Entry<String, Optional<Object>>> bodyParams,
+                                                  final Optional<Class<O>> responseClass)
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CoalescingNgrokApiClientTest {
+    private static final URI TUNNEL = URI.create("https://api.ngrok.com/tunnels/tn_1");
+    private static final URI OTHER_TUNNEL = URI.create("https://api.ngrok.com/tunnels/tn_2");
+
+    @Test
+    public void testCoalescesIdenticalRequests() throws Exception {
+        final FakeApiClient fake = new FakeApiClient();
+        final CoalescingNgrokApiClient apiClient = new CoalescingNgrokApiClient(fake);
+
+        final CompletableFuture<String> first = apiClient.sendRequest(TUNNEL, String.class).toCompletableFuture();
+        final CompletableFuture<String> second = apiClient.sendRequest(TUNNEL, String.class).toCompletableFuture();
+        final CompletableFuture<String> cancelled = apiClient.sendRequest(TUNNEL, String.class).toCompletableFuture();
+        final CompletableFuture<String> other = apiClient.sendRequest(OTHER_TUNNEL, String.class).toCompletableFuture();
+        assertThat(fake.responses).hasSize(2);
+        assertThat(apiClient.getSavedCalls()).isEqualTo(2);
+
+        // the request goes on as long as a caller waits for it
+        cancelled.cancel(true);
+        assertThat(fake.responses.get(0).isCancelled()).isFalse();
+
+        fake.responses.get(0).complete("tunnel");
+        fake.responses.get(1).complete("other tunnel");
+        assertThat(first.get()).isEqualTo("tunnel");
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(other.get()).isEqualTo("other tunnel");
+
+        // once answered, the request is sent again
+        apiClient.sendRequest(TUNNEL, String.class);
+        assertThat(fake.responses).hasSize(3);
+    }
+
+    @Test
+    public void testTargetsEncodeQueryValues() {
+        final FakeApiClient fake = new FakeApiClient();
+        final CoalescingNgrokApiClient apiClient = new CoalescingNgrokApiClient(fake);
+        final Operation<String> list = Operation.newBuilder(NgrokApiClient.HttpMethod.GET, "/tunnels", String.class)
+            .queryParams("before_id", "limit")
+            .build();
+
+        // a value holding '&' and '=' is not taken for two parameters, and a space is encoded the same either way
+        apiClient.sendRequest(list, new Object[] { "tn 1&limit=1", null });
+        apiClient.sendRequest(list, new Object[] { "tn 1", "1" });
+        apiClient.sendRequest(URI.create("https://api.ngrok.com/tunnels?before_id=tn+1%26limit%3D1"), String.class);
+        apiClient.sendRequest(URI.create("https://api.ngrok.com/tunnels?limit=1&before_id=tn%201"), String.class);
+        assertThat(fake.responses).hasSize(2);
+        assertThat(apiClient.getSavedCalls()).isEqualTo(2);
+    }
+
+    @Test
+    public void testDoesNotCoalesceDecodedRequests() {
+        final CoalescingNgrokApiClient apiClient = new CoalescingNgrokApiClient(new FakeApiClient());
+        final ResponseDecoder<String> decoder = parser -> parser.getValueAsString();
+
+        apiClient.sendRequest(TUNNEL, decoder);
+        apiClient.sendRequest(TUNNEL, decoder);
+        assertThat(apiClient.getSavedCalls()).isZero();
+    }
+
+    /**
+     * Answers requests when the test completes their future.
+     */
+    private static class FakeApiClient implements NgrokApiClient {
+        private final List<CompletableFuture<Object>> responses = new ArrayList<>();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <O> CompletionStage<O> sendRequest(final URI uri, final Class<O> responseClass) {
+            final CompletableFuture<Object> response = new CompletableFuture<>();
+            this.responses.add(response);
+            return (CompletionStage<O>) response;
+        }
+
+        @Override
+        public <O> CompletionStage<O> sendRequest(final HttpMethod method,
+                                                  final String endpoint,
+                                                  final Stream<Map.Entry<String, Optional<Object>>> queryParams,
+                                                  final Stream<Map.Entry<String, Optional<Object>>> bodyParams,
+                                                  final Optional<Class<O>> responseClass)
+        {
+            return sendRequest(URI.create(endpoint), Object.class).thenApply(value -> null);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.ngrok.definitions.NgrokApiError;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConcurrencyLimitingNgrokApiClientTest {
+    private static final URI URI = java.net.URI.create("https://api.ngrok.com/api_keys/ak_1");
+
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testShedsRequestsQueuedTooLong() throws Exception {
+        final Queue<CompletableFuture<Object>> responses = new ConcurrentLinkedQueue<>();
+        final ConcurrencyLimitingNgrokApiClient apiClient = ConcurrencyLimitingNgrokApiClient.newBuilder(new FakeApiClient(responses::add))
+            .limits(1, 1)
+            .queueTimeout(Duration.ofMillis(50))
+            .scheduler(this.scheduler)
+            .build();
+
+        final CompletableFuture<String> first = apiClient.sendRequest(URI, String.class).toCompletableFuture();
+        final CompletableFuture<String> second = apiClient.sendRequest(URI, String.class).toCompletableFuture();
+        assertThat(apiClient.getInFlight()).isEqualTo(1);
+        assertThat(apiClient.getQueueDepth()).isEqualTo(1);
+
+        assertThatThrownBy(second::get).hasCauseInstanceOf(ConcurrencyLimitExceededException.class);
+        assertThat(apiClient.getQueueDepth()).isEqualTo(0);
+        assertThat(responses).hasSize(1);
+
+        responses.poll().complete("ok");
+        assertThat(first.get()).isEqualTo("ok");
+        apiClient.sendRequest(URI, String.class);
+        assertThat(responses).hasSize(1);
+    }
+
+    @Test
+    public void testAdaptsLimit() throws Exception {
+        final FakeApiClient fake = new FakeApiClient(response -> this.scheduler.schedule(() -> response.complete(null), 5, TimeUnit.MILLISECONDS));
+        final ConcurrencyLimitingNgrokApiClient apiClient = ConcurrencyLimitingNgrokApiClient.newBuilder(fake)
+            .initialLimit(4)
+            .scheduler(this.scheduler)
+            .build();
+
+        // the latency does not grow with the load, so neither does the queue on the server
+        final CompletableFuture<?>[] responses = new CompletableFuture<?>[40];
+        for (int i = 0; i < responses.length; i++) {
+            responses[i] = apiClient.sendRequest(URI, String.class).toCompletableFuture();
+        }
+        CompletableFuture.allOf(responses).get();
+        final int limit = apiClient.getLimit();
+        assertThat(limit).isGreaterThan(4);
+
+        final ConcurrencyLimitingNgrokApiClient rejecting = ConcurrencyLimitingNgrokApiClient.newBuilder(
+            new FakeApiClient(response -> response.completeExceptionally(new NgrokApiError(503)))
+        ).initialLimit(10).build();
+        assertThatThrownBy(() -> rejecting.sendRequest(URI, String.class).toCompletableFuture().get())
+            .hasCauseInstanceOf(NgrokApiError.class);
+        assertThat(rejecting.getLimit()).isEqualTo(9);
+    }
+
+    /**
+     * Hands the future of each response to a callback that completes it.
+     */
+    private static class FakeApiClient implements NgrokApiClient {
+        private final Consumer<CompletableFuture<Object>> respond;
+
+        private FakeApiClient(final Consumer<CompletableFuture<Object>> respond) {
+            this.respond = respond;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <O> CompletionStage<O> sendRequest(final URI uri, final Class<O> responseClass) {
+            final CompletableFuture<Object> future = new CompletableFuture<>();
+            this.respond.accept(future);
+            return (CompletionStage<O>) future;
+        }
+
+        @Override
+        public <O> CompletionStage<O> sendRequest(final HttpMethod method,
+                                                  final String endpoint,
+                                                  final Stream<Map.Entry<String, Optional<Object>>> queryParams,
+                                                  final Stream<Map.Entry<String, Optional<Object>>> bodyParams,
+                                                  final Optional<Class<O>> responseClass)
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.ngrok.definitions.IpPolicy;
+import com.ngrok.definitions.IpPolicyRule;
+import com.ngrok.definitions.IpPolicyRuleList;
+import com.ngrok.definitions.NgrokApiError;
+import com.ngrok.definitions.Ref;
+import de.mkammerer.wiremock.WireMockExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Decodes responses that Armeria aggregates into pooled buffers, which can span several chunks.
+ */
+public class DefaultNgrokApiClientTest extends TestBase {
+    private static final Operation<Void> DELETE_IP_POLICY = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.DELETE, "/ip_policies/{id}")
+        .build();
+
+    @RegisterExtension
+    final WireMockExtension wireMock = new WireMockExtension(new WireMockConfiguration().dynamicPort().dynamicHttpsPort());
+
+    @Test
+    public void testDecodesEmptyBody() throws Exception {
+        wireMock.stubFor(delete(urlPathEqualTo("/ip_policies/ipp_1")).willReturn(noContent()));
+        final NgrokApiClient apiClient = DefaultNgrokApiClient.newBuilder(FAKE_API_SECRET).baseUri(wireMock.getBaseUri()).build();
+
+        new Ngrok(apiClient).ipPolicies().delete("ipp_1").blockingCall();
+        // decoders see an empty body as an empty object
+        final JsonNode tree = apiClient.sendRequest(DELETE_IP_POLICY, new Object[] { "ipp_1" }, parser -> parser.<JsonNode>readValueAsTree())
+            .toCompletableFuture().get();
+        assertThat(tree.isObject()).isTrue();
+        assertThat(tree.size()).isZero();
+    }
+
+    @Test
+    public void testDecodesBodyLargerThanPooledChunk() throws Exception {
+        final String description = String.join("", Collections.nCopies(64 * 1024, "d"));
+        final IpPolicy policy = new IpPolicy(
+            "ipp_1",
+            URI.create("https://api.ngrok.com/ip_policies/ipp_1"),
+            OffsetDateTime.parse("2021-06-08T21:09:00Z"),
+            Optional.of(description),
+            Optional.of("")
+        );
+        final List<IpPolicyRule> rules = IntStream.range(0, 500)
+            .mapToObj(i -> new IpPolicyRule(
+                "ipr_" + i,
+                URI.create("https://api.ngrok.com/ip_policy_rules/ipr_" + i),
+                OffsetDateTime.parse("2021-06-08T21:09:00Z"),
+                Optional.of("rule " + i),
+                Optional.of(""),
+                "10.1." + (i / 256) + "." + (i % 256) + "/32",
+                new Ref("ipp_1", URI.create("https://api.ngrok.com/ip_policies/ipp_1")),
+                "allow"
+            ))
+            .collect(Collectors.toList());
+        wireMock.stubFor(get(urlPathEqualTo("/ip_policies/ipp_1"))
+            .willReturn(okJson(MAPPER.writeValueAsString(policy))));
+        wireMock.stubFor(get(urlPathEqualTo("/ip_policy_rules"))
+            .willReturn(okJson(MAPPER.writeValueAsString(new IpPolicyRuleList(rules, URI.create("https://api.ngrok.com/ip_policy_rules"), Optional.empty())))));
+        final Ngrok ngrok = TestBase.ngrok(wireMock.getBaseUri());
+
+        assertThat(ngrok.ipPolicies().get("ipp_1").blockingCall()).isEqualTo(policy);
+        assertThat(ngrok.ipPolicyRules().list().blockingCall().getPage().getIpPolicyRules()).isEqualTo(rules);
+    }
+
+    @Test
+    public void testMapsErrorBody() {
+        final String details = String.join("", Collections.nCopies(32 * 1024, "x"));
+        wireMock.stubFor(get(urlPathEqualTo("/ip_policies/ipp_missing"))
+            .willReturn(aResponse()
+                .withStatus(404)
+                .withHeader(HttpHeaderNames.CONTENT_TYPE.toString(), "application/json")
+                .withBody("{\"msg\":\"not found\",\"status_code\":404,\"error_code\":\"ERR_NGROK_404\",\"details\":{\"operation_id\":\"" + details + "\"}}")));
+        final Ngrok ngrok = TestBase.ngrok(wireMock.getBaseUri());
+
+        assertThatThrownBy(() -> ngrok.ipPolicies().get("ipp_missing").blockingCall())
+            .isInstanceOfSatisfying(NgrokApiError.class, error -> {
+                assertThat(error.getMessage()).isEqualTo("not found");
+                assertThat(error.getHttpStatusCode()).isEqualTo(404);
+                assertThat(error.getErrorCode()).contains("ERR_NGROK_404");
+                assertThat(error.getDetails()).containsEntry("operation_id", details);
+            });
+    }
+}
@@ -0,0 +1,70 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HedgingNgrokApiClientTest {
+    private static final URI URI = java.net.URI.create("https://api.ngrok.com/tunnels");
+
+    @Test
+    public void testHedgesSlowRequest() throws Exception {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            final FakeApiClient fake = new FakeApiClient();
+            final HedgingNgrokApiClient apiClient = HedgingNgrokApiClient.newBuilder(fake).scheduler(scheduler).build();
+
+            for (int i = 0; i < 20; i++) {
+                apiClient.sendRequest(URI, String.class).toCompletableFuture().get();
+            }
+            assertThat(apiClient.getHedgeDelay("/tunnels")).isPresent();
+            assertThat(fake.requests.get()).isEqualTo(20);
+
+            // the 21st request never answers, so its hedge does
+            assertThat(apiClient.sendRequest(URI, String.class).toCompletableFuture().get()).isEqualTo("ok");
+            assertThat(fake.requests.get()).isEqualTo(22);
+            assertThat(fake.slow.isCancelled()).isTrue();
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Answers every request at once, except for the 21st.
+     */
+    private static class FakeApiClient implements NgrokApiClient {
+        private final AtomicInteger requests = new AtomicInteger();
+        private final CompletableFuture<Object> slow = new CompletableFuture<>();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <O> CompletionStage<O> sendRequest(final URI uri, final Class<O> responseClass) {
+            if (this.requests.incrementAndGet() == 21) {
+                return (CompletionStage<O>) this.slow;
+            }
+            return CompletableFuture.completedFuture(responseClass.cast("ok"));
+        }
+
+        @Override
+        public <O> CompletionStage<O> sendRequest(final HttpMethod method,
+                                                  final String endpoint,
+                                                  final Stream<Map.Entry<String, Optional<Object>>> queryParams,
+                                                  final Stream<Map.Entry<String, Optional<Object>>> bodyParams,
+                                                  final Optional<Class<O>> responseClass)
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
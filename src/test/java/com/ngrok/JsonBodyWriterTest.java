@@ -0,0 +1,113 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.linecorp.armeria.common.HttpData;
+import com.ngrok.definitions.AwsAuth;
+import com.ngrok.definitions.AwsRole;
+import com.ngrok.definitions.EndpointCircuitBreaker;
+import com.ngrok.definitions.EventTarget;
+import com.ngrok.definitions.EventTargetCloudwatchLogs;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonBodyWriterTest extends TestBase {
+    private final JsonBodyWriter writer = new JsonBodyWriter(MAPPER);
+
+    @Test
+    public void testMatchesTreeEncodingForStrings() throws IOException {
+        assertSameBytes(Arrays.asList(
+            entry("description", Optional.empty()),
+            entry("metadata", Optional.of("{\"team\":\"edge\"}")),
+            entry("cidr", Optional.of("10.1.2.0/24")),
+            entry("ip_policy_id", Optional.of("ipp_123")),
+            entry("action", Optional.of("allow"))
+        ));
+    }
+
+    @Test
+    public void testMatchesTreeEncodingForScalarsAndCollections() throws IOException {
+        assertSameBytes(Arrays.asList(
+            entry("enabled", Optional.of(true)),
+            entry("port", Optional.of(443)),
+            entry("max_size", Optional.of(4096L)),
+            entry("valid_until", Optional.of(OffsetDateTime.parse("2021-06-08T21:09:00-07:00"))),
+            entry("ttl", Optional.of(Duration.ofHours(1))),
+            entry("principals", Optional.of(Arrays.asList("root", "deploy"))),
+            entry("labels", Optional.of(Collections.singletonMap("env", "prod")))
+        ));
+    }
+
+    @Test
+    public void testMatchesTreeEncodingForDefinitions() throws IOException {
+        assertSameBytes(Collections.singletonList(
+            entry("module", Optional.of(EndpointCircuitBreaker.newBuilder()
+                .enabled(true)
+                .trippedDuration(Duration.ofSeconds(30))
+                .rollingWindow(60L)
+                .numBuckets(10L)
+                .volumeThreshold(20L)
+                .errorThresholdPercentage(0.5d)
+                .build()))
+        ));
+        assertSameBytes(Arrays.asList(
+            entry("description", Optional.of("logs")),
+            entry("format", Optional.of("json")),
+            entry("target", Optional.of(EventTarget.newBuilder()
+                .cloudwatchLogs(EventTargetCloudwatchLogs.newBuilder()
+                    .auth(AwsAuth.newBuilder().role(AwsRole.newBuilder("arn:aws:iam::12345:role/my-role-name").build()).build())
+                    .logGroupArn("arn:aws:logs:us-east-1:12345:log-grp:my-log-grp")
+                    .build())
+                .build()))
+        ));
+    }
+
+    @Test
+    public void testMatchesTreeEncodingWhenHashMapResizes() throws IOException {
+        assertSameBytes(IntStream.range(0, 30)
+            .mapToObj(i -> entry("param_" + i, i % 7 == 0 ? Optional.empty() : Optional.<Object>of("value " + i)))
+            .collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testAllAbsentParamsProduceEmptyObject() throws IOException {
+        assertSameBytes(Arrays.asList(
+            entry("description", Optional.empty()),
+            entry("metadata", Optional.empty())
+        ));
+    }
+
+    private void assertSameBytes(final List<Map.Entry<String, Optional<Object>>> params) throws IOException {
+        final byte[] expected = MAPPER.writeValueAsBytes(MAPPER.convertValue(
+            params.stream().flatMap(entry -> entry.getValue()
+                .map(value -> Stream.of(entry(entry.getKey(), value)))
+                .orElse(Stream.empty())
+            ).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)),
+            JsonNode.class
+        ));
+
+        final String[] names = params.stream().map(Map.Entry::getKey).toArray(String[]::new);
+        final Object[] values = params.stream().map(entry -> entry.getValue().orElse(null)).toArray();
+        final HttpData actual = writer.write(names, values, 0);
+        try {
+            assertThat(actual.toStringUtf8()).isEqualTo(new String(expected, java.nio.charset.StandardCharsets.UTF_8));
+        } finally {
+            actual.close();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ngrok.definitions.DefinitionsModule;
+import com.ngrok.definitions.TlsCertificateSaNs;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ListItemParserTest extends TestBase {
+    private static final String LIST = "{" +
+        "\"skipped\":[{\"names\":[{\"dns_names\":[\"nope\"]}]}]," +
+        "\"names\":[{\"dns_names\":[\"a.example.com\",\"b.example.com\"],\"ips\":[]},null,{\"ips\":[\"10.0.0.1\"]}]," +
+        "\"next_page_uri\":\"https://api.ngrok.com/names?before_id=x\"" +
+        "}";
+
+    private final ObjectReader reader = MAPPER.copy().registerModule(new DefinitionsModule()).reader();
+
+    @Test
+    public void testParseFromBlockingParser() throws Exception {
+        final List<TlsCertificateSaNs> items = new ArrayList<>();
+        final Optional<URI> nextPageUri;
+        try (final JsonParser p = reader.createParser(LIST)) {
+            nextPageUri = ListItemParser.decoder("names", TlsCertificateSaNs.class, items::add).decode(p);
+        }
+        assertItems(items);
+        assertThat(nextPageUri).contains(URI.create("https://api.ngrok.com/names?before_id=x"));
+    }
+
+    @Test
+    public void testParseFedOneByteAtATime() throws Exception {
+        final List<TlsCertificateSaNs> items = new ArrayList<>();
+        final ListItemParser<TlsCertificateSaNs> parser = new ListItemParser<>(reader, "names", TlsCertificateSaNs.class, items::add);
+        final byte[] bytes = LIST.getBytes(StandardCharsets.UTF_8);
+        try (final JsonParser p = reader.createNonBlockingByteArrayParser()) {
+            final ByteArrayFeeder feeder = (ByteArrayFeeder) p.getNonBlockingInputFeeder();
+            for (int i = 0; i < bytes.length; i++) {
+                feeder.feedInput(bytes, i, i + 1);
+                parser.parse(p);
+            }
+            feeder.endOfInput();
+            parser.parse(p);
+            assertItems(items);
+            assertThat(parser.finish(p)).contains(URI.create("https://api.ngrok.com/names?before_id=x"));
+        }
+    }
+
+    @Test
+    public void testTruncatedList() throws Exception {
+        final ListItemParser<TlsCertificateSaNs> parser = new ListItemParser<>(reader, "names", TlsCertificateSaNs.class, item -> { });
+        final byte[] bytes = LIST.substring(0, 60).getBytes(StandardCharsets.UTF_8);
+        try (final JsonParser p = reader.createNonBlockingByteArrayParser()) {
+            ((ByteArrayFeeder) p.getNonBlockingInputFeeder()).feedInput(bytes, 0, bytes.length);
+            parser.parse(p);
+            assertThrows(JsonMappingException.class, () -> parser.finish(p));
+        }
+    }
+
+    @Test
+    public void testDefaultStreamRequestParsesResponseTree() throws Exception {
+        // a client that can only bind responses to classes, e.g. one written before response decoders
+        final NgrokApiClient legacyClient = new NgrokApiClient() {
+            @Override
+            public <O> CompletionStage<O> sendRequest(final URI uri, final Class<O> responseClass) {
+                try {
+                    return CompletableFuture.completedFuture(MAPPER.readValue(LIST, responseClass));
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public <O> CompletionStage<O> sendRequest(final HttpMethod method,
+                                                      final String endpoint,
+                                                      final Stream<Map.Entry<String, Optional<Object>>> queryParams,
+                                                      final Stream<Map.Entry<String, Optional<Object>>> bodyParams,
+                                                      final Optional<Class<O>> responseClass)
+            {
+                return sendRequest(URI.create("https://api.ngrok.com" + endpoint), responseClass.get());
+            }
+        };
+        final Operation<Void> list = Operation.newBuilder(NgrokApiClient.HttpMethod.GET, "/names").build();
+
+        final List<TlsCertificateSaNs> items = new ArrayList<>();
+        final Optional<URI> nextPageUri = legacyClient.streamRequest(list, new Object[0], "names", TlsCertificateSaNs.class, items::add)
+            .toCompletableFuture().get();
+        assertItems(items);
+        assertThat(nextPageUri).contains(URI.create("https://api.ngrok.com/names?before_id=x"));
+
+        items.clear();
+        assertThat(legacyClient.streamRequest(nextPageUri.get(), "names", TlsCertificateSaNs.class, items::add).toCompletableFuture().get())
+            .isEqualTo(nextPageUri);
+        assertItems(items);
+    }
+
+    private static void assertItems(final List<TlsCertificateSaNs> items) {
+        assertThat(items).hasSize(2);
+        assertThat(items.get(0).getDnsNames()).containsExactly("a.example.com", "b.example.com");
+        assertThat(items.get(1).getIps()).containsExactly("10.0.0.1");
+    }
+}
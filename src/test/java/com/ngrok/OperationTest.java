@@ -0,0 +1,109 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.ngrok.definitions.IpPolicyRule;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OperationTest extends TestBase {
+    private static final Operation<IpPolicyRule> UPDATE_OPERATION = Operation
+        .newBuilder(NgrokApiClient.HttpMethod.PATCH, "/edges/https/{edge_id}/routes/{id}", IpPolicyRule.class)
+        .queryParams("dry_run")
+        .bodyParams("description", "metadata")
+        .build();
+
+    @Test
+    public void testExpandPath() {
+        final Object[] values = { "edghts_1", "edghtsrt_2", null, "desc", null };
+        assertThat(UPDATE_OPERATION.getPathParams()).containsExactly("edge_id", "id");
+        assertThat(UPDATE_OPERATION.getValueCount()).isEqualTo(values.length);
+        assertThat(UPDATE_OPERATION.expandPath(values)).isEqualTo("/edges/https/edghts_1/routes/edghtsrt_2");
+        assertThat(UPDATE_OPERATION.getQueryValue(values, 0)).isNull();
+        assertThat(UPDATE_OPERATION.getBodyOffset()).isEqualTo(3);
+    }
+
+    @Test
+    public void testDefaultAdapterUsesStreamBasedRequest() {
+        final AtomicReference<String> endpoint = new AtomicReference<>();
+        final AtomicReference<Map<String, Optional<Object>>> query = new AtomicReference<>();
+        final AtomicReference<Map<String, Optional<Object>>> body = new AtomicReference<>();
+        final NgrokApiClient legacyClient = new NgrokApiClient() {
+            @Override
+            public <O> CompletionStage<O> sendRequest(final URI uri, final Class<O> responseClass) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <O> CompletionStage<O> sendRequest(final HttpMethod method,
+                                                      final String e,
+                                                      final Stream<Map.Entry<String, Optional<Object>>> queryParams,
+                                                      final Stream<Map.Entry<String, Optional<Object>>> bodyParams,
+                                                      final Optional<Class<O>> responseClass)
+            {
+                endpoint.set(method + " " + e);
+                query.set(queryParams.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+                body.set(bodyParams.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+
+        legacyClient.sendRequest(UPDATE_OPERATION, new Object[] { "edghts_1", "edghtsrt_2", true, "desc", null });
+
+        assertThat(endpoint.get()).isEqualTo("PATCH /edges/https/edghts_1/routes/edghtsrt_2");
+        assertThat(query.get()).containsEntry("dry_run", Optional.of(true));
+        assertThat(body.get()).containsOnlyKeys(Arrays.asList("description", "metadata"));
+        assertThat(body.get()).containsEntry("description", Optional.of("desc"));
+        assertThat(body.get()).containsEntry("metadata", Optional.empty());
+    }
+
+    @Test
+    public void testDefaultRawRequestSerializesResponseTree() throws Exception {
+        final NgrokApiClient legacyClient = new NgrokApiClient() {
+            @Override
+            public <O> CompletionStage<O> sendRequest(final URI uri, final Class<O> responseClass) {
+                // an empty response, e.g. to a delete
+                return CompletableFuture.completedFuture(null);
+            }
+
+            @Override
+            public <O> CompletionStage<O> sendRequest(final HttpMethod method,
+                                                      final String endpoint,
+                                                      final Stream<Map.Entry<String, Optional<Object>>> queryParams,
+                                                      final Stream<Map.Entry<String, Optional<Object>>> bodyParams,
+                                                      final Optional<Class<O>> responseClass)
+            {
+                try {
+                    return CompletableFuture.completedFuture(MAPPER.readValue("{ \"id\": \"edghtsrt_2\", \"description\": \"desc\" }", responseClass.get()));
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+
+        final RawResponse response = legacyClient.sendRawRequest(UPDATE_OPERATION, new Object[] { "edghts_1", "edghtsrt_2", null, "desc", null })
+            .toCompletableFuture().get();
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getContentType()).contains("application/json");
+        assertThat(response.asString()).isEqualTo("{\"id\":\"edghtsrt_2\",\"description\":\"desc\"}");
+
+        final RawResponse empty = legacyClient.sendRawRequest(URI.create("https://api.ngrok.com/edges/https/edghts_1/routes/edghtsrt_2"))
+            .toCompletableFuture().get();
+        assertThat(empty.getStatusCode()).isEqualTo(204);
+        assertThat(empty.getContentType()).isEmpty();
+        assertThat(empty.getLength()).isZero();
+    }
+}
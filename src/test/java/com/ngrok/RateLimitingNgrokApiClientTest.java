@@ -0,0 +1,113 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.ngrok.definitions.NgrokApiError;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RateLimitingNgrokApiClientTest {
+    private static final URI URI = java.net.URI.create("https://api.ngrok.com/api_keys/ak_1");
+
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testQueuesRequestsUpToMaxWait() throws Exception {
+        final FakeApiClient fake = new FakeApiClient(0);
+        final NgrokApiClient apiClient = RateLimitingNgrokApiClient.newBuilder(fake)
+            .rate(20)
+            .burst(1)
+            .maxWait(Duration.ofMillis(120))
+            .scheduler(this.scheduler)
+            .build();
+
+        final long start = System.nanoTime();
+        final CompletableFuture<?>[] responses = new CompletableFuture<?>[3];
+        for (int i = 0; i < responses.length; i++) {
+            responses[i] = apiClient.sendRequest(URI, String.class).toCompletableFuture();
+        }
+        // the fourth request would have to wait 150ms
+        assertThatThrownBy(() -> apiClient.sendRequest(URI, String.class).toCompletableFuture().get())
+            .hasCauseInstanceOf(RateLimitExceededException.class);
+        CompletableFuture.allOf(responses).get();
+
+        assertThat(fake.requests.get()).isEqualTo(3);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(Duration.ofMillis(90).toNanos());
+    }
+
+    @Test
+    public void testAdaptsRateTo429s() throws Exception {
+        final FakeApiClient fake = new FakeApiClient(1);
+        final RateLimitingNgrokApiClient apiClient = RateLimitingNgrokApiClient.newBuilder(fake)
+            .rate(100)
+            .rate(RateLimitingNgrokApiClient.WRITE, 1)
+            .scheduler(this.scheduler)
+            .build();
+
+        assertThatThrownBy(() -> apiClient.sendRequest(URI, String.class).toCompletableFuture().get())
+            .hasCauseInstanceOf(NgrokApiError.class);
+        assertThat(apiClient.getRate(RateLimitingNgrokApiClient.READ)).isEqualTo(50);
+
+        apiClient.sendRequest(URI, String.class).toCompletableFuture().get();
+        assertThat(apiClient.getRate(RateLimitingNgrokApiClient.READ)).isEqualTo(51);
+        assertThat(apiClient.getRate(RateLimitingNgrokApiClient.WRITE)).isEqualTo(1);
+    }
+
+    /**
+     * Rejects the given number of requests with a 429, then answers the others.
+     */
+    private static class FakeApiClient implements NgrokApiClient {
+        private final int rejected;
+        private final AtomicInteger requests = new AtomicInteger();
+
+        private FakeApiClient(final int rejected) {
+            this.rejected = rejected;
+        }
+
+        @Override
+        public <O> CompletionStage<O> sendRequest(final URI uri, final Class<O> responseClass) {
+            final CompletableFuture<O> future = new CompletableFuture<>();
+            if (this.requests.incrementAndGet() <= this.rejected) {
+                future.completeExceptionally(new NgrokApiError(429));
+            } else {
+                future.complete(null);
+            }
+            return future;
+        }
+
+        @Override
+        public <O> CompletionStage<O> sendRequest(final HttpMethod method,
+                                                  final String endpoint,
+                                                  final Stream<Map.Entry<String, Optional<Object>>> queryParams,
+                                                  final Stream<Map.Entry<String, Optional<Object>>> bodyParams,
+                                                  final Optional<Class<O>> responseClass)
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
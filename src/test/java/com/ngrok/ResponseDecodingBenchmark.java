@@ -0,0 +1,97 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.linecorp.armeria.common.HttpData;
+import com.ngrok.definitions.IpPolicyRule;
+import com.ngrok.definitions.IpPolicyRuleList;
+import com.ngrok.definitions.Ref;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares decoding a pooled response body through an intermediate {@link String} (the previous behavior of
+ * {@link DefaultNgrokApiClient}) against decoding it straight from the buffer. Run with {@code -prof gc} to
+ * see the difference in {@code gc.alloc.rate.norm}, i.e. bytes allocated per call.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ResponseDecodingBenchmark {
+    private final ObjectMapper mapper = new ObjectMapper()
+        .registerModule(new Jdk8Module())
+        .registerModule(new JavaTimeModule());
+
+    @Param({ "10", "500" })
+    public int rules;
+
+    private HttpData pooledBody;
+
+    @Setup
+    public void setUp() throws IOException {
+        final IpPolicyRuleList list = new IpPolicyRuleList(
+            IntStream.range(0, rules).mapToObj(i -> new IpPolicyRule(
+                "ipr_" + i,
+                URI.create("https://api.ngrok.com/ip_policy_rules/ipr_" + i),
+                OffsetDateTime.parse("2021-06-08T21:09:00-07:00"),
+                Optional.of("rule number " + i),
+                Optional.of("{\"owner\":\"inventory-sync\"}"),
+                "10.1." + (i % 256) + ".0/24",
+                new Ref("ipp_1", URI.create("https://api.ngrok.com/ip_policies/ipp_1")),
+                "allow"
+            )).collect(Collectors.toList()),
+            URI.create("https://api.ngrok.com/ip_policy_rules"),
+            Optional.empty()
+        );
+        final byte[] bytes = mapper.writeValueAsBytes(list);
+        final ByteBuf buf = PooledByteBufAllocator.DEFAULT.directBuffer(bytes.length);
+        buf.writeBytes(bytes);
+        pooledBody = HttpData.wrap(buf);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pooledBody.close();
+    }
+
+    @Benchmark
+    public IpPolicyRuleList decodeViaString() throws IOException {
+        return mapper.readValue(pooledBody.toStringUtf8(), IpPolicyRuleList.class);
+    }
+
+    @Benchmark
+    public IpPolicyRuleList decodeFromBuffer() throws IOException {
+        return DefaultNgrokApiClient.readValue(mapper.reader(), pooledBody, IpPolicyRuleList.class);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ResponseDecodingBenchmark.class.getSimpleName())
+            .addProfiler("gc")
+            .build()
+        ).run();
+    }
+}
@@ -0,0 +1,126 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import com.ngrok.definitions.NgrokApiError;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RetryingNgrokApiClientTest {
+    private static final URI URI = java.net.URI.create("https://api.ngrok.com/api_keys/ak_1");
+
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testRetriesTransientErrors() throws Exception {
+        final FakeApiClient fake = new FakeApiClient(new NgrokApiError(503), new NgrokApiError(502), "ok");
+        final NgrokApiClient apiClient = retrying(fake).build();
+
+        assertThat(apiClient.sendRequest(URI, String.class).toCompletableFuture().get()).isEqualTo("ok");
+        assertThat(fake.requests).isEqualTo(3);
+    }
+
+    @Test
+    public void testDoesNotRetryNonIdempotentOrPermanentErrors() {
+        final FakeApiClient fake = new FakeApiClient(new NgrokApiError(503), new NgrokApiError(404));
+        final NgrokApiClient apiClient = retrying(fake).build();
+
+        assertThatThrownBy(() -> apiClient.sendRequest(NgrokApiClient.HttpMethod.POST, "/api_keys", Stream.empty(), Stream.empty(), Optional.of(String.class))
+            .toCompletableFuture().get()).hasCauseInstanceOf(NgrokApiError.class);
+        assertThatThrownBy(() -> apiClient.sendRequest(URI, String.class).toCompletableFuture().get())
+            .hasCauseInstanceOf(NgrokApiError.class);
+        assertThat(fake.requests).isEqualTo(2);
+    }
+
+    @Test
+    public void testHonorsRetryAfterAndBudget() throws Exception {
+        final FakeApiClient fake = new FakeApiClient(
+            new NgrokApiError(429).withRetryAfter(Duration.ofMinutes(5)),
+            new NgrokApiError(429).withRetryAfter(Duration.ZERO),
+            "ok",
+            new NgrokApiError(503)
+        );
+        final NgrokApiClient apiClient = retrying(fake).retryBudget(0, 1).build();
+
+        // asked to retry too late
+        assertThatThrownBy(() -> apiClient.sendRequest(URI, String.class).toCompletableFuture().get())
+            .hasCauseInstanceOf(NgrokApiError.class);
+        // spends the only retry of the budget
+        assertThat(apiClient.sendRequest(URI, String.class).toCompletableFuture().get()).isEqualTo("ok");
+        assertThatThrownBy(() -> apiClient.sendRequest(URI, String.class).toCompletableFuture().get())
+            .hasCauseInstanceOf(NgrokApiError.class);
+        assertThat(fake.requests).isEqualTo(4);
+    }
+
+    private RetryingNgrokApiClient.Builder retrying(final NgrokApiClient delegate) {
+        return RetryingNgrokApiClient.newBuilder(delegate)
+            .initialBackoff(Duration.ofMillis(1))
+            .scheduler(this.scheduler);
+    }
+
+    /**
+     * Answers with the given responses or errors in turn, then with <code>null</code>.
+     */
+    private static class FakeApiClient implements NgrokApiClient {
+        private final Deque<Object> responses;
+        private int requests = 0;
+
+        private FakeApiClient(final Object... responses) {
+            this.responses = new ArrayDeque<>(Arrays.asList(responses));
+        }
+
+        @Override
+        public <O> CompletionStage<O> sendRequest(final URI uri, final Class<O> responseClass) {
+            return respond(responseClass);
+        }
+
+        @Override
+        public <O> CompletionStage<O> sendRequest(final HttpMethod method,
+                                                  final String endpoint,
+                                                  final Stream<Map.Entry<String, Optional<Object>>> queryParams,
+                                                  final Stream<Map.Entry<String, Optional<Object>>> bodyParams,
+                                                  final Optional<Class<O>> responseClass)
+        {
+            return respond(responseClass.get());
+        }
+
+        private synchronized <O> CompletionStage<O> respond(final Class<O> responseClass) {
+            this.requests++;
+            final CompletableFuture<O> future = new CompletableFuture<>();
+            final Object response = this.responses.poll();
+            if (response instanceof NgrokApiError) {
+                future.completeExceptionally((NgrokApiError) response);
+            } else {
+                future.complete(responseClass.cast(response));
+            }
+            return future;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok;
+
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class XxHash64Test {
+    @Test
+    public void testReferenceValues() {
+        assertThat(hash("")).isEqualTo(0xEF46DB3751D8E999L);
+        assertThat(hash("abc")).isEqualTo(0x44BC2CF5AD770999L);
+    }
+
+    @Test
+    public void testHashesReadableBytesOnly() {
+        final String json = "{\"ip_policy_rules\":[{\"id\":\"ipr_1\"},{\"id\":\"ipr_2\"}],\"next_page_uri\":null}";
+        final byte[] padded = ("xx" + json + "yy").getBytes(StandardCharsets.UTF_8);
+        assertThat(XxHash64.hash(Unpooled.wrappedBuffer(padded, 2, padded.length - 4))).isEqualTo(hash(json));
+        assertThat(hash(json)).isNotEqualTo(hash(json.replace("ipr_2", "ipr_3")));
+    }
+
+    private static long hash(final String s) {
+        return XxHash64.hash(Unpooled.wrappedBuffer(s.getBytes(StandardCharsets.UTF_8)));
+    }
+}
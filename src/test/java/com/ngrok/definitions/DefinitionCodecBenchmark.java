@@ -0,0 +1,156 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares Jackson's reflective bean codecs against the generated codecs registered by {@link DefinitionsModule},
+ * decoding and encoding an {@link IpPolicyRuleList} and a {@link TunnelList}, as well as counting the items of a
+ * page with and without {@link DefinitionsModule#LAZY_LIST_ITEMS}, and decoding the rules with
+ * {@link DefinitionsModule#PARALLEL_LIST_ITEMS} on the common pool. Run with {@code -prof gc} to also compare bytes
+ * allocated per call.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DefinitionCodecBenchmark {
+    private final ObjectMapper reflective = new ObjectMapper()
+        .registerModule(new Jdk8Module())
+        .registerModule(new JavaTimeModule());
+
+    private final ObjectMapper generated = new ObjectMapper()
+        .registerModule(new Jdk8Module())
+        .registerModule(new JavaTimeModule())
+        .registerModule(new DefinitionsModule());
+
+    private final ObjectReader lazy = generated.reader()
+        .forType(TunnelList.class)
+        .withAttribute(DefinitionsModule.LAZY_LIST_ITEMS, Boolean.TRUE);
+
+    private final ObjectReader parallel = generated.reader()
+        .forType(IpPolicyRuleList.class)
+        .withAttribute(DefinitionsModule.PARALLEL_LIST_ITEMS, ForkJoinPool.commonPool());
+
+    @Param({ "10", "500" })
+    public int items;
+
+    private IpPolicyRuleList rules;
+    private byte[] rulesJson;
+    private byte[] tunnelsJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        rules = new IpPolicyRuleList(
+            IntStream.range(0, items).mapToObj(i -> new IpPolicyRule(
+                "ipr_" + i,
+                URI.create("https://api.ngrok.com/ip_policy_rules/ipr_" + i),
+                OffsetDateTime.parse("2021-06-08T21:09:00-07:00"),
+                Optional.of("rule number " + i),
+                Optional.of("{\"owner\":\"inventory-sync\"}"),
+                "10.1." + (i % 256) + ".0/24",
+                new Ref("ipp_1", URI.create("https://api.ngrok.com/ip_policies/ipp_1")),
+                "allow"
+            )).collect(Collectors.toList()),
+            URI.create("https://api.ngrok.com/ip_policy_rules"),
+            Optional.empty()
+        );
+        rulesJson = reflective.writeValueAsBytes(rules);
+
+        final TunnelList tunnels = new TunnelList(
+            IntStream.range(0, items).mapToObj(i -> new Tunnel(
+                "tn_" + i,
+                Optional.of(URI.create("https://" + i + ".ngrok.io")),
+                OffsetDateTime.parse("2021-06-08T21:09:00-07:00"),
+                Optional.of("{\"region\":\"us\"}"),
+                Optional.of("https"),
+                "us",
+                new Ref("ts_" + i, URI.create("https://api.ngrok.com/tunnel_sessions/ts_" + i)),
+                Optional.of(new Ref("ep_" + i, URI.create("https://api.ngrok.com/endpoints/ep_" + i))),
+                Optional.of(Collections.singletonMap("env", "production")),
+                Optional.of(Collections.singletonList(new Ref("bkdtg_1", URI.create("https://api.ngrok.com/backends/tunnel_group/bkdtg_1")))),
+                "http://localhost:8080"
+            )).collect(Collectors.toList()),
+            URI.create("https://api.ngrok.com/tunnels"),
+            Optional.empty()
+        );
+        tunnelsJson = reflective.writeValueAsBytes(tunnels);
+    }
+
+    @Benchmark
+    public IpPolicyRuleList decodeRulesReflective() throws IOException {
+        return reflective.readValue(rulesJson, IpPolicyRuleList.class);
+    }
+
+    @Benchmark
+    public IpPolicyRuleList decodeRulesGenerated() throws IOException {
+        return generated.readValue(rulesJson, IpPolicyRuleList.class);
+    }
+
+    @Benchmark
+    public IpPolicyRuleList decodeRulesParallel() throws IOException {
+        return parallel.readValue(rulesJson);
+    }
+
+    @Benchmark
+    public TunnelList decodeTunnelsReflective() throws IOException {
+        return reflective.readValue(tunnelsJson, TunnelList.class);
+    }
+
+    @Benchmark
+    public TunnelList decodeTunnelsGenerated() throws IOException {
+        return generated.readValue(tunnelsJson, TunnelList.class);
+    }
+
+    @Benchmark
+    public int countTunnelsGenerated() throws IOException {
+        return generated.readValue(tunnelsJson, TunnelList.class).getTunnels().size();
+    }
+
+    @Benchmark
+    public int countTunnelsLazy() throws IOException {
+        return lazy.<TunnelList>readValue(tunnelsJson).getTunnels().size();
+    }
+
+    @Benchmark
+    public byte[] encodeRulesReflective() throws IOException {
+        return reflective.writeValueAsBytes(rules);
+    }
+
+    @Benchmark
+    public byte[] encodeRulesGenerated() throws IOException {
+        return generated.writeValueAsBytes(rules);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(DefinitionCodecBenchmark.class.getSimpleName())
+            .addProfiler("gc")
+            .build()
+        ).run();
+    }
+}
@@ -0,0 +1,165 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ngrok.TestBase;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DefinitionsModuleTest extends TestBase {
+    private static final ObjectMapper GENERATED = new ObjectMapper()
+        .registerModule(new Jdk8Module())
+        .registerModule(new JavaTimeModule())
+        .registerModule(new DefinitionsModule());
+
+    @Test
+    public void testGeneratedCodecsMatchReflectiveCodecs() throws Exception {
+        final List<Class<?>> definitions = definitionClasses();
+        assertThat(definitions).hasSizeGreaterThan(100);
+
+        for (final Class<?> cls : definitions) {
+            for (final boolean populated : new boolean[] { true, false }) {
+                final Object sample = sample(cls, populated, 0);
+                final String json = MAPPER.writeValueAsString(sample);
+                assertThat(GENERATED.writeValueAsString(sample)).as(cls.getSimpleName()).isEqualTo(json);
+                // compared through their JSON, as some generated equals() methods compare optionals by reference
+                assertThat(MAPPER.writeValueAsString(GENERATED.readValue(json, cls)))
+                    .as(cls.getSimpleName())
+                    .isEqualTo(MAPPER.writeValueAsString(MAPPER.readValue(json, cls)));
+            }
+        }
+    }
+
+    @Test
+    public void testUnknownFieldsAndNullsAreHandledLikeReflectiveCodecs() throws Exception {
+        final String json = "{" +
+            "\"id\":\"ipr_1\"," +
+            "\"extra\":{\"nested\":[1,2,{\"x\":null}]}," +
+            "\"uri\":\"https://api.ngrok.com/ip_policy_rules/ipr_1\"," +
+            "\"created_at\":\"2021-06-08T21:09:00-07:00\"," +
+            "\"description\":null," +
+            "\"cidr\":\"10.0.0.0/8\"," +
+            "\"ip_policy\":{\"id\":\"ipp_1\",\"uri\":\"https://api.ngrok.com/ip_policies/ipp_1\",\"unused\":true}," +
+            "\"action\":\"allow\"" +
+            "}";
+        final IpPolicyRule rule = GENERATED.readValue(json, IpPolicyRule.class);
+        assertThat(rule).isEqualTo(MAPPER.readValue(json, IpPolicyRule.class));
+        assertThat(rule.getDescription()).isEmpty();
+
+        assertThrows(ValueInstantiationException.class, () -> GENERATED.readValue("{\"id\":\"ipr_1\"}", IpPolicyRule.class));
+    }
+
+    @Test
+    public void testNgrokApiErrorDeserialization() throws Exception {
+        final String json = "{\"error_code\":\"ERR_NGROK_404\",\"status_code\":404,\"msg\":\"not found\",\"details\":{\"operation_id\":\"op_1\"}}";
+        final NgrokApiError error = GENERATED.readValue(json, NgrokApiError.class);
+        assertThat(error.getMessage()).isEqualTo("not found");
+        assertThat(error.getHttpStatusCode()).isEqualTo(404);
+        assertThat(error.getErrorCode()).contains("ERR_NGROK_404");
+        assertThat(error.getDetails()).containsEntry("operation_id", "op_1");
+    }
+
+    private static List<Class<?>> definitionClasses() throws Exception {
+        final File dir = new File(IpPolicyRule.class.getResource("IpPolicyRule.class").toURI()).getParentFile();
+        final List<Class<?>> classes = new ArrayList<>();
+        for (final String name : dir.list()) {
+            if (!name.endsWith(".class") || name.contains("$")) {
+                continue;
+            }
+            final Class<?> cls = Class.forName("com.ngrok.definitions." + name.substring(0, name.length() - ".class".length()));
+            if (cls != NgrokApiError.class && creator(cls) != null) {
+                classes.add(cls);
+            }
+        }
+        return classes;
+    }
+
+    private static Constructor<?> creator(final Class<?> cls) {
+        return Arrays.stream(cls.getDeclaredConstructors())
+            .filter(c -> c.isAnnotationPresent(JsonCreator.class))
+            .findFirst()
+            .orElse(null);
+    }
+
+    private static Object sample(final Type type, final boolean populated, final int depth) throws Exception {
+        if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterized = (ParameterizedType) type;
+            final Type[] args = parameterized.getActualTypeArguments();
+            if (parameterized.getRawType() == Optional.class) {
+                return populated ? Optional.of(sample(args[0], true, depth)) : Optional.empty();
+            }
+            if (parameterized.getRawType() == List.class) {
+                return populated
+                    ? Arrays.asList(sample(args[0], true, depth), sample(args[0], false, depth))
+                    : Collections.emptyList();
+            }
+            if (parameterized.getRawType() == Map.class) {
+                final Map<String, Object> map = new LinkedHashMap<>();
+                map.put("b", sample(args[1], true, depth));
+                map.put("a", sample(args[1], true, depth));
+                return map;
+            }
+            throw new IllegalArgumentException("unexpected type " + type);
+        }
+        if (type == String.class) {
+            return "value \"quoted\"";
+        }
+        if (type == Boolean.class) {
+            return true;
+        }
+        if (type == Long.class) {
+            return 4096L;
+        }
+        if (type == Integer.class) {
+            return 443;
+        }
+        if (type == Double.class) {
+            return 0.25d;
+        }
+        if (type == URI.class) {
+            return URI.create("https://api.ngrok.com/things/thg_1");
+        }
+        if (type == OffsetDateTime.class) {
+            return OffsetDateTime.parse("2021-06-08T21:09:00.123-07:00");
+        }
+        if (type == Duration.class) {
+            return Duration.ofMillis(90_500);
+        }
+        if (type == Object.class) {
+            final Map<String, Object> config = new LinkedHashMap<>();
+            config.put("enabled", true);
+            config.put("headers", Collections.singletonList("x-forwarded-for"));
+            return config;
+        }
+        final Constructor<?> creator = creator((Class<?>) type);
+        creator.setAccessible(true);
+        final Object[] args = new Object[creator.getParameterCount()];
+        final Type[] types = creator.getGenericParameterTypes();
+        for (int i = 0; i < args.length; i++) {
+            args[i] = sample(types[i], populated && depth < 3, depth + 1);
+        }
+        return creator.newInstance(args);
+    }
+}
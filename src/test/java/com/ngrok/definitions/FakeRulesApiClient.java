@@ -0,0 +1,141 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import com.ngrok.NgrokApiClient;
+import com.ngrok.Operation;
+
+import java.net.URI;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Serves pages of rules the way the API does, newest first and before an optional <code>before_id</code>.
+ */
+final class FakeRulesApiClient implements NgrokApiClient {
+    static final long START = 1_600_000_000L;
+
+    /**
+     * Rules created at the given times, newest first.
+     */
+    static List<IpPolicyRule> rules(final LongStream createdAt) {
+        return createdAt.boxed().sorted((a, b) -> Long.compare(b, a)).map(t -> {
+            final String cursor = KsuidCursor.cursor("ippr_", t);
+            final String id = cursor.substring(0, cursor.length() - 1) + "z";
+            return new IpPolicyRule(
+                id,
+                URI.create("https://api.ngrok.com/ip_policy_rules/" + id),
+                OffsetDateTime.ofInstant(Instant.ofEpochSecond(t), ZoneOffset.UTC),
+                Optional.empty(),
+                Optional.empty(),
+                "10.0.0.1/32",
+                new Ref("ipp_1", URI.create("https://api.ngrok.com/ip_policies/ipp_1")),
+                "allow"
+            );
+        }).collect(Collectors.toList());
+    }
+
+    private final List<IpPolicyRule> rules;
+    private final ScheduledExecutorService executor;
+    final List<String> beforeIds = new CopyOnWriteArrayList<>();
+    final AtomicInteger gets = new AtomicInteger();
+    final List<CompletableFuture<?>> pending = new CopyOnWriteArrayList<>();
+    long failBeforeTime = 0;
+
+    FakeRulesApiClient(final List<IpPolicyRule> rules) {
+        this(rules, null);
+    }
+
+    /**
+     * Answers after a millisecond on the executor if there is one. Pages before <code>failBeforeTime</code>
+     * fail, and the other ones after the first never answer.
+     */
+    FakeRulesApiClient(final List<IpPolicyRule> rules, final ScheduledExecutorService executor) {
+        this.rules = rules;
+        this.executor = executor;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <O> CompletionStage<O> page(final String beforeId, final int limit) {
+        if (beforeId != null) {
+            beforeIds.add(beforeId);
+            if (failBeforeTime > 0) {
+                final CompletableFuture<O> future = new CompletableFuture<>();
+                if (KsuidCursor.timestamp(beforeId) < failBeforeTime) {
+                    future.completeExceptionally(new NgrokApiError(500));
+                } else {
+                    pending.add(future);
+                }
+                return future;
+            }
+        }
+        final List<IpPolicyRule> page = rules.stream()
+            .filter(rule -> beforeId == null || rule.getId().compareTo(beforeId) < 0)
+            .limit(limit + 1)
+            .collect(Collectors.toList());
+        final Optional<URI> nextPageUri = page.size() > limit
+            ? Optional.of(URI.create("https://api.ngrok.com/ip_policy_rules?limit=" + limit + "&before_id=" + page.get(limit - 1).getId()))
+            : Optional.empty();
+        final O list = (O) new IpPolicyRuleList(
+            page.subList(0, Math.min(limit, page.size())),
+            URI.create("https://api.ngrok.com/ip_policy_rules"),
+            nextPageUri
+        );
+        if (executor == null) {
+            return CompletableFuture.completedFuture(list);
+        }
+        final CompletableFuture<O> future = new CompletableFuture<>();
+        executor.schedule(() -> future.complete(list), 1, TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    @Override
+    public <O> CompletionStage<O> sendRequest(final URI uri, final Class<O> responseClass) {
+        final Map<String, String> query = Stream.of(uri.getQuery().split("&"))
+            .map(param -> param.split("="))
+            .collect(Collectors.toMap(param -> param[0], param -> param[1]));
+        return page(query.get("before_id"), Integer.parseInt(query.get("limit")));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <O> CompletionStage<O> sendRequest(final Operation<O> operation, final Object[] values) {
+        if (operation.getPathTemplate().equals("/ip_policy_rules/{id}")) {
+            gets.incrementAndGet();
+            final CompletableFuture<O> future = new CompletableFuture<>();
+            final Optional<IpPolicyRule> rule = rules.stream().filter(r -> r.getId().equals(values[0])).findFirst();
+            if (rule.isPresent()) {
+                future.complete((O) rule.get());
+            } else {
+                future.completeExceptionally(new NgrokApiError(404));
+            }
+            return future;
+        }
+        final int offset = operation.getQueryOffset();
+        final List<String> params = operation.getQueryParams();
+        return page((String) values[offset + params.indexOf("before_id")], Integer.parseInt((String) values[offset + params.indexOf("limit")]));
+    }
+
+    @Override
+    public <O> CompletionStage<O> sendRequest(final HttpMethod method,
+                                              final String endpoint,
+                                              final Stream<Map.Entry<String, Optional<Object>>> queryParams,
+                                              final Stream<Map.Entry<String, Optional<Object>>> bodyParams,
+                                              final Optional<Class<O>> responseClass)
+    {
+        throw new UnsupportedOperationException();
+    }
+}
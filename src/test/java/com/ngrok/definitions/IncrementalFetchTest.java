@@ -0,0 +1,44 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ngrok.Ngrok;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static com.ngrok.definitions.FakeRulesApiClient.START;
+import static com.ngrok.definitions.FakeRulesApiClient.rules;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IncrementalFetchTest {
+    @Test
+    public void testIncrementalFetchSinceWatermark() throws Exception {
+        final List<IpPolicyRule> rules = rules(LongStream.range(0, 30).map(i -> START + i * 10));
+        final FakeRulesApiClient apiClient = new FakeRulesApiClient(rules);
+        final ListItems<IpPolicyRule> items = new Ngrok(apiClient).ipPolicyRules().list().limit("4").items();
+
+        final IncrementalFetch.Result<IpPolicyRule> first = items.since(Watermark.of(rules.get(10).getId())).blockingCall();
+        assertThat(first.getItems()).containsExactlyElementsOf(rules.subList(0, 10));
+        assertThat(first.getWatermark().getId()).contains(rules.get(0).getId());
+        // stopped at the page holding the watermark rather than listing all 8 pages
+        assertThat(apiClient.beforeIds).hasSize(2);
+
+        final IncrementalFetch.Result<IpPolicyRule> second = items.since(first.getWatermark()).blockingCall();
+        assertThat(second.getItems()).isEmpty();
+        assertThat(second.getWatermark()).isEqualTo(first.getWatermark());
+        assertThat(apiClient.beforeIds).hasSize(2);
+
+        assertThat(items.since(Watermark.empty()).blockingCall().getItems()).hasSize(30);
+    }
+
+    @Test
+    public void testWatermarkRoundTrip() throws Exception {
+        final ObjectMapper mapper = new ObjectMapper();
+        final Watermark watermark = Watermark.of("ippr_0ujtsYcgvSTl8PAuAdqWYSMnLOv");
+        assertThat(mapper.readValue(mapper.writeValueAsString(watermark), Watermark.class)).isEqualTo(watermark);
+        assertThat(mapper.readValue(mapper.writeValueAsString(Watermark.empty()), Watermark.class)).isEqualTo(Watermark.empty());
+    }
+}
@@ -0,0 +1,64 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ngrok.TestBase;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LazyListTest extends TestBase {
+    private static final ObjectReader LAZY_READER = new ObjectMapper()
+        .registerModule(new Jdk8Module())
+        .registerModule(new JavaTimeModule())
+        .registerModule(new DefinitionsModule())
+        .reader()
+        .withAttribute(DefinitionsModule.LAZY_LIST_ITEMS, Boolean.TRUE);
+
+    private static final String PAGE = "{" +
+        "\"ip_policy_rules\":[" +
+        "{\"id\":\"ipr_1\",\"uri\":\"https://api.ngrok.com/ip_policy_rules/ipr_1\",\"created_at\":\"2021-06-08T21:09:00Z\"," +
+        "\"description\":\"first\",\"cidr\":\"10.0.0.0/8\",\"ip_policy\":{\"id\":\"ipp_1\",\"uri\":\"https://api.ngrok.com/ip_policies/ipp_1\"},\"action\":\"allow\"}," +
+        "null," +
+        "{\"id\":\"ipr_3\",\"uri\":\"https://api.ngrok.com/ip_policy_rules/ipr_3\"}" +
+        "]," +
+        "\"uri\":\"https://api.ngrok.com/ip_policy_rules\"," +
+        "\"next_page_uri\":\"https://api.ngrok.com/ip_policy_rules?before_id=ipr_1\"" +
+        "}";
+
+    @Test
+    public void testItemsAreDeserializedOnFirstAccess() throws Exception {
+        final IpPolicyRuleList page = LAZY_READER.forType(IpPolicyRuleList.class).readValue(PAGE);
+        assertThat(page.getNextPageUri()).contains(URI.create("https://api.ngrok.com/ip_policy_rules?before_id=ipr_1"));
+        assertThat(page.getIpPolicyRules()).isInstanceOf(LazyList.class).hasSize(3);
+
+        final LazyList<IpPolicyRule> rules = (LazyList<IpPolicyRule>) page.getIpPolicyRules();
+        assertThat(rules.materializedCount()).isZero();
+
+        final IpPolicyRule first = rules.get(0);
+        assertThat(first.getDescription()).contains("first");
+        assertThat(rules.get(0)).isSameAs(first);
+        assertThat(rules.get(1)).isNull();
+        assertThat(rules.materializedCount()).isEqualTo(1);
+
+        // the third rule is missing required fields, which is only noticed once it is accessed
+        assertThrows(UncheckedIOException.class, () -> rules.get(2));
+    }
+
+    @Test
+    public void testEagerByDefault() throws Exception {
+        final String page = PAGE.replace(",{\"id\":\"ipr_3\",\"uri\":\"https://api.ngrok.com/ip_policy_rules/ipr_3\"}", "");
+        final IpPolicyRuleList eager = MAPPER.readValue(page, IpPolicyRuleList.class);
+        final IpPolicyRuleList lazy = LAZY_READER.forType(IpPolicyRuleList.class).readValue(page);
+        assertThat(eager.getIpPolicyRules()).isNotInstanceOf(LazyList.class);
+        assertThat(MAPPER.writeValueAsString(lazy)).isEqualTo(MAPPER.writeValueAsString(eager));
+    }
+}
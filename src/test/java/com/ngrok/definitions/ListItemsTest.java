@@ -0,0 +1,410 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.ngrok.Ngrok;
+import com.ngrok.NgrokApiClient;
+import com.ngrok.Operation;
+import com.ngrok.TestBase;
+import de.mkammerer.wiremock.WireMockExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ListItemsTest extends TestBase {
+    @RegisterExtension
+    final WireMockExtension wireMock = new WireMockExtension(new WireMockConfiguration().dynamicPort().dynamicHttpsPort());
+
+    private static String rule(final int i) {
+        return "{" +
+            "\"id\":\"ippr_" + i + "\"," +
+            "\"uri\":\"https://api.ngrok.com/ip_policy_rules/ippr_" + i + "\"," +
+            "\"created_at\":\"2021-06-08T21:09:00Z\"," +
+            "\"description\":\"rule " + i + " {with [brackets]}\"," +
+            "\"metadata\":\"\"," +
+            "\"cidr\":\"10.0." + (i / 256) + "." + (i % 256) + "/32\"," +
+            "\"ip_policy\":{\"id\":\"ipp_1\",\"uri\":\"https://api.ngrok.com/ip_policies/ipp_1\"}," +
+            "\"action\":\"allow\"" +
+            "}";
+    }
+
+    private static String page(final int from, final int to, final String nextPageUri) {
+        return "{\"unknown\":{\"ip_policy_rules\":[1,2]}," +
+            "\"ip_policy_rules\":[" + IntStream.range(from, to).mapToObj(ListItemsTest::rule).collect(Collectors.joining(",")) + "]," +
+            "\"uri\":\"https://api.ngrok.com/ip_policy_rules\"," +
+            "\"next_page_uri\":" + nextPageUri +
+            "}";
+    }
+
+    @Test
+    public void testForEachFollowsPages() throws Exception {
+        wireMock.stubFor(get(urlPathEqualTo("/ip_policy_rules"))
+            .withQueryParam("limit", equalTo("500"))
+            .willReturn(okJson(page(0, 500, "\"" + wireMock.getBaseUri() + "/ip_policy_rules?before_id=ippr_499\""))
+                .withChunkedDribbleDelay(20, 100)));
+        wireMock.stubFor(get(urlPathEqualTo("/ip_policy_rules"))
+            .withQueryParam("before_id", equalTo("ippr_499"))
+            .willReturn(okJson(page(500, 520, "null"))));
+
+        final Ngrok ngrok = ngrok(wireMock.getBaseUri());
+        final List<IpPolicyRule> rules = new ArrayList<>();
+        ngrok.ipPolicyRules().list().limit("500").items().blockingForEach(rules::add);
+
+        assertThat(rules).extracting(IpPolicyRule::getId)
+            .containsExactlyElementsOf(IntStream.range(0, 520).mapToObj(i -> "ippr_" + i).collect(Collectors.toList()));
+        assertThat(rules.get(300).getDescription()).contains("rule 300 {with [brackets]}");
+        assertThat(rules.get(300).getIpPolicy().getId()).isEqualTo("ipp_1");
+    }
+
+    @Test
+    public void testForEachFailsOnErrorResponse() {
+        wireMock.stubFor(get(urlPathEqualTo("/ip_policy_rules"))
+            .willReturn(aResponse()
+                .withStatus(403)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"error_code\":\"ERR_NGROK_218\",\"status_code\":403,\"msg\":\"forbidden\",\"details\":{}}")));
+
+        final Ngrok ngrok = ngrok(wireMock.getBaseUri());
+        final NgrokApiError error = assertThrows(NgrokApiError.class, () -> ngrok.ipPolicyRules().list().items().blockingForEach(rule -> { }));
+        assertThat(error.getHttpStatusCode()).isEqualTo(403);
+        assertThat(error.getErrorCode()).contains("ERR_NGROK_218");
+    }
+
+    @Test
+    public void testForEachStopsWhenConsumerFails() {
+        wireMock.stubFor(get(urlPathEqualTo("/ip_policy_rules"))
+            .willReturn(okJson(page(0, 10, "null"))));
+
+        final Ngrok ngrok = ngrok(wireMock.getBaseUri());
+        final List<IpPolicyRule> rules = new ArrayList<>();
+        final IllegalStateException e = assertThrows(IllegalStateException.class, () -> ngrok.ipPolicyRules().list().items().blockingForEach(rule -> {
+            if (rules.size() == 3) {
+                throw new IllegalStateException("enough");
+            }
+            rules.add(rule);
+        }));
+        assertThat(e).hasMessage("enough");
+        assertThat(rules).hasSize(3);
+    }
+
+    @Test
+    public void testStreamFollowsPages() {
+        wireMock.stubFor(get(urlPathEqualTo("/ip_policy_rules"))
+            .withQueryParam("before_id", absent())
+            .willReturn(okJson(page(0, 100, "\"" + wireMock.getBaseUri() + "/ip_policy_rules?before_id=ippr_99\""))));
+        wireMock.stubFor(get(urlPathEqualTo("/ip_policy_rules"))
+            .withQueryParam("before_id", equalTo("ippr_99"))
+            .willReturn(okJson(page(100, 150, "\"" + wireMock.getBaseUri() + "/ip_policy_rules?before_id=ippr_149\""))));
+        wireMock.stubFor(get(urlPathEqualTo("/ip_policy_rules"))
+            .withQueryParam("before_id", equalTo("ippr_149"))
+            .willReturn(okJson(page(150, 150, "null"))));
+
+        final Ngrok ngrok = ngrok(wireMock.getBaseUri());
+        try (final Stream<IpPolicyRule> rules = ngrok.ipPolicyRules().listAll().prefetch(2).stream()) {
+            assertThat(rules.map(IpPolicyRule::getId))
+                .containsExactlyElementsOf(IntStream.range(0, 150).mapToObj(i -> "ippr_" + i).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testIteratorPrefetchesNextPage() {
+        final FakeApiClient apiClient = new FakeApiClient(
+            rules(0, 2, Optional.of(URI.create("https://api.ngrok.com/ip_policy_rules?before_id=ippr_1"))),
+            rules(2, 3, Optional.of(URI.create("https://api.ngrok.com/ip_policy_rules?before_id=ippr_2"))),
+            rules(3, 4, Optional.empty())
+        );
+        final Iterator<IpPolicyRule> rules = new Ngrok(apiClient).ipPolicyRules().listAll().iterator();
+        assertThat(apiClient.requests).isEqualTo(0);
+
+        assertThat(rules.next().getId()).isEqualTo("ippr_0");
+        assertThat(apiClient.requests).isEqualTo(2);
+        assertThat(rules.next().getId()).isEqualTo("ippr_1");
+        assertThat(apiClient.requests).isEqualTo(2);
+        assertThat(rules.next().getId()).isEqualTo("ippr_2");
+        assertThat(apiClient.requests).isEqualTo(3);
+        assertThat(rules.next().getId()).isEqualTo("ippr_3");
+        assertThat(rules.hasNext()).isFalse();
+        assertThat(apiClient.requests).isEqualTo(3);
+    }
+
+    @Test
+    public void testClosingIteratorCancelsPrefetch() {
+        final FakeApiClient apiClient = new FakeApiClient(
+            rules(0, 2, Optional.of(URI.create("https://api.ngrok.com/ip_policy_rules?before_id=ippr_1"))),
+            null
+        );
+        try (final CloseableIterator<IpPolicyRule> rules = new Ngrok(apiClient).ipPolicyRules().listAll().iterator()) {
+            assertThat(rules.next().getId()).isEqualTo("ippr_0");
+            assertThat(apiClient.requests).isEqualTo(2);
+        }
+        assertThat(apiClient.pending).isCancelled();
+    }
+
+    @Test
+    public void testSkipsNullItems() throws Exception {
+        wireMock.stubFor(get(urlPathEqualTo("/ip_policy_rules"))
+            .willReturn(okJson("{\"ip_policy_rules\":[" + rule(0) + ",null," + rule(1) + ",null]," +
+                "\"uri\":\"https://api.ngrok.com/ip_policy_rules\",\"next_page_uri\":null}")));
+        final ListItems<IpPolicyRule> rules = ngrok(wireMock.getBaseUri()).ipPolicyRules().listAll();
+        final List<String> expected = Arrays.asList("ippr_0", "ippr_1");
+
+        final List<String> consumed = new ArrayList<>();
+        rules.blockingForEach(rule -> consumed.add(rule.getId()));
+        assertThat(consumed).isEqualTo(expected);
+
+        final List<String> iterated = new ArrayList<>();
+        try (final CloseableIterator<IpPolicyRule> iterator = rules.iterator()) {
+            iterator.forEachRemaining(rule -> iterated.add(rule.getId()));
+        }
+        assertThat(iterated).isEqualTo(expected);
+
+        try (final Stream<IpPolicyRule> streamed = rules.stream()) {
+            assertThat(streamed.map(IpPolicyRule::getId)).containsExactlyElementsOf(expected);
+        }
+
+        final List<String> awaited = new ArrayList<>();
+        try (final AsyncIterator<IpPolicyRule> iterator = rules.asyncIterator()) {
+            Optional<IpPolicyRule> next;
+            while ((next = iterator.next().toCompletableFuture().get()).isPresent()) {
+                awaited.add(next.get().getId());
+            }
+        }
+        assertThat(awaited).isEqualTo(expected);
+    }
+
+    @Test
+    public void testPrefetcherFailsPageInsteadOfHanging() {
+        final PagePrefetcher<IpPolicyRule> throwingFetch = new PagePrefetcher<>(
+            uri -> {
+                throw new IllegalStateException("no client");
+            },
+            page -> ((IpPolicyRuleList) page).getIpPolicyRules(),
+            1
+        );
+        final CompletableFuture<Optional<List<IpPolicyRule>>> first = throwingFetch.nextPage().toCompletableFuture();
+        assertThat(first).isCompletedExceptionally();
+
+        final PagePrefetcher<IpPolicyRule> throwingItems = new PagePrefetcher<>(
+            uri -> CompletableFuture.completedFuture(rules(0, 1, Optional.empty())),
+            page -> {
+                throw new IllegalStateException("unreadable page");
+            },
+            1
+        );
+        assertThat(throwingItems.nextPage().toCompletableFuture()).isCompletedExceptionally();
+    }
+
+    @Test
+    public void testAsyncIteratorWithoutPrefetch() throws Exception {
+        final FakeApiClient apiClient = new FakeApiClient(
+            rules(0, 1, Optional.of(URI.create("https://api.ngrok.com/ip_policy_rules?before_id=ippr_0"))),
+            rules(1, 1, Optional.empty())
+        );
+        final AsyncIterator<IpPolicyRule> rules = new Ngrok(apiClient).ipPolicyRules().listAll().prefetch(0).asyncIterator();
+
+        assertThat(rules.next().toCompletableFuture().get().map(IpPolicyRule::getId)).contains("ippr_0");
+        assertThat(apiClient.requests).isEqualTo(1);
+        assertThat(rules.next().toCompletableFuture().get()).isEmpty();
+        assertThat(apiClient.requests).isEqualTo(2);
+    }
+
+    @Test
+    public void testPublisherHonorsDemand() {
+        final FakeApiClient apiClient = new FakeApiClient(
+            rules(0, 3, Optional.of(URI.create("https://api.ngrok.com/ip_policy_rules?before_id=ippr_2"))),
+            rules(3, 5, Optional.of(URI.create("https://api.ngrok.com/ip_policy_rules?before_id=ippr_4"))),
+            rules(5, 5, Optional.empty())
+        );
+        final List<String> ids = new ArrayList<>();
+        final AtomicBoolean completed = new AtomicBoolean();
+        final AtomicReference<Subscription> subscription = new AtomicReference<>();
+        new Ngrok(apiClient).ipPolicyRules().listAll().prefetch(0).publisher().subscribe(new Subscriber<IpPolicyRule>() {
+            @Override
+            public void onSubscribe(final Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onNext(final IpPolicyRule rule) {
+                ids.add(rule.getId());
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                throw new AssertionError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.set(true);
+            }
+        });
+        assertThat(apiClient.requests).isEqualTo(0);
+
+        subscription.get().request(2);
+        assertThat(ids).containsExactly("ippr_0", "ippr_1");
+        assertThat(apiClient.requests).isEqualTo(1);
+
+        subscription.get().request(2);
+        assertThat(ids).containsExactly("ippr_0", "ippr_1", "ippr_2", "ippr_3");
+        assertThat(apiClient.requests).isEqualTo(2);
+
+        subscription.get().request(10);
+        assertThat(ids).containsExactly("ippr_0", "ippr_1", "ippr_2", "ippr_3", "ippr_4");
+        assertThat(apiClient.requests).isEqualTo(3);
+        assertThat(completed).isTrue();
+    }
+
+    @Test
+    public void testPublisherSkipsNullItems() {
+        final IpPolicyRuleList page = rules(0, 2, Optional.empty());
+        final List<IpPolicyRule> items = Arrays.asList(null, page.getIpPolicyRules().get(0), null, page.getIpPolicyRules().get(1));
+        final ItemPublisher<IpPolicyRule> publisher = new ItemPublisher<>(() -> new PagePrefetcher<>(
+            uri -> CompletableFuture.completedFuture(page),
+            p -> items,
+            0
+        ));
+        final List<String> ids = new ArrayList<>();
+        final AtomicBoolean completed = new AtomicBoolean();
+        final AtomicReference<Subscription> subscription = new AtomicReference<>();
+        publisher.subscribe(new Subscriber<IpPolicyRule>() {
+            @Override
+            public void onSubscribe(final Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onNext(final IpPolicyRule rule) {
+                ids.add(rule.getId());
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                throw new AssertionError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.set(true);
+            }
+        });
+        // the null items take no demand
+        subscription.get().request(2);
+        assertThat(ids).containsExactly("ippr_0", "ippr_1");
+        subscription.get().request(1);
+        assertThat(completed).isTrue();
+    }
+
+    @Test
+    public void testPublisherCancelsInFlightRequest() {
+        final FakeApiClient apiClient = new FakeApiClient(
+            rules(0, 1, Optional.of(URI.create("https://api.ngrok.com/ip_policy_rules?before_id=ippr_0"))),
+            null
+        );
+        new Ngrok(apiClient).ipPolicyRules().listAll().publisher().subscribe(new Subscriber<IpPolicyRule>() {
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(final Subscription s) {
+                subscription = s;
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(final IpPolicyRule rule) {
+                subscription.cancel();
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                throw new AssertionError(t);
+            }
+
+            @Override
+            public void onComplete() {
+                throw new AssertionError("completed");
+            }
+        });
+        assertThat(apiClient.requests).isEqualTo(2);
+        assertThat(apiClient.pending).isCancelled();
+    }
+
+    private static IpPolicyRuleList rules(final int from, final int to, final Optional<URI> nextPageUri) {
+        return new IpPolicyRuleList(
+            IntStream.range(from, to).mapToObj(i -> new IpPolicyRule(
+                "ippr_" + i,
+                URI.create("https://api.ngrok.com/ip_policy_rules/ippr_" + i),
+                OffsetDateTime.parse("2021-06-08T21:09:00Z"),
+                Optional.empty(),
+                Optional.empty(),
+                "10.0.0." + i + "/32",
+                new Ref("ipp_1", URI.create("https://api.ngrok.com/ip_policies/ipp_1")),
+                "allow"
+            )).collect(Collectors.toList()),
+            URI.create("https://api.ngrok.com/ip_policy_rules"),
+            nextPageUri
+        );
+    }
+
+    private static class FakeApiClient implements NgrokApiClient {
+        private final List<Object> responses;
+        private int requests = 0;
+        private CompletableFuture<Object> pending;
+
+        private FakeApiClient(final Object... responses) {
+            this.responses = Arrays.asList(responses);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <O> CompletionStage<O> respond() {
+            final Object response = responses.get(requests++);
+            if (response == null) {
+                pending = new CompletableFuture<>();
+                return (CompletionStage<O>) pending;
+            }
+            return CompletableFuture.completedFuture((O) response);
+        }
+
+        @Override
+        public <O> CompletionStage<O> sendRequest(final URI uri, final Class<O> responseClass) {
+            return respond();
+        }
+
+        @Override
+        public <O> CompletionStage<O> sendRequest(final Operation<O> operation, final Object[] values) {
+            return respond();
+        }
+
+        @Override
+        public <O> CompletionStage<O> sendRequest(final HttpMethod method,
+                                                  final String endpoint,
+                                                  final Stream<Map.Entry<String, Optional<Object>>> queryParams,
+                                                  final Stream<Map.Entry<String, Optional<Object>>> bodyParams,
+                                                  final Optional<Class<O>> responseClass)
+        {
+            return respond();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import com.ngrok.Ngrok;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static com.ngrok.definitions.FakeRulesApiClient.START;
+import static com.ngrok.definitions.FakeRulesApiClient.rules;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MultiGetTest {
+    @Test
+    public void testMultiGetPicksStrategy() throws Exception {
+        final List<IpPolicyRule> rules = rules(LongStream.range(0, 300).map(i -> START + i * 10));
+        final FakeRulesApiClient apiClient = new FakeRulesApiClient(rules);
+        final Ngrok ngrok = new Ngrok(apiClient);
+
+        // 40 recent rules are on the first 2 pages of 100: listing beats 10 rounds of GETs
+        final List<String> recent = IntStream.range(0, 40).mapToObj(i -> rules.get(i * 5).getId()).collect(Collectors.toList());
+        final MultiGet.Result<IpPolicyRule> listed = ngrok.ipPolicyRules().getAll(recent).concurrency(4).blockingCall();
+        assertThat(listed.getStrategy()).isEqualTo(MultiGet.Strategy.LIST);
+        assertThat(listed.getItems().keySet()).containsExactlyElementsOf(recent);
+        assertThat(apiClient.gets).hasValue(0);
+        assertThat(apiClient.beforeIds).hasSize(1);
+
+        // 20 rules spread down to the oldest one: 3 pages of 100 is more than 2 rounds of GETs
+        final String missing = KsuidCursor.cursor("ippr_", START);
+        final List<String> spread = Stream.concat(
+            rules.stream().skip(150).limit(19).map(IpPolicyRule::getId),
+            Stream.of(missing)
+        ).collect(Collectors.toList());
+        final MultiGet.Result<IpPolicyRule> fetched = ngrok.ipPolicyRules().getAll(spread).concurrency(16).blockingCall();
+        assertThat(fetched.getStrategy()).isEqualTo(MultiGet.Strategy.GET);
+        assertThat(fetched.getItems()).hasSize(19);
+        assertThat(fetched.getErrors()).containsOnlyKeys(missing);
+        assertThat(apiClient.gets).hasValue(20);
+    }
+}
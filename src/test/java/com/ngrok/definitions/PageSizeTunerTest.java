@@ -0,0 +1,58 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PageSizeTunerTest {
+    private static final String ENDPOINT = "/ip_policy_rules";
+
+    @Test
+    public void testWithLimit() {
+        assertThat(PageSizeTuner.withLimit(URI.create("https://api.ngrok.com/ip_policy_rules?before_id=ipx_1&limit=5"), 20))
+            .isEqualTo(URI.create("https://api.ngrok.com/ip_policy_rules?before_id=ipx_1&limit=20"));
+        assertThat(PageSizeTuner.withLimit(URI.create("https://api.ngrok.com/ip_policy_rules"), 20))
+            .isEqualTo(URI.create("https://api.ngrok.com/ip_policy_rules?limit=20"));
+    }
+
+    @Test
+    public void testGrowsWhileThroughputHolds() {
+        final PageSizeTuner tuner = PageSizeTuner.newBuilder().minPageSize(10).maxPageSize(100).initialPageSize(20).build();
+        for (int i = 0; i < 20; i++) {
+            final int size = tuner.pageSize(ENDPOINT);
+            tuner.record(ENDPOINT, size, size, -1, Duration.ofMillis(10 + size));
+        }
+        assertThat(tuner.getStats().get(ENDPOINT).getPageSize()).isGreaterThan(50);
+        assertThat(tuner.getStats().get(ENDPOINT).getPages()).isEqualTo(20);
+    }
+
+    @Test
+    public void testShrinksOnLatencySpike() {
+        final PageSizeTuner tuner = PageSizeTuner.newBuilder().initialPageSize(40).build();
+        tuner.record(ENDPOINT, 40, 40, -1, Duration.ofMillis(40));
+        final int size = tuner.pageSize(ENDPOINT);
+        tuner.record(ENDPOINT, size, size, -1, Duration.ofMillis(size * 10L));
+        assertThat(tuner.pageSize(ENDPOINT)).isEqualTo(size / 2);
+    }
+
+    @Test
+    public void testCapsPageBytes() {
+        final PageSizeTuner tuner = PageSizeTuner.newBuilder().maxPageBytes(20_000).build();
+        final int size = tuner.pageSize(ENDPOINT);
+        tuner.record(ENDPOINT, size, size, size * 1_000L, Duration.ofMillis(size));
+        assertThat(tuner.pageSize(ENDPOINT)).isEqualTo(20);
+        assertThat(tuner.getStats().get(ENDPOINT).getBytesPerItem()).contains(1_000.0);
+    }
+
+    @Test
+    public void testValidatesBounds() {
+        assertThrows(IllegalArgumentException.class, () -> PageSizeTuner.newBuilder().minPageSize(50).maxPageSize(20).build());
+        assertThrows(IllegalArgumentException.class, () -> PageSizeTuner.newBuilder().initialPageSize(500).build());
+    }
+}
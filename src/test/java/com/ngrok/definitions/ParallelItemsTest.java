@@ -0,0 +1,73 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ngrok.TestBase;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParallelItemsTest extends TestBase {
+    private static final AtomicInteger SUBMISSIONS = new AtomicInteger();
+
+    private static final ObjectReader PARALLEL_READER = new ObjectMapper()
+        .registerModule(new Jdk8Module())
+        .registerModule(new JavaTimeModule())
+        .registerModule(new DefinitionsModule())
+        .reader()
+        .withAttribute(DefinitionsModule.PARALLEL_LIST_ITEMS, new ForkJoinPool(4) {
+            @Override
+            public <T> ForkJoinTask<T> submit(final ForkJoinTask<T> task) {
+                SUBMISSIONS.incrementAndGet();
+                return super.submit(task);
+            }
+        });
+
+    @Test
+    public void testItemsAreDecodedInOrder() throws Exception {
+        // strings with brackets, commas and escaped quotes must not throw off the scan
+        final String rules = IntStream.range(0, 100).mapToObj(i -> i == 50 ? " null " :
+            "{\"id\":\"ipr_" + i + "\",\"uri\":\"https://api.ngrok.com/ip_policy_rules/ipr_" + i + "\"," +
+            "\"created_at\":\"2021-06-08T21:09:00Z\",\"description\":\"rule [" + i + "], \\\"}{\\\\\"," +
+            "\"metadata\":\"{\\\"tags\\\":[\\\"a\\\",\\\"b\\\"]}\",\"cidr\":\"10.0.0.0/8\"," +
+            "\"ip_policy\":{\"id\":\"ipp_1\",\"uri\":\"https://api.ngrok.com/ip_policies/ipp_1\"},\"action\":\"allow\"}"
+        ).collect(Collectors.joining(",\n"));
+        final String page = "{\"ip_policy_rules\": [ " + rules + " ],\"uri\":\"https://api.ngrok.com/ip_policy_rules\"}";
+        final byte[] bytes = page.getBytes(StandardCharsets.UTF_8);
+        // the slice is followed by an unterminated array, which must not be scanned
+        final byte[] padded = ("xx" + page + "[{,").getBytes(StandardCharsets.UTF_8);
+        final IpPolicyRuleList expected = MAPPER.readValue(page, IpPolicyRuleList.class);
+
+        SUBMISSIONS.set(0);
+        final IpPolicyRuleList parallel = PARALLEL_READER.forType(IpPolicyRuleList.class).readValue(bytes);
+        assertThat(SUBMISSIONS.get()).isEqualTo(1);
+        assertThat(parallel).isEqualTo(expected);
+        assertThat(parallel.getIpPolicyRules().get(50)).isNull();
+        assertThat(parallel.getIpPolicyRules().get(99).getDescription()).contains("rule [99], \"}{\\");
+
+        SUBMISSIONS.set(0);
+        final IpPolicyRuleList slice = PARALLEL_READER.forType(IpPolicyRuleList.class).readValue(padded, 2, bytes.length);
+        assertThat(SUBMISSIONS.get()).isEqualTo(1);
+        assertThat(slice).isEqualTo(expected);
+    }
+
+    @Test
+    public void testScanFindsElementBoundaries() {
+        final byte[] bytes = "[ {\"a\":[1,2]} , \"]\" ,3]".getBytes(StandardCharsets.UTF_8);
+        assertThat(ParallelItems.scan(bytes, 0, bytes.length)).containsExactly(2, 14, 16, 20, 21, 22);
+        assertThat(ParallelItems.scan(bytes, 0, 20)).isNull();
+        assertThat(ParallelItems.scan("[]".getBytes(StandardCharsets.UTF_8), 0, 2)).isEmpty();
+        assertThat(ParallelItems.scan("[1,".getBytes(StandardCharsets.UTF_8), 0, 3)).isNull();
+    }
+}
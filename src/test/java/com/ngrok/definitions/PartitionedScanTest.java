@@ -0,0 +1,123 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import com.ngrok.Ngrok;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static com.ngrok.definitions.FakeRulesApiClient.START;
+import static com.ngrok.definitions.FakeRulesApiClient.rules;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PartitionedScanTest {
+    @Test
+    public void testKsuidCursor() {
+        final String id = "ippr_0ujtsYcgvSTl8PAuAdqWYSMnLOv";
+        assertThat(KsuidCursor.prefix(id)).isEqualTo("ippr_");
+        assertThat(KsuidCursor.prefix("ippr_123")).isNull();
+        assertThat(KsuidCursor.timestamp(id)).isEqualTo(1_507_608_047L);
+        assertThat(KsuidCursor.cursor("ippr_", 1_507_608_047L)).isLessThan(id);
+        assertThat(KsuidCursor.cursor("ippr_", 1_507_608_048L)).isGreaterThan(id);
+        assertThat(KsuidCursor.timestamp(KsuidCursor.cursor("ippr_", START))).isEqualTo(START);
+    }
+
+    @Test
+    public void testPartitionedScanMatchesSerialScan() throws Exception {
+        // clustered creation times, so some partitions are empty and others span several pages
+        final List<IpPolicyRule> rules = rules(LongStream.concat(
+            LongStream.range(0, 40).map(i -> START + i * 3),
+            LongStream.range(0, 60).map(i -> START + 1_000_000 + i)
+        ));
+        final FakeRulesApiClient apiClient = new FakeRulesApiClient(rules);
+        final List<IpPolicyRule> scanned = new Ngrok(apiClient).ipPolicyRules().list().limit("7").items()
+            .partitioned(8)
+            .concurrency(3)
+            .blockingCall();
+
+        assertThat(scanned).extracting(IpPolicyRule::getId)
+            .containsExactlyElementsOf(rules.stream().map(IpPolicyRule::getId).collect(Collectors.toList()));
+        // every partition but the first one starts from a synthetic cursor rather than from the ID of an item
+        assertThat(apiClient.beforeIds.stream().filter(id -> id.startsWith("ippr_") && !id.endsWith("z"))).hasSize(7);
+    }
+
+    @Test
+    public void testPartitionedScanSplitsBusiestPartition() throws Exception {
+        // every rule is recent, so the equal partitions since the start of ngrok IDs are all empty but the first
+        final List<IpPolicyRule> rules = rules(LongStream.range(0, 200).map(i -> START + i));
+        final ScheduledExecutorService executor = Executors.newScheduledThreadPool(4);
+        try {
+            final FakeRulesApiClient apiClient = new FakeRulesApiClient(rules, executor);
+            final List<IpPolicyRule> scanned = new Ngrok(apiClient).ipPolicyRules().list().limit("5").items()
+                .partitioned(4)
+                .blockingCall();
+
+            assertThat(scanned).extracting(IpPolicyRule::getId)
+                .containsExactlyElementsOf(rules.stream().map(IpPolicyRule::getId).collect(Collectors.toList()));
+            // partitions split off the first one start from cursors within the recent rules
+            assertThat(apiClient.beforeIds.stream().filter(id -> !id.endsWith("z") && KsuidCursor.timestamp(id) > START)).isNotEmpty();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testPartitionedScanCancelsPartitionsOnFailure() {
+        final List<IpPolicyRule> rules = rules(LongStream.range(0, 200).map(i -> START + i * 1000));
+        final FakeRulesApiClient apiClient = new FakeRulesApiClient(rules, null);
+        apiClient.failBeforeTime = START + 100_000;
+        final CompletableFuture<List<IpPolicyRule>> scan = new Ngrok(apiClient).ipPolicyRules().list().limit("5").items()
+            .partitioned(4)
+            .since(OffsetDateTime.ofInstant(Instant.ofEpochSecond(START), ZoneOffset.UTC))
+            .call()
+            .toCompletableFuture();
+
+        assertThat(scan).isCompletedExceptionally();
+        assertThat(apiClient.pending).isNotEmpty().allMatch(CompletableFuture::isCancelled);
+    }
+
+    @Test
+    public void testPartitionedScanSince() throws Exception {
+        final List<IpPolicyRule> rules = rules(LongStream.range(0, 30).map(i -> START + i * 10));
+        final List<IpPolicyRule> scanned = new Ngrok(new FakeRulesApiClient(rules)).ipPolicyRules().list().limit("4").items()
+            .partitioned(4)
+            .since(OffsetDateTime.ofInstant(Instant.ofEpochSecond(START + 100), ZoneOffset.UTC))
+            .blockingCall();
+
+        assertThat(scanned).extracting(IpPolicyRule::getId)
+            .containsExactlyElementsOf(rules.subList(0, 20).stream().map(IpPolicyRule::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testPartitionedScanFiltersFirstPageSince() throws Exception {
+        final List<IpPolicyRule> rules = rules(LongStream.range(0, 30).map(i -> START + i * 10));
+        final OffsetDateTime since = OffsetDateTime.ofInstant(Instant.ofEpochSecond(START + 275), ZoneOffset.UTC);
+
+        // the first page crosses the bound, with or without a next page
+        for (final String limit : Arrays.asList("4", "30")) {
+            final List<IpPolicyRule> scanned = new Ngrok(new FakeRulesApiClient(rules)).ipPolicyRules().list().limit(limit).items()
+                .partitioned(4)
+                .since(since)
+                .blockingCall();
+            assertThat(scanned).extracting(IpPolicyRule::getId)
+                .containsExactlyElementsOf(rules.subList(0, 2).stream().map(IpPolicyRule::getId).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testPartitionedScanRequiresBeforeId() {
+        assertThrows(UnsupportedOperationException.class, () -> new Ngrok(new FakeRulesApiClient(rules(LongStream.empty())))
+            .eventSources().list("esb_1").items().partitioned(2));
+    }
+}
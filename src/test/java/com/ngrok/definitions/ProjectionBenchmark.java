@@ -0,0 +1,121 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ngrok.ResponseDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares decoding a page of {@link TlsCertificate}s in full against decoding only their <code>id</code>,
+ * <code>metadata</code> and <code>created_at</code> through a {@link Projection}. Run with {@code -prof gc} to also
+ * compare bytes allocated per call.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ProjectionBenchmark {
+    public interface Summary {
+        String getId();
+
+        Optional<String> getMetadata();
+
+        OffsetDateTime getCreatedAt();
+    }
+
+    private final ObjectMapper mapper = new ObjectMapper()
+        .registerModule(new Jdk8Module())
+        .registerModule(new JavaTimeModule())
+        .registerModule(new DefinitionsModule());
+
+    private final ResponseDecoder<ProjectedList<ObjectNode>> fields = Projection.fields("id", "metadata", "created_at")
+        .forList("tls_certificates");
+
+    private final ResponseDecoder<ProjectedList<Summary>> view = Projection.of(Summary.class)
+        .forList("tls_certificates");
+
+    @Param({ "100" })
+    public int certificates;
+
+    private byte[] page;
+
+    @Setup
+    public void setUp() {
+        final String pem = "-----BEGIN CERTIFICATE-----\\n" + IntStream.range(0, 24)
+            .mapToObj(i -> "MIIFazCCA1OgAwIBAgIRAIIQz7DSQONZRGPgu2OCiwAwDQYJKoZIhvcNAQELBQAw\\n")
+            .collect(Collectors.joining()) + "-----END CERTIFICATE-----\\n";
+        page = ("{\"tls_certificates\":[" + IntStream.range(0, certificates).mapToObj(i -> "{" +
+            "\"id\":\"cert_" + i + "\"," +
+            "\"uri\":\"https://api.ngrok.com/tls_certificates/cert_" + i + "\"," +
+            "\"created_at\":\"2021-06-08T21:09:00Z\"," +
+            "\"description\":\"certificate " + i + "\"," +
+            "\"metadata\":\"{\\\"team\\\":\\\"edge\\\"}\"," +
+            "\"certificate_pem\":\"" + pem + "\"," +
+            "\"subject_common_name\":\"app" + i + ".example.com\"," +
+            "\"subject_alternative_names\":{\"dns_names\":[\"app" + i + ".example.com\",\"www.app" + i + ".example.com\"],\"ips\":[]}," +
+            "\"issued_at\":\"2021-06-08T21:09:00Z\"," +
+            "\"not_before\":\"2021-06-08T21:09:00Z\"," +
+            "\"not_after\":\"2022-06-08T21:09:00Z\"," +
+            "\"key_usages\":[\"digital signature\",\"key encipherment\"]," +
+            "\"extended_key_usages\":[\"server auth\"]," +
+            "\"private_key_type\":\"rsa\"," +
+            "\"issuer_common_name\":\"R3\"," +
+            "\"serial_number\":\"03a1f4\"," +
+            "\"subject_organization\":\"Example\"," +
+            "\"subject_organizational_unit\":\"Edge\"," +
+            "\"subject_locality\":\"San Francisco\"," +
+            "\"subject_province\":\"CA\"," +
+            "\"subject_country\":\"US\"" +
+            "}").collect(Collectors.joining(",")) + "],\"uri\":\"https://api.ngrok.com/tls_certificates\",\"next_page_uri\":null}")
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public TlsCertificateList decodeFull() throws IOException {
+        return mapper.readValue(page, TlsCertificateList.class);
+    }
+
+    @Benchmark
+    public ProjectedList<ObjectNode> decodeFieldProjection() throws IOException {
+        try (final JsonParser p = mapper.createParser(page)) {
+            return fields.decode(p);
+        }
+    }
+
+    @Benchmark
+    public ProjectedList<Summary> decodeViewProjection() throws IOException {
+        try (final JsonParser p = mapper.createParser(page)) {
+            return view.decode(p);
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ProjectionBenchmark.class.getSimpleName())
+            .addProfiler("gc")
+            .build()
+        ).run();
+    }
+}
@@ -0,0 +1,112 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.definitions;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.ngrok.Ngrok;
+import com.ngrok.TestBase;
+import de.mkammerer.wiremock.WireMockExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ProjectionTest extends TestBase {
+    public interface CertificateSummary {
+        String getId();
+
+        Optional<String> getMetadata();
+
+        OffsetDateTime getCreatedAt();
+
+        @JsonProperty("subject_alternative_names")
+        TlsCertificateSaNs getNames();
+    }
+
+    private static final String CERTIFICATE = "{" +
+        "\"id\":\"cert_1\"," +
+        "\"uri\":\"https://api.ngrok.com/tls_certificates/cert_1\"," +
+        "\"created_at\":\"2021-06-08T21:09:00Z\"," +
+        "\"metadata\":null," +
+        "\"certificate_pem\":\"-----BEGIN CERTIFICATE-----\\nMIIB...\\n-----END CERTIFICATE-----\"," +
+        "\"subject_alternative_names\":{\"dns_names\":[\"example.com\"],\"ips\":[]}," +
+        "\"key_usages\":[\"digital signature\"]," +
+        "\"not_after\":\"2031-06-08T21:09:00Z\"" +
+        "}";
+
+    private static final String LIST_PAGE = "{" +
+        "\"tls_certificates\":[" + CERTIFICATE + "," + CERTIFICATE.replace("cert_1", "cert_2") + "]," +
+        "\"uri\":\"https://api.ngrok.com/tls_certificates\"," +
+        "\"next_page_uri\":%s" +
+        "}";
+
+    @RegisterExtension
+    final WireMockExtension wireMock = new WireMockExtension(new WireMockConfiguration().dynamicPort().dynamicHttpsPort());
+
+    @Test
+    public void testFieldProjection() throws Exception {
+        final Projection<ObjectNode> projection = Projection.fields("id", "metadata", "created_at");
+        try (final JsonParser p = MAPPER.createParser(CERTIFICATE)) {
+            final ObjectNode node = projection.read(p);
+            assertThat(node.size()).isEqualTo(3);
+            assertThat(node.get("id").asText()).isEqualTo("cert_1");
+            assertThat(node.get("created_at").asText()).isEqualTo("2021-06-08T21:09:00Z");
+            assertThat(node.get("metadata").isNull()).isTrue();
+        }
+    }
+
+    @Test
+    public void testInterfaceProjection() throws Exception {
+        final Projection<CertificateSummary> projection = Projection.of(CertificateSummary.class);
+        assertThat(projection.getFieldNames())
+            .containsExactlyInAnyOrder("id", "metadata", "created_at", "subject_alternative_names");
+        try (final JsonParser p = MAPPER.createParser(CERTIFICATE)) {
+            final CertificateSummary summary = projection.read(p);
+            assertThat(summary.getId()).isEqualTo("cert_1");
+            assertThat(summary.getMetadata()).isEmpty();
+        }
+        try (final JsonParser p = MAPPER.createParser(CERTIFICATE.replace("\"metadata\":null", "\"metadata\":\"{}\""))) {
+            final CertificateSummary summary = projection.read(p);
+            assertThat(summary.getMetadata()).contains("{}");
+            assertThat(summary.getCreatedAt()).isEqualTo(OffsetDateTime.parse("2021-06-08T21:09:00Z"));
+            assertThat(summary.getNames().getDnsNames()).containsExactly("example.com");
+            assertThat(summary.toString()).contains("id='cert_1'");
+        }
+    }
+
+    @Test
+    public void testInvalidViewInterface() {
+        assertThrows(IllegalArgumentException.class, () -> Projection.of(Comparable.class));
+        assertThrows(IllegalArgumentException.class, () -> Projection.of(String.class));
+    }
+
+    @Test
+    public void testProjectedListCallFollowsPages() throws Exception {
+        wireMock.stubFor(get(urlPathEqualTo("/tls_certificates"))
+            .withQueryParam("limit", equalTo("2"))
+            .willReturn(okJson(String.format(LIST_PAGE, "\"" + wireMock.getBaseUri() + "/tls_certificates?before_id=cert_2\""))));
+        wireMock.stubFor(get(urlPathEqualTo("/tls_certificates"))
+            .withQueryParam("before_id", equalTo("cert_2"))
+            .willReturn(okJson(String.format(LIST_PAGE, "null").replace("cert_", "cert_1"))));
+
+        final Ngrok ngrok = ngrok(wireMock.getBaseUri());
+        final Page<ProjectedList<CertificateSummary>> first = ngrok.tlsCertificates().list()
+            .limit("2")
+            .blockingCall(Projection.of(CertificateSummary.class));
+        assertThat(first.getPage().getItems()).extracting(CertificateSummary::getId).containsExactly("cert_1", "cert_2");
+        assertThat(first.getPage().getUri()).contains(URI.create("https://api.ngrok.com/tls_certificates"));
+
+        final Page<ProjectedList<CertificateSummary>> second = first.next().toCompletableFuture().get().get();
+        assertThat(second.getPage().getItems()).extracting(CertificateSummary::getId).containsExactly("cert_11", "cert_12");
+        assertThat(second.getPage().getNextPageUri()).isEmpty();
+    }
+}
@@ -6,11 +6,14 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.linecorp.armeria.common.HttpHeaderNames;
 import com.ngrok.ApiKeyTestBase;
+import com.ngrok.DefaultNgrokApiClient;
 import com.ngrok.Ngrok;
+import com.ngrok.RawResponse;
 import com.ngrok.TestBase;
 import com.ngrok.Version;
 import com.ngrok.definitions.ApiKey;
 import com.ngrok.definitions.ApiKeyList;
+import com.ngrok.definitions.NgrokApiError;
 import com.ngrok.definitions.Page;
 import de.mkammerer.wiremock.WireMockExtension;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,11 +26,15 @@ import java.util.AbstractMap;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class ApiKeysTest extends ApiKeyTestBase {
     private static final Map<String, Object> API_KEY_CREATE = API_KEY_JSON_FIELDS.entrySet().stream()
@@ -150,6 +157,87 @@ public class ApiKeysTest extends ApiKeyTestBase {
         }
     }
 
+    @Test
+    public void testReuseUnchangedResponses() throws Exception {
+        if (USE_LIVE_API) {
+            return;
+        }
+        final Ngrok ngrok = new Ngrok(DefaultNgrokApiClient.newBuilder(FAKE_API_SECRET)
+            .baseUri(wireMock.getBaseUri())
+            .reuseUnchangedResponses(true)
+            .build());
+
+        final ApiKeyList first = ngrok.apiKeys().list().limit("10").blockingCall().getPage();
+        assertThat(ngrok.apiKeys().list().limit("10").blockingCall().getPage()).isSameAs(first);
+
+        wireMock.stubFor(
+            get(urlPathEqualTo("/api_keys"))
+                .withQueryParam("limit", equalTo("30"))
+                .willReturn(ok(MAPPER.writeValueAsString(API_KEY_LIST))
+                    .withHeader(HttpHeaderNames.CONTENT_TYPE.toString(), "application/json")
+                    .withHeader(HttpHeaderNames.ETAG.toString(), "\"v1\"")
+                )
+        );
+        wireMock.stubFor(
+            get(urlPathEqualTo("/api_keys"))
+                .withQueryParam("limit", equalTo("30"))
+                .withHeader(HttpHeaderNames.IF_NONE_MATCH.toString(), equalTo("\"v1\""))
+                .willReturn(aResponse().withStatus(304))
+        );
+        final ApiKeyList tagged = ngrok.apiKeys().list().limit("30").blockingCall().getPage();
+        assertThat(ngrok.apiKeys().list().limit("30").blockingCall().getPage()).isSameAs(tagged);
+        wireMock.verify(1, getRequestedFor(urlPathEqualTo("/api_keys"))
+            .withHeader(HttpHeaderNames.IF_NONE_MATCH.toString(), equalTo("\"v1\"")));
+    }
+
+    @Test
+    public void testDecodeExecutor() throws Exception {
+        if (USE_LIVE_API) {
+            return;
+        }
+        final AtomicInteger decodes = new AtomicInteger();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final DefaultNgrokApiClient apiClient = DefaultNgrokApiClient.newBuilder(FAKE_API_SECRET)
+                .baseUri(wireMock.getBaseUri())
+                .decodeExecutor(task -> {
+                    decodes.incrementAndGet();
+                    executor.execute(task);
+                })
+                .decodeOffloadThreshold(0)
+                .build();
+
+            assertThat(new Ngrok(apiClient).apiKeys().list().limit("10").blockingCall().getPage().getKeys()).hasSize(API_KEY_LIST.getKeys().size());
+            assertThat(decodes.get()).isEqualTo(1);
+            assertThat(apiClient.getOffloadedDecodeCount()).isEqualTo(1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testCallRaw() throws Exception {
+        if (USE_LIVE_API) {
+            return;
+        }
+        wireMock.stubFor(
+            get(urlPathEqualTo("/api_keys/ak_missing"))
+                .willReturn(aResponse().withStatus(404)
+                    .withHeader(HttpHeaderNames.CONTENT_TYPE.toString(), "application/json")
+                    .withBody("{\"status_code\":404,\"msg\":\"api key not found\"}")
+                )
+        );
+        final ApiKeys apiKeys = ngrok().apiKeys();
+
+        final RawResponse list = apiKeys.list().limit("10").blockingCallRaw();
+        assertThat(list.getStatusCode()).isEqualTo(200);
+        assertThat(list.getContentType()).hasValueSatisfying(contentType -> assertThat(contentType).startsWith("application/json"));
+        assertThat(list.asString()).isEqualTo(MAPPER.writeValueAsString(API_KEY_LIST));
+        assertThat(apiKeys.delete(API_KEY.getId()).blockingCallRaw().getLength()).isZero();
+        assertThatThrownBy(() -> apiKeys.get("ak_missing").blockingCallRaw())
+            .isInstanceOfSatisfying(NgrokApiError.class, error -> assertThat(error.getHttpStatusCode()).isEqualTo(404));
+    }
+
     private String testCreateApiKey() throws InterruptedException {
         final ApiKeys apiKeys = ngrok().apiKeys();
         final ApiKey apiKey = apiKeys.create()
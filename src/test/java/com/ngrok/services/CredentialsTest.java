@@ -0,0 +1,74 @@
+/* Code generated for API Clients. DO NOT EDIT. */
+
+package com.ngrok.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.ngrok.Ngrok;
+import com.ngrok.TestBase;
+import com.ngrok.definitions.Credential;
+import de.mkammerer.wiremock.WireMockExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+
+public class CredentialsTest extends TestBase {
+    private static final Credential CREDENTIAL = new Credential(
+        "cr_1",
+        URI.create("https://api.ngrok.com/credentials/cr_1"),
+        OffsetDateTime.parse("2021-06-08T21:09:00Z"),
+        Optional.of("updated"),
+        Optional.of(""),
+        Optional.empty(),
+        Arrays.asList("bind:*.example.com", "bind:example.com"),
+        Optional.empty()
+    );
+
+    @RegisterExtension
+    final WireMockExtension wireMock = new WireMockExtension(new WireMockConfiguration().dynamicPort().dynamicHttpsPort());
+
+    @BeforeEach
+    public void stubCredentials() throws JsonProcessingException {
+        if (USE_LIVE_API) {
+            return;
+        }
+        wireMock.stubFor(
+            patch(urlPathEqualTo("/credentials/" + CREDENTIAL.getId()))
+                .willReturn(ok(MAPPER.writeValueAsString(CREDENTIAL))
+                    .withHeader(HttpHeaderNames.CONTENT_TYPE.toString(), "application/json")
+                )
+        );
+    }
+
+    @Test
+    public void testUpdateSendsOptionalListOnlyWhenSet() throws Exception {
+        if (USE_LIVE_API) {
+            return;
+        }
+        final Ngrok ngrok = TestBase.ngrok(wireMock.getBaseUri());
+
+        ngrok.credentials().update(CREDENTIAL.getId()).description("updated").acl(CREDENTIAL.getAcl()).blockingCall();
+        wireMock.verify(patchRequestedFor(urlPathEqualTo("/credentials/" + CREDENTIAL.getId()))
+            .withRequestBody(equalTo("{\"description\":\"updated\",\"acl\":[\"bind:*.example.com\",\"bind:example.com\"]}")));
+
+        // an empty list is sent, to clear the acl
+        wireMock.resetRequests();
+        ngrok.credentials().update(CREDENTIAL.getId()).acl(Collections.emptyList()).blockingCall();
+        wireMock.verify(patchRequestedFor(urlPathEqualTo("/credentials/" + CREDENTIAL.getId()))
+            .withRequestBody(equalTo("{\"acl\":[]}")));
+
+        wireMock.resetRequests();
+        ngrok.credentials().update(CREDENTIAL.getId()).description("updated").blockingCall();
+        wireMock.verify(patchRequestedFor(urlPathEqualTo("/credentials/" + CREDENTIAL.getId()))
+            .withRequestBody(equalTo("{\"description\":\"updated\"}")));
+    }
+}